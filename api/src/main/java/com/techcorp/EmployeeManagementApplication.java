@@ -8,12 +8,14 @@ import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ImportResource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.techcorp.model.Employee;
 import com.techcorp.service.EmployeeService;
 
 @SpringBootApplication
 @ImportResource("classpath:employees-beans.xml")
+@EnableScheduling
 public class EmployeeManagementApplication {
     
     private static final Logger logger = LoggerFactory.getLogger(EmployeeManagementApplication.class);
@@ -36,6 +38,11 @@ public class EmployeeManagementApplication {
     @PostConstruct
     public void initializeSampleData() {
         logger.info("Initializing Employee Management API...");
+        int recovered = employeeService.countEmployees(null, null, null);
+        if (recovered > 0) {
+            logger.info("Recovered {} persisted employees, skipping XML configuration", recovered);
+            return;
+        }
         logger.info("Loading {} employees from XML configuration...", xmlEmployees.size());
         
         int loadedCount = 0;
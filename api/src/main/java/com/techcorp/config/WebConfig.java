@@ -0,0 +1,44 @@
+package com.techcorp.config;
+
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// Request parameters and path variables of the enum types are parsed here,
+// ignoring case; controllers parse body fields with the same methods. A bad
+// value fails with an IllegalArgumentException naming it, which
+// GlobalExceptionHandler turns into a 400.
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        registry.addConverter(String.class, Role.class, WebConfig::parseRole);
+        registry.addConverter(String.class, EmploymentStatus.class, WebConfig::parseStatus);
+    }
+
+    public static Role parseRole(String role) {
+        if (role.isEmpty()) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid role: " + role);
+        }
+    }
+
+    public static EmploymentStatus parseStatus(String status) {
+        if (status.isEmpty()) {
+            return null;
+        }
+        try {
+            return EmploymentStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+}
@@ -11,14 +11,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import com.techcorp.config.WebConfig;
 import com.techcorp.mapper.EmployeeMapper;
 import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeePage;
+import com.techcorp.model.EmployeeQueryResult;
 import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
 import com.techcorp.model.dto.EmployeeDTO;
+import com.techcorp.model.dto.EmployeeSearchHitDTO;
 import com.techcorp.model.exception.DuplicateEmailException;
 import com.techcorp.model.exception.EmployeeNotFoundException;
+import com.techcorp.service.EmployeeQuery;
 import com.techcorp.service.EmployeeService;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import java.net.URI;
@@ -29,6 +36,11 @@ import java.util.Map;
 @RequestMapping("/api/employees")
 public class EmployeeController {
 
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final String QUERY_PLAN_HEADER = "X-Query-Plan";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+
     private final EmployeeService employeeService;
 
     public EmployeeController(EmployeeService employeeService) {
@@ -36,10 +48,24 @@ public class EmployeeController {
     }
 
     @GetMapping
-    public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
-        return ResponseEntity.ok(
-            EmployeeMapper.entityToDTOList(employeeService.getEmployees())
-        );
+    public ResponseEntity<List<EmployeeDTO>> getAllEmployees(
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
+    ) {
+        if (cursor == null && limit == null) {
+            return ResponseEntity.ok(
+                EmployeeMapper.entityToDTOList(employeeService.getEmployees())
+            );
+        }
+
+        EmployeePage page = employeeService.getEmployeesPage(cursor, limit != null ? limit : DEFAULT_PAGE_SIZE);
+        HttpHeaders headers = new HttpHeaders();
+        if (page.hasNext()) {
+            headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return ResponseEntity.ok()
+            .headers(headers)
+            .body(EmployeeMapper.entityToDTOList(page.getEmployees()));
     }
 
     @GetMapping(params = "company")
@@ -56,6 +82,69 @@ public class EmployeeController {
         );
     }
 
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<EmployeeDTO>> autocompleteEmployees(
+        @RequestParam("q") String query,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(
+            EmployeeMapper.entityToDTOList(employeeService.searchEmployeesByPrefix(query, limit))
+        );
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<EmployeeSearchHitDTO>> searchEmployeesByName(
+        @RequestParam("name") String name,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(
+            EmployeeMapper.searchHitsToDTOList(employeeService.searchEmployeesByName(name, limit))
+        );
+    }
+
+    @GetMapping("/query")
+    public ResponseEntity<List<EmployeeDTO>> queryEmployees(
+        @RequestParam(value = "company", required = false) String companyName,
+        @RequestParam(required = false) Role role,
+        @RequestParam(required = false) EmploymentStatus status,
+        @RequestParam(required = false) Integer minSalary,
+        @RequestParam(required = false) Integer maxSalary,
+        @RequestParam(value = "name", required = false) String namePrefix,
+        @RequestParam(defaultValue = "0") int offset,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        EmployeeQueryResult result = employeeService.queryEmployees(new EmployeeQuery(
+            companyName, role, status, minSalary, maxSalary, namePrefix, offset, limit
+        ));
+        return ResponseEntity.ok()
+            .header(TOTAL_COUNT_HEADER, String.valueOf(result.getTotal()))
+            .header(QUERY_PLAN_HEADER, result.getPlan())
+            .body(EmployeeMapper.entityToDTOList(result.getEmployees()));
+    }
+
+    @GetMapping("/salary")
+    public ResponseEntity<List<EmployeeDTO>> getEmployeesBySalaryRange(
+        @RequestParam(value = "company", required = false) String companyName,
+        @RequestParam(defaultValue = "0") int min,
+        @RequestParam(required = false) Integer max,
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        int maxSalary = max != null ? max : Integer.MAX_VALUE;
+        return ResponseEntity.ok(
+            EmployeeMapper.entityToDTOList(employeeService.getEmployeesBySalaryRange(companyName, min, maxSalary, limit))
+        );
+    }
+
+    @GetMapping("/top-earners")
+    public ResponseEntity<List<EmployeeDTO>> getTopEarners(
+        @RequestParam(value = "company", required = false) String companyName,
+        @RequestParam(defaultValue = "100") int limit
+    ) {
+        return ResponseEntity.ok(
+            EmployeeMapper.entityToDTOList(employeeService.getTopEarners(companyName, limit))
+        );
+    }
+
     @GetMapping("/{email}")
     public ResponseEntity<EmployeeDTO> getEmployeeByEmail(@PathVariable String email) {
         Employee employee = employeeService.getEmployeeByEmail(email)
@@ -67,16 +156,9 @@ public class EmployeeController {
 
     @GetMapping("/status/{status}")
     public ResponseEntity<List<EmployeeDTO>> getEmployeesByStatus(
-        @PathVariable String status
+        @PathVariable EmploymentStatus status
     ) {
-        EmploymentStatus employmentStatus;
-        try {
-            employmentStatus = EmploymentStatus.valueOf(status.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid status: " + status);
-        }
-        
-        List<Employee> employees = employeeService.getEmployeesByStatus(employmentStatus);
+        List<Employee> employees = employeeService.getEmployeesByStatus(status);
         return ResponseEntity.ok(
             EmployeeMapper.entityToDTOList(employees)
         );
@@ -130,11 +212,9 @@ public class EmployeeController {
             throw new IllegalArgumentException("Status field is required");
         }
         
-        EmploymentStatus status;
-        try {
-            status = EmploymentStatus.valueOf(statusStr.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid status: " + statusStr);
+        EmploymentStatus status = WebConfig.parseStatus(statusStr);
+        if (status == null) {
+            throw new IllegalArgumentException("Status field is required");
         }
         
         employeeService.updateEmployeeStatus(email, status);
@@ -146,4 +226,24 @@ public class EmployeeController {
         
         return ResponseEntity.ok(EmployeeMapper.entityToDTO(employee));
     }
+
+    @PatchMapping("/{email}/salary")
+    public ResponseEntity<EmployeeDTO> updateEmployeeSalary(
+        @PathVariable String email,
+        @RequestBody Map<String, Integer> salaryMap
+    ) {
+        Integer salary = salaryMap.get("salary");
+        if (salary == null) {
+            throw new IllegalArgumentException("Salary field is required");
+        }
+
+        employeeService.updateEmployeeSalary(email, salary);
+
+        Employee employee = employeeService.getEmployeeByEmail(email)
+            .orElseThrow(() -> new EmployeeNotFoundException(
+                "Employee with email " + email + " not found after salary update"
+            ));
+
+        return ResponseEntity.ok(EmployeeMapper.entityToDTO(employee));
+    }
 }
@@ -7,7 +7,12 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -15,14 +20,20 @@ import org.springframework.http.MediaType;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.format.annotation.DateTimeFormat;
 
+import com.techcorp.model.BulkUploadResult;
+import com.techcorp.model.DocumentPage;
+import com.techcorp.model.DocumentSearchHit;
 import com.techcorp.model.DocumentType;
 import com.techcorp.model.EmployeeDocument;
 import com.techcorp.model.exception.EmployeeNotFoundException;
 import com.techcorp.model.ImportSummary;
 import com.techcorp.model.dto.EmployeeDTO;
 import com.techcorp.mapper.EmployeeMapper;
+import com.techcorp.service.BulkDocumentService;
 import com.techcorp.service.DocumentService;
+import com.techcorp.service.FileAttributes;
 import com.techcorp.service.FileStorageService;
 import com.techcorp.service.ImportService;
 import com.techcorp.service.PhotoService;
@@ -30,20 +41,30 @@ import com.techcorp.service.RaportGeneratorService;
 import com.techcorp.service.EmployeeService;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/api/files")
 public class FileUploadController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     private final ImportService importService;
     private final FileStorageService fileStorageService;
     private final RaportGeneratorService raportGeneratorService;
     private final DocumentService documentService;
     private final PhotoService photoService;
     private final EmployeeService employeeService;
+    private final BulkDocumentService bulkDocumentService;
+    private final CacheControl photoCacheControl;
+    private final CacheControl documentCacheControl;
     
     public FileUploadController(
         ImportService importService, 
@@ -51,7 +72,10 @@ public class FileUploadController {
         RaportGeneratorService raportGeneratorService,
         DocumentService documentService,
         PhotoService photoService,
-        EmployeeService employeeService
+        EmployeeService employeeService,
+        BulkDocumentService bulkDocumentService,
+        @Value("${app.http.cache.photos.max-age:0}")      long photoMaxAge,
+        @Value("${app.http.cache.documents.max-age:0}")   long documentMaxAge
     ) {
         this.importService = importService;
         this.fileStorageService = fileStorageService;
@@ -59,6 +83,17 @@ public class FileUploadController {
         this.documentService = documentService;
         this.photoService = photoService;
         this.employeeService = employeeService;
+        this.bulkDocumentService = bulkDocumentService;
+        // Photo URLs are per employee, not per upload, so by default every use is
+        // revalidated; the ETag and Last-Modified change with each upload.
+        this.photoCacheControl = cacheControl(photoMaxAge).cachePublic();
+        this.documentCacheControl = cacheControl(documentMaxAge).cachePrivate();
+    }
+
+    private static CacheControl cacheControl(long maxAgeSeconds) {
+        return maxAgeSeconds > 0
+            ? CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS)
+            : CacheControl.noCache();
     }
 
     @PostMapping(value = {"/import/csv", "/import/xml"}, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -66,9 +101,13 @@ public class FileUploadController {
         @RequestParam("file") MultipartFile file
     ) {
         String filename = fileStorageService.saveFile(file);
-        String fullPath = fileStorageService.getFullPath(filename);
-        ImportSummary summary = importService.importFromFile(fullPath);
-        return ResponseEntity.ok(summary);
+        try {
+            String fullPath = fileStorageService.getFullPath(filename);
+            ImportSummary summary = importService.importFromFile(fullPath);
+            return ResponseEntity.ok(summary);
+        } finally {
+            fileStorageService.deleteFile(filename);
+        }
     }
 
     @GetMapping("/export/csv")
@@ -123,18 +162,89 @@ public class FileUploadController {
             .body(document);
     }
 
+    @PostMapping(value = "/documents/bulk", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkUploadResult> uploadDocumentsInBulk(
+        @RequestParam(value = "archive", required = false) MultipartFile archive,
+        @RequestParam(value = "manifest", required = false) MultipartFile manifest,
+        @RequestParam(value = "files", required = false) List<MultipartFile> files
+    ) {
+        BulkUploadResult result = archive != null
+            ? bulkDocumentService.uploadArchive(archive)
+            : bulkDocumentService.upload(manifest, files);
+
+        return ResponseEntity.ok(result);
+    }
+
+    // Large batches are posted as a raw application/zip body, which skips the
+    // global multipart limits and is bounded by max-archive-size instead.
+    @PostMapping(value = "/documents/bulk", consumes = "application/zip", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkUploadResult> uploadDocumentArchive(InputStream archive) {
+        return ResponseEntity.ok(bulkDocumentService.uploadArchive(archive));
+    }
+
+    @GetMapping(value = "/documents/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<DocumentSearchHit>> searchDocuments(
+        @RequestParam("q") String query,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(documentService.searchDocuments(query, limit));
+    }
+
     @GetMapping("/documents/{email}")
     public ResponseEntity<List<EmployeeDocument>> getEmployeeDocuments(
-        @PathVariable String email
+        @PathVariable String email,
+        @RequestParam(required = false) String type,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer limit
     ) {
+        if (type == null && from == null && to == null && cursor == null && limit == null) {
+            List<EmployeeDocument> documents = documentService.getDocuments(email);
+            return ResponseEntity.ok(documents);
+        }
+
+        DocumentType documentType = type != null ? DocumentType.valueOf(type.toUpperCase()) : null;
+        DocumentPage page = documentService.findDocuments(
+            email, documentType, from, to, cursor, limit != null ? limit : DEFAULT_PAGE_SIZE
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        if (page.hasNext()) {
+            headers.add(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return ResponseEntity.ok()
+            .headers(headers)
+            .body(page.getDocuments());
+    }
+
+    @GetMapping("/documents/{email}/bundle.zip")
+    public ResponseEntity<StreamingResponseBody> getDocumentBundle(@PathVariable String email) {
         List<EmployeeDocument> documents = documentService.getDocuments(email);
-        return ResponseEntity.ok(documents);
+
+        if (documents.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        StreamingResponseBody body = out -> documentService.writeBundle(documents, out);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentDisposition(ContentDisposition.attachment()
+            .filename(email.toLowerCase() + "-documents.zip")
+            .build());
+
+        return ResponseEntity.ok()
+            .headers(headers)
+            .cacheControl(documentCacheControl)
+            .body(body);
     }
 
     @GetMapping("/documents/{email}/{documentId}")
     public ResponseEntity<Resource> getDocument(
         @PathVariable String email,
-        @PathVariable String documentId
+        @PathVariable String documentId,
+        WebRequest request
     ) {
         Optional<EmployeeDocument> documentOpt = documentService.getDocument(email, documentId);
         
@@ -143,6 +253,18 @@ public class FileUploadController {
         }
 
         EmployeeDocument document = documentOpt.get();
+        String eTag = document.getDigest() != null ? document.getDigest() : document.getId();
+        long lastModified = document.getUploadDate()
+            .atZone(ZoneId.systemDefault())
+            .toInstant()
+            .toEpochMilli();
+
+        if (request.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(documentCacheControl)
+                .build();
+        }
+
         File file = new File(document.getFilePath());
         
         if (!file.exists()) {
@@ -157,6 +279,7 @@ public class FileUploadController {
         
         return ResponseEntity.ok()
             .headers(headers)
+            .cacheControl(documentCacheControl)
             .body(resource);
     }
 
@@ -187,15 +310,29 @@ public class FileUploadController {
 
     @GetMapping("/photos/{email}")
     public ResponseEntity<Resource> getPhoto(
-        @PathVariable String email
+        @PathVariable String email,
+        @RequestParam(required = false) Integer size,
+        WebRequest request
     ) {
-        Resource resource = photoService.loadPhoto(email);
-        
         String filename = employeeService.getEmployeeByEmail(email)
             .orElseThrow(() -> new EmployeeNotFoundException(
                 "Employee with email " + email + " not found"
             ))
             .getPhotoFileName();
+
+        // Checked before the conditional request, so a bad size is rejected even
+        // when the client's ETag would match.
+        Optional<FileAttributes> attributes = photoService.getPhotoAttributes(email, size);
+        if (attributes.isPresent()
+            && request.checkNotModified(photoETag(attributes.get(), size), attributes.get().lastModified())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .cacheControl(photoCacheControl)
+                .build();
+        }
+
+        Resource resource = size == null
+            ? photoService.loadPhoto(email)
+            : photoService.loadThumbnail(email, size);
         
         String contentType = photoService.getContentType(filename);
         
@@ -205,9 +342,17 @@ public class FileUploadController {
         
         return ResponseEntity.ok()
             .headers(headers)
+            .cacheControl(photoCacheControl)
             .body(resource);
     }
 
+    // Every upload writes a new file, so its modification time and size tell
+    // versions apart without reading it; thumbnails add their size.
+    private String photoETag(FileAttributes attributes, Integer size) {
+        String version = Long.toHexString(attributes.lastModified()) + "-" + Long.toHexString(attributes.size());
+        return size == null ? version : size + "-" + version;
+    }
+
     @DeleteMapping("/photos/{email}")
     public ResponseEntity<Void> deletePhoto(
         @PathVariable String email
@@ -11,11 +11,17 @@ import com.techcorp.mapper.CompanyStatisticsMapper;
 import com.techcorp.model.CompanyStatistics;
 import com.techcorp.model.EmploymentStatus;
 import com.techcorp.model.Role;
+import com.techcorp.model.SalaryPercentiles;
+import com.techcorp.model.StatisticsCubeRow;
 import com.techcorp.model.dto.CompanyStatisticsDTO;
 import com.techcorp.service.EmployeeService;
+import com.techcorp.service.EmployeeStatisticsCube;
 
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RestController
@@ -39,6 +45,15 @@ public class StatisticsController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/salary/percentiles")
+    public ResponseEntity<SalaryPercentiles> getSalaryPercentiles(
+        @RequestParam(required = false) String company,
+        @RequestParam(required = false) Role role,
+        @RequestParam(value = "p", defaultValue = "50,90,99") List<Double> percentiles
+    ) {
+        return ResponseEntity.ok(employeeService.getSalaryPercentiles(company, role, percentiles));
+    }
+
     @GetMapping("/company/{companyName}")
     public ResponseEntity<CompanyStatisticsDTO> getCompanyStatistics(
         @PathVariable String companyName
@@ -60,6 +75,39 @@ public class StatisticsController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/count")
+    public ResponseEntity<Map<String, Integer>> countEmployees(
+        @RequestParam(required = false) String company,
+        @RequestParam(required = false) Role role,
+        @RequestParam(required = false) EmploymentStatus status
+    ) {
+        Map<String, Integer> response = new HashMap<>();
+        response.put("count", employeeService.countEmployees(company, role, status));
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/cube")
+    public ResponseEntity<List<StatisticsCubeRow>> getStatisticsCube(
+        @RequestParam(required = false) String company,
+        @RequestParam(required = false) Role role,
+        @RequestParam(required = false) EmploymentStatus status,
+        @RequestParam(required = false) List<String> groupBy
+    ) {
+        Set<EmployeeStatisticsCube.Dimension> dimensions = EnumSet.noneOf(EmployeeStatisticsCube.Dimension.class);
+        if (groupBy != null) {
+            for (String dimension : groupBy) {
+                try {
+                    dimensions.add(EmployeeStatisticsCube.Dimension.valueOf(dimension.trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("Invalid dimension: " + dimension);
+                }
+            }
+        }
+        return ResponseEntity.ok(
+            employeeService.getStatisticsCube(company, role, status, dimensions)
+        );
+    }
+
     @GetMapping("/status")
     public ResponseEntity<Map<String, Long>> getStatusDistribution() {
         Map<EmploymentStatus, Long> statusCount = employeeService.getStatusDistribution();
@@ -71,4 +119,3 @@ public class StatisticsController {
         return ResponseEntity.ok(response);
     }
 }
-
@@ -0,0 +1,67 @@
+package com.techcorp.controller;
+
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.techcorp.model.CacheStatistics;
+import com.techcorp.model.IntegrityReport;
+import com.techcorp.model.OrphanSweepReport;
+import com.techcorp.service.IntegrityScrubberService;
+import com.techcorp.service.OrphanSweeperService;
+import com.techcorp.service.PhotoCache;
+
+@RestController
+@RequestMapping("/api/storage")
+public class StorageController {
+
+    private final IntegrityScrubberService integrityScrubberService;
+    private final OrphanSweeperService orphanSweeperService;
+    private final PhotoCache photoCache;
+
+    public StorageController(
+        IntegrityScrubberService integrityScrubberService,
+        OrphanSweeperService orphanSweeperService,
+        PhotoCache photoCache
+    ) {
+        this.integrityScrubberService = integrityScrubberService;
+        this.orphanSweeperService = orphanSweeperService;
+        this.photoCache = photoCache;
+    }
+
+    @GetMapping("/integrity")
+    public ResponseEntity<IntegrityReport> getIntegrityReport() {
+        return integrityScrubberService.getLastReport()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/integrity/scrub")
+    public ResponseEntity<IntegrityReport> scrub() {
+        return integrityScrubberService.scrub()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping("/orphans")
+    public ResponseEntity<OrphanSweepReport> getOrphanSweepReport() {
+        return orphanSweeperService.getLastReport()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/orphans/sweep")
+    public ResponseEntity<OrphanSweepReport> sweepOrphans() {
+        return orphanSweeperService.sweep()
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    @GetMapping("/photo-cache")
+    public ResponseEntity<CacheStatistics> getPhotoCacheStatistics() {
+        return ResponseEntity.ok(photoCache.getStatistics());
+    }
+}
@@ -1,13 +1,18 @@
 package com.techcorp.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.techcorp.config.WebConfig;
 import com.techcorp.exception.GlobalExceptionHandler;
 import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeePage;
+import com.techcorp.model.EmployeeQueryResult;
+import com.techcorp.model.EmployeeSearchHit;
 import com.techcorp.model.EmploymentStatus;
 import com.techcorp.model.Role;
 import com.techcorp.model.dto.EmployeeDTO;
 import com.techcorp.model.exception.DuplicateEmailException;
 import com.techcorp.model.exception.EmployeeNotFoundException;
+import com.techcorp.service.EmployeeQuery;
 import com.techcorp.service.EmployeeService;
 
 import org.junit.jupiter.api.BeforeAll;
@@ -33,7 +38,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = EmployeeController.class)
-@ContextConfiguration(classes = {EmployeeController.class, GlobalExceptionHandler.class})
+@ContextConfiguration(classes = {EmployeeController.class, GlobalExceptionHandler.class, WebConfig.class})
 class EmployeeControllerTest {
 
     @Autowired
@@ -80,6 +85,29 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getEmployees();
     }
 
+    @Test
+    void getAllEmployees_WithCursor_ShouldReturnPageAndNextCursor() throws Exception {
+        when(employeeService.getEmployeesPage("41", 1))
+            .thenReturn(new EmployeePage(List.of(testEmployee), "42"));
+
+        mockMvc.perform(get("/api/employees").param("cursor", "41").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", "42"))
+            .andExpect(jsonPath("$[0].emailAddress").value("john.doe@example.com"));
+
+        verify(employeeService, never()).getEmployees();
+    }
+
+    @Test
+    void getAllEmployees_OnLastPage_ShouldOmitNextCursor() throws Exception {
+        when(employeeService.getEmployeesPage(null, 100)).thenReturn(new EmployeePage(List.of(testEmployee), null));
+
+        mockMvc.perform(get("/api/employees").param("limit", "100"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
+            .andExpect(jsonPath("$.length()").value(1));
+    }
+
     @Test
     void getEmployeeByEmail_ShouldReturn200AndEmployee() throws Exception {
         when(employeeService.getEmployeeByEmail("john.doe@example.com"))
@@ -99,6 +127,64 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getEmployeeByEmail("john.doe@example.com");
     }
 
+    @Test
+    void autocompleteEmployees_ShouldReturn200AndPrefixMatches() throws Exception {
+        when(employeeService.searchEmployeesByPrefix("jo", 10)).thenReturn(List.of(testEmployee));
+
+        mockMvc.perform(get("/api/employees/autocomplete").param("q", "jo"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].emailAddress").value("john.doe@example.com"));
+
+        verify(employeeService, never()).getEmployeeByEmail(anyString());
+    }
+
+    @Test
+    void autocompleteEmployees_WhenPrefixIsBlank_ShouldReturn400() throws Exception {
+        when(employeeService.searchEmployeesByPrefix(" ", 5))
+            .thenThrow(new IllegalArgumentException("Search prefix cannot be null or empty"));
+
+        mockMvc.perform(get("/api/employees/autocomplete").param("q", " ").param("limit", "5"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void searchEmployeesByName_ShouldReturn200AndRankedHits() throws Exception {
+        when(employeeService.searchEmployeesByName("jon doe", 10))
+            .thenReturn(List.of(new EmployeeSearchHit(testEmployee, 0.857, 1)));
+
+        mockMvc.perform(get("/api/employees/search").param("name", "jon doe"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].employee.emailAddress").value("john.doe@example.com"))
+            .andExpect(jsonPath("$[0].score").value(0.857))
+            .andExpect(jsonPath("$[0].distance").value(1));
+    }
+
+    @Test
+    void queryEmployees_ShouldReturn200WithTotalAndPlanHeaders() throws Exception {
+        EmployeeQuery query = new EmployeeQuery("TechCorp", Role.ENGINEER, EmploymentStatus.ACTIVE, 5000, null, null, 0, 50);
+        when(employeeService.queryEmployees(query))
+            .thenReturn(new EmployeeQueryResult(List.of(testEmployee), 1, "index role=ENGINEER ~1"));
+
+        mockMvc.perform(get("/api/employees/query")
+                .param("company", "TechCorp")
+                .param("role", "engineer")
+                .param("status", "ACTIVE")
+                .param("minSalary", "5000"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(header().string("X-Query-Plan", "index role=ENGINEER ~1"))
+            .andExpect(jsonPath("$[0].emailAddress").value("john.doe@example.com"));
+    }
+
+    @Test
+    void queryEmployees_WhenRoleIsInvalid_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/employees/query").param("role", "wizard"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid role: wizard"));
+
+        verify(employeeService, never()).queryEmployees(any());
+    }
+
     @Test
     void getEmployeeByEmail_WhenEmployeeNotFound_ShouldReturn404() throws Exception {
         when(employeeService.getEmployeeByEmail("notfound@example.com"))
@@ -277,6 +363,48 @@ class EmployeeControllerTest {
         verify(employeeService, times(1)).getEmployeeByEmail("john.doe@example.com");
     }
 
+    @Test
+    void updateEmployeeSalary_ShouldReturn200Ok() throws Exception {
+        when(employeeService.getEmployeeByEmail("john.doe@example.com"))
+            .thenReturn(Optional.of(testEmployee));
+
+        mockMvc.perform(patch("/api/employees/john.doe@example.com/salary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\": 10000}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.salary").value(10000));
+
+        verify(employeeService, times(1)).updateEmployeeSalary("john.doe@example.com", 10000);
+    }
+
+    @Test
+    void updateEmployeeSalary_WhenSalaryMissing_ShouldReturn400() throws Exception {
+        mockMvc.perform(patch("/api/employees/john.doe@example.com/salary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Salary field is required"));
+    }
+
+    @Test
+    void getEmployeesBySalaryRange_ShouldDefaultToOpenUpperBound() throws Exception {
+        when(employeeService.getEmployeesBySalaryRange("TechCorp", 8000, Integer.MAX_VALUE, 100))
+            .thenReturn(List.of(testEmployee));
+
+        mockMvc.perform(get("/api/employees/salary").param("company", "TechCorp").param("min", "8000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].emailAddress").value("john.doe@example.com"));
+    }
+
+    @Test
+    void getTopEarners_ShouldReturn200() throws Exception {
+        when(employeeService.getTopEarners(null, 5)).thenReturn(List.of(testEmployee));
+
+        mockMvc.perform(get("/api/employees/top-earners").param("limit", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].salary").value(10000));
+    }
+
     @Test
     void getEmployeesByStatus_ShouldReturnFilteredEmployees() throws Exception {
         List<Employee> employees = Arrays.asList(testEmployee);
@@ -1,12 +1,18 @@
 package com.techcorp.controller;
 
+import com.techcorp.model.BulkUploadItemResult;
+import com.techcorp.model.BulkUploadResult;
+import com.techcorp.model.DocumentPage;
+import com.techcorp.model.DocumentSearchHit;
 import com.techcorp.model.DocumentType;
 import com.techcorp.model.EmployeeDocument;
 import com.techcorp.model.ImportSummary;
 import com.techcorp.exception.GlobalExceptionHandler;
 import com.techcorp.model.exception.InvalidDataException;
 import com.techcorp.model.exception.FileStorageException;
+import com.techcorp.service.BulkDocumentService;
 import com.techcorp.service.DocumentService;
+import com.techcorp.service.FileAttributes;
 import com.techcorp.service.FileStorageService;
 import com.techcorp.service.ImportService;
 
@@ -18,22 +24,30 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.io.TempDir;
@@ -63,6 +77,9 @@ class FileUploadControllerTest {
     @MockBean
     private com.techcorp.service.EmployeeService employeeService;
 
+    @MockBean
+    private BulkDocumentService bulkDocumentService;
+
     @TempDir
     Path tempDir;
 
@@ -151,6 +168,31 @@ class FileUploadControllerTest {
         verify(importService, times(1)).importFromFile(anyString());
     }
 
+    @Test
+    void uploadFile_ShouldDeleteUploadedFileAfterImport() throws Exception {
+        when(fileStorageService.saveFile(any())).thenReturn("employees_1234.csv");
+        when(importService.importFromFile(anyString())).thenReturn(successSummary);
+
+        mockMvc.perform(multipart("/api/files/import/csv")
+                .file(validCsvFile))
+            .andExpect(status().isOk());
+
+        verify(fileStorageService, times(1)).deleteFile("employees_1234.csv");
+    }
+
+    @Test
+    void uploadFile_WhenImportFails_ShouldStillDeleteUploadedFile() throws Exception {
+        when(fileStorageService.saveFile(any())).thenReturn("employees_1234.csv");
+        when(importService.importFromFile(anyString()))
+            .thenThrow(new FileStorageException("Import failed"));
+
+        mockMvc.perform(multipart("/api/files/import/csv")
+                .file(validCsvFile))
+            .andExpect(status().isInternalServerError());
+
+        verify(fileStorageService, times(1)).deleteFile("employees_1234.csv");
+    }
+
     @Test
     void uploadFile_WithErrors_ShouldReturn200AndSummaryWithErrors() throws Exception {
         when(fileStorageService.saveFile(any())).thenReturn("/tmp/employees.csv");
@@ -991,6 +1033,264 @@ class FileUploadControllerTest {
         verify(documentService, times(1)).getDocument("john@techcorp.com", "doc-123");
     }
 
+    @Test
+    @DisplayName("Should expose document digest as strong ETag")
+    public void shouldExposeDocumentDigestAsETag() throws Exception {
+        EmployeeDocument mockDocument = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "doc_456.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), tempDir.toString() + "/test.pdf", "abc123"
+        );
+        Files.write(Path.of(mockDocument.getFilePath()), "content".getBytes());
+
+        when(documentService.getDocument("john@techcorp.com", "doc-123"))
+            .thenReturn(Optional.of(mockDocument));
+
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com/doc-123"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"abc123\""));
+    }
+
+    @Test
+    @DisplayName("Should return filtered document page with next cursor header")
+    public void shouldReturnFilteredDocumentPage() throws Exception {
+        EmployeeDocument mockDocument = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "doc_456.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), tempDir.toString() + "/test.pdf"
+        );
+
+        when(documentService.findDocuments(
+            "john@techcorp.com", DocumentType.CONTRACT,
+            LocalDateTime.of(2024, 1, 1, 0, 0), null, "abc", 1
+        )).thenReturn(new DocumentPage(List.of(mockDocument), "next"));
+
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com")
+                .param("type", "contract")
+                .param("from", "2024-01-01T00:00:00")
+                .param("cursor", "abc")
+                .param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Next-Cursor", "next"))
+            .andExpect(jsonPath("$[0].id").value("doc-123"));
+
+        verify(documentService, never()).getDocuments(anyString());
+    }
+
+    @Test
+    @DisplayName("Should use default page size and omit cursor header on last page")
+    public void shouldUseDefaultPageSize() throws Exception {
+        when(documentService.findDocuments("john@techcorp.com", DocumentType.CERTIFICATE, null, null, null, 50))
+            .thenReturn(new DocumentPage(Collections.emptyList(), null));
+
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com").param("type", "CERTIFICATE"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Next-Cursor"))
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unknown document type filter")
+    public void shouldReturn400ForUnknownDocumentTypeFilter() throws Exception {
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com").param("type", "PAYSLIP"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return ranked document search hits")
+    public void shouldReturnRankedDocumentSearchHits() throws Exception {
+        EmployeeDocument mockDocument = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "doc_456.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), tempDir.toString() + "/test.pdf"
+        );
+
+        when(documentService.searchDocuments("non-compete", 20))
+            .thenReturn(List.of(new DocumentSearchHit(mockDocument, 1.5, 2)));
+
+        mockMvc.perform(get("/api/files/documents/search").param("q", "non-compete"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].document.id").value("doc-123"))
+            .andExpect(jsonPath("$[0].document.employeeEmail").value("john@techcorp.com"))
+            .andExpect(jsonPath("$[0].score").value(1.5))
+            .andExpect(jsonPath("$[0].matches").value(2));
+
+        verify(documentService, never()).getDocuments(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return 400 for blank document search query")
+    public void shouldReturn400ForBlankDocumentSearchQuery() throws Exception {
+        when(documentService.searchDocuments(" ", 5))
+            .thenThrow(new IllegalArgumentException("Search query cannot be null or empty"));
+
+        mockMvc.perform(get("/api/files/documents/search").param("q", " ").param("limit", "5"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should upload a ZIP batch and report per-item results")
+    public void shouldUploadDocumentArchive() throws Exception {
+        MockMultipartFile archive = new MockMultipartFile(
+            "archive", "batch.zip", "application/zip", "zip".getBytes()
+        );
+        BulkUploadResult result = new BulkUploadResult(List.of(
+            BulkUploadItemResult.success(2, "contract.pdf", "john@techcorp.com", "doc-1"),
+            BulkUploadItemResult.failure(3, "missing.pdf", "jane@techcorp.com", "File not found in batch: missing.pdf")
+        ), 12);
+
+        when(bulkDocumentService.uploadArchive(any(MultipartFile.class))).thenReturn(result);
+
+        mockMvc.perform(multipart("/api/files/documents/bulk").file(archive))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.successCount").value(1))
+            .andExpect(jsonPath("$.failureCount").value(1))
+            .andExpect(jsonPath("$.items[0].documentId").value("doc-1"))
+            .andExpect(jsonPath("$.items[1].line").value(3))
+            .andExpect(jsonPath("$.items[1].error").value("File not found in batch: missing.pdf"));
+
+        verify(documentService, never()).saveDocument(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should upload a multipart batch with a manifest")
+    public void shouldUploadDocumentBatchWithManifest() throws Exception {
+        MockMultipartFile manifest = new MockMultipartFile(
+            "manifest", "manifest.csv", "text/csv", "contract.pdf,john@techcorp.com,CONTRACT".getBytes()
+        );
+        MockMultipartFile file = new MockMultipartFile(
+            "files", "contract.pdf", "application/pdf", "pdf".getBytes()
+        );
+        BulkUploadResult result = new BulkUploadResult(List.of(
+            BulkUploadItemResult.success(1, "contract.pdf", "john@techcorp.com", "doc-1")
+        ), 5);
+
+        when(bulkDocumentService.upload(any(), any())).thenReturn(result);
+
+        mockMvc.perform(multipart("/api/files/documents/bulk").file(manifest).file(file))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.successCount").value(1))
+            .andExpect(jsonPath("$.items[0].fileName").value("contract.pdf"));
+
+        verify(bulkDocumentService, never()).uploadArchive(any(MultipartFile.class));
+    }
+
+    @Test
+    @DisplayName("Should stream a raw ZIP body past the multipart limits")
+    public void shouldUploadRawDocumentArchive() throws Exception {
+        BulkUploadResult result = new BulkUploadResult(List.of(
+            BulkUploadItemResult.success(2, "contract.pdf", "john@techcorp.com", "doc-1")
+        ), 7);
+
+        when(bulkDocumentService.uploadArchive(any(InputStream.class))).thenReturn(result);
+
+        mockMvc.perform(post("/api/files/documents/bulk").contentType("application/zip").content("zip".getBytes()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.successCount").value(1));
+
+        verify(bulkDocumentService, never()).uploadArchive(any(MultipartFile.class));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when bulk upload has no manifest")
+    public void shouldReturn400ForBulkUploadWithoutManifest() throws Exception {
+        when(bulkDocumentService.upload(isNull(), any()))
+            .thenThrow(new IllegalArgumentException("Manifest cannot be null or empty"));
+
+        mockMvc.perform(multipart("/api/files/documents/bulk")
+                .file(new MockMultipartFile("files", "contract.pdf", "application/pdf", "pdf".getBytes())))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should stream all employee documents as a ZIP bundle")
+    public void shouldStreamDocumentBundle() throws Exception {
+        EmployeeDocument mockDocument = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "doc_456.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), tempDir.toString() + "/test.pdf"
+        );
+        List<EmployeeDocument> documents = List.of(mockDocument);
+
+        when(documentService.getDocuments("john@techcorp.com")).thenReturn(documents);
+        doAnswer(invocation -> {
+            invocation.<java.io.OutputStream>getArgument(1).write("zip".getBytes());
+            return null;
+        }).when(documentService).writeBundle(eq(documents), any());
+
+        MvcResult result = mockMvc.perform(get("/api/files/documents/john@techcorp.com/bundle.zip"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/zip"))
+            .andExpect(header().string("Content-Disposition",
+                org.hamcrest.Matchers.containsString("john@techcorp.com-documents.zip")))
+            .andExpect(content().bytes("zip".getBytes()));
+
+        verify(documentService, never()).getDocument(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("Should return 404 for bundle when employee has no documents")
+    public void shouldReturn404ForEmptyDocumentBundle() throws Exception {
+        when(documentService.getDocuments("john@techcorp.com")).thenReturn(Collections.emptyList());
+
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com/bundle.zip"))
+            .andExpect(status().isNotFound());
+
+        verify(documentService, never()).writeBundle(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should return 304 when document ETag matches")
+    public void shouldReturn304WhenDocumentETagMatches() throws Exception {
+        EmployeeDocument mockDocument = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "doc_456.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), tempDir.toString() + "/missing.pdf", "abc123"
+        );
+
+        when(documentService.getDocument("john@techcorp.com", "doc-123"))
+            .thenReturn(Optional.of(mockDocument));
+
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com/doc-123")
+                .header("If-None-Match", "\"abc123\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"abc123\""))
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Should return 304 when document was not modified since given date")
+    public void shouldReturn304WhenDocumentNotModifiedSince() throws Exception {
+        EmployeeDocument mockDocument = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "doc_456.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now().minusDays(1), tempDir.toString() + "/test.pdf"
+        );
+
+        when(documentService.getDocument("john@techcorp.com", "doc-123"))
+            .thenReturn(Optional.of(mockDocument));
+
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com/doc-123")
+                .header("If-Modified-Since", System.currentTimeMillis()))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("Should mark documents as private and revalidated")
+    public void shouldMarkDocumentsAsPrivateAndRevalidated() throws Exception {
+        EmployeeDocument mockDocument = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "doc_456.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), tempDir.toString() + "/test.pdf"
+        );
+        Files.write(Path.of(mockDocument.getFilePath()), "content".getBytes());
+
+        when(documentService.getDocument("john@techcorp.com", "doc-123"))
+            .thenReturn(Optional.of(mockDocument));
+
+        mockMvc.perform(get("/api/files/documents/john@techcorp.com/doc-123"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, private"))
+            .andExpect(header().exists("Last-Modified"));
+    }
+
     @Test
     @DisplayName("Should return 404 when document not found")
     public void shouldReturn404WhenDocumentNotFound() throws Exception {
@@ -1277,6 +1577,119 @@ class FileUploadControllerTest {
         verify(photoService, times(1)).loadPhoto("john@techcorp.com");
     }
 
+    @Test
+    @DisplayName("Should get photo thumbnail when size is requested")
+    public void shouldGetPhotoThumbnailWhenSizeIsRequested() throws Exception {
+        com.techcorp.model.Employee employee = com.techcorp.model.Employee.createEmployee(
+            "Doe", "John", "john@techcorp.com", "TechCorp", com.techcorp.model.Role.ENGINEER
+        );
+        employee.setPhotoFileName("john@techcorp.com.jpg");
+
+        when(photoService.loadThumbnail("john@techcorp.com", 64))
+            .thenReturn(new org.springframework.core.io.ByteArrayResource("thumb".getBytes()));
+        when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+            .thenReturn(Optional.of(employee));
+        when(photoService.getContentType("john@techcorp.com.jpg"))
+            .thenReturn("image/jpeg");
+
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com").param("size", "64"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", "image/jpeg"))
+            .andExpect(content().bytes("thumb".getBytes()));
+
+        verify(photoService, never()).loadPhoto(anyString());
+    }
+
+    @Test
+    @DisplayName("Should return 304 without loading photo when ETag matches")
+    public void shouldReturn304WithoutLoadingPhotoWhenETagMatches() throws Exception {
+        com.techcorp.model.Employee employee = com.techcorp.model.Employee.createEmployee(
+            "Doe", "John", "john@techcorp.com", "TechCorp", com.techcorp.model.Role.ENGINEER
+        );
+        employee.setPhotoFileName("john@techcorp.com.jpg");
+
+        when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+            .thenReturn(Optional.of(employee));
+        when(photoService.getPhotoAttributes("john@techcorp.com", null))
+            .thenReturn(Optional.of(new FileAttributes(5, 1_700_000_000_000L)));
+        when(photoService.loadPhoto("john@techcorp.com"))
+            .thenReturn(new org.springframework.core.io.ByteArrayResource("photo".getBytes()));
+        when(photoService.getContentType("john@techcorp.com.jpg"))
+            .thenReturn("image/jpeg");
+
+        MvcResult first = mockMvc.perform(get("/api/files/photos/john@techcorp.com"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Cache-Control", "no-cache, public"))
+            .andReturn();
+        String eTag = first.getResponse().getHeader("ETag");
+        String lastModified = first.getResponse().getHeader("Last-Modified");
+
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com").header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", eTag));
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com").header("If-Modified-Since", lastModified))
+            .andExpect(status().isNotModified());
+
+        verify(photoService, times(1)).loadPhoto("john@techcorp.com");
+
+        // A replacement photo is a new file, so the old ETag no longer matches.
+        when(photoService.getPhotoAttributes("john@techcorp.com", null))
+            .thenReturn(Optional.of(new FileAttributes(7, 1_700_000_060_000L)));
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com").header("If-None-Match", eTag))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com").header("If-Modified-Since", lastModified))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should use distinct ETags for photo sizes")
+    public void shouldUseDistinctETagsForPhotoSizes() throws Exception {
+        com.techcorp.model.Employee employee = com.techcorp.model.Employee.createEmployee(
+            "Doe", "John", "john@techcorp.com", "TechCorp", com.techcorp.model.Role.ENGINEER
+        );
+        employee.setPhotoFileName("john@techcorp.com.jpg");
+
+        when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+            .thenReturn(Optional.of(employee));
+        when(photoService.loadPhoto("john@techcorp.com"))
+            .thenReturn(new org.springframework.core.io.ByteArrayResource("photo".getBytes()));
+        when(photoService.loadThumbnail("john@techcorp.com", 64))
+            .thenReturn(new org.springframework.core.io.ByteArrayResource("thumb".getBytes()));
+        when(photoService.getContentType("john@techcorp.com.jpg"))
+            .thenReturn("image/jpeg");
+        when(photoService.getPhotoAttributes(eq("john@techcorp.com"), any()))
+            .thenReturn(Optional.of(new FileAttributes(5, 1_700_000_000_000L)));
+
+        String originalETag = mockMvc.perform(get("/api/files/photos/john@techcorp.com"))
+            .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com")
+                .param("size", "64")
+                .header("If-None-Match", originalETag))
+            .andExpect(status().isOk())
+            .andExpect(content().bytes("thumb".getBytes()));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for unsupported thumbnail size")
+    public void shouldReturn400ForUnsupportedThumbnailSize() throws Exception {
+        com.techcorp.model.Employee employee = com.techcorp.model.Employee.createEmployee(
+            "Doe", "John", "john@techcorp.com", "TechCorp", com.techcorp.model.Role.ENGINEER
+        );
+        employee.setPhotoFileName("john@techcorp.com.jpg");
+
+        when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+            .thenReturn(Optional.of(employee));
+        when(photoService.getPhotoAttributes("john@techcorp.com", 100))
+            .thenThrow(new IllegalArgumentException("Unsupported photo size: 100"));
+
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com").param("size", "100"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/files/photos/john@techcorp.com").param("size", "100").header("If-None-Match", "*"))
+            .andExpect(status().isBadRequest());
+        verify(photoService, never()).loadThumbnail(anyString(), anyInt());
+    }
+
     @Test
     @DisplayName("Should return 404 when photo not found")
     public void shouldReturn404WhenPhotoNotFound() throws Exception {
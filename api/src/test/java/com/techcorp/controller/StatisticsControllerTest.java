@@ -8,22 +8,30 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.web.servlet.MockMvc;
+import com.techcorp.config.WebConfig;
 import com.techcorp.exception.GlobalExceptionHandler;
 import com.techcorp.model.CompanyStatistics;
 import com.techcorp.model.Role;
+import com.techcorp.model.SalaryPercentiles;
+import com.techcorp.model.StatisticsCubeRow;
 import com.techcorp.model.dto.CompanyStatisticsDTO;
 import com.techcorp.service.EmployeeService;
+import com.techcorp.service.EmployeeStatisticsCube;
 
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = StatisticsController.class)
-@ContextConfiguration(classes = {StatisticsController.class, GlobalExceptionHandler.class})
+@ContextConfiguration(classes = {StatisticsController.class, GlobalExceptionHandler.class, WebConfig.class})
 class StatisticsControllerTest {
 
     @Autowired
@@ -119,5 +127,71 @@ class StatisticsControllerTest {
 
         verify(employeeService, times(1)).getStatusDistribution();
     }
-}
 
+    @Test
+    void countEmployees_ShouldReturn200AndCount() throws Exception {
+        when(employeeService.countEmployees("CSVINC", Role.ENGINEER, com.techcorp.model.EmploymentStatus.ACTIVE))
+            .thenReturn(42);
+
+        mockMvc.perform(get("/api/statistics/count")
+                .param("company", "CSVINC")
+                .param("role", "engineer")
+                .param("status", "active"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count").value(42));
+    }
+
+    @Test
+    void countEmployees_WhenStatusIsInvalid_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/statistics/count").param("status", "retired"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid status: retired"));
+
+        verify(employeeService, never()).countEmployees(any(), any(), any());
+    }
+
+    @Test
+    void getStatisticsCube_WhenRoleIsInvalid_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/statistics/cube").param("role", "wizard"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid role: wizard"))
+            .andExpect(jsonPath("$.status").value(400));
+
+        verify(employeeService, never()).getStatisticsCube(any(), any(), any(), any());
+    }
+
+    @Test
+    void getSalaryPercentiles_ShouldUseDefaultPercentiles() throws Exception {
+        Map<String, Double> values = new LinkedHashMap<>();
+        values.put("p50", 8000.0);
+        values.put("p90", 12000.0);
+        values.put("p99", 30000.0);
+        when(employeeService.getSalaryPercentiles("TechCorp", Role.ENGINEER, List.of(50.0, 90.0, 99.0)))
+            .thenReturn(new SalaryPercentiles(10, values));
+
+        mockMvc.perform(get("/api/statistics/salary/percentiles").param("company", "TechCorp").param("role", "ENGINEER"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.count").value(10))
+            .andExpect(jsonPath("$.percentiles.p90").value(12000.0));
+    }
+
+    @Test
+    void getStatisticsCube_ShouldParseDimensionsAndFilters() throws Exception {
+        when(employeeService.getStatisticsCube(null, null, com.techcorp.model.EmploymentStatus.ACTIVE,
+                EnumSet.of(EmployeeStatisticsCube.Dimension.COMPANY, EmployeeStatisticsCube.Dimension.ROLE)))
+            .thenReturn(List.of(new StatisticsCubeRow("TechCorp", Role.ENGINEER, null, 2, 18000, 8500, 9500)));
+
+        mockMvc.perform(get("/api/statistics/cube").param("status", "active").param("groupBy", "company,role"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].companyName").value("TechCorp"))
+            .andExpect(jsonPath("$[0].averageSalary").value(9000.0))
+            .andExpect(jsonPath("$[0].maxSalary").value(9500));
+    }
+
+    @Test
+    void getStatisticsCube_WhenDimensionIsInvalid_ShouldReturn400() throws Exception {
+        mockMvc.perform(get("/api/statistics/cube").param("groupBy", "team"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Invalid dimension: team"));
+    }
+}
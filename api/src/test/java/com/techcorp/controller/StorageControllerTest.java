@@ -0,0 +1,129 @@
+package com.techcorp.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import com.techcorp.exception.GlobalExceptionHandler;
+import com.techcorp.model.CacheStatistics;
+import com.techcorp.model.IntegrityReport;
+import com.techcorp.model.OrphanSweepReport;
+import com.techcorp.service.IntegrityScrubberService;
+import com.techcorp.service.OrphanSweeperService;
+import com.techcorp.service.PhotoCache;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = StorageController.class)
+@ContextConfiguration(classes = {StorageController.class, GlobalExceptionHandler.class})
+class StorageControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IntegrityScrubberService integrityScrubberService;
+
+    @MockBean
+    private OrphanSweeperService orphanSweeperService;
+
+    @MockBean
+    private PhotoCache photoCache;
+
+    @Test
+    void getIntegrityReport_WhenNoScrubRan_ShouldReturn204() throws Exception {
+        when(integrityScrubberService.getLastReport()).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/storage/integrity"))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void getIntegrityReport_ShouldReturnLastReport() throws Exception {
+        IntegrityReport report = new IntegrityReport();
+        report.addChecked(100);
+        report.addCorrupted("doc-1");
+        report.finish();
+        when(integrityScrubberService.getLastReport()).thenReturn(Optional.of(report));
+
+        mockMvc.perform(get("/api/storage/integrity"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.checkedCount").value(1))
+            .andExpect(jsonPath("$.bytesChecked").value(100))
+            .andExpect(jsonPath("$.corruptedDocumentIds[0]").value("doc-1"));
+    }
+
+    @Test
+    void scrub_ShouldReturnFreshReport() throws Exception {
+        IntegrityReport report = new IntegrityReport();
+        report.finish();
+        when(integrityScrubberService.scrub()).thenReturn(Optional.of(report));
+
+        mockMvc.perform(post("/api/storage/integrity/scrub"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.checkedCount").value(0));
+
+        verify(integrityScrubberService, times(1)).scrub();
+    }
+
+    @Test
+    void scrub_WhenAlreadyRunning_ShouldReturn409() throws Exception {
+        when(integrityScrubberService.scrub()).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/storage/integrity/scrub"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getOrphanSweepReport_WhenNoSweepRan_ShouldReturn204() throws Exception {
+        when(orphanSweeperService.getLastReport()).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/storage/orphans"))
+            .andExpect(status().isNoContent());
+    }
+
+    @Test
+    void sweepOrphans_ShouldReturnReclaimedBytes() throws Exception {
+        OrphanSweepReport report = new OrphanSweepReport();
+        report.addScanned();
+        report.addScanned();
+        report.addDeleted(2048);
+        report.finish();
+        when(orphanSweeperService.sweep()).thenReturn(Optional.of(report));
+
+        mockMvc.perform(post("/api/storage/orphans/sweep"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.scannedCount").value(2))
+            .andExpect(jsonPath("$.deletedCount").value(1))
+            .andExpect(jsonPath("$.bytesReclaimed").value(2048));
+    }
+
+    @Test
+    void sweepOrphans_WhenAlreadyRunning_ShouldReturn409() throws Exception {
+        when(orphanSweeperService.sweep()).thenReturn(Optional.empty());
+
+        mockMvc.perform(post("/api/storage/orphans/sweep"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    void getPhotoCacheStatistics_ShouldReturnHitRate() throws Exception {
+        when(photoCache.getStatistics()).thenReturn(new CacheStatistics(3, 1, 0, 2, 2048, 4096));
+
+        mockMvc.perform(get("/api/storage/photo-cache"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.hitCount").value(3))
+            .andExpect(jsonPath("$.missCount").value(1))
+            .andExpect(jsonPath("$.sizeBytes").value(2048))
+            .andExpect(jsonPath("$.hitRate").value(0.75));
+    }
+}
@@ -0,0 +1,150 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.BulkUploadItemResult;
+import com.techcorp.model.BulkUploadResult;
+import com.techcorp.repository.InMemoryDocumentRepository;
+import com.techcorp.service.BulkDocumentService;
+import com.techcorp.service.DocumentSearchService;
+import com.techcorp.service.DocumentService;
+import com.techcorp.service.DocumentTextExtractor;
+import com.techcorp.service.FileStorageServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Stores one ZIP batch per invocation; files per second = files / score.
+// DocumentService writes below ./uploads/documents, so run it from a scratch directory.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BulkUploadBenchmark {
+
+    private static final String EMAIL_PREFIX = "bench-";
+
+    @Param({"1", "4", "8"})
+    public int threads;
+
+    @Param({"200"})
+    public int files;
+
+    @Param({"65536"})
+    public int fileSize;
+
+    private Path uploadDirectory;
+    private InMemoryDocumentRepository repository;
+    private DocumentService documentService;
+    private DocumentSearchService documentSearchService;
+    private BulkDocumentService bulkDocumentService;
+    private MockMultipartFile archive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        uploadDirectory = Files.createTempDirectory("bulk-benchmark");
+        repository = new InMemoryDocumentRepository();
+        documentSearchService = new DocumentSearchService(repository, new DocumentTextExtractor(), 1);
+        documentService = new DocumentService(
+            new FileStorageServiceImpl(uploadDirectory.toString(), "pdf", "10MB"),
+            repository,
+            documentSearchService
+        );
+        bulkDocumentService = new BulkDocumentService(documentService, threads, DataSize.ofMegabytes(512));
+        archive = archive();
+    }
+
+    private MockMultipartFile archive() throws IOException {
+        Random random = new Random(42);
+        byte[] content = new byte[fileSize];
+        StringBuilder manifest = new StringBuilder("file,email,type\n");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < files; i++) {
+                String name = "document-" + i + ".pdf";
+                manifest.append(name).append(',').append(EMAIL_PREFIX).append(i % 20).append("@techcorp.com,OTHER\n");
+
+                random.nextBytes(content);
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(content);
+                zip.closeEntry();
+            }
+            zip.putNextEntry(new ZipEntry(BulkDocumentService.MANIFEST_NAME));
+            zip.write(manifest.toString().getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return new MockMultipartFile("archive", "batch.zip", "application/zip", bytes.toByteArray());
+    }
+
+    @Benchmark
+    public BulkUploadResult uploadArchive() {
+        BulkUploadResult result = bulkDocumentService.uploadArchive(archive);
+        if (result.getFailureCount() > 0) {
+            throw new IllegalStateException(result.getItems().stream()
+                .filter(item -> !item.isSuccess())
+                .findFirst()
+                .map(BulkUploadItemResult::getError)
+                .orElse("Bulk upload failed"));
+        }
+        return result;
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearDocuments() throws IOException {
+        repository.findAll().forEach(document -> repository.deleteById(document.getId()));
+
+        Path documents = Paths.get("uploads", "documents");
+        if (!Files.isDirectory(documents)) {
+            return;
+        }
+        try (Stream<Path> directories = Files.list(documents)) {
+            for (Path directory : directories.filter(path -> path.getFileName().toString().startsWith(EMAIL_PREFIX)).toList()) {
+                delete(directory);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        bulkDocumentService.shutdown();
+        documentSearchService.shutdown();
+        delete(uploadDirectory);
+    }
+
+    private static void delete(Path root) throws IOException {
+        if (!Files.exists(root)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.service.CompanyStatisticsCollector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Whole-roster company statistics: the former group-then-restream pipeline
+// against the single-pass collector, sequential and on the fork-join pool.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class CompanyStatisticsBenchmark {
+
+    @Param({"10000000"})
+    public int employees;
+
+    private List<Employee> roster;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random data = new Random(7);
+        Role[] roles = Role.values();
+        EmploymentStatus[] statuses = EmploymentStatus.values();
+        String[] companies = new String[500];
+        for (int i = 0; i < companies.length; i++) {
+            companies[i] = "Company" + i;
+        }
+        roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            roster.add(new Employee(
+                "Last", "First", "e" + i + "@t.com", companies[data.nextInt(companies.length)],
+                roles[data.nextInt(roles.length)], 3000 + data.nextInt(20_000), statuses[data.nextInt(statuses.length)]
+            ));
+        }
+    }
+
+    @Benchmark
+    public Map<String, CompanyStatistics> groupThenRestream() {
+        return roster.stream()
+            .filter(e -> e.getStatus() == EmploymentStatus.ACTIVE)
+            .collect(Collectors.groupingBy(
+                Employee::getCompanyName,
+                Collectors.collectingAndThen(Collectors.toList(), list -> new CompanyStatistics(
+                    list.get(0).getCompanyName(),
+                    list.size(),
+                    list.stream().mapToInt(Employee::getSalary).max().orElse(0),
+                    list.stream().mapToDouble(Employee::getSalary).average().orElse(0.0),
+                    list.stream().max(Comparator.comparing(Employee::getSalary)).map(Employee::getFullName).orElse("N/A")
+                ))
+            ));
+    }
+
+    @Benchmark
+    public Map<String, CompanyStatistics> singlePassSequential() {
+        return roster.stream()
+            .filter(e -> e.getStatus() == EmploymentStatus.ACTIVE)
+            .collect(CompanyStatisticsCollector.toCompanyStatistics());
+    }
+
+    @Benchmark
+    public Map<String, CompanyStatistics> singlePassParallel() {
+        return roster.parallelStream()
+            .filter(e -> e.getStatus() == EmploymentStatus.ACTIVE)
+            .collect(CompanyStatisticsCollector.toCompanyStatistics());
+    }
+}
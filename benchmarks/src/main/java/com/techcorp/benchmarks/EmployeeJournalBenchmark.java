@@ -0,0 +1,168 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.service.ColumnarEmployeeStore;
+import com.techcorp.service.JournaledEmployeeStore;
+import com.techcorp.service.ListEmployeeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+// Journaled mutations per second from eight writers, with and without fsync,
+// and the time to rebuild a roster from a snapshot plus a log tail. The files
+// live under java.io.tmpdir and are removed after each trial.
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EmployeeJournalBenchmark {
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentStatus[] STATUSES = EmploymentStatus.values();
+
+    private static Employee employee(Random data, int i) {
+        return new Employee(
+            "Last" + data.nextInt(100_000), "First" + data.nextInt(1_000), "e" + i + "@t.com",
+            "Company" + data.nextInt(500), ROLES[data.nextInt(ROLES.length)],
+            3000 + data.nextInt(20_000), STATUSES[data.nextInt(STATUSES.length)]
+        );
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Journal {
+
+        @Param({"100000"})
+        public int employees;
+
+        @Param({"true", "false"})
+        public boolean sync;
+
+        Path directory;
+        JournaledEmployeeStore store;
+        final AtomicInteger added = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("journal");
+            store = new JournaledEmployeeStore(new ListEmployeeStore(), directory.toString(), 1_000_000, sync);
+            Random data = new Random(7);
+            for (int i = 0; i < employees; i++) {
+                store.save(employee(data, i));
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            store.close();
+            delete(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Recovery {
+
+        @Param({"10000000"})
+        public int employees;
+
+        // Mutations left in the log after the last snapshot.
+        @Param({"1000000"})
+        public int tail;
+
+        Path directory;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("recovery");
+            JournaledEmployeeStore store = new JournaledEmployeeStore(
+                new ColumnarEmployeeStore(), directory.toString(), Integer.MAX_VALUE, false
+            );
+            Random data = new Random(7);
+            for (int i = 0; i < employees; i++) {
+                store.save(employee(data, i));
+            }
+            store.compact();
+            for (int i = 0; i < tail; i++) {
+                String email = "e" + data.nextInt(employees) + "@t.com";
+                if (i % 2 == 0) {
+                    store.updateStatus(email, STATUSES[data.nextInt(STATUSES.length)]);
+                } else {
+                    store.save(employee(data, employees + i));
+                }
+            }
+            store.close();
+            System.out.printf("%nSnapshot %,d bytes, log %,d bytes%n",
+                Files.size(directory.resolve("employees.snapshot")), Files.size(directory.resolve("employees.log")));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            delete(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Threads(8)
+    public boolean statusUpdate(Journal journal) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return journal.store.updateStatus(
+            "e" + random.nextInt(journal.employees) + "@t.com", STATUSES[random.nextInt(STATUSES.length)]
+        );
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @Warmup(iterations = 3, time = 2)
+    @Measurement(iterations = 5, time = 2)
+    @Threads(8)
+    public void add(Journal journal) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        journal.store.save(new Employee(
+            "Kowalski", "Jan", "n" + journal.added.incrementAndGet() + "@t.com",
+            "Company" + random.nextInt(500), Role.ENGINEER, 3000 + random.nextInt(20_000)
+        ));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int recover(Recovery recovery) {
+        JournaledEmployeeStore store = new JournaledEmployeeStore(
+            new ColumnarEmployeeStore(), recovery.directory.toString(), Integer.MAX_VALUE, false
+        );
+        store.close();
+        return store.count();
+    }
+}
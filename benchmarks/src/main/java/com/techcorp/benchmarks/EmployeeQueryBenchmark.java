@@ -0,0 +1,148 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeeQueryResult;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.service.EmployeeAttributeIndex;
+import com.techcorp.service.EmployeePrefixIndex;
+import com.techcorp.service.EmployeeQuery;
+import com.techcorp.service.EmployeeQueryPlanner;
+import com.techcorp.service.EmployeeSalaryIndex;
+import com.techcorp.service.ListEmployeeStore;
+import com.techcorp.service.SalarySketch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// "Active engineers at one company", listed and counted, one company's top
+// earners and its engineers' p90 salary, through the indexes versus the stream
+// pipelines a client would otherwise run over getEmployees(). The indexes are
+// filled directly, as EmployeeService.addEmployee checks duplicates linearly.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EmployeeQueryBenchmark {
+
+    private static final int COMPANIES = 200;
+
+    @Param({"1000000"})
+    public int employees;
+
+    private List<Employee> all;
+    private ListEmployeeStore roster;
+    private EmployeeAttributeIndex attributes;
+    private EmployeeSalaryIndex salaries;
+    private EmployeeQueryPlanner planner;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random data = new Random(7);
+        Role[] roles = Role.values();
+        EmploymentStatus[] statuses = EmploymentStatus.values();
+        roster = new ListEmployeeStore();
+        attributes = new EmployeeAttributeIndex();
+        EmployeePrefixIndex names = new EmployeePrefixIndex(roster::findByEmails);
+        salaries = new EmployeeSalaryIndex();
+        planner = new EmployeeQueryPlanner(attributes, names, salaries, roster::findByEmails);
+        all = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            Employee employee = new Employee(
+                "Last" + data.nextInt(50_000), "First" + data.nextInt(500), "employee" + i + "@techcorp.com",
+                "Company" + data.nextInt(COMPANIES), roles[data.nextInt(roles.length)], 3000 + data.nextInt(20_000),
+                statuses[data.nextInt(statuses.length)]
+            );
+            all.add(employee);
+            roster.save(employee);
+            attributes.add(employee);
+            names.add(employee);
+            salaries.add(employee);
+        }
+        random = new Random(11);
+    }
+
+    @Benchmark
+    public EmployeeQueryResult planner() {
+        return planner.execute(new EmployeeQuery(
+            "Company" + random.nextInt(COMPANIES), Role.ENGINEER, EmploymentStatus.ACTIVE, 8000, null, null, 0, 50
+        ));
+    }
+
+    @Benchmark
+    public List<Employee> streamFilters() {
+        String company = "Company" + random.nextInt(COMPANIES);
+        return all.stream()
+            .filter(e -> e.getCompanyName().equalsIgnoreCase(company))
+            .filter(e -> e.getRole() == Role.ENGINEER)
+            .filter(e -> e.getStatus() == EmploymentStatus.ACTIVE)
+            .filter(e -> e.getSalary() >= 8000)
+            .limit(50)
+            .toList();
+    }
+
+    @Benchmark
+    public int bitmapCount() {
+        return attributes.count("Company" + random.nextInt(COMPANIES), Role.ENGINEER, EmploymentStatus.ACTIVE);
+    }
+
+    @Benchmark
+    public long streamCount() {
+        String company = "Company" + random.nextInt(COMPANIES);
+        return all.stream()
+            .filter(e -> e.getCompanyName().equalsIgnoreCase(company))
+            .filter(e -> e.getRole() == Role.ENGINEER)
+            .filter(e -> e.getStatus() == EmploymentStatus.ACTIVE)
+            .count();
+    }
+
+    @Benchmark
+    public List<Employee> topEarners() {
+        return roster.findByEmails(salaries.descending("Company" + random.nextInt(COMPANIES)).limit(100).toList());
+    }
+
+    @Benchmark
+    public List<Employee> streamTopEarners() {
+        String company = "Company" + random.nextInt(COMPANIES);
+        return all.stream()
+            .filter(e -> e.getCompanyName().equalsIgnoreCase(company))
+            .sorted(Comparator.comparingInt(Employee::getSalary).reversed())
+            .limit(100)
+            .toList();
+    }
+
+    @Benchmark
+    public double sketchP90() {
+        SalarySketch sketch = salaries.sketch("Company" + random.nextInt(COMPANIES), Role.ENGINEER);
+        return sketch.quantile(0.9);
+    }
+
+    @Benchmark
+    public int sortedP90() {
+        String company = "Company" + random.nextInt(COMPANIES);
+        int[] sorted = all.stream()
+            .filter(e -> e.getCompanyName().equalsIgnoreCase(company) && e.getRole() == Role.ENGINEER)
+            .mapToInt(Employee::getSalary)
+            .sorted()
+            .toArray();
+        return sorted.length == 0 ? 0 : sorted[(int) (0.9 * (sorted.length - 1))];
+    }
+}
@@ -0,0 +1,124 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeeSearchHit;
+import com.techcorp.model.Role;
+import com.techcorp.service.EmployeePrefixIndex;
+import com.techcorp.service.EmployeeTrigramIndex;
+import com.techcorp.service.ListEmployeeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Index build is excluded; each invocation answers one randomly chosen query.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EmployeeSearchBenchmark {
+
+    private static final String[] FIRST_NAMES = {
+        "Anna", "Jan", "Piotr", "Katarzyna", "Tomasz", "Magdalena", "Łukasz", "Agnieszka", "Michał", "Zofia",
+        "John", "Mary", "Robert", "Patricia", "Michael", "Jennifer", "William", "Linda", "David", "Elizabeth"
+    };
+    private static final String CONSONANTS = "bcdfghjklmnprstwz";
+    private static final String VOWELS = "aeiouy";
+    // Roughly the number of distinct surnames covering most of a national census.
+    private static final int LAST_NAMES = 150_000;
+
+    @Param({"2000000"})
+    public int employees;
+
+    private EmployeePrefixIndex prefixIndex;
+    private EmployeeTrigramIndex trigramIndex;
+    private String[] lastNames;
+    private String[] prefixes;
+    private String[] misspellings;
+    private Random random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random data = new Random(7);
+        lastNames = new String[LAST_NAMES];
+        for (int i = 0; i < lastNames.length; i++) {
+            lastNames[i] = lastName(data);
+        }
+
+        ListEmployeeStore roster = new ListEmployeeStore();
+        prefixIndex = new EmployeePrefixIndex(roster::findByEmails);
+        trigramIndex = new EmployeeTrigramIndex(roster::findByEmails);
+        for (int i = 0; i < employees; i++) {
+            Employee employee = new Employee(
+                lastNames[data.nextInt(lastNames.length)], FIRST_NAMES[data.nextInt(FIRST_NAMES.length)], "employee" + i + "@techcorp.com",
+                "TechCorp", Role.ENGINEER, 8000
+            );
+            roster.save(employee);
+            prefixIndex.add(employee);
+            trigramIndex.add(employee);
+        }
+
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            String lastName = EmployeePrefixIndex.normalize(lastNames[data.nextInt(lastNames.length)]);
+            prefixes[i] = lastName.substring(0, 1 + data.nextInt(lastName.length()));
+        }
+
+        // Full names with one character replaced, as typed by a hurried user.
+        misspellings = new String[1024];
+        for (int i = 0; i < misspellings.length; i++) {
+            StringBuilder name = new StringBuilder(FIRST_NAMES[data.nextInt(FIRST_NAMES.length)])
+                .append(' ')
+                .append(lastNames[data.nextInt(lastNames.length)]);
+            int position = 1 + data.nextInt(name.length() - 1);
+            if (name.charAt(position) != ' ') {
+                name.setCharAt(position, (char) ('a' + data.nextInt(26)));
+            }
+            misspellings[i] = name.toString();
+        }
+        random = new Random(11);
+    }
+
+    private static String lastName(Random random) {
+        StringBuilder name = new StringBuilder();
+        for (int syllables = 2 + random.nextInt(3); syllables > 0; syllables--) {
+            name.append(CONSONANTS.charAt(random.nextInt(CONSONANTS.length())))
+                .append(VOWELS.charAt(random.nextInt(VOWELS.length())));
+            if (random.nextInt(3) == 0) {
+                name.append(CONSONANTS.charAt(random.nextInt(CONSONANTS.length())));
+            }
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    @Benchmark
+    public List<Employee> prefixTop10() {
+        return prefixIndex.search(prefixes[random.nextInt(prefixes.length)], 10);
+    }
+
+    @Benchmark
+    public List<EmployeeSearchHit> fuzzyFullNameTop10() {
+        return trigramIndex.search(misspellings[random.nextInt(misspellings.length)], 10);
+    }
+
+    @Benchmark
+    public List<EmployeeSearchHit> fuzzyLastNameTop10() {
+        String name = misspellings[random.nextInt(misspellings.length)];
+        return trigramIndex.search(name.substring(name.indexOf(' ') + 1), 10);
+    }
+}
@@ -0,0 +1,89 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.service.EmployeeService;
+import com.techcorp.service.EmployeeSnapshot;
+import com.techcorp.service.JournaledEmployeeStore;
+import com.techcorp.service.ListEmployeeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Cold reads of a roster snapshot: decoding alone, and a full warm start that
+// also fills the store and builds every EmployeeService index.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class EmployeeSnapshotBenchmark {
+
+    @Param({"5000000"})
+    public int employees;
+
+    private Path directory;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random data = new Random(7);
+        Role[] roles = Role.values();
+        EmploymentStatus[] statuses = EmploymentStatus.values();
+        List<Employee> roster = new ArrayList<>(employees);
+        for (int i = 0; i < employees; i++) {
+            roster.add(new Employee(
+                "Last" + data.nextInt(100_000), "First" + data.nextInt(1_000), "e" + i + "@t.com",
+                "Company" + data.nextInt(500), roles[data.nextInt(roles.length)],
+                3000 + data.nextInt(20_000), statuses[data.nextInt(statuses.length)]
+            ));
+        }
+        directory = Files.createTempDirectory("snapshot");
+        Path snapshot = directory.resolve("employees.snapshot");
+        EmployeeSnapshot.write(snapshot, roster);
+        System.out.printf("%nSnapshot of %,d employees takes %,d bytes%n", employees, Files.size(snapshot));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public List<Employee> read() throws IOException {
+        return EmployeeSnapshot.read(directory.resolve("employees.snapshot"));
+    }
+
+    @Benchmark
+    public int warmStart() throws IOException {
+        EmployeeService service = new EmployeeService(
+            new JournaledEmployeeStore(new ListEmployeeStore(), directory.toString(), Integer.MAX_VALUE, false)
+        );
+        service.close();
+        return service.countEmployees(null, null, null);
+    }
+}
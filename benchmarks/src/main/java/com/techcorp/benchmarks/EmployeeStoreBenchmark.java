@@ -0,0 +1,88 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.service.ColumnarEmployeeStore;
+import com.techcorp.service.EmployeeService;
+import com.techcorp.service.EmployeeStore;
+import com.techcorp.service.ListEmployeeStore;
+import com.techcorp.service.OffHeapEmployeeStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// List-of-objects roster against the column arrays and the off-heap records.
+// The retained heap of each store, and of an EmployeeService indexing it, is
+// printed once per trial (direct buffer contents do not count); the scans are
+// whole-roster aggregates and a selective filter that materializes its matches.
+// jol needs magicFieldOffset to walk the service's lambdas, which are hidden classes.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g", "-Djol.magicFieldOffset=true"})
+public class EmployeeStoreBenchmark {
+
+    @Param({"1000000"})
+    public int employees;
+
+    @Param({"list", "columnar", "off-heap"})
+    public String store;
+
+    private EmployeeStore roster;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random data = new Random(7);
+        Role[] roles = Role.values();
+        EmploymentStatus[] statuses = EmploymentStatus.values();
+        String[] companies = new String[500];
+        for (int i = 0; i < companies.length; i++) {
+            companies[i] = "Company" + i;
+        }
+        roster = switch (store) {
+            case "columnar" -> new ColumnarEmployeeStore();
+            case "off-heap" -> new OffHeapEmployeeStore();
+            default -> new ListEmployeeStore();
+        };
+        for (int i = 0; i < employees; i++) {
+            roster.save(new Employee(
+                "Last" + data.nextInt(100_000), "First" + data.nextInt(1_000), "e" + i + "@t.com",
+                companies[data.nextInt(companies.length)], roles[data.nextInt(roles.length)],
+                3000 + data.nextInt(20_000), statuses[data.nextInt(statuses.length)]
+            ));
+        }
+        System.out.printf("%n%s store retains %,d bytes%n", store, GraphLayout.parseInstance(roster).totalSize());
+        EmployeeService service = new EmployeeService(roster);
+        System.out.printf("%s store with EmployeeService retains %,d bytes%n", store,
+            GraphLayout.parseInstance(service).totalSize());
+    }
+
+    @Benchmark
+    public Map<String, CompanyStatistics> companyStatistics() {
+        return roster.getCompanyStatistics(EmploymentStatus.ACTIVE);
+    }
+
+    @Benchmark
+    public List<Employee> findByCompanyName() {
+        return roster.findByCompanyName("company42");
+    }
+}
@@ -0,0 +1,77 @@
+package com.techcorp.benchmarks;
+
+import com.techcorp.model.Role;
+import com.techcorp.service.SalaryKernels;
+import com.techcorp.service.ScalarSalaryKernels;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// Salary column kernels, scalar loops against the Vector API. The fork adds
+// the incubator module, so "vector" resolves to VectorSalaryKernels once the
+// service is built with it: mvn -P benchmarks,vector package -DskipTests
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g", "--add-modules", "jdk.incubator.vector"})
+public class SalaryKernelBenchmark {
+
+    @Param({"10000000"})
+    public int employees;
+
+    @Param({"scalar", "vector"})
+    public String kernels;
+
+    private SalaryKernels selected;
+    private int[] salaries;
+    private byte[] roles;
+    private int[] thresholds;
+    private int[] matches;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        selected = kernels.equals("vector") ? SalaryKernels.create() : new ScalarSalaryKernels();
+        System.out.printf("%n%s kernels: %s%n", kernels, selected.getClass().getSimpleName());
+        Random data = new Random(7);
+        Role[] values = Role.values();
+        thresholds = Arrays.stream(values).mapToInt(Role::getBaseSalary).toArray();
+        salaries = new int[employees];
+        roles = new byte[employees];
+        for (int i = 0; i < employees; i++) {
+            roles[i] = (byte) data.nextInt(values.length);
+            // About one in a thousand paid below the base salary of the role.
+            salaries[i] = thresholds[roles[i]] + data.nextInt(10_000) - 10;
+        }
+        matches = new int[employees];
+    }
+
+    @Benchmark
+    public long sum() {
+        return selected.sum(salaries, employees);
+    }
+
+    @Benchmark
+    public int max() {
+        return selected.max(salaries, employees);
+    }
+
+    @Benchmark
+    public int belowBaseSalary() {
+        return selected.below(salaries, roles, employees, thresholds, matches);
+    }
+}
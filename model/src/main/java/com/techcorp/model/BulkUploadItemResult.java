@@ -0,0 +1,33 @@
+package com.techcorp.model;
+
+public class BulkUploadItemResult
+{
+    private final int line;
+    private final String fileName;
+    private final String email;
+    private final String documentId;
+    private final String error;
+
+    private BulkUploadItemResult(int line, String fileName, String email, String documentId, String error) {
+        this.line = line;
+        this.fileName = fileName;
+        this.email = email;
+        this.documentId = documentId;
+        this.error = error;
+    }
+
+    public static BulkUploadItemResult success(int line, String fileName, String email, String documentId) {
+        return new BulkUploadItemResult(line, fileName, email, documentId, null);
+    }
+
+    public static BulkUploadItemResult failure(int line, String fileName, String email, String error) {
+        return new BulkUploadItemResult(line, fileName, email, null, error);
+    }
+
+    public int getLine()           { return line; }
+    public String getFileName()    { return fileName; }
+    public String getEmail()       { return email; }
+    public String getDocumentId()  { return documentId; }
+    public String getError()       { return error; }
+    public boolean isSuccess()     { return error == null; }
+}
@@ -0,0 +1,25 @@
+package com.techcorp.model;
+
+import java.util.List;
+
+public class BulkUploadResult
+{
+    private final List<BulkUploadItemResult> items;
+    private final long elapsedMillis;
+
+    public BulkUploadResult(List<BulkUploadItemResult> items, long elapsedMillis) {
+        this.items = items;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public List<BulkUploadItemResult> getItems() { return items; }
+    public long getElapsedMillis()               { return elapsedMillis; }
+
+    public int getSuccessCount() {
+        return (int) items.stream().filter(BulkUploadItemResult::isSuccess).count();
+    }
+
+    public int getFailureCount() {
+        return items.size() - getSuccessCount();
+    }
+}
@@ -0,0 +1,39 @@
+package com.techcorp.model;
+
+public class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final int  entryCount;
+    private final long sizeBytes;
+    private final long maxSizeBytes;
+
+    public CacheStatistics(
+        long hitCount,
+        long missCount,
+        long evictionCount,
+        int  entryCount,
+        long sizeBytes,
+        long maxSizeBytes
+    ) {
+        this.hitCount      = hitCount;
+        this.missCount     = missCount;
+        this.evictionCount = evictionCount;
+        this.entryCount    = entryCount;
+        this.sizeBytes     = sizeBytes;
+        this.maxSizeBytes  = maxSizeBytes;
+    }
+
+    public long getHitCount()      { return hitCount; }
+    public long getMissCount()     { return missCount; }
+    public long getEvictionCount() { return evictionCount; }
+    public int  getEntryCount()    { return entryCount; }
+    public long getSizeBytes()     { return sizeBytes; }
+    public long getMaxSizeBytes()  { return maxSizeBytes; }
+
+    public double getHitRate() {
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0.0 : (double) hitCount / requests;
+    }
+}
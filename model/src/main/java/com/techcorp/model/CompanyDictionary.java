@@ -0,0 +1,89 @@
+package com.techcorp.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Process-wide dictionary of company names. Names that differ only in case
+// share one dense integer id, so company filters compare ints; each distinct
+// spelling is interned, so the employees of a company share one String.
+// Only stored employees register their company (see admit), so ids grow with
+// the companies actually kept, and lookups by a name that was never stored
+// return -1. The spelling cache is capped; past the cap new
+// spellings still get their id but are no longer shared.
+public final class CompanyDictionary
+{
+    static final int MAX_SPELLINGS = 1 << 16;
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static final Map<String, String> spellings = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[64];
+    private static int size;
+
+    private CompanyDictionary() {}
+
+    private static String key(String companyName) {
+        return companyName.toLowerCase(Locale.ROOT);
+    }
+
+    // The shared instance of this spelling, registering the company if it is new.
+    public static String intern(String companyName) {
+        String interned = spellings.get(companyName);
+        if (interned == null) {
+            interned = spellings.size() < MAX_SPELLINGS
+                ? spellings.computeIfAbsent(companyName, name -> name)
+                : companyName;
+        }
+        register(interned);
+        return interned;
+    }
+
+    // Registers the employee's company and gives the employee its id and the
+    // shared spelling, unless it already has them; returns the id. Stores and
+    // indexes call this as they take an employee in, so employees built only
+    // to validate a request never reach the dictionary.
+    public static int admit(Employee employee) {
+        if (employee.getCompanyId() < 0) {
+            String interned = intern(employee.getCompanyName());
+            employee.assignCompany(interned, idOf(interned));
+        }
+        return employee.getCompanyId();
+    }
+
+    public static int register(String companyName) {
+        Integer id = ids.get(key(companyName));
+        return id != null ? id : assign(companyName);
+    }
+
+    private static synchronized int assign(String companyName) {
+        return ids.computeIfAbsent(key(companyName), k -> {
+            if (size == names.length) {
+                names = Arrays.copyOf(names, size * 2);
+            }
+            names[size] = companyName;
+            return size++;
+        });
+    }
+
+    // -1 for null or never registered names.
+    public static int idOf(String companyName) {
+        if (companyName == null) {
+            return -1;
+        }
+        return ids.getOrDefault(key(companyName), -1);
+    }
+
+    // The first spelling registered under the id.
+    public static String nameOf(int id) {
+        String[] current = names;
+        if (id < 0 || id >= current.length || current[id] == null) {
+            throw new IllegalArgumentException("Unknown company id: " + id);
+        }
+        return current[id];
+    }
+
+    public static int size() {
+        return ids.size();
+    }
+}
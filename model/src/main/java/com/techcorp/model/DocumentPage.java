@@ -0,0 +1,18 @@
+package com.techcorp.model;
+
+import java.util.List;
+
+public class DocumentPage
+{
+    private final List<EmployeeDocument> documents;
+    private final String nextCursor;
+
+    public DocumentPage(List<EmployeeDocument> documents, String nextCursor) {
+        this.documents = documents;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<EmployeeDocument> getDocuments() { return documents; }
+    public String getNextCursor()                { return nextCursor; }
+    public boolean hasNext()                     { return nextCursor != null; }
+}
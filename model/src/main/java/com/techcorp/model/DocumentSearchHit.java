@@ -0,0 +1,18 @@
+package com.techcorp.model;
+
+public class DocumentSearchHit
+{
+    private final EmployeeDocument document;
+    private final double score;
+    private final int matches;
+
+    public DocumentSearchHit(EmployeeDocument document, double score, int matches) {
+        this.document = document;
+        this.score = score;
+        this.matches = matches;
+    }
+
+    public EmployeeDocument getDocument() { return document; }
+    public double getScore()              { return score; }
+    public int getMatches()               { return matches; }
+}
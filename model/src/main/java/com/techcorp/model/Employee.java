@@ -8,6 +8,7 @@ public class Employee
     private String firstName;
     private String emailAddress;
     private String companyName;
+    private int    companyId = -1;
     private Role   role;
     private int    salary;
 	private EmploymentStatus status;
@@ -78,6 +79,46 @@ public class Employee
 		this.photoFileName = photoFileName;
 	}
 
+	// Rebuilds an employee from data that was validated when it was first created,
+	// such as a snapshot; the company name must already be interned under companyId.
+	public static Employee restore(
+		String lastName,
+		String firstName,
+		String emailAddress,
+		String companyName,
+		int    companyId,
+		Role   role,
+		int    salary,
+		EmploymentStatus status,
+		String photoFileName
+	) {
+		return new Employee(
+			lastName, firstName, emailAddress, companyName, companyId, role, salary, status, photoFileName
+		);
+	}
+
+	private Employee(
+		String lastName,
+		String firstName,
+		String emailAddress,
+		String companyName,
+		int    companyId,
+		Role   role,
+		int    salary,
+		EmploymentStatus status,
+		String photoFileName
+	) {
+		this.lastName      = lastName;
+		this.firstName     = firstName;
+		this.emailAddress  = emailAddress;
+		this.companyName   = companyName;
+		this.companyId     = companyId;
+		this.role          = role;
+		this.salary        = salary;
+		this.status        = status;
+		this.photoFileName = photoFileName;
+	}
+
 	private void validateParameters(
         String lastName, 
         String firstName, 
@@ -113,6 +154,14 @@ public class Employee
 	public EmploymentStatus getStatus() { return this.status; }
 	public String getPhotoFileName() { return this.photoFileName; }
 
+	// -1 until a store or index has admitted the employee, see CompanyDictionary.admit.
+	public int getCompanyId() { return this.companyId; }
+
+	void assignCompany(String companyName, int companyId) {
+		this.companyName = companyName;
+		this.companyId   = companyId;
+	}
+
     public void setSalary(int salary) { this.salary = salary; }
 	public void setStatus(EmploymentStatus status) {
 		if (status == null) throw new IllegalArgumentException("Employment status cannot be null");
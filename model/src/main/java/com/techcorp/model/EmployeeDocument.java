@@ -13,6 +13,7 @@ public class EmployeeDocument {
     private final DocumentType fileType;
     private final LocalDateTime uploadDate;
     private final String filePath;
+    private final String digest;
 
     public EmployeeDocument(
         String employeeEmail,
@@ -20,6 +21,17 @@ public class EmployeeDocument {
         String originalFileName,
         DocumentType fileType,
         String filePath
+    ) {
+        this(employeeEmail, fileName, originalFileName, fileType, filePath, null);
+    }
+
+    public EmployeeDocument(
+        String employeeEmail,
+        String fileName,
+        String originalFileName,
+        DocumentType fileType,
+        String filePath,
+        String digest
     ) {
         if (employeeEmail == null || employeeEmail.isEmpty()) {
             throw new IllegalArgumentException("Employee email cannot be null or empty");
@@ -44,6 +56,7 @@ public class EmployeeDocument {
         this.fileType = fileType;
         this.uploadDate = LocalDateTime.now();
         this.filePath = filePath;
+        this.digest = digest;
     }
 
     public EmployeeDocument(
@@ -54,6 +67,19 @@ public class EmployeeDocument {
         DocumentType fileType,
         LocalDateTime uploadDate,
         String filePath
+    ) {
+        this(id, employeeEmail, fileName, originalFileName, fileType, uploadDate, filePath, null);
+    }
+
+    public EmployeeDocument(
+        String id,
+        String employeeEmail,
+        String fileName,
+        String originalFileName,
+        DocumentType fileType,
+        LocalDateTime uploadDate,
+        String filePath,
+        String digest
     ) {
         if (id == null || id.isEmpty()) {
             throw new IllegalArgumentException("Document ID cannot be null or empty");
@@ -84,6 +110,7 @@ public class EmployeeDocument {
         this.fileType = fileType;
         this.uploadDate = uploadDate;
         this.filePath = filePath;
+        this.digest = digest;
     }
 
     public String getId() {
@@ -114,6 +141,10 @@ public class EmployeeDocument {
         return filePath;
     }
 
+    public String getDigest() {
+        return digest;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) return true;
@@ -137,6 +168,7 @@ public class EmployeeDocument {
                 ", fileType=" + fileType +
                 ", uploadDate=" + uploadDate +
                 ", filePath='" + filePath + '\'' +
+                ", digest='" + digest + '\'' +
                 '}';
     }
 }
@@ -0,0 +1,20 @@
+package com.techcorp.model;
+
+import java.util.List;
+
+public class EmployeeQueryResult
+{
+    private final List<Employee> employees;
+    private final int total;
+    private final String plan;
+
+    public EmployeeQueryResult(List<Employee> employees, int total, String plan) {
+        this.employees = employees;
+        this.total = total;
+        this.plan = plan;
+    }
+
+    public List<Employee> getEmployees() { return employees; }
+    public int getTotal()                { return total; }
+    public String getPlan()              { return plan; }
+}
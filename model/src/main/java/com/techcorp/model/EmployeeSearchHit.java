@@ -0,0 +1,18 @@
+package com.techcorp.model;
+
+public class EmployeeSearchHit
+{
+    private final Employee employee;
+    private final double score;
+    private final int distance;
+
+    public EmployeeSearchHit(Employee employee, double score, int distance) {
+        this.employee = employee;
+        this.score = score;
+        this.distance = distance;
+    }
+
+    public Employee getEmployee() { return employee; }
+    public double getScore()      { return score; }
+    public int getDistance()      { return distance; }
+}
@@ -0,0 +1,51 @@
+package com.techcorp.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class IntegrityReport
+{
+    private final LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private int checkedCount;
+    private int unverifiedCount;
+    private long bytesChecked;
+    private final List<String> corruptedDocumentIds;
+    private final List<String> missingDocumentIds;
+
+    public IntegrityReport() {
+        this.startedAt = LocalDateTime.now();
+        this.corruptedDocumentIds = new ArrayList<>();
+        this.missingDocumentIds = new ArrayList<>();
+    }
+
+    public void addChecked(long bytes) {
+        this.checkedCount++;
+        this.bytesChecked += bytes;
+    }
+
+    public void addUnverified() {
+        this.unverifiedCount++;
+    }
+
+    public void addCorrupted(String documentId) {
+        this.corruptedDocumentIds.add(documentId);
+    }
+
+    public void addMissing(String documentId) {
+        this.missingDocumentIds.add(documentId);
+    }
+
+    public void finish() {
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getStartedAt()         { return startedAt; }
+    public LocalDateTime getFinishedAt()        { return finishedAt; }
+    public int getCheckedCount()                { return checkedCount; }
+    public int getUnverifiedCount()             { return unverifiedCount; }
+    public long getBytesChecked()               { return bytesChecked; }
+    public List<String> getCorruptedDocumentIds() { return corruptedDocumentIds; }
+    public List<String> getMissingDocumentIds()   { return missingDocumentIds; }
+}
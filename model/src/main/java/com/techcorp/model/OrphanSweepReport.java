@@ -0,0 +1,54 @@
+package com.techcorp.model;
+
+import java.time.LocalDateTime;
+
+public class OrphanSweepReport
+{
+    private final LocalDateTime startedAt;
+    private final boolean dryRun;
+    private LocalDateTime finishedAt;
+    private int scannedCount;
+    private int orphanCount;
+    private int deletedCount;
+    private int failedCount;
+    private long bytesReclaimed;
+
+    public OrphanSweepReport() {
+        this(false);
+    }
+
+    public OrphanSweepReport(boolean dryRun) {
+        this.startedAt = LocalDateTime.now();
+        this.dryRun = dryRun;
+    }
+
+    public void addScanned() {
+        this.scannedCount++;
+    }
+
+    public void addOrphan() {
+        this.orphanCount++;
+    }
+
+    public void addDeleted(long bytes) {
+        this.deletedCount++;
+        this.bytesReclaimed += bytes;
+    }
+
+    public void addFailed() {
+        this.failedCount++;
+    }
+
+    public void finish() {
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public LocalDateTime getStartedAt()  { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public boolean isDryRun()            { return dryRun; }
+    public int getScannedCount()         { return scannedCount; }
+    public int getOrphanCount()          { return orphanCount; }
+    public int getDeletedCount()         { return deletedCount; }
+    public int getFailedCount()          { return failedCount; }
+    public long getBytesReclaimed()      { return bytesReclaimed; }
+}
@@ -0,0 +1,17 @@
+package com.techcorp.model;
+
+import java.util.Map;
+
+public class SalaryPercentiles
+{
+    private final long count;
+    private final Map<String, Double> percentiles;
+
+    public SalaryPercentiles(long count, Map<String, Double> percentiles) {
+        this.count = count;
+        this.percentiles = percentiles;
+    }
+
+    public long getCount()                     { return count; }
+    public Map<String, Double> getPercentiles() { return percentiles; }
+}
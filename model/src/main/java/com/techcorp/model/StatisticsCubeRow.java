@@ -0,0 +1,33 @@
+package com.techcorp.model;
+
+// Dimensions that were rolled up are null.
+public class StatisticsCubeRow
+{
+    private final String companyName;
+    private final Role role;
+    private final EmploymentStatus status;
+    private final long count;
+    private final long salarySum;
+    private final int minSalary;
+    private final int maxSalary;
+
+    public StatisticsCubeRow(String companyName, Role role, EmploymentStatus status,
+                             long count, long salarySum, int minSalary, int maxSalary) {
+        this.companyName = companyName;
+        this.role = role;
+        this.status = status;
+        this.count = count;
+        this.salarySum = salarySum;
+        this.minSalary = minSalary;
+        this.maxSalary = maxSalary;
+    }
+
+    public String getCompanyName()      { return companyName; }
+    public Role getRole()               { return role; }
+    public EmploymentStatus getStatus() { return status; }
+    public long getCount()              { return count; }
+    public long getSalarySum()          { return salarySum; }
+    public double getAverageSalary()    { return count == 0 ? 0.0 : (double) salarySum / count; }
+    public int getMinSalary()           { return minSalary; }
+    public int getMaxSalary()           { return maxSalary; }
+}
@@ -0,0 +1,18 @@
+package com.techcorp.model.dto;
+
+public class EmployeeSearchHitDTO {
+
+    private final EmployeeDTO employee;
+    private final double      score;
+    private final int         distance;
+
+    public EmployeeSearchHitDTO(EmployeeDTO employee, double score, int distance) {
+        this.employee = employee;
+        this.score    = score;
+        this.distance = distance;
+    }
+
+    public EmployeeDTO getEmployee() { return employee; }
+    public double      getScore()    { return score;    }
+    public int         getDistance() { return distance; }
+}
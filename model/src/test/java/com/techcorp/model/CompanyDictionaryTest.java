@@ -0,0 +1,58 @@
+package com.techcorp.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompanyDictionaryTest
+{
+    @Test
+    public void givenSpellingsDifferingInCaseTheyShareOneId()
+    {
+        int id = CompanyDictionary.register("Dictionary Corp");
+
+        assertEquals(id, CompanyDictionary.idOf("DICTIONARY CORP"));
+        assertEquals(id, CompanyDictionary.register("dictionary corp"));
+        assertEquals("Dictionary Corp", CompanyDictionary.nameOf(id));
+        assertEquals(-1, CompanyDictionary.idOf("Never Registered Corp"));
+        assertEquals(-1, CompanyDictionary.idOf(null));
+    }
+
+    @Test
+    public void givenEqualNamesInternReturnsOneSharedInstance()
+    {
+        String first = CompanyDictionary.intern(new String("Interned Corp"));
+        String second = CompanyDictionary.intern(new String("Interned Corp"));
+
+        assertSame(first, second);
+        assertNotSame(first, CompanyDictionary.intern("INTERNED CORP"));
+        assertThrows(IllegalArgumentException.class, () -> CompanyDictionary.nameOf(-1));
+    }
+
+    @Test
+    public void givenEmployeesOfOneCompanyTheyShareNameAndId()
+    {
+        Employee first = new Employee("Baggins", "Frodo", "frodo@shire.com", new String("Shire Ltd"), Role.ENGINEER, 8000);
+        Employee second = new Employee("Gamgee", "Sam", "sam@shire.com", "SHIRE LTD", Role.INTERN, 3000);
+
+        assertEquals(CompanyDictionary.admit(first), CompanyDictionary.admit(second));
+        assertEquals(first.getCompanyId(), second.getCompanyId());
+        assertSame(first.getCompanyName(), CompanyDictionary.intern("Shire Ltd"));
+        assertEquals("SHIRE LTD", second.getCompanyName());
+    }
+
+    @Test
+    public void givenEmployeeOnlyBuiltItsCompanyIsNotRegistered()
+    {
+        Employee employee = new Employee("Took", "Pippin", "pippin@tookland.com", "Validated Only Ltd", Role.INTERN, 3000);
+
+        assertEquals("Validated Only Ltd", employee.getCompanyName());
+        assertEquals(-1, CompanyDictionary.idOf("Validated Only Ltd"));
+        assertEquals(-1, employee.getCompanyId());
+        assertEquals(-1, CompanyDictionary.idOf("Validated Only Ltd"));
+        int id = CompanyDictionary.admit(employee);
+        assertNotEquals(-1, id);
+        assertEquals(id, employee.getCompanyId());
+        assertEquals(id, CompanyDictionary.idOf("validated only ltd"));
+    }
+}
@@ -370,5 +370,26 @@ class EmployeeDocumentTest {
         assertTrue(toString.contains("file.pdf"));
         assertTrue(toString.contains("CONTRACT"));
     }
-}
 
+    @Test
+    @DisplayName("Should store digest when provided")
+    void shouldStoreDigestWhenProvided() {
+        EmployeeDocument document = new EmployeeDocument(
+            "john@techcorp.com", "file.pdf", "contract.pdf", DocumentType.CONTRACT, "/path/file.pdf", "abc123"
+        );
+
+        assertEquals("abc123", document.getDigest());
+        assertTrue(document.toString().contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("Should leave digest empty for legacy constructor")
+    void shouldLeaveDigestEmptyForLegacyConstructor() {
+        EmployeeDocument document = new EmployeeDocument(
+            "doc-123", "john@techcorp.com", "file.pdf", "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), "/path/file.pdf"
+        );
+
+        assertNull(document.getDigest());
+    }
+}
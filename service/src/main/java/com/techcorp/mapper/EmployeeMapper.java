@@ -2,8 +2,10 @@ package com.techcorp.mapper;
 
 import com.google.gson.JsonObject;
 import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeeSearchHit;
 import com.techcorp.model.Role;
 import com.techcorp.model.dto.EmployeeDTO;
+import com.techcorp.model.dto.EmployeeSearchHitDTO;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -42,6 +44,12 @@ public class EmployeeMapper {
             .collect(Collectors.toList());
     }
 
+    public static List<EmployeeSearchHitDTO> searchHitsToDTOList(List<EmployeeSearchHit> hits) {
+        return hits.stream()
+            .map(hit -> new EmployeeSearchHitDTO(entityToDTO(hit.getEmployee()), hit.getScore(), hit.getDistance()))
+            .collect(Collectors.toList());
+    }
+
     public static List<Employee> dtoToEntitiesList(List<EmployeeDTO> employeeDTOs) {
         return employeeDTOs.stream()
             .map(EmployeeMapper::dtoToEntity)
@@ -0,0 +1,18 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.DocumentType;
+
+import java.time.LocalDateTime;
+
+// Newest-first page of one employee's documents. Null filters are ignored;
+// from is inclusive, to is exclusive, and the after* pair is the last
+// document of the previous page.
+public record DocumentQuery(
+    String employeeEmail,
+    DocumentType type,
+    LocalDateTime from,
+    LocalDateTime to,
+    LocalDateTime afterUploadDate,
+    String afterId,
+    int limit
+) {}
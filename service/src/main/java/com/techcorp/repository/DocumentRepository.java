@@ -0,0 +1,23 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.EmployeeDocument;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface DocumentRepository {
+
+    void save(EmployeeDocument document);
+
+    Optional<EmployeeDocument> findById(String id);
+
+    List<EmployeeDocument> findByEmployeeEmail(String normalizedEmail);
+
+    List<EmployeeDocument> findByQuery(DocumentQuery query);
+
+    List<EmployeeDocument> findAll();
+
+    boolean deleteById(String id);
+
+    int count();
+}
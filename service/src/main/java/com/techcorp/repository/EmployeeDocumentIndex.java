@@ -0,0 +1,100 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// One employee's documents, newest first, kept both as a whole and
+// partitioned by type so filtered pages are range scans rather than filters.
+class EmployeeDocumentIndex {
+
+    record Key(LocalDateTime uploadDate, String id) {}
+
+    static final Comparator<Key> NEWEST_FIRST = Comparator
+        .comparing(Key::uploadDate, Comparator.reverseOrder())
+        .thenComparing(Key::id);
+
+    private final ConcurrentSkipListMap<Key, EmployeeDocument> all = new ConcurrentSkipListMap<>(NEWEST_FIRST);
+    private final Map<DocumentType, ConcurrentSkipListMap<Key, EmployeeDocument>> byType = new EnumMap<>(DocumentType.class);
+
+    EmployeeDocumentIndex() {
+        for (DocumentType type : DocumentType.values()) {
+            byType.put(type, new ConcurrentSkipListMap<>(NEWEST_FIRST));
+        }
+    }
+
+    static Key keyOf(EmployeeDocument document) {
+        return new Key(document.getUploadDate(), document.getId());
+    }
+
+    void add(EmployeeDocument document) {
+        Key key = keyOf(document);
+        all.put(key, document);
+        byType.get(document.getFileType()).put(key, document);
+    }
+
+    void remove(EmployeeDocument document) {
+        Key key = keyOf(document);
+        all.remove(key);
+        byType.get(document.getFileType()).remove(key);
+    }
+
+    boolean isEmpty() {
+        return all.isEmpty();
+    }
+
+    List<EmployeeDocument> list() {
+        return new ArrayList<>(all.values());
+    }
+
+    List<EmployeeDocument> query(DocumentQuery query) {
+        NavigableMap<Key, EmployeeDocument> documents = query.type() == null ? all : byType.get(query.type());
+
+        // Bounds are expressed as keys one nanosecond away from the requested
+        // instants; the empty id sorts before every real id.
+        Key start = null;
+        boolean startInclusive = true;
+        if (query.to() != null) {
+            start = new Key(query.to().minusNanos(1), "");
+        }
+        if (query.afterUploadDate() != null) {
+            Key after = new Key(query.afterUploadDate(), query.afterId());
+            if (start == null || NEWEST_FIRST.compare(after, start) >= 0) {
+                start = after;
+                startInclusive = false;
+            }
+        }
+        Key end = query.from() != null ? new Key(query.from().minusNanos(1), "") : null;
+
+        NavigableMap<Key, EmployeeDocument> range;
+        if (start != null && end != null) {
+            if (NEWEST_FIRST.compare(start, end) >= 0) {
+                return List.of();
+            }
+            range = documents.subMap(start, startInclusive, end, false);
+        } else if (start != null) {
+            range = documents.tailMap(start, startInclusive);
+        } else if (end != null) {
+            range = documents.headMap(end, false);
+        } else {
+            range = documents;
+        }
+
+        List<EmployeeDocument> page = new ArrayList<>(Math.min(query.limit(), 256));
+        for (EmployeeDocument document : range.values()) {
+            if (page.size() == query.limit()) {
+                break;
+            }
+            page.add(document);
+        }
+        return page;
+    }
+}
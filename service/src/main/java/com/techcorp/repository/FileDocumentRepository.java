@@ -0,0 +1,341 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.model.exception.FileStorageException;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+@Repository
+@Profile("!jdbc")
+public class FileDocumentRepository implements DocumentRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(FileDocumentRepository.class);
+
+    static final String SNAPSHOT_FILE = "documents.snapshot";
+    static final String LOG_FILE = "documents.log";
+
+    private static final int SNAPSHOT_MAGIC = 0x444f4353;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+
+    private final Path snapshotPath;
+    private final Path logPath;
+    private final int compactAfter;
+    private final boolean sync;
+    private final InMemoryDocumentRepository index = new InMemoryDocumentRepository();
+    private FileChannel logChannel;
+    private int logRecords;
+
+    public FileDocumentRepository(
+        @Value("${app.documents.metadata.directory:uploads/metadata}") String directory,
+        @Value("${app.documents.metadata.compact-after:100000}")       int    compactAfter,
+        @Value("${app.documents.metadata.sync:true}")                  boolean sync
+    ) {
+        if (compactAfter <= 0) {
+            throw new IllegalArgumentException("Compaction threshold must be positive");
+        }
+        Path root = Paths.get(directory).toAbsolutePath().normalize();
+        this.snapshotPath = root.resolve(SNAPSHOT_FILE);
+        this.logPath = root.resolve(LOG_FILE);
+        this.compactAfter = compactAfter;
+        this.sync = sync;
+
+        try {
+            Files.createDirectories(root);
+            recover();
+        } catch (IOException ex) {
+            throw new FileStorageException("Cannot open document metadata store in " + root, ex);
+        }
+    }
+
+    @Override
+    public synchronized void save(EmployeeDocument document) {
+        append(encodePut(document));
+        index.save(document);
+        compactIfNeeded();
+    }
+
+    @Override
+    public Optional<EmployeeDocument> findById(String id) {
+        return index.findById(id);
+    }
+
+    @Override
+    public List<EmployeeDocument> findByEmployeeEmail(String normalizedEmail) {
+        return index.findByEmployeeEmail(normalizedEmail);
+    }
+
+    @Override
+    public List<EmployeeDocument> findByQuery(DocumentQuery query) {
+        return index.findByQuery(query);
+    }
+
+    @Override
+    public List<EmployeeDocument> findAll() {
+        return index.findAll();
+    }
+
+    @Override
+    public synchronized boolean deleteById(String id) {
+        if (index.findById(id).isEmpty()) {
+            return false;
+        }
+        append(encodeDelete(id));
+        index.deleteById(id);
+        compactIfNeeded();
+        return true;
+    }
+
+    @Override
+    public int count() {
+        return index.count();
+    }
+
+    public synchronized void compact() {
+        Path temp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        try {
+            List<EmployeeDocument> documents = index.findAll();
+            documents.sort(Comparator.comparing(EmployeeDocument::getUploadDate));
+            try (FileChannel channel = FileChannel.open(temp,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+                 DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(documents.size());
+                for (EmployeeDocument document : documents) {
+                    writeRecord(out, encodePut(document));
+                }
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            // Replaying a log that is already contained in the snapshot is harmless,
+            // so a crash between the move and the truncate loses nothing.
+            logChannel.truncate(0);
+            logChannel.force(true);
+            logRecords = 0;
+        } catch (IOException ex) {
+            throw new FileStorageException("Cannot compact document metadata store", ex);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        try {
+            if (logChannel != null && logChannel.isOpen()) {
+                logChannel.close();
+            }
+        } catch (IOException ex) {
+            log.warn("Could not close document metadata log: {}", ex.getMessage());
+        }
+    }
+
+    private void recover() throws IOException {
+        long started = System.nanoTime();
+        Map<String, EmployeeDocument> documents = new LinkedHashMap<>();
+        // Employees own many documents; sharing one email instance per employee
+        // keeps the recovered heap close to the size of the live data.
+        Map<String, String> emails = new HashMap<>();
+
+        if (Files.exists(snapshotPath)) {
+            try (DataInputStream in = open(snapshotPath)) {
+                if (in.readInt() != SNAPSHOT_MAGIC) {
+                    throw new IOException("Unrecognised snapshot format: " + snapshotPath);
+                }
+                int count = in.readInt();
+                documents = new LinkedHashMap<>(capacityFor(count));
+                for (int i = 0; i < count; i++) {
+                    byte[] record = readRecord(in);
+                    if (record == null) {
+                        throw new IOException("Snapshot is truncated or corrupted: " + snapshotPath);
+                    }
+                    apply(record, documents, emails);
+                }
+            }
+        }
+
+        long validLength = 0;
+        if (Files.exists(logPath)) {
+            try (DataInputStream in = open(logPath)) {
+                byte[] record;
+                while ((record = readRecord(in)) != null) {
+                    apply(record, documents, emails);
+                    validLength += Integer.BYTES * 2 + record.length;
+                    logRecords++;
+                }
+            }
+        }
+
+        logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (logChannel.size() > validLength) {
+            log.warn("Discarding {} bytes of incomplete document metadata log", logChannel.size() - validLength);
+            logChannel.truncate(validLength);
+        }
+        logChannel.position(validLength);
+
+        index.load(documents.values());
+        log.info("Recovered {} document records in {} ms",
+            documents.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private static int capacityFor(int count) {
+        return (int) Math.min(Integer.MAX_VALUE, count * 4L / 3 + 1);
+    }
+
+    private DataInputStream open(Path path) throws IOException {
+        InputStream in = Files.newInputStream(path);
+        return new DataInputStream(new BufferedInputStream(in, BUFFER_SIZE));
+    }
+
+    private void append(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * 2 + record.length);
+        buffer.putInt(record.length);
+        buffer.putInt(crc(record));
+        buffer.put(record);
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                logChannel.write(buffer);
+            }
+            if (sync) {
+                logChannel.force(false);
+            }
+        } catch (IOException ex) {
+            throw new FileStorageException("Cannot write document metadata", ex);
+        }
+        logRecords++;
+    }
+
+    private void compactIfNeeded() {
+        if (logRecords >= compactAfter) {
+            compact();
+        }
+    }
+
+    private static void writeRecord(DataOutputStream out, byte[] record) throws IOException {
+        out.writeInt(record.length);
+        out.writeInt(crc(record));
+        out.write(record);
+    }
+
+    // Returns null at the end of the stream or at the first torn or corrupted record.
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            int checksum = in.readInt();
+            if (length <= 0) {
+                return null;
+            }
+            byte[] record = in.readNBytes(length);
+            if (record.length != length || crc(record) != checksum) {
+                return null;
+            }
+            return record;
+        } catch (EOFException ex) {
+            return null;
+        }
+    }
+
+    private static int crc(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record);
+        return (int) crc.getValue();
+    }
+
+    private static byte[] encodePut(EmployeeDocument document) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(PUT);
+            out.writeUTF(document.getId());
+            out.writeUTF(document.getEmployeeEmail());
+            out.writeUTF(document.getFileName());
+            out.writeUTF(document.getOriginalFileName());
+            out.writeUTF(document.getFileType().name());
+            out.writeLong(document.getUploadDate().toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(document.getUploadDate().getNano());
+            out.writeUTF(document.getFilePath());
+            out.writeBoolean(document.getDigest() != null);
+            if (document.getDigest() != null) {
+                out.writeUTF(document.getDigest());
+            }
+        } catch (IOException ex) {
+            throw new FileStorageException("Cannot encode document metadata", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodeDelete(String id) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(DELETE);
+            out.writeUTF(id);
+        } catch (IOException ex) {
+            throw new FileStorageException("Cannot encode document metadata", ex);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void apply(
+        byte[] record,
+        Map<String, EmployeeDocument> documents,
+        Map<String, String> emails
+    ) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        byte operation = in.readByte();
+        if (operation == DELETE) {
+            documents.remove(in.readUTF());
+            return;
+        }
+        if (operation != PUT) {
+            throw new IOException("Unknown document metadata operation: " + operation);
+        }
+        String id = in.readUTF();
+        String email = emails.computeIfAbsent(in.readUTF(), value -> value);
+        String fileName = in.readUTF();
+        String originalFileName = in.readUTF();
+        DocumentType type = DocumentType.valueOf(in.readUTF());
+        LocalDateTime uploadDate = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+        String filePath = in.readUTF();
+        String digest = in.readBoolean() ? in.readUTF() : null;
+
+        documents.remove(id);
+        documents.put(id, new EmployeeDocument(
+            id, email, fileName, originalFileName, type, uploadDate, filePath, digest
+        ));
+    }
+}
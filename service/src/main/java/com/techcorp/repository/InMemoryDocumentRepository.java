@@ -0,0 +1,85 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.EmployeeDocument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryDocumentRepository implements DocumentRepository {
+
+    private final Map<String, EmployeeDocument> documentsById = new ConcurrentHashMap<>();
+    private final Map<String, EmployeeDocumentIndex> documentsByEmail = new ConcurrentHashMap<>();
+
+    @Override
+    public synchronized void save(EmployeeDocument document) {
+        EmployeeDocument previous = documentsById.put(document.getId(), document);
+        if (previous != null) {
+            removeFromEmployee(previous);
+        }
+        documentsByEmail
+            .computeIfAbsent(document.getEmployeeEmail(), email -> new EmployeeDocumentIndex())
+            .add(document);
+    }
+
+    @Override
+    public Optional<EmployeeDocument> findById(String id) {
+        return Optional.ofNullable(documentsById.get(id));
+    }
+
+    @Override
+    public List<EmployeeDocument> findByEmployeeEmail(String normalizedEmail) {
+        EmployeeDocumentIndex documents = documentsByEmail.get(normalizedEmail);
+        return documents != null ? documents.list() : new ArrayList<>();
+    }
+
+    @Override
+    public List<EmployeeDocument> findByQuery(DocumentQuery query) {
+        EmployeeDocumentIndex documents = documentsByEmail.get(query.employeeEmail());
+        return documents != null ? documents.query(query) : new ArrayList<>();
+    }
+
+    @Override
+    public List<EmployeeDocument> findAll() {
+        return new ArrayList<>(documentsById.values());
+    }
+
+    @Override
+    public synchronized boolean deleteById(String id) {
+        EmployeeDocument removed = documentsById.remove(id);
+        if (removed == null) {
+            return false;
+        }
+        removeFromEmployee(removed);
+        return true;
+    }
+
+    @Override
+    public int count() {
+        return documentsById.size();
+    }
+
+    synchronized void load(Collection<EmployeeDocument> documents) {
+        documentsById.clear();
+        documentsByEmail.clear();
+        for (EmployeeDocument document : documents) {
+            documentsById.put(document.getId(), document);
+            documentsByEmail
+                .computeIfAbsent(document.getEmployeeEmail(), email -> new EmployeeDocumentIndex())
+                .add(document);
+        }
+    }
+
+    private void removeFromEmployee(EmployeeDocument document) {
+        EmployeeDocumentIndex documents = documentsByEmail.get(document.getEmployeeEmail());
+        if (documents != null) {
+            documents.remove(document);
+            if (documents.isEmpty()) {
+                documentsByEmail.remove(document.getEmployeeEmail());
+            }
+        }
+    }
+}
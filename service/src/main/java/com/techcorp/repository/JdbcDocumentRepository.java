@@ -0,0 +1,156 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// Document metadata in a relational database, for the jdbc profile. Pages
+// come out of one index on (employee_email, upload_date DESC, id) in the
+// newest-first order of EmployeeDocumentIndex; the previous page's last
+// document is the keyset the next one starts after, so deep pages cost the
+// same as the first.
+@Repository
+@Profile("jdbc")
+public class JdbcDocumentRepository implements DocumentRepository {
+
+    private static final String COLUMNS =
+        "id, employee_email, file_name, original_file_name, file_type, upload_date, file_path, digest";
+
+    private static final String NEWEST_FIRST = " ORDER BY upload_date DESC, id";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactions;
+
+    public JdbcDocumentRepository(DataSource dataSource) {
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        createSchema();
+    }
+
+    private void createSchema() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS employee_documents ("
+            + "id VARCHAR(64) PRIMARY KEY, "
+            + "employee_email VARCHAR(320) NOT NULL, "
+            + "file_name VARCHAR(255) NOT NULL, "
+            + "original_file_name VARCHAR(255) NOT NULL, "
+            + "file_type VARCHAR(16) NOT NULL, "
+            + "upload_date TIMESTAMP(9) NOT NULL, "
+            + "file_path VARCHAR(1024) NOT NULL, "
+            + "digest VARCHAR(128))");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS employee_documents_page "
+            + "ON employee_documents (employee_email, upload_date DESC, id)");
+    }
+
+    @Override
+    public void save(EmployeeDocument document) {
+        transactions.executeWithoutResult(tx -> {
+            int updated = jdbc.update("UPDATE employee_documents SET employee_email = ?, file_name = ?, "
+                    + "original_file_name = ?, file_type = ?, upload_date = ?, file_path = ?, digest = ? WHERE id = ?",
+                ps -> {
+                    bind(ps, 1, document);
+                    ps.setString(8, document.getId());
+                });
+            if (updated == 0) {
+                jdbc.update("INSERT INTO employee_documents (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    ps -> {
+                        ps.setString(1, document.getId());
+                        bind(ps, 2, document);
+                    });
+            }
+        });
+    }
+
+    @Override
+    public Optional<EmployeeDocument> findById(String id) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM employee_documents WHERE id = ?",
+                (rs, row) -> toDocument(rs), id)
+            .stream()
+            .findFirst();
+    }
+
+    @Override
+    public List<EmployeeDocument> findByEmployeeEmail(String normalizedEmail) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM employee_documents WHERE employee_email = ?" + NEWEST_FIRST,
+            (rs, row) -> toDocument(rs), normalizedEmail);
+    }
+
+    @Override
+    public List<EmployeeDocument> findByQuery(DocumentQuery query) {
+        StringBuilder sql = new StringBuilder("SELECT " + COLUMNS + " FROM employee_documents WHERE employee_email = ?");
+        List<Object> arguments = new ArrayList<>();
+        arguments.add(query.employeeEmail());
+        if (query.type() != null) {
+            sql.append(" AND file_type = ?");
+            arguments.add(query.type().name());
+        }
+        if (query.from() != null) {
+            sql.append(" AND upload_date >= ?");
+            arguments.add(query.from());
+        }
+        if (query.to() != null) {
+            sql.append(" AND upload_date < ?");
+            arguments.add(query.to());
+        }
+        if (query.afterUploadDate() != null) {
+            sql.append(" AND (upload_date < ? OR (upload_date = ? AND id > ?))");
+            arguments.add(query.afterUploadDate());
+            arguments.add(query.afterUploadDate());
+            arguments.add(query.afterId());
+        }
+        sql.append(NEWEST_FIRST).append(" LIMIT ?");
+        arguments.add(query.limit());
+        return jdbc.query(sql.toString(), (rs, row) -> toDocument(rs), arguments.toArray());
+    }
+
+    @Override
+    public List<EmployeeDocument> findAll() {
+        return jdbc.query("SELECT " + COLUMNS + " FROM employee_documents", (rs, row) -> toDocument(rs));
+    }
+
+    @Override
+    public boolean deleteById(String id) {
+        return jdbc.update("DELETE FROM employee_documents WHERE id = ?", id) > 0;
+    }
+
+    @Override
+    public int count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM employee_documents", Integer.class);
+    }
+
+    // Binds every column but the id, starting at the given parameter index.
+    private static void bind(PreparedStatement ps, int index, EmployeeDocument document) throws SQLException {
+        ps.setString(index, document.getEmployeeEmail());
+        ps.setString(index + 1, document.getFileName());
+        ps.setString(index + 2, document.getOriginalFileName());
+        ps.setString(index + 3, document.getFileType().name());
+        ps.setObject(index + 4, document.getUploadDate());
+        ps.setString(index + 5, document.getFilePath());
+        ps.setString(index + 6, document.getDigest());
+    }
+
+    private static EmployeeDocument toDocument(ResultSet rs) throws SQLException {
+        return new EmployeeDocument(
+            rs.getString("id"),
+            rs.getString("employee_email"),
+            rs.getString("file_name"),
+            rs.getString("original_file_name"),
+            DocumentType.valueOf(rs.getString("file_type")),
+            rs.getObject("upload_date", LocalDateTime.class),
+            rs.getString("file_path"),
+            rs.getString("digest")
+        );
+    }
+}
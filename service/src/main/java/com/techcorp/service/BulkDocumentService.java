@@ -0,0 +1,285 @@
+package com.techcorp.service;
+
+import com.techcorp.model.BulkUploadItemResult;
+import com.techcorp.model.BulkUploadResult;
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.model.exception.FileStorageException;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+
+@Service
+public class BulkDocumentService {
+
+    public static final String MANIFEST_NAME = "manifest.csv";
+
+    private final DocumentService documentService;
+    private final ExecutorService executor;
+    private final long maxArchiveBytes;
+
+    record ManifestEntry(int line, String fileName, String email, String type, String error) {}
+
+    private interface Spool {
+        void writeTo(Path temp) throws IOException;
+    }
+
+    public BulkDocumentService(
+        DocumentService documentService,
+        @Value("${app.documents.bulk.threads:4}")              int threads,
+        @Value("${app.documents.bulk.max-archive-size:512MB}") DataSize maxArchiveSize
+    ) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Bulk upload thread count must be positive");
+        }
+        this.documentService = documentService;
+        this.maxArchiveBytes = maxArchiveSize.toBytes();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-upload-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public BulkUploadResult uploadArchive(MultipartFile archive) {
+        if (archive == null || archive.isEmpty()) {
+            throw new IllegalArgumentException("Archive cannot be null or empty");
+        }
+        return uploadArchive(temp -> {
+            try (InputStream in = archive.getInputStream()) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+        });
+    }
+
+    // A raw application/zip request body. It never goes through multipart
+    // parsing, so only max-archive-size bounds it, checked while spooling.
+    public BulkUploadResult uploadArchive(InputStream archive) {
+        return uploadArchive(temp -> {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[64 * 1024];
+                long total = 0;
+                for (int read; (read = archive.read(buffer)) != -1; ) {
+                    total += read;
+                    if (total > maxArchiveBytes) {
+                        throw new MaxUploadSizeExceededException(maxArchiveBytes);
+                    }
+                    out.write(buffer, 0, read);
+                }
+            }
+            if (Files.size(temp) == 0) {
+                throw new IllegalArgumentException("Archive cannot be null or empty");
+            }
+        });
+    }
+
+    private BulkUploadResult uploadArchive(Spool spool) {
+        // ZipFile needs random access to find the manifest and lets the workers
+        // read entries concurrently, so the upload is spooled to one temp file.
+        Path temp = null;
+        try {
+            temp = Files.createTempFile("bulk-upload", ".zip");
+            spool.writeTo(temp);
+            try (ZipFile zip = new ZipFile(temp.toFile())) {
+                ZipEntry manifest = zip.getEntry(MANIFEST_NAME);
+                if (manifest == null) {
+                    throw new IllegalArgumentException("Archive must contain " + MANIFEST_NAME);
+                }
+                List<ManifestEntry> entries;
+                try (InputStream in = zip.getInputStream(manifest)) {
+                    entries = parseManifest(in);
+                }
+                return upload(entries, name -> {
+                    ZipEntry entry = zip.getEntry(name);
+                    return entry == null || entry.isDirectory() ? null : new ZipEntryMultipartFile(zip, entry);
+                });
+            }
+        } catch (ZipException ex) {
+            throw new IllegalArgumentException("Archive is not a valid ZIP file", ex);
+        } catch (IOException ex) {
+            throw new FileStorageException("Error reading bulk upload archive", ex);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Temp directory cleanup will take care of it.
+                }
+            }
+        }
+    }
+
+    public BulkUploadResult upload(MultipartFile manifest, List<MultipartFile> files) {
+        if (manifest == null || manifest.isEmpty()) {
+            throw new IllegalArgumentException("Manifest cannot be null or empty");
+        }
+
+        Map<String, MultipartFile> filesByName = new HashMap<>();
+        if (files != null) {
+            for (MultipartFile file : files) {
+                if (file.getOriginalFilename() != null) {
+                    filesByName.putIfAbsent(file.getOriginalFilename(), file);
+                }
+            }
+        }
+
+        try (InputStream in = manifest.getInputStream()) {
+            return upload(parseManifest(in), filesByName::get);
+        } catch (IOException ex) {
+            throw new FileStorageException("Error reading bulk upload manifest", ex);
+        }
+    }
+
+    BulkUploadResult upload(List<ManifestEntry> entries, Function<String, MultipartFile> files) {
+        long started = System.currentTimeMillis();
+
+        List<Future<BulkUploadItemResult>> futures = new ArrayList<>(entries.size());
+        for (ManifestEntry entry : entries) {
+            futures.add(executor.submit(() -> store(entry, files)));
+        }
+
+        List<BulkUploadItemResult> results = new ArrayList<>(entries.size());
+        try {
+            for (Future<BulkUploadItemResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("Bulk upload was interrupted", ex);
+        } catch (ExecutionException ex) {
+            throw new FileStorageException("Bulk upload failed", ex.getCause());
+        }
+        return new BulkUploadResult(results, System.currentTimeMillis() - started);
+    }
+
+    private BulkUploadItemResult store(ManifestEntry entry, Function<String, MultipartFile> files) {
+        if (entry.error() != null) {
+            return BulkUploadItemResult.failure(entry.line(), entry.fileName(), entry.email(), entry.error());
+        }
+        try {
+            DocumentType type = DocumentType.valueOf(entry.type().toUpperCase());
+            MultipartFile file = files.apply(entry.fileName());
+            if (file == null) {
+                return BulkUploadItemResult.failure(entry.line(), entry.fileName(), entry.email(),
+                    "File not found in batch: " + entry.fileName());
+            }
+            EmployeeDocument document = documentService.saveDocument(entry.email(), file, type);
+            return BulkUploadItemResult.success(entry.line(), entry.fileName(), entry.email(), document.getId());
+        } catch (RuntimeException ex) {
+            return BulkUploadItemResult.failure(entry.line(), entry.fileName(), entry.email(), ex.getMessage());
+        }
+    }
+
+    // Manifest lines are "file,email,type"; a leading header line, blank lines
+    // and lines starting with # are skipped.
+    static List<ManifestEntry> parseManifest(InputStream in) throws IOException {
+        List<ManifestEntry> entries = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            if (lineNumber == 1 && trimmed.toLowerCase().startsWith("file,")) {
+                continue;
+            }
+
+            String[] fields = trimmed.split(",", -1);
+            if (fields.length != 3 || fields[0].isBlank() || fields[1].isBlank() || fields[2].isBlank()) {
+                entries.add(new ManifestEntry(lineNumber, fields[0].strip(), null, null,
+                    "Expected 3 fields: file,email,type"));
+                continue;
+            }
+            entries.add(new ManifestEntry(
+                lineNumber, fields[0].strip(), fields[1].strip(), fields[2].strip(), null
+            ));
+        }
+        return entries;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class ZipEntryMultipartFile implements MultipartFile {
+
+        private final ZipFile zip;
+        private final ZipEntry entry;
+
+        private ZipEntryMultipartFile(ZipFile zip, ZipEntry entry) {
+            this.zip = zip;
+            this.entry = entry;
+        }
+
+        @Override
+        public String getName() { return "file"; }
+
+        // Only the base name is kept so entry paths cannot escape the employee directory.
+        @Override
+        public String getOriginalFilename() { return Paths.get(entry.getName()).getFileName().toString(); }
+
+        @Override
+        public String getContentType() { return null; }
+
+        @Override
+        public boolean isEmpty() { return entry.getSize() == 0; }
+
+        @Override
+        public long getSize() { return entry.getSize(); }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            try (InputStream in = getInputStream()) {
+                return in.readAllBytes();
+            }
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return zip.getInputStream(entry);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            try (InputStream in = getInputStream()) {
+                Files.copy(in, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+}
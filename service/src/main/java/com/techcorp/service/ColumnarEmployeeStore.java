@@ -0,0 +1,530 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Keeps the roster as parallel column arrays instead of Employee objects:
+// salaries as ints, role and status as enum ordinals and companies as ids
+// into a dictionary of distinct spellings, each registered with
+// CompanyDictionary as it is first stored. Filters and aggregates run over
+// the primitive columns; Employee objects are only built for the rows
+// handed out.
+// The last name, first name, email and photo file name of a row are one
+// block of UTF-8 in a shared byte arena, each string prefixed by a two-byte
+// length, so the roster holds no String objects. Emails are found through an
+// open-addressing table of row numbers over the same arena.
+// Removed rows are left as holes until they outnumber the live ones; blocks
+// left behind by deletes and renames are dropped once they take more of the
+// arena than the blocks still in use.
+// Whole-column salary aggregates go through SalaryKernels.
+public class ColumnarEmployeeStore implements EmployeeStore {
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentStatus[] STATUSES = EmploymentStatus.values();
+    private static final int[] BASE_SALARIES = Arrays.stream(ROLES).mapToInt(Role::getBaseSalary).toArray();
+
+    private static final int STRINGS = 4;
+    private static final int LAST_NAME = 0;
+    private static final int FIRST_NAME = 1;
+    private static final int EMAIL = 2;
+    private static final int PHOTO_FILE_NAME = 3;
+    private static final int NULL_LENGTH = 0xFFFF;
+    private static final int MIN_SUPERSEDED_BYTES = 64 << 10;
+
+    // Email table slots hold row + 1; zero is empty, -1 a deleted entry.
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+
+    // Where each row's string block starts in the arena; -1 for holes.
+    private int[] blocks = new int[1024];
+    private int[] emailHashes = new int[1024];
+    private int[] companies = new int[1024];
+    private int[] salaries = new int[1024];
+    private byte[] roles = new byte[1024];
+    private byte[] statuses = new byte[1024];
+    private int rows;
+    private int live;
+
+    private byte[] text = new byte[16 << 10];
+    private int textUsed;
+    // Arena bytes taken by blocks no row points to any more.
+    private int supersededBytes;
+
+    private int[] slots = new int[16];
+    private int usedSlots;
+
+    private final List<String> companyNames = new ArrayList<>();
+    // The CompanyDictionary id of each spelling, for Employee.restore.
+    private final List<Integer> dictionaryIds = new ArrayList<>();
+    private final Map<String, Integer> companyIds = new HashMap<>();
+    private final SalaryKernels kernels;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ColumnarEmployeeStore() {
+        this(SalaryKernels.create());
+    }
+
+    public ColumnarEmployeeStore(SalaryKernels kernels) {
+        this.kernels = kernels;
+    }
+
+    private static int hash(String email) {
+        int h = email.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    public void save(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(employee.getEmailAddress());
+            if (slot < 0) {
+                ensureCapacity();
+                int row = append();
+                write(row, employee);
+                link(row);
+                live++;
+            } else {
+                write(slots[slot] - 1, employee);
+                compactIfWasteful();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(String email, Employee employee) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity();
+            int slot = slotOf(email.toLowerCase());
+            if (slot < 0) {
+                return false;
+            }
+            int row = slots[slot] - 1;
+            slots[slot] = DELETED;
+            write(row, employee);
+            link(row);
+            compactIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int append() {
+        if (rows == blocks.length) {
+            int capacity = rows * 2;
+            blocks = Arrays.copyOf(blocks, capacity);
+            emailHashes = Arrays.copyOf(emailHashes, capacity);
+            companies = Arrays.copyOf(companies, capacity);
+            salaries = Arrays.copyOf(salaries, capacity);
+            roles = Arrays.copyOf(roles, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+        blocks[rows] = -1;
+        return rows++;
+    }
+
+    private void write(int row, Employee employee) {
+        byte[] block = encode(
+            employee.getLastName(), employee.getFirstName(), employee.getEmailAddress(), employee.getPhotoFileName()
+        );
+        int current = blocks[row];
+        if (current < 0 || !Arrays.equals(text, current, current + blockSize(current), block, 0, block.length)) {
+            if (current >= 0) {
+                supersededBytes += blockSize(current);
+            }
+            blocks[row] = appendText(block);
+        }
+        emailHashes[row] = hash(employee.getEmailAddress());
+        companies[row] = companyIds.computeIfAbsent(employee.getCompanyName(), name -> {
+            companyNames.add(CompanyDictionary.intern(name));
+            dictionaryIds.add(CompanyDictionary.idOf(name));
+            return companyNames.size() - 1;
+        });
+        salaries[row] = employee.getSalary();
+        roles[row] = (byte) employee.getRole().ordinal();
+        statuses[row] = (byte) employee.getStatus().ordinal();
+    }
+
+    private static byte[] encode(String... values) {
+        byte[][] encoded = new byte[values.length][];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i] == null ? null : values[i].getBytes(StandardCharsets.UTF_8);
+            if (encoded[i] != null && encoded[i].length >= NULL_LENGTH) {
+                throw new IllegalArgumentException("Employee names must be shorter than " + NULL_LENGTH + " bytes");
+            }
+            size += 2 + (encoded[i] == null ? 0 : encoded[i].length);
+        }
+        byte[] block = new byte[size];
+        int position = 0;
+        for (byte[] bytes : encoded) {
+            int length = bytes == null ? NULL_LENGTH : bytes.length;
+            block[position++] = (byte) (length >>> 8);
+            block[position++] = (byte) length;
+            if (bytes != null) {
+                System.arraycopy(bytes, 0, block, position, bytes.length);
+                position += bytes.length;
+            }
+        }
+        return block;
+    }
+
+    private int appendText(byte[] block) {
+        if (textUsed + block.length > text.length) {
+            text = Arrays.copyOf(text, Math.max(text.length * 2, textUsed + block.length));
+        }
+        System.arraycopy(block, 0, text, textUsed, block.length);
+        textUsed += block.length;
+        return textUsed - block.length;
+    }
+
+    private int length(int position) {
+        return length(text, position);
+    }
+
+    private static int length(byte[] arena, int position) {
+        return (arena[position] & 0xFF) << 8 | arena[position + 1] & 0xFF;
+    }
+
+    private int blockSize(int start) {
+        return blockSize(text, start);
+    }
+
+    private static int blockSize(byte[] arena, int start) {
+        int position = start;
+        for (int i = 0; i < STRINGS; i++) {
+            int length = length(arena, position);
+            position += 2 + (length == NULL_LENGTH ? 0 : length);
+        }
+        return position - start;
+    }
+
+    // Where the field-th string of the row's block starts, at its length.
+    private int field(int row, int field) {
+        int position = blocks[row];
+        for (int i = 0; i < field; i++) {
+            int length = length(position);
+            position += 2 + (length == NULL_LENGTH ? 0 : length);
+        }
+        return position;
+    }
+
+    private String string(int row, int field) {
+        int position = field(row, field);
+        int length = length(position);
+        return length == NULL_LENGTH ? null : new String(text, position + 2, length, StandardCharsets.UTF_8);
+    }
+
+    private boolean isLive(int row) {
+        return blocks[row] >= 0;
+    }
+
+    // Keeps the email table at most three quarters full, counting deleted entries.
+    private void ensureCapacity() {
+        if ((usedSlots + 1) * 4L > slots.length * 3L) {
+            rehash(Math.max(16, Integer.highestOneBit((live + 1) * 4)));
+        }
+    }
+
+    private void link(int row) {
+        int mask = slots.length - 1;
+        int slot = emailHashes[row] & mask;
+        while (slots[slot] > 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (slots[slot] == EMPTY) {
+            usedSlots++;
+        }
+        slots[slot] = row + 1;
+    }
+
+    private int slotOf(String email) {
+        int hash = hash(email);
+        byte[] key = null;
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int value = slots[slot];
+            if (value == EMPTY) {
+                return -1;
+            }
+            if (value != DELETED && emailHashes[value - 1] == hash) {
+                if (key == null) {
+                    key = email.getBytes(StandardCharsets.UTF_8);
+                }
+                int position = field(value - 1, EMAIL);
+                if (length(position) == key.length
+                    && Arrays.equals(text, position + 2, position + 2 + key.length, key, 0, key.length)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        usedSlots = 0;
+        for (int row = 0; row < rows; row++) {
+            if (isLive(row)) {
+                link(row);
+            }
+        }
+    }
+
+    // The row was validated when it was written, so it is restored as is.
+    private Employee materialize(int row) {
+        return Employee.restore(
+            string(row, LAST_NAME), string(row, FIRST_NAME), string(row, EMAIL), companyNames.get(companies[row]),
+            dictionaryIds.get(companies[row]), ROLES[roles[row]], salaries[row], STATUSES[statuses[row]],
+            string(row, PHOTO_FILE_NAME)
+        );
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        lock.readLock().lock();
+        try {
+            int slot = email == null ? -1 : slotOf(email.toLowerCase());
+            return slot < 0 ? Optional.empty() : Optional.of(materialize(slots[slot] - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findByCompanyName(String companyName) {
+        lock.readLock().lock();
+        try {
+            int companyId = CompanyDictionary.idOf(companyName);
+            boolean[] matching = new boolean[companyNames.size()];
+            for (int id = 0; id < matching.length; id++) {
+                matching[id] = CompanyDictionary.idOf(companyNames.get(id)) == companyId;
+            }
+            List<Employee> found = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                if (isLive(row) && matching[companies[row]]) {
+                    found.add(materialize(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findByStatus(EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            byte ordinal = (byte) status.ordinal();
+            List<Employee> found = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                if (isLive(row) && statuses[row] == ordinal) {
+                    found.add(materialize(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Employee> found = new ArrayList<>(live);
+            for (int row = 0; row < rows; row++) {
+                if (isLive(row)) {
+                    found.add(materialize(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // One pass over the status, company and salary columns; only the top
+    // earners' names are decoded from the arena. Ties keep the earlier row.
+    @Override
+    public Map<String, CompanyStatistics> getCompanyStatistics(EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            byte ordinal = (byte) status.ordinal();
+            long[] counts = new long[companyNames.size()];
+            long[] sums = new long[counts.length];
+            int[] topRows = new int[counts.length];
+            for (int row = 0; row < rows; row++) {
+                if (statuses[row] != ordinal || !isLive(row)) {
+                    continue;
+                }
+                int company = companies[row];
+                if (counts[company]++ == 0 || salaries[row] > salaries[topRows[company]]) {
+                    topRows[company] = row;
+                }
+                sums[company] += salaries[row];
+            }
+            Map<String, CompanyStatistics> statistics = new HashMap<>();
+            for (int company = 0; company < counts.length; company++) {
+                if (counts[company] > 0) {
+                    int top = topRows[company];
+                    statistics.put(companyNames.get(company), new CompanyStatistics(
+                        companyNames.get(company), counts[company], salaries[top],
+                        (double) sums[company] / counts[company], string(top, FIRST_NAME) + " " + string(top, LAST_NAME)
+                    ));
+                }
+            }
+            return statistics;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteByEmail(String email) {
+        lock.writeLock().lock();
+        try {
+            int slot = email == null ? -1 : slotOf(email.toLowerCase());
+            if (slot < 0) {
+                return false;
+            }
+            int row = slots[slot] - 1;
+            slots[slot] = DELETED;
+            supersededBytes += blockSize(blocks[row]);
+            blocks[row] = -1;
+            salaries[row] = 0;
+            roles[row] = -1;
+            live--;
+            compactIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactIfWasteful() {
+        if (rows - live > Math.max(live, 64)
+                || supersededBytes > Math.max(textUsed - supersededBytes, MIN_SUPERSEDED_BYTES)) {
+            compact();
+        }
+    }
+
+    // Slides the live rows down over the holes, keeping their order, and
+    // copies their string blocks into a fresh arena.
+    private void compact() {
+        byte[] previous = text;
+        text = new byte[Math.max(16 << 10, textUsed - supersededBytes)];
+        textUsed = 0;
+        supersededBytes = 0;
+        int kept = 0;
+        for (int row = 0; row < rows; row++) {
+            if (!isLive(row)) {
+                continue;
+            }
+            int start = blocks[row];
+            int size = blockSize(previous, start);
+            System.arraycopy(previous, start, text, textUsed, size);
+            blocks[kept] = textUsed;
+            textUsed += size;
+            emailHashes[kept] = emailHashes[row];
+            companies[kept] = companies[row];
+            salaries[kept] = salaries[row];
+            roles[kept] = roles[row];
+            statuses[kept] = statuses[row];
+            kept++;
+        }
+        Arrays.fill(blocks, kept, rows, -1);
+        rows = kept;
+        rehash(slots.length);
+    }
+
+    // Whole-roster salary aggregates run the kernels straight over the salary
+    // column; holes hold salary 0 and role -1, so they drop out.
+    public double getAverageSalary() {
+        lock.readLock().lock();
+        try {
+            return live == 0 ? 0.0 : (double) kernels.sum(salaries, rows) / live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 0 for an empty roster.
+    public int getHighestSalary() {
+        lock.readLock().lock();
+        try {
+            return kernels.max(salaries, rows);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The best paid employee, ties going to the greatest email as in
+    // EmployeeSalaryIndex; empty for an empty roster.
+    public Optional<Employee> findHighestPaid() {
+        lock.readLock().lock();
+        try {
+            if (live == 0) {
+                return Optional.empty();
+            }
+            int max = kernels.max(salaries, rows);
+            int best = -1;
+            String bestEmail = null;
+            for (int row = 0; row < rows; row++) {
+                if (salaries[row] == max && isLive(row)) {
+                    String email = string(row, EMAIL);
+                    if (best < 0 || email.compareTo(bestEmail) > 0) {
+                        best = row;
+                        bestEmail = email;
+                    }
+                }
+            }
+            return Optional.of(materialize(best));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Employees paid below their role's base salary, in roster order.
+    public List<Employee> findBelowBaseSalary() {
+        lock.readLock().lock();
+        try {
+            int[] matches = new int[rows];
+            int count = kernels.below(salaries, roles, rows, BASE_SALARIES, matches);
+            List<Employee> found = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                found.add(materialize(matches[i]));
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Computes every CompanyStatistics field in one traversal. Each fork-join
+// task of a parallel stream fills its own per-company accumulators, which are
+// merged pairwise at the end; merging keeps the left operand's top earner on
+// ties, so the result matches a sequential run in encounter order.
+public class CompanyStatisticsCollector
+    implements Collector<Employee, Map<String, CompanyStatisticsCollector.Accumulator>, Map<String, CompanyStatistics>>
+{
+    static final class Accumulator {
+        private long count;
+        private long salarySum;
+        private Employee topEarner;
+
+        void accept(Employee employee) {
+            count++;
+            salarySum += employee.getSalary();
+            if (topEarner == null || employee.getSalary() > topEarner.getSalary()) {
+                topEarner = employee;
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            count += other.count;
+            salarySum += other.salarySum;
+            if (topEarner == null || (other.topEarner != null && other.topEarner.getSalary() > topEarner.getSalary())) {
+                topEarner = other.topEarner;
+            }
+            return this;
+        }
+
+        CompanyStatistics toStatistics() {
+            return new CompanyStatistics(
+                topEarner.getCompanyName(), count, topEarner.getSalary(), (double) salarySum / count, topEarner.getFullName()
+            );
+        }
+    }
+
+    public static CompanyStatisticsCollector toCompanyStatistics() {
+        return new CompanyStatisticsCollector();
+    }
+
+    @Override
+    public Supplier<Map<String, Accumulator>> supplier() {
+        return HashMap::new;
+    }
+
+    @Override
+    public BiConsumer<Map<String, Accumulator>, Employee> accumulator() {
+        return (accumulators, employee) ->
+            accumulators.computeIfAbsent(employee.getCompanyName(), c -> new Accumulator()).accept(employee);
+    }
+
+    @Override
+    public BinaryOperator<Map<String, Accumulator>> combiner() {
+        return (left, right) -> {
+            right.forEach((company, accumulator) -> left.merge(company, accumulator, Accumulator::merge));
+            return left;
+        };
+    }
+
+    @Override
+    public Function<Map<String, Accumulator>, Map<String, CompanyStatistics>> finisher() {
+        return accumulators -> {
+            Map<String, CompanyStatistics> statistics = new HashMap<>(accumulators.size() * 2);
+            accumulators.forEach((company, accumulator) -> statistics.put(company, accumulator.toStatistics()));
+            return statistics;
+        };
+    }
+
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Set.of();
+    }
+}
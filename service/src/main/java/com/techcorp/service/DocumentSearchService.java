@@ -0,0 +1,132 @@
+package com.techcorp.service;
+
+import com.techcorp.model.DocumentSearchHit;
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.repository.DocumentRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class DocumentSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentSearchService.class);
+
+    private static final Set<DocumentType> SEARCHABLE_TYPES = Set.of(DocumentType.CONTRACT, DocumentType.CERTIFICATE);
+
+    private final DocumentRepository documentRepository;
+    private final DocumentTextExtractor textExtractor;
+    private final InvertedIndex index = new InvertedIndex();
+    private final ExecutorService executor;
+    private final AtomicInteger pending = new AtomicInteger();
+
+    public DocumentSearchService(
+        DocumentRepository documentRepository,
+        DocumentTextExtractor textExtractor,
+        @Value("${app.documents.search.threads:1}") int threads
+    ) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Text extraction thread count must be positive");
+        }
+        this.documentRepository = documentRepository;
+        this.textExtractor = textExtractor;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "text-extraction-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void indexExistingDocuments() {
+        documentRepository.findAll().forEach(this::submit);
+    }
+
+    public boolean isSearchable(EmployeeDocument document) {
+        return SEARCHABLE_TYPES.contains(document.getFileType())
+            && document.getFileName().toLowerCase().endsWith(".pdf");
+    }
+
+    public void submit(EmployeeDocument document) {
+        if (!isSearchable(document)) {
+            return;
+        }
+        pending.incrementAndGet();
+        executor.execute(() -> {
+            try {
+                index(document);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    void index(EmployeeDocument document) {
+        Path path = Paths.get(document.getFilePath());
+        if (!Files.isRegularFile(path)) {
+            log.warn("Cannot index document {}: file {} is missing", document.getId(), path);
+            return;
+        }
+        try {
+            index.add(document.getId(), textExtractor.extractTokens(path));
+        } catch (RuntimeException ex) {
+            log.warn("Could not extract text from document {}: {}", document.getId(), ex.getMessage());
+            return;
+        }
+        // The document may have been deleted while its text was being extracted.
+        if (documentRepository.findById(document.getId()).isEmpty()) {
+            index.remove(document.getId());
+        }
+    }
+
+    public void remove(String documentId) {
+        index.remove(documentId);
+    }
+
+    public List<DocumentSearchHit> search(String query, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query cannot be null or empty");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Search limit must be positive");
+        }
+
+        List<DocumentSearchHit> hits = new ArrayList<>();
+        for (InvertedIndex.Hit hit : index.search(InvertedIndex.parseQuery(query), limit)) {
+            Optional<EmployeeDocument> document = documentRepository.findById(hit.documentId());
+            document.ifPresent(doc -> hits.add(new DocumentSearchHit(doc, hit.score(), hit.matches())));
+        }
+        return hits;
+    }
+
+    public int getIndexedCount() {
+        return index.size();
+    }
+
+    public int getPendingCount() {
+        return pending.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
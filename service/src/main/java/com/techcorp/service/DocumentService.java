@@ -1,26 +1,53 @@
 package com.techcorp.service;
 
+import com.techcorp.model.DocumentPage;
+import com.techcorp.model.DocumentSearchHit;
 import com.techcorp.model.DocumentType;
 import com.techcorp.model.EmployeeDocument;
+import com.techcorp.repository.DocumentQuery;
+import com.techcorp.repository.DocumentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @Service
 public class DocumentService {
 
+    private static final Logger log = LoggerFactory.getLogger(DocumentService.class);
+
     private static final String UPLOAD_DIR = "uploads/documents";
-    private final Map<String, List<EmployeeDocument>> documentsStore;
+    private static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_BUFFERED_ENTRY = 1 << 20;
+    private static final Set<String> COMPRESSED_EXTENSIONS = Set.of(
+        "pdf", "jpg", "jpeg", "png", "gif", "zip", "docx", "xlsx"
+    );
+    private final DocumentRepository documentRepository;
     private final FileStorageService fileStorageService;
+    private final DocumentSearchService documentSearchService;
 
-    public DocumentService(FileStorageService fileStorageService) {
-        this.documentsStore = new ConcurrentHashMap<>();
+    public DocumentService(
+        FileStorageService fileStorageService,
+        DocumentRepository documentRepository,
+        DocumentSearchService documentSearchService
+    ) {
+        this.documentRepository = documentRepository;
         this.fileStorageService = fileStorageService;
+        this.documentSearchService = documentSearchService;
     }
 
     public EmployeeDocument saveDocument(String email, MultipartFile file, DocumentType type) {
@@ -37,19 +64,23 @@ public class DocumentService {
         String normalizedEmail = email.toLowerCase();
         String employeeDir = UPLOAD_DIR + "/" + normalizedEmail;
         
-        String filePath = fileStorageService.saveFile(file, employeeDir);
+        StoredFile stored = fileStorageService.storeFile(file, employeeDir);
+        String filePath = stored.path();
         
         String fileName = Paths.get(filePath).getFileName().toString();
+        String digest = stored.checksum();
 
         EmployeeDocument document = new EmployeeDocument(
             normalizedEmail,
             fileName,
             file.getOriginalFilename(),
             type,
-            filePath
+            filePath,
+            digest
         );
 
-        documentsStore.computeIfAbsent(normalizedEmail, k -> new ArrayList<>()).add(document);
+        documentRepository.save(document);
+        documentSearchService.submit(document);
 
         return document;
     }
@@ -60,7 +91,66 @@ public class DocumentService {
         }
 
         String normalizedEmail = email.toLowerCase();
-        return new ArrayList<>(documentsStore.getOrDefault(normalizedEmail, Collections.emptyList()));
+        return documentRepository.findByEmployeeEmail(normalizedEmail);
+    }
+
+    public DocumentPage findDocuments(
+        String email,
+        DocumentType type,
+        LocalDateTime from,
+        LocalDateTime to,
+        String cursor,
+        int limit
+    ) {
+        if (email == null || email.isEmpty()) {
+            throw new IllegalArgumentException("Employee email cannot be null or empty");
+        }
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Upload date range start must be before its end");
+        }
+
+        LocalDateTime afterUploadDate = null;
+        String afterId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            Map.Entry<LocalDateTime, String> after = decodeCursor(cursor);
+            afterUploadDate = after.getKey();
+            afterId = after.getValue();
+        }
+
+        // One extra row tells whether another page exists.
+        List<EmployeeDocument> documents = documentRepository.findByQuery(new DocumentQuery(
+            email.toLowerCase(), type, from, to, afterUploadDate, afterId, limit + 1
+        ));
+        if (documents.size() <= limit) {
+            return new DocumentPage(documents, null);
+        }
+        List<EmployeeDocument> page = new ArrayList<>(documents.subList(0, limit));
+        return new DocumentPage(page, encodeCursor(page.get(limit - 1)));
+    }
+
+    private static String encodeCursor(EmployeeDocument document) {
+        String value = document.getUploadDate() + "|" + document.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Map.Entry<LocalDateTime, String> decodeCursor(String cursor) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = value.split("\\|", 2);
+            if (parts.length != 2 || parts[1].isEmpty()) {
+                throw new IllegalArgumentException("Invalid page cursor");
+            }
+            return Map.entry(LocalDateTime.parse(parts[0]), parts[1]);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid page cursor", ex);
+        }
+    }
+
+    public List<EmployeeDocument> getAllDocuments() {
+        return documentRepository.findAll();
     }
 
     public Optional<EmployeeDocument> getDocument(String email, String documentId) {
@@ -72,11 +162,8 @@ public class DocumentService {
         }
 
         String normalizedEmail = email.toLowerCase();
-        List<EmployeeDocument> documents = documentsStore.getOrDefault(normalizedEmail, Collections.emptyList());
-        
-        return documents.stream()
-            .filter(doc -> doc.getId().equals(documentId))
-            .findFirst();
+        return documentRepository.findById(documentId)
+            .filter(doc -> doc.getEmployeeEmail().equals(normalizedEmail));
     }
 
     public void deleteDocument(String email, String documentId) {
@@ -96,16 +183,127 @@ public class DocumentService {
 
         EmployeeDocument document = documentOpt.get();
         
-        fileStorageService.deleteFile(document.getFileName());
+        fileStorageService.deleteFile(document.getFilePath());
 
-        List<EmployeeDocument> documents = documentsStore.get(normalizedEmail);
-        if (documents != null) {
-            documents.removeIf(doc -> doc.getId().equals(documentId));
+        documentRepository.deleteById(documentId);
+        documentSearchService.remove(documentId);
+    }
+
+    public List<DocumentSearchHit> searchDocuments(String query, int limit) {
+        return documentSearchService.search(query, limit);
+    }
+
+    public void writeBundle(List<EmployeeDocument> documents, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        Set<String> entryNames = new HashSet<>();
+
+        for (EmployeeDocument document : documents) {
+            Path path = Paths.get(document.getFilePath());
+            if (!Files.isRegularFile(path)) {
+                log.warn("Skipping document {} in bundle: file {} is missing", document.getId(), path);
+                continue;
+            }
+
+            ZipEntry entry = new ZipEntry(uniqueEntryName(document, entryNames));
+            if (!COMPRESSED_EXTENSIONS.contains(getFileExtension(entry.getName()))) {
+                zip.putNextEntry(entry);
+                Files.copy(path, zip);
+            } else if (Files.size(path) <= MAX_BUFFERED_ENTRY) {
+                // STORED entries need their size and CRC before the data is written;
+                // a small file is read once and both come from the same bytes.
+                byte[] content = Files.readAllBytes(path);
+                CRC32 crc = new CRC32();
+                crc.update(content);
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(content.length);
+                entry.setCrc(crc.getValue());
+                zip.putNextEntry(entry);
+                zip.write(content);
+            } else {
+                // A large file is checksummed first and copied second, so the copy
+                // is checked against the checksum in case the file changed between.
+                long size = Files.size(path);
+                long crc = crc32(path);
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(size);
+                entry.setCrc(crc);
+                zip.putNextEntry(entry);
+                copyStored(path, size, crc, zip);
+            }
+            zip.closeEntry();
+        }
+        // Finish rather than close: the caller owns the underlying stream.
+        zip.finish();
+        zip.flush();
+    }
+
+    private static String uniqueEntryName(EmployeeDocument document, Set<String> entryNames) {
+        String name = baseName(document.getOriginalFileName());
+        if (name.isEmpty() || name.equals(".") || name.equals("..")) {
+            name = document.getId();
+        }
+        if (entryNames.add(name)) {
+            return name;
+        }
+        int dot = name.lastIndexOf('.');
+        String base = dot > 0 ? name.substring(0, dot) : name;
+        String extension = dot > 0 ? name.substring(dot) : "";
+        for (int copy = 2; ; copy++) {
+            String candidate = base + " (" + copy + ")" + extension;
+            if (entryNames.add(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    // Client-supplied names may use either separator or not parse as a path at
+    // all, so the directories are stripped as plain text.
+    private static String baseName(String originalFileName) {
+        if (originalFileName == null) {
+            return "";
         }
+        int separator = Math.max(originalFileName.lastIndexOf('/'), originalFileName.lastIndexOf('\\'));
+        return originalFileName.substring(separator + 1).trim();
+    }
+
+    // Copies exactly size bytes and fails before the entry is closed when the
+    // file no longer has the size and checksum the entry header was given.
+    static void copyStored(Path path, long size, long crc, OutputStream out) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(path), new CRC32())) {
+            byte[] buffer = new byte[8192];
+            long remaining = size;
+            int read;
+            while (remaining > 0 && (read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+            if (remaining > 0 || in.read() != -1 || in.getChecksum().getValue() != crc) {
+                throw new IOException("File " + path + " changed while it was being added to the bundle");
+            }
+        }
+    }
+
+    private static long crc32(Path path) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(path), new CRC32())) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.getChecksum().getValue();
+        }
+    }
+
+    private static String getFileExtension(String filename) {
+        int lastDot = filename.lastIndexOf('.');
+        if (lastDot == -1) {
+            return "";
+        }
+        return filename.substring(lastDot + 1).toLowerCase();
+    }
+
+    public Path getStorageDirectory() {
+        return Paths.get(UPLOAD_DIR).toAbsolutePath().normalize();
     }
 
     protected void clearAll() {
-        documentsStore.clear();
+        documentRepository.findAll().forEach(doc -> documentRepository.deleteById(doc.getId()));
     }
 }
 
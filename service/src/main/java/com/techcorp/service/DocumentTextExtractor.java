@@ -0,0 +1,29 @@
+package com.techcorp.service;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.techcorp.model.exception.InvalidFileException;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+public class DocumentTextExtractor {
+
+    public List<String> extractTokens(Path pdf) {
+        List<String> tokens = new ArrayList<>();
+        try (PdfDocument document = new PdfDocument(new PdfReader(pdf.toFile()))) {
+            for (int page = 1; page <= document.getNumberOfPages(); page++) {
+                tokens.addAll(InvertedIndex.tokenize(PdfTextExtractor.getTextFromPage(document.getPage(page))));
+            }
+        } catch (IOException | RuntimeException ex) {
+            throw new InvalidFileException("Cannot extract text from " + pdf.getFileName(), ex);
+        }
+        return tokens;
+    }
+}
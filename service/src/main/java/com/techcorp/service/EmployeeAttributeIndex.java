@@ -0,0 +1,369 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+
+// Gives every employee a dense integer id and keeps one compressed id bitmap
+// per company, role and status, so combined filters and counts become bitmap
+// intersections. Behind each id only the email and the filterable attributes
+// are kept, in primitive columns; the employees themselves are read back from
+// the store. Ids of removed employees are handed out again, lowest first,
+// which keeps the bitmaps dense.
+public class EmployeeAttributeIndex {
+
+    // Checks the attributes behind one id.
+    @FunctionalInterface
+    public interface RowFilter {
+        boolean test(int companyId, Role role, EmploymentStatus status, int salary);
+    }
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentStatus[] STATUSES = EmploymentStatus.values();
+
+    private String[] emails = new String[1024];
+    private int[] companies = new int[1024];
+    private byte[] roles = new byte[1024];
+    private byte[] statuses = new byte[1024];
+    private int[] salaries = new int[1024];
+    private int lowestFree;
+
+    private final RoaringBitmap live = new RoaringBitmap();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final Map<Integer, RoaringBitmap> byCompany = new HashMap<>();
+    private final Map<Role, RoaringBitmap> byRole = new EnumMap<>(Role.class);
+    private final Map<EmploymentStatus, RoaringBitmap> byStatus = new EnumMap<>(EmploymentStatus.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private static String key(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    public int add(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            int id = (int) live.nextAbsentValue(lowestFree);
+            lowestFree = id + 1;
+            if (id >= emails.length) {
+                int capacity = Math.max(id + 1, emails.length * 2);
+                emails = Arrays.copyOf(emails, capacity);
+                companies = Arrays.copyOf(companies, capacity);
+                roles = Arrays.copyOf(roles, capacity);
+                statuses = Arrays.copyOf(statuses, capacity);
+                salaries = Arrays.copyOf(salaries, capacity);
+            }
+            String email = key(employee.getEmailAddress());
+            emails[id] = email;
+            companies[id] = CompanyDictionary.admit(employee);
+            roles[id] = (byte) employee.getRole().ordinal();
+            statuses[id] = (byte) employee.getStatus().ordinal();
+            salaries[id] = employee.getSalary();
+            live.add(id);
+            ids.put(email, id);
+            byCompany.computeIfAbsent(companies[id], c -> new RoaringBitmap()).add(id);
+            byRole.computeIfAbsent(employee.getRole(), r -> new RoaringBitmap()).add(id);
+            byStatus.computeIfAbsent(employee.getStatus(), s -> new RoaringBitmap()).add(id);
+            return id;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            Integer id = ids.remove(key(employee.getEmailAddress()));
+            if (id == null) {
+                return;
+            }
+            emails[id] = null;
+            live.remove(id);
+            lowestFree = Math.min(lowestFree, id);
+            clear(byCompany, companies[id], id);
+            clear(byRole, ROLES[roles[id]], id);
+            clear(byStatus, STATUSES[statuses[id]], id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Status and salary are the indexed attributes that change in place.
+    public void updateStatus(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            Integer id = ids.get(key(employee.getEmailAddress()));
+            if (id == null || statuses[id] == employee.getStatus().ordinal()) {
+                return;
+            }
+            clear(byStatus, STATUSES[statuses[id]], id);
+            statuses[id] = (byte) employee.getStatus().ordinal();
+            byStatus.computeIfAbsent(employee.getStatus(), s -> new RoaringBitmap()).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateSalary(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            Integer id = ids.get(key(employee.getEmailAddress()));
+            if (id != null) {
+                salaries[id] = employee.getSalary();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static <K> void clear(Map<K, RoaringBitmap> postings, K key, int id) {
+        RoaringBitmap ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -1 when no employee has this email.
+    public int idOf(String email) {
+        lock.readLock().lock();
+        try {
+            return email == null ? -1 : ids.getOrDefault(key(email), -1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String email) {
+        return idOf(email) >= 0;
+    }
+
+    // Null once the id has been released.
+    public String emailOf(int id) {
+        lock.readLock().lock();
+        try {
+            return id >= 0 && id < emails.length ? emails[id] : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Null when no employee has this email.
+    public EmploymentStatus statusOf(String email) {
+        lock.readLock().lock();
+        try {
+            Integer id = email == null ? null : ids.get(key(email));
+            return id == null ? null : STATUSES[statuses[id]];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<String> emailsOf(RoaringBitmap selected) {
+        return emailsOf(selected, 0, Integer.MAX_VALUE);
+    }
+
+    // Emails behind the ids in id order, skipping the first offset live ones
+    // and released ids.
+    public List<String> emailsOf(RoaringBitmap selected, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> found = new ArrayList<>(Math.min(limit, selected.getCardinality()));
+            int skipped = 0;
+            PeekableIntIterator iterator = selected.getIntIterator();
+            while (iterator.hasNext() && found.size() < limit) {
+                int id = iterator.next();
+                if (id < emails.length && emails[id] != null && skipped++ >= offset) {
+                    found.add(emails[id]);
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The selected ids whose attributes pass the filter, checked under a single read lock.
+    public RoaringBitmap select(RoaringBitmap selected, RowFilter filter) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap passed = new RoaringBitmap();
+            selected.forEach((int id) -> {
+                if (id < emails.length && emails[id] != null
+                    && filter.test(companies[id], ROLES[roles[id]], STATUSES[statuses[id]], salaries[id])) {
+                    passed.add(id);
+                }
+            });
+            return passed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public IntStream salaries(RoaringBitmap selected) {
+        lock.readLock().lock();
+        try {
+            IntStream.Builder found = IntStream.builder();
+            selected.forEach((int id) -> {
+                if (id < emails.length && emails[id] != null) {
+                    found.add(salaries[id]);
+                }
+            });
+            return found.build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // The bitmap accessors return copies the caller is free to intersect.
+    public RoaringBitmap all() {
+        lock.readLock().lock();
+        try {
+            return copyOf(live);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoaringBitmap company(String companyName) {
+        lock.readLock().lock();
+        try {
+            return copyOf(byCompany.get(CompanyDictionary.idOf(companyName)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoaringBitmap role(Role role) {
+        lock.readLock().lock();
+        try {
+            return copyOf(byRole.get(role));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public RoaringBitmap status(EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            return copyOf(byStatus.get(status));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int companyCount(String companyName) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap ids = byCompany.get(CompanyDictionary.idOf(companyName));
+            return ids == null ? 0 : ids.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int roleCount(Role role) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap ids = byRole.get(role);
+            return ids == null ? 0 : ids.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int statusCount(EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap ids = byStatus.get(status);
+            return ids == null ? 0 : ids.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Employees matching every non-null attribute.
+    public int count(String companyName, Role role, EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> postings = new ArrayList<>(3);
+            if (companyName != null) {
+                postings.add(byCompany.get(CompanyDictionary.idOf(companyName)));
+            }
+            if (role != null) {
+                postings.add(byRole.get(role));
+            }
+            if (status != null) {
+                postings.add(byStatus.get(status));
+            }
+            if (postings.contains(null)) {
+                return 0;
+            }
+            switch (postings.size()) {
+                case 0:
+                    return live.getCardinality();
+                case 1:
+                    return postings.get(0).getCardinality();
+                case 2:
+                    return RoaringBitmap.andCardinality(postings.get(0), postings.get(1));
+                default:
+                    return FastAggregation.and(postings.iterator()).getCardinality();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Role, Long> roleCounts() {
+        lock.readLock().lock();
+        try {
+            return cardinalities(byRole, new EnumMap<>(Role.class));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<EmploymentStatus, Long> statusCounts() {
+        lock.readLock().lock();
+        try {
+            return cardinalities(byStatus, new EnumMap<>(EmploymentStatus.class));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static <K> Map<K, Long> cardinalities(Map<K, RoaringBitmap> postings, Map<K, Long> counts) {
+        postings.forEach((key, ids) -> counts.put(key, ids.getLongCardinality()));
+        return counts;
+    }
+
+    private static RoaringBitmap copyOf(RoaringBitmap ids) {
+        return ids == null ? new RoaringBitmap() : ids.clone();
+    }
+}
@@ -0,0 +1,125 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+// The EmployeeService indexes over one roster. Each index is built from the
+// roster the first time it is asked for. The service keeps one set, builds it
+// all up front and updates it on every write; a service running without
+// indexes builds a set per query from a store scan and drops it afterwards,
+// so its heap does not grow with the roster.
+class EmployeeIndexes {
+
+    private final Supplier<List<Employee>> roster;
+    private final Function<List<String>, List<Employee>> materializer;
+    private List<Employee> scanned;
+
+    private EmployeePrefixIndex prefix;
+    private EmployeeTrigramIndex trigram;
+    private EmployeeAttributeIndex attributes;
+    private EmployeeSalaryIndex salaries;
+    private EmployeeStatisticsCube cube;
+    private EmployeeQueryPlanner planner;
+
+    EmployeeIndexes(Supplier<List<Employee>> roster, Function<List<String>, List<Employee>> materializer) {
+        this.roster = roster;
+        this.materializer = materializer;
+    }
+
+    private List<Employee> roster() {
+        if (scanned == null) {
+            scanned = roster.get();
+        }
+        return scanned;
+    }
+
+    // Builds every index, so that add and remove can keep them all in step.
+    void build() {
+        prefix();
+        trigram();
+        attributes();
+        salaries();
+        cube();
+        planner();
+        scanned = null;
+    }
+
+    void add(Employee employee) {
+        prefix.add(employee);
+        trigram.add(employee);
+        attributes.add(employee);
+        salaries.add(employee);
+        cube.add(employee);
+    }
+
+    void remove(Employee employee) {
+        prefix.remove(employee);
+        trigram.remove(employee);
+        attributes.remove(employee);
+        salaries.remove(employee);
+        cube.remove(employee);
+    }
+
+    // The sorted indexes are built in bulk; the others are cheap to fill one by one.
+    EmployeePrefixIndex prefix() {
+        if (prefix == null) {
+            prefix = new EmployeePrefixIndex(materializer);
+            prefix.addAll(roster());
+        }
+        return prefix;
+    }
+
+    EmployeeTrigramIndex trigram() {
+        if (trigram == null) {
+            trigram = new EmployeeTrigramIndex(materializer);
+            roster().forEach(trigram::add);
+        }
+        return trigram;
+    }
+
+    EmployeeAttributeIndex attributes() {
+        if (attributes == null) {
+            attributes = new EmployeeAttributeIndex();
+            roster().forEach(attributes::add);
+        }
+        return attributes;
+    }
+
+    EmployeeSalaryIndex salaries() {
+        if (salaries == null) {
+            salaries = new EmployeeSalaryIndex();
+            salaries.addAll(roster());
+        }
+        return salaries;
+    }
+
+    EmployeeStatisticsCube cube() {
+        if (cube == null) {
+            cube = new EmployeeStatisticsCube(this::salariesOf);
+            roster().forEach(cube::add);
+        }
+        return cube;
+    }
+
+    EmployeeQueryPlanner planner() {
+        if (planner == null) {
+            planner = new EmployeeQueryPlanner(attributes(), prefix(), salaries(), materializer);
+        }
+        return planner;
+    }
+
+    private IntStream salariesOf(String companyName, Role role, EmploymentStatus status) {
+        RoaringBitmap ids = attributes().company(companyName);
+        ids.and(attributes().role(role));
+        ids.and(attributes().status(status));
+        return attributes().salaries(ids);
+    }
+}
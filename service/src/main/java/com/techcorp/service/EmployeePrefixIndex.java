@@ -0,0 +1,384 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+// Name and email prefixes mapped to employee emails; the employees themselves
+// are read back through the materializer, normally EmployeeStore.findByEmails.
+public class EmployeePrefixIndex {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final int MIN_MERGE_THRESHOLD = 4096;
+    // Candidates read per materializer call while filtering multi-token queries.
+    private static final int MATERIALIZE_BATCH = 64;
+
+    // Sorted by (term, email). Removed entries keep their slot with a null
+    // email until the next merge compacts them away.
+    private String[] terms = new String[0];
+    private String[] emails = new String[0];
+    private int removed;
+
+    // Recent additions keyed by term + '\0' + email, merged into the arrays once
+    // they outgrow a fraction of the index so inserts stay amortised O(log n).
+    private final TreeMap<String, String> pending = new TreeMap<>();
+    private final Map<String, String> termPool = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Function<List<String>, List<Employee>> materializer;
+
+    public EmployeePrefixIndex(Function<List<String>, List<Employee>> materializer) {
+        this.materializer = materializer;
+    }
+
+    // Lowercases and folds diacritics so "Łukasz" is found by "luk".
+    public static String normalize(String text) {
+        String lower = text.strip().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            if (lower.charAt(i) > 0x7f) {
+                String folded = Normalizer.normalize(lower.replace('ł', 'l'), Normalizer.Form.NFD);
+                return COMBINING_MARKS.matcher(folded).replaceAll("");
+            }
+        }
+        return lower;
+    }
+
+    public void add(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            String email = employee.getEmailAddress();
+            for (String term : termsOf(employee)) {
+                pending.put(term + KEY_SEPARATOR + email, email);
+            }
+            if (pending.size() >= Math.max(MIN_MERGE_THRESHOLD, terms.length / 16)) {
+                merge();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Sorts the new entries once and merges them in a single pass, instead of
+    // the repeated merges a long run of add calls would trigger.
+    public void addAll(Collection<Employee> added) {
+        lock.writeLock().lock();
+        try {
+            if (pending.size() > 0 || removed > 0) {
+                merge();
+            }
+            int size = added.size() * 3;
+            String[] addedTerms = new String[size];
+            String[] addedEmails = new String[size];
+            Integer[] order = new Integer[size];
+            int i = 0;
+            for (Employee employee : added) {
+                for (String term : termsOf(employee)) {
+                    addedTerms[i] = term;
+                    addedEmails[i] = employee.getEmailAddress();
+                    order[i] = i++;
+                }
+            }
+            Arrays.sort(order, (a, b) -> compare(addedTerms[a], addedEmails[a], addedTerms[b], addedEmails[b]));
+
+            String[] mergedTerms = new String[terms.length + size];
+            String[] mergedEmails = new String[terms.length + size];
+            int slot = 0;
+            int out = 0;
+            for (int next : order) {
+                String email = addedEmails[next];
+                while (slot < terms.length && compare(terms[slot], emails[slot], addedTerms[next], email) < 0) {
+                    mergedTerms[out] = terms[slot];
+                    mergedEmails[out++] = emails[slot++];
+                }
+                // An employee whose first and last names match has that term once.
+                if (out > 0 && mergedEmails[out - 1].equals(email) && mergedTerms[out - 1].equals(addedTerms[next])) {
+                    continue;
+                }
+                mergedTerms[out] = addedTerms[next];
+                mergedEmails[out++] = email;
+            }
+            System.arraycopy(terms, slot, mergedTerms, out, terms.length - slot);
+            System.arraycopy(emails, slot, mergedEmails, out, terms.length - slot);
+            out += terms.length - slot;
+            terms = out == mergedTerms.length ? mergedTerms : Arrays.copyOf(mergedTerms, out);
+            emails = out == mergedEmails.length ? mergedEmails : Arrays.copyOf(mergedEmails, out);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            String email = employee.getEmailAddress();
+            for (String term : termsOf(employee)) {
+                if (pending.remove(term + KEY_SEPARATOR + email) != null) {
+                    continue;
+                }
+                int slot = find(term, email);
+                if (slot >= 0 && emails[slot] != null) {
+                    emails[slot] = null;
+                    removed++;
+                }
+            }
+            if (removed > terms.length / 4) {
+                merge();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return terms.length - removed + pending.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Employees having a term that starts with every query token, ordered by the
+    // term matching the longest token. Only a multi-token query reads employees
+    // it may then drop, MATERIALIZE_BATCH candidates at a time.
+    public List<Employee> search(String query, int limit) {
+        String[] tokens = WHITESPACE.split(normalize(query));
+        String driving = drivingToken(tokens);
+        if (driving.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            Candidates candidates = new Candidates(driving);
+            if (tokens.length == 1) {
+                return materializer.apply(candidates.next(limit));
+            }
+            List<Employee> result = new ArrayList<>(Math.min(limit, 64));
+            while (result.size() < limit) {
+                List<String> batch = candidates.next(Math.max(limit - result.size(), MATERIALIZE_BATCH));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (Employee candidate : materializer.apply(batch)) {
+                    if (result.size() < limit && matchesAll(candidate, tokens)) {
+                        result.add(candidate);
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Emails of every employee search would return, in the same order. A
+    // single-token query is answered from the index alone.
+    public List<String> searchEmails(String query) {
+        String[] tokens = WHITESPACE.split(normalize(query));
+        if (tokens.length == 1) {
+            String driving = drivingToken(tokens);
+            if (driving.isEmpty()) {
+                return Collections.emptyList();
+            }
+            lock.readLock().lock();
+            try {
+                return new Candidates(driving).next(Integer.MAX_VALUE);
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+        return search(query, Integer.MAX_VALUE).stream().map(Employee::getEmailAddress).toList();
+    }
+
+    private static String drivingToken(String[] tokens) {
+        return Arrays.stream(tokens).max((a, b) -> a.length() - b.length()).orElse("");
+    }
+
+    // Rough number of entries matching the query's longest token. Once there are
+    // merged entries the pending ones are assumed to spread the same way.
+    public int estimate(String query) {
+        String driving = drivingToken(WHITESPACE.split(normalize(query)));
+        if (driving.isEmpty()) {
+            return 0;
+        }
+
+        lock.readLock().lock();
+        try {
+            if (terms.length == 0) {
+                return pending.subMap(driving, driving + Character.MAX_VALUE).size();
+            }
+            int matching = lowerBound(driving + Character.MAX_VALUE) - lowerBound(driving);
+            return matching + (int) ((long) matching * pending.size() / terms.length);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Whether search(query, ...) could return this employee.
+    public boolean matches(Employee employee, String query) {
+        String[] tokens = WHITESPACE.split(normalize(query));
+        return tokens.length > 0 && !tokens[0].isEmpty() && matchesAll(employee, tokens);
+    }
+
+    private boolean matchesAll(Employee employee, String[] tokens) {
+        String[] employeeTerms = termsOf(employee);
+        for (String token : tokens) {
+            boolean matched = false;
+            for (String term : employeeTerms) {
+                if (term.startsWith(token)) {
+                    matched = true;
+                    break;
+                }
+            }
+            if (!matched) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String[] termsOf(Employee employee) {
+        return new String[] {
+            pooled(normalize(employee.getFirstName())),
+            pooled(normalize(employee.getLastName())),
+            normalize(employee.getEmailAddress())
+        };
+    }
+
+    // First and last names repeat a lot; sharing one instance per distinct
+    // term keeps the arrays close to two references per entry.
+    private String pooled(String term) {
+        synchronized (termPool) {
+            return termPool.computeIfAbsent(term, t -> t);
+        }
+    }
+
+    private int lowerBound(String term) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(term) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int find(String term, String email) {
+        for (int slot = lowerBound(term); slot < terms.length && terms[slot].equals(term); slot++) {
+            if (email.equals(emails[slot])) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    private void merge() {
+        int size = terms.length - removed + pending.size();
+        String[] mergedTerms = new String[size];
+        String[] mergedEmails = new String[size];
+
+        int slot = 0;
+        int out = 0;
+        for (Map.Entry<String, String> entry : pending.entrySet()) {
+            String key = entry.getKey();
+            String term = key.substring(0, key.indexOf(KEY_SEPARATOR));
+            String email = entry.getValue();
+            while (slot < terms.length && compare(terms[slot], emails[slot], term, email) < 0) {
+                if (emails[slot] != null) {
+                    mergedTerms[out] = terms[slot];
+                    mergedEmails[out++] = emails[slot];
+                }
+                slot++;
+            }
+            mergedTerms[out] = pooled(term);
+            mergedEmails[out++] = email;
+        }
+        for (; slot < terms.length; slot++) {
+            if (emails[slot] != null) {
+                mergedTerms[out] = terms[slot];
+                mergedEmails[out++] = emails[slot];
+            }
+        }
+
+        terms = mergedTerms;
+        emails = mergedEmails;
+        removed = 0;
+        pending.clear();
+    }
+
+    private static int compare(String term, String email, String otherTerm, String otherEmail) {
+        int byTerm = term.compareTo(otherTerm);
+        if (byTerm != 0 || email == null) {
+            return byTerm;
+        }
+        return email.compareTo(otherEmail);
+    }
+
+    // Walks the distinct emails with a term starting with the driving token, in
+    // (term, email) order across the merged arrays and the pending entries.
+    // Only valid while the read lock is held.
+    private final class Candidates {
+        private final String driving;
+        private final Iterator<Map.Entry<String, String>> newer;
+        private final Set<String> seen = new HashSet<>();
+        private Map.Entry<String, String> next;
+        private int slot;
+
+        Candidates(String driving) {
+            this.driving = driving;
+            this.slot = lowerBound(driving);
+            this.newer = pending.tailMap(driving, true).entrySet().iterator();
+            this.next = newer.hasNext() ? newer.next() : null;
+        }
+
+        List<String> next(int count) {
+            List<String> found = new ArrayList<>(Math.min(count, 64));
+            while (found.size() < count) {
+                while (slot < terms.length && emails[slot] == null && terms[slot].startsWith(driving)) {
+                    slot++;
+                }
+                boolean fromArray = slot < terms.length && terms[slot].startsWith(driving);
+                boolean fromPending = next != null && next.getKey().startsWith(driving);
+                if (!fromArray && !fromPending) {
+                    break;
+                }
+
+                String candidate;
+                if (fromArray && (!fromPending
+                        || (terms[slot] + KEY_SEPARATOR + emails[slot]).compareTo(next.getKey()) < 0)) {
+                    candidate = emails[slot++];
+                } else {
+                    candidate = next.getValue();
+                    next = newer.hasNext() ? newer.next() : null;
+                }
+
+                if (seen.add(candidate)) {
+                    found.add(candidate);
+                }
+            }
+            return found;
+        }
+    }
+}
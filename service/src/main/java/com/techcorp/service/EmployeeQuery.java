@@ -0,0 +1,17 @@
+package com.techcorp.service;
+
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+
+// Conjunction of employee filters; null filters are ignored. The salary bounds
+// are inclusive and namePrefix follows the autocomplete matching rules.
+public record EmployeeQuery(
+    String companyName,
+    Role role,
+    EmploymentStatus status,
+    Integer minSalary,
+    Integer maxSalary,
+    String namePrefix,
+    int offset,
+    int limit
+) {}
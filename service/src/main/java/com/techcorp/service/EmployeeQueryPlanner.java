@@ -0,0 +1,137 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeeQueryResult;
+import com.techcorp.service.EmployeeAttributeIndex.RowFilter;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Evaluates an EmployeeQuery starting from the most selective index. Further
+// bitmap postings are intersected while the candidate set is large; once it is
+// small, and for the salary range, the surviving ids are checked against the
+// attribute columns. A name prefix that is not the first access is always
+// intersected, as it cannot be checked without reading the employee. Matches
+// come back in id order, and only the requested page is read from the store.
+public class EmployeeQueryPlanner {
+
+    // Checking one candidate is taken to cost about as much as ANDing 64 ids
+    // worth of a posting bitmap.
+    private static final int BITS_PER_CHECK = 64;
+
+    private final EmployeeAttributeIndex attributes;
+    private final EmployeePrefixIndex names;
+    private final EmployeeSalaryIndex salaries;
+    private final Function<List<String>, List<Employee>> materializer;
+
+    // A null filter means the access can only be intersected.
+    private record Access(String name, int estimate, Supplier<RoaringBitmap> ids, RowFilter filter, boolean bitmap) {}
+
+    public EmployeeQueryPlanner(EmployeeAttributeIndex attributes, EmployeePrefixIndex names, EmployeeSalaryIndex salaries,
+                                Function<List<String>, List<Employee>> materializer) {
+        this.attributes = attributes;
+        this.names = names;
+        this.salaries = salaries;
+        this.materializer = materializer;
+    }
+
+    public EmployeeQueryResult execute(EmployeeQuery query) {
+        List<Access> accesses = accesses(query);
+        accesses.sort(Comparator.comparingInt(Access::estimate));
+
+        List<String> plan = new ArrayList<>();
+        List<RowFilter> filters = new ArrayList<>();
+        RoaringBitmap candidates;
+        if (accesses.isEmpty()) {
+            candidates = attributes.all();
+            plan.add("scan");
+        } else {
+            Access first = accesses.get(0);
+            candidates = first.ids().get();
+            plan.add("index " + first.name() + " ~" + first.estimate());
+            int universe = attributes.size();
+            for (Access access : accesses.subList(1, accesses.size())) {
+                int remaining = candidates.getCardinality();
+                if (remaining == 0) {
+                    break;
+                }
+                if (access.filter() == null || access.bitmap() && (long) remaining * BITS_PER_CHECK > universe) {
+                    candidates.and(access.ids().get());
+                    plan.add("and " + access.name() + " ~" + access.estimate());
+                } else {
+                    filters.add(access.filter());
+                    plan.add("filter " + access.name());
+                }
+            }
+        }
+
+        RoaringBitmap matching = filters.isEmpty() ? candidates : attributes.select(candidates,
+            (company, role, status, salary) -> filters.stream().allMatch(f -> f.test(company, role, status, salary)));
+        List<Employee> page = materializer.apply(attributes.emailsOf(matching, query.offset(), query.limit()));
+        return new EmployeeQueryResult(page, matching.getCardinality(), String.join(" -> ", plan));
+    }
+
+    private List<Access> accesses(EmployeeQuery query) {
+        List<Access> accesses = new ArrayList<>();
+        String company = query.companyName();
+        if (company != null) {
+            int companyId = CompanyDictionary.idOf(company);
+            accesses.add(new Access("company=" + company, attributes.companyCount(company),
+                () -> attributes.company(company), (c, r, s, salary) -> c == companyId, true));
+        }
+        if (query.role() != null) {
+            accesses.add(new Access("role=" + query.role(), attributes.roleCount(query.role()),
+                () -> attributes.role(query.role()), (c, r, s, salary) -> r == query.role(), true));
+        }
+        if (query.status() != null) {
+            accesses.add(new Access("status=" + query.status(), attributes.statusCount(query.status()),
+                () -> attributes.status(query.status()), (c, r, s, salary) -> s == query.status(), true));
+        }
+        String prefix = query.namePrefix();
+        if (prefix != null) {
+            accesses.add(new Access("name=" + prefix + "*", names.estimate(prefix),
+                () -> nameIds(prefix), null, false));
+        }
+        if (query.minSalary() != null || query.maxSalary() != null) {
+            int min = query.minSalary() != null ? query.minSalary() : Integer.MIN_VALUE;
+            int max = query.maxSalary() != null ? query.maxSalary() : Integer.MAX_VALUE;
+            // Ranges have no cheap cardinality, so the walk stops once it is no
+            // longer the most selective choice; ties go to the other indexes.
+            int cap = accesses.stream().mapToInt(Access::estimate).min().orElse(attributes.size());
+            int estimate = (int) salaries.range(null, min, max).limit(cap).count();
+            String name = query.minSalary() == null ? "salary<=" + max
+                : query.maxSalary() == null ? "salary>=" + min
+                : "salary=" + min + ".." + max;
+            accesses.add(new Access(name, estimate,
+                () -> salaryIds(min, max), (c, r, s, salary) -> salary >= min && salary <= max, false));
+        }
+        return accesses;
+    }
+
+    private RoaringBitmap salaryIds(int min, int max) {
+        RoaringBitmap ids = new RoaringBitmap();
+        salaries.range(null, min, max).forEach(email -> {
+            int id = attributes.idOf(email);
+            if (id >= 0) {
+                ids.add(id);
+            }
+        });
+        return ids;
+    }
+
+    private RoaringBitmap nameIds(String prefix) {
+        RoaringBitmap ids = new RoaringBitmap();
+        for (String email : names.searchEmails(prefix)) {
+            int id = attributes.idOf(email);
+            if (id >= 0) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+}
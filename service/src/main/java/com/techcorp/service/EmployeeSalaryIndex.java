@@ -0,0 +1,135 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.Employee;
+import com.techcorp.model.Role;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+// Employee emails ordered by (salary, email) in skip lists, globally and per company
+// and role, so a range or top-K lookup is a seek plus k steps. Readers walk the
+// skip lists without locking; writers are serialised so the three views move
+// together. The salary an employee was indexed under is remembered, so its
+// entries can be found again after the object's salary has changed. Lookups
+// return emails; the caller reads the employees it keeps from the store.
+// A quantile sketch per company and role backs percentile queries; wider
+// groups are answered by merging the sketches they cover.
+public class EmployeeSalaryIndex {
+
+    private record Key(int salary, String email) {}
+
+    private static final Comparator<Key> ORDER = Comparator.comparingInt(Key::salary).thenComparing(Key::email);
+
+    private final ConcurrentSkipListSet<Key> all = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Integer, ConcurrentSkipListSet<Key>> byCompany = new ConcurrentHashMap<>();
+    private final Map<Role, ConcurrentSkipListSet<Key>> byRole = new ConcurrentHashMap<>();
+    private final Map<String, Key> keys = new ConcurrentHashMap<>();
+    private final Map<Integer, Map<Role, SalarySketch>> sketches = new HashMap<>();
+
+    public synchronized void add(Employee employee) {
+        int companyId = CompanyDictionary.admit(employee);
+        Key key = new Key(employee.getSalary(), employee.getEmailAddress());
+        keys.put(employee.getEmailAddress(), key);
+        all.add(key);
+        byCompany.computeIfAbsent(companyId, c -> new ConcurrentSkipListSet<>(ORDER)).add(key);
+        byRole.computeIfAbsent(employee.getRole(), r -> new ConcurrentSkipListSet<>(ORDER)).add(key);
+        sketches.computeIfAbsent(companyId, c -> new EnumMap<>(Role.class))
+            .computeIfAbsent(employee.getRole(), r -> new SalarySketch())
+            .add(key.salary());
+    }
+
+    // Inserting in key order keeps every skip list search at the tail of the
+    // list, which is much cheaper than scattered inserts for a whole roster.
+    public synchronized void addAll(Collection<Employee> employees) {
+        List<Employee> sorted = new ArrayList<>(employees);
+        sorted.sort(Comparator.comparingInt(Employee::getSalary).thenComparing(Employee::getEmailAddress));
+        for (Employee employee : sorted) {
+            add(employee);
+        }
+    }
+
+    public synchronized void remove(Employee employee) {
+        Key key = keys.remove(employee.getEmailAddress());
+        if (key == null) {
+            return;
+        }
+        all.remove(key);
+        int companyId = CompanyDictionary.admit(employee);
+        ConcurrentSkipListSet<Key> company = byCompany.get(companyId);
+        if (company != null) {
+            company.remove(key);
+        }
+        ConcurrentSkipListSet<Key> role = byRole.get(employee.getRole());
+        if (role != null) {
+            role.remove(key);
+        }
+        Map<Role, SalarySketch> companySketches = sketches.get(companyId);
+        SalarySketch sketch = companySketches == null ? null : companySketches.get(employee.getRole());
+        if (sketch != null) {
+            sketch.remove(key.salary());
+            if (sketch.getCount() == 0) {
+                companySketches.remove(employee.getRole());
+            }
+            if (companySketches.isEmpty()) {
+                sketches.remove(companyId);
+            }
+        }
+    }
+
+    // Merged sketch of the matching employees; null filters match every company or role.
+    public synchronized SalarySketch sketch(String companyName, Role role) {
+        SalarySketch merged = new SalarySketch();
+        Iterable<Map<Role, SalarySketch>> companies = companyName == null
+            ? sketches.values()
+            : List.of(sketches.getOrDefault(CompanyDictionary.idOf(companyName), Map.of()));
+        for (Map<Role, SalarySketch> companySketches : companies) {
+            for (Map.Entry<Role, SalarySketch> entry : companySketches.entrySet()) {
+                if (role == null || role == entry.getKey()) {
+                    merged.merge(entry.getValue());
+                }
+            }
+        }
+        return merged;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    // Emails ascending by salary within [min, max]; a null company means every company.
+    public Stream<String> range(String companyName, int min, int max) {
+        return slice(companyName == null ? all : byCompany.get(CompanyDictionary.idOf(companyName)), min, max)
+            .stream().map(Key::email);
+    }
+
+    public Stream<String> rangeByRole(Role role, int min, int max) {
+        return slice(byRole.get(role), min, max).stream().map(Key::email);
+    }
+
+    // Emails of the highest earners first; a null company means every company.
+    public Stream<String> descending(String companyName) {
+        ConcurrentSkipListSet<Key> keys = companyName == null ? all : byCompany.get(CompanyDictionary.idOf(companyName));
+        return keys == null ? Stream.empty() : keys.descendingSet().stream().map(Key::email);
+    }
+
+    private static NavigableSet<Key> slice(ConcurrentSkipListSet<Key> keys, int min, int max) {
+        if (keys == null || min > max) {
+            return new ConcurrentSkipListSet<>(ORDER);
+        }
+        // The empty email sorts before every real one at the same salary.
+        Key from = new Key(min, "");
+        return max == Integer.MAX_VALUE
+            ? keys.tailSet(from, true)
+            : keys.headSet(new Key(max + 1, ""), false).tailSet(from, true);
+    }
+}
@@ -1,45 +1,159 @@
 package com.techcorp.service;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import jakarta.annotation.PreDestroy;
+import org.roaringbitmap.RoaringBitmap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.techcorp.model.CompanyDictionary;
 import com.techcorp.model.CompanyStatistics;
 import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeePage;
+import com.techcorp.model.EmployeeQueryResult;
+import com.techcorp.model.EmployeeSearchHit;
 import com.techcorp.model.EmploymentStatus;
 import com.techcorp.model.Role;
+import com.techcorp.model.SalaryPercentiles;
+import com.techcorp.model.StatisticsCubeRow;
 import com.techcorp.model.exception.DuplicateEmailException;
 import com.techcorp.model.exception.EmployeeNotFoundException;
 
 @Service
 public class EmployeeService 
 {
-    private List<Employee> employees;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final EmployeeStore store;
+    // Set when the roster is kept in columns, so salary aggregates scan them with SalaryKernels.
+    private final ColumnarEmployeeStore columnar;
+    // The indexes keep emails and attribute columns only; matches are read back
+    // from the store. Null when the service runs without indexes, see indexes().
+    private final EmployeeIndexes indexes;
+
+    public EmployeeService() { this(new ListEmployeeStore()); }
+
+    public EmployeeService(String store) { this(createStore(store)); }
+
+    public EmployeeService(String store, boolean persistent, String directory, int compactAfter, boolean sync) {
+        this(createStore(store, persistent, directory, compactAfter, sync));
+    }
+
+    // A store bean, such as the jdbc profile's JdbcEmployeeStore, takes the place of the in-memory ones.
+    @Autowired
+    public EmployeeService(
+        @Value("${app.employees.store:list}")                          String  store,
+        @Value("${app.employees.persistence.enabled:false}")           boolean persistent,
+        @Value("${app.employees.persistence.directory:data/employees}") String  directory,
+        @Value("${app.employees.persistence.compact-after:1000000}")   int     compactAfter,
+        @Value("${app.employees.persistence.sync:true}")               boolean sync,
+        @Value("${app.employees.indexed:true}")                        boolean indexed,
+        ObjectProvider<EmployeeStore> storeBean
+    ) {
+        this(storeBean.getIfAvailable(() -> createStore(store, persistent, directory, compactAfter, sync)), indexed);
+    }
+
+    public EmployeeService(EmployeeStore store) { this(store, true); }
+
+    // A store that already holds employees, such as a recovered one, is indexed
+    // up front. Without indexes every search, count and statistic scans the
+    // store instead, which keeps the heap flat for the off-heap store.
+    public EmployeeService(EmployeeStore store, boolean indexed) {
+        this.store = store;
+        this.columnar = columnarOf(store);
+        this.indexes = indexed ? new EmployeeIndexes(store::findAll, this::materialize) : null;
+        if (indexed) {
+            indexes.build();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (store instanceof Closeable closeable) {
+            closeable.close();
+        }
+    }
+
+    private static EmployeeStore createStore(
+        String type, boolean persistent, String directory, int compactAfter, boolean sync
+    ) {
+        return persistent
+            ? new JournaledEmployeeStore(createStore(type), directory, compactAfter, sync)
+            : createStore(type);
+    }
+
+    private static ColumnarEmployeeStore columnarOf(EmployeeStore store) {
+        if (store instanceof JournaledEmployeeStore journaled) {
+            store = journaled.getDelegate();
+        }
+        return store instanceof ColumnarEmployeeStore columnarStore ? columnarStore : null;
+    }
+
+    private static EmployeeStore createStore(String type) {
+        switch (type.toLowerCase()) {
+            case "list":
+                return new ListEmployeeStore();
+            case "columnar":
+                return new ColumnarEmployeeStore();
+            case "off-heap":
+                return new OffHeapEmployeeStore();
+            default:
+                throw new IllegalArgumentException("Unknown employee store: " + type);
+        }
+    }
 
-    public EmployeeService() { this.employees = new ArrayList<>(); }
-    
     public int addEmployee(Employee employee) {
         if (employee == null) {
             throw new IllegalArgumentException("Employee cannot be null.");
         }
 
-        boolean emailExists = this.employees.stream()
-            .anyMatch(e -> e.getEmailAddress()
-                            .equalsIgnoreCase(employee.getEmailAddress())
-            );
-
-        if (emailExists) {
+        if (store.findByEmail(employee.getEmailAddress()).isPresent()) {
             throw new com.techcorp.model.exception.DuplicateEmailException(
                 "Employee with email " + employee.getEmailAddress() + " already exists."
             );
         }
 
-        return this.employees.add(employee) ? 1 : 0;
+        store.save(employee);
+        indexEmployee(employee);
+        return 1;
+    }
+
+    // Adds the employees as one batch; none of them may share an email with an
+    // stored employee or with another one in the batch. The index mirrors the
+    // store, so with indexes this costs no store lookups.
+    public int addEmployees(List<Employee> employees) {
+        if (employees == null) {
+            throw new IllegalArgumentException("Employees cannot be null.");
+        }
+        Set<String> emails = new HashSet<>();
+        for (Employee employee : employees) {
+            if (employee == null) {
+                throw new IllegalArgumentException("Employee cannot be null.");
+            }
+            if (!emails.add(employee.getEmailAddress()) || contains(employee.getEmailAddress())) {
+                throw new DuplicateEmailException(
+                    "Employee with email " + employee.getEmailAddress() + " already exists."
+                );
+            }
+        }
+
+        store.addAll(employees);
+        employees.forEach(this::indexEmployee);
+        return employees.size();
     }
 
     public void removeEmployeeByEmail(String email) {
@@ -47,102 +161,241 @@ public class EmployeeService
             .orElseThrow(() -> new EmployeeNotFoundException(
                 "Employee with email " + email + " not found"
             ));
-        this.employees.remove(employee);
+        store.deleteByEmail(employee.getEmailAddress());
+        unindexEmployee(employee);
     }
 
     public int removeEmployee(Employee employee) { 
         if (employee == null) {
             throw new IllegalArgumentException("Employee cannot be null.");
         }
-        return this.employees.remove(employee) ? 1 : 0;
+        if (!store.deleteByEmail(employee.getEmailAddress())) {
+            return 0;
+        }
+        unindexEmployee(employee);
+        return 1;
     }
 
-    public List<Employee> getEmployees() { return this.employees; }
+    private void indexEmployee(Employee employee) {
+        if (indexes != null) {
+            indexes.add(employee);
+        }
+    }
+
+    private void unindexEmployee(Employee employee) {
+        if (indexes != null) {
+            indexes.remove(employee);
+        }
+    }
+
+    // The kept indexes, or without them a set built from the roster as the
+    // query asks for each index.
+    private EmployeeIndexes indexes() {
+        return indexes != null ? indexes : new EmployeeIndexes(store::findAll, this::materialize);
+    }
+
+    private boolean contains(String email) {
+        return indexes != null ? indexes.attributes().contains(email) : getEmployeeByEmail(email).isPresent();
+    }
+
+    private List<Employee> materialize(List<String> emails) {
+        return emails.isEmpty() ? List.of() : store.findByEmails(emails);
+    }
+
+    public List<Employee> getEmployees() { return store.findAll(); }
+
+    // A page of the roster in insertion order; the next cursor of one page
+    // continues after it.
+    public EmployeePage getEmployeesPage(String cursor, int limit) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return store.findPage(cursor == null || cursor.isEmpty() ? null : cursor, limit);
+    }
 
     public List<Employee> getEmployeesByCompanyName(String companyName) {
-        return this.employees.stream()
-            .filter(e -> e.getCompanyName().equalsIgnoreCase(companyName))
-            .collect(Collectors.toList());
+        return store.findByCompanyName(companyName);
     }
 
     public Map<Role, List<Employee>> getEmployeesByRole() {
-        return this.employees.stream()
+        return store.findAll().stream()
             .collect(Collectors.groupingBy(Employee::getRole));
     }
 
     public List<Employee> getEmployeesAlphabetically() {
-        return this.employees.stream()
+        return store.findAll().stream()
             .sorted(Comparator.comparing(Employee::getLastName))
             .collect(Collectors.toList());
     }
     
     public Map<Role, Long> getEmployeeCountByRole() {
-        return this.employees.stream()
-            .collect(Collectors.groupingBy(
-                Employee::getRole, Collectors.counting()
-            ));
+        return indexes().attributes().roleCounts();
+    }
+
+    // Null filters are ignored.
+    public int countEmployees(String companyName, Role role, EmploymentStatus status) {
+        return indexes().attributes().count(companyName, role, status);
     }
 
+    public List<Employee> searchEmployeesByPrefix(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            throw new IllegalArgumentException("Search prefix cannot be null or empty");
+        }
+        if (limit <= 0 || limit > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        return indexes().prefix().search(prefix, limit);
+    }
+
+    public List<EmployeeSearchHit> searchEmployeesByName(String name, int limit) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("Search name cannot be null or empty");
+        }
+        if (limit <= 0 || limit > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        return indexes().trigram().search(name, limit);
+    }
+
+    public EmployeeQueryResult queryEmployees(EmployeeQuery query) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        if (query.limit() <= 0 || query.limit() > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        if (query.offset() < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+        if (query.minSalary() != null && query.maxSalary() != null && query.minSalary() > query.maxSalary()) {
+            throw new IllegalArgumentException("Minimum salary cannot exceed maximum salary");
+        }
+        if (query.namePrefix() != null && query.namePrefix().isBlank()) {
+            throw new IllegalArgumentException("Name prefix cannot be empty");
+        }
+        return indexes().planner().execute(query);
+    }
+
+    // Emails the index does not know are answered without asking the store.
     public Optional<Employee> getEmployeeByEmail(String email) {
-        return this.employees.stream()
-            .filter(e -> e.getEmailAddress().equalsIgnoreCase(email))
-            .findFirst();
+        if (email == null || indexes != null && !indexes.attributes().contains(email)) {
+            return Optional.empty();
+        }
+        return store.findByEmail(email);
     }
 
     public List<Employee> getEmployeesByStatus(EmploymentStatus status) {
-        return this.employees.stream()
-            .filter(e -> e.getStatus() == status)
-            .collect(Collectors.toList());
+        return store.findByStatus(status);
     }
 
     public Optional<Employee> getEmployeeWithHighestSalary(String companyName) {
         if (companyName == null || companyName.isEmpty()) return Optional.empty();
 
-        return this.employees.stream()
-            .filter(e -> e.getCompanyName().equalsIgnoreCase(companyName))
-            .filter(e -> e.getStatus() == EmploymentStatus.ACTIVE)
-            .max(Comparator.comparing(Employee::getSalary));
+        EmployeeIndexes current = indexes();
+        return current.salaries().descending(companyName)
+            .filter(email -> current.attributes().statusOf(email) == EmploymentStatus.ACTIVE)
+            .findFirst()
+            .flatMap(store::findByEmail);
     }
 
     public Optional<Employee> getEmployeeWithHighestSalary() {
-        return this.employees.stream()
-            .max(Comparator.comparing(Employee::getSalary));
+        if (columnar != null) {
+            return columnar.findHighestPaid();
+        }
+        return indexes().salaries().descending(null).findFirst().flatMap(store::findByEmail);
+    }
+
+    // Ascending by salary; a null company means every company.
+    public List<Employee> getEmployeesBySalaryRange(String companyName, int minSalary, int maxSalary, int limit) {
+        if (minSalary > maxSalary) {
+            throw new IllegalArgumentException("Minimum salary cannot exceed maximum salary");
+        }
+        if (limit <= 0 || limit > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        return materialize(indexes().salaries().range(companyName, minSalary, maxSalary)
+            .limit(limit)
+            .collect(Collectors.toList()));
+    }
+
+    // Highest earners first; a null company means every company.
+    public List<Employee> getTopEarners(String companyName, int limit) {
+        if (limit <= 0 || limit > 100) {
+            throw new IllegalArgumentException("Limit must be between 1 and 100");
+        }
+        return materialize(indexes().salaries().descending(companyName)
+            .limit(limit)
+            .collect(Collectors.toList()));
     }
 
     public Double getAverageSalary(String companyName) {
         if (companyName == null || companyName.isEmpty()) {
             return getAverageSalary();
         }
-        return this.employees.stream()
-            .filter(e -> e.getCompanyName().equalsIgnoreCase(companyName))
-            .mapToDouble(Employee::getSalary)
-            .average()
+        return indexes().cube().query(companyName, null, null, Set.of()).stream()
+            .mapToDouble(StatisticsCubeRow::getAverageSalary)
+            .findFirst()
             .orElse(0.0);
     }
 
     public Double getAverageSalary() {
-        return this.employees.stream()
-            .mapToDouble(Employee::getSalary)
-            .average()
+        if (columnar != null) {
+            return columnar.getAverageSalary();
+        }
+        return indexes().cube().query(null, null, null, Set.of()).stream()
+            .mapToDouble(StatisticsCubeRow::getAverageSalary)
+            .findFirst()
             .orElse(0.0);
     }
+
+    // Rows for every combination of the groupBy dimensions; null filters match everything.
+    public List<StatisticsCubeRow> getStatisticsCube(String companyName, Role role, EmploymentStatus status,
+                                                     Set<EmployeeStatisticsCube.Dimension> groupBy) {
+        return indexes().cube().query(companyName, role, status, groupBy == null ? Set.of() : groupBy);
+    }
     
+    // Percentiles (0-100) of the matching salaries, keyed "p50", "p99.9" and so
+    // on; null filters match every company or role. Values are approximate, see
+    // SalarySketch, and null when nobody matches.
+    public SalaryPercentiles getSalaryPercentiles(String companyName, Role role, List<Double> percentiles) {
+        if (percentiles == null || percentiles.isEmpty()) {
+            throw new IllegalArgumentException("At least one percentile is required");
+        }
+        SalarySketch sketch = indexes().salaries().sketch(companyName, role);
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (Double percentile : percentiles) {
+            if (percentile == null || percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100");
+            }
+            String label = "p" + (percentile % 1 == 0 ? String.valueOf(percentile.intValue()) : String.valueOf(percentile));
+            values.put(label, sketch.getCount() == 0 ? null : (double) Math.round(sketch.quantile(percentile / 100)));
+        }
+        return new SalaryPercentiles(sketch.getCount(), values);
+    }
+
     public void printEmployees() {
-        this.employees.forEach(System.out::println);
+        store.findAll().forEach(System.out::println);
     }
 
+    // In roster order. The salary index finds the employees, and the attribute
+    // index ids put them back in order; ids follow the roster except that those
+    // freed by removals are reused by later additions.
     public List<Employee> validateSalaryConsistency() {
-        return this.employees.stream()
-            .filter(e -> e.getSalary() < e.getRole().getBaseSalary())
-            .collect(Collectors.toList());
+        if (columnar != null) {
+            return columnar.findBelowBaseSalary();
+        }
+        EmployeeIndexes current = indexes();
+        RoaringBitmap ids = new RoaringBitmap();
+        for (Role role : Role.values()) {
+            current.salaries().rangeByRole(role, Integer.MIN_VALUE, role.getBaseSalary() - 1)
+                .mapToInt(current.attributes()::idOf)
+                .forEach(ids::add);
+        }
+        return materialize(current.attributes().emailsOf(ids));
     }
 
     public Map<EmploymentStatus, Long> getStatusDistribution() {
-        return this.employees.stream()
-            .collect(Collectors.groupingBy(
-                Employee::getStatus,
-                Collectors.counting()
-            ));
+        return indexes().attributes().statusCounts();
     }
 
     public CompanyStatistics getCompanyStatistics(String companyName) {
@@ -158,38 +411,67 @@ public class EmployeeService
     }
 
     public Map<String, CompanyStatistics> getCompanyStatistics() {
-        return this.employees.stream()
-            .filter(e -> e.getStatus() == EmploymentStatus.ACTIVE)
-            .collect(Collectors.groupingBy(
-                Employee::getCompanyName,
-                Collectors.collectingAndThen(
-                    Collectors.toList(),
-                    employeeList -> {
-                        long count = employeeList.size();
-                        double avgSalary = employeeList.stream()
-                            .mapToDouble(Employee::getSalary)
-                            .average()
-                            .orElse(0.0);
-                        int highestSalary = employeeList.stream()
-                            .mapToInt(Employee::getSalary)
-                            .max()
-                            .orElse(0);
-                        String topEarnerName = employeeList.stream()
-                            .max(Comparator.comparing(Employee::getSalary))
-                            .map(Employee::getFullName)
-                            .orElse("N/A");
-                        return new CompanyStatistics(employeeList.get(0).getCompanyName(), count, highestSalary, avgSalary, topEarnerName);
-                    }
-                )
-            ));
+        return store.getCompanyStatistics(EmploymentStatus.ACTIVE);
     }
 
     public void updateEmployeeStatus(String email, EmploymentStatus status) {
-        Employee employee = getEmployeeByEmail(email)
+        Employee stored = getEmployeeByEmail(email)
+            .orElseThrow(() -> new EmployeeNotFoundException(
+                "Employee with email " + email + " not found"
+            ));
+        // A list store updates its own instance, so the cube entry to remove is
+        // taken from a copy made before the write. Nothing changes if it fails.
+        Employee previous = copyOf(stored);
+        Employee updated = copyOf(stored);
+        updated.setStatus(status);
+        store.updateStatus(stored.getEmailAddress(), status);
+        if (indexes != null) {
+            indexes.cube().remove(previous);
+            indexes.cube().add(updated);
+            indexes.attributes().updateStatus(updated);
+        }
+    }
+
+    public void updateEmployeeSalary(String email, int salary) {
+        if (salary < 0) {
+            throw new IllegalArgumentException("Salary cannot be negative");
+        }
+        Employee previous = getEmployeeByEmail(email)
+            .orElseThrow(() -> new EmployeeNotFoundException(
+                "Employee with email " + email + " not found"
+            ));
+        // The store gets a copy, so if the write fails, the indexes and the
+        // instance other callers may hold still agree with the store.
+        Employee updated = copyOf(previous);
+        updated.setSalary(salary);
+        store.save(updated);
+        if (indexes != null) {
+            indexes.salaries().remove(previous);
+            indexes.cube().remove(previous);
+            indexes.salaries().add(updated);
+            indexes.cube().add(updated);
+            indexes.attributes().updateSalary(updated);
+        }
+    }
+
+    private static Employee copyOf(Employee employee) {
+        return Employee.restore(
+            employee.getLastName(), employee.getFirstName(), employee.getEmailAddress(), employee.getCompanyName(),
+            CompanyDictionary.admit(employee), employee.getRole(), employee.getSalary(), employee.getStatus(),
+            employee.getPhotoFileName()
+        );
+    }
+
+    // A null file name clears the photo. The photo is not indexed, so only the
+    // store is written, and from a copy like the other single-field updates.
+    public void updateEmployeePhoto(String email, String photoFileName) {
+        Employee stored = getEmployeeByEmail(email)
             .orElseThrow(() -> new EmployeeNotFoundException(
                 "Employee with email " + email + " not found"
             ));
-        employee.setStatus(status);
+        Employee updated = copyOf(stored);
+        updated.setPhotoFileName(photoFileName);
+        store.save(updated);
     }
 
     public void updateEmployee(String email, Employee updatedEmployee) {
@@ -199,20 +481,16 @@ public class EmployeeService
             ));
         
         if (!email.equalsIgnoreCase(updatedEmployee.getEmailAddress())) {
-            boolean emailExists = this.employees.stream()
-                .anyMatch(e -> e.getEmailAddress().equalsIgnoreCase(updatedEmployee.getEmailAddress())
-                            && !e.equals(existingEmployee));
-            
-            if (emailExists) {
+            if (store.findByEmail(updatedEmployee.getEmailAddress()).isPresent()) {
                 throw new DuplicateEmailException(
                     "Employee with email " + updatedEmployee.getEmailAddress() + " already exists"
                 );
             }
         }
 
-        int index = this.employees.indexOf(existingEmployee);
-        if (index != -1) {
-            this.employees.set(index, updatedEmployee);
+        if (store.replace(existingEmployee.getEmailAddress(), updatedEmployee)) {
+            unindexEmployee(existingEmployee);
+            indexEmployee(updatedEmployee);
         }
     }
 
@@ -0,0 +1,220 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+// Compact roster image for warm starts. After a header of magic, version and
+// the employee, company and name counts come two dictionaries of
+// varint-prefixed UTF-8 strings - distinct company names, then distinct first
+// and last names - followed by one record per employee: last and first name
+// as varint dictionary indexes, the email as a string, the company as a
+// varint index, role and status packed into one byte, a varint salary and the
+// photo file name (length + 1, so 0 means none). A CRC32 of everything before
+// it closes the file. Loading maps the file and builds employees without
+// revalidating or re-interning them; every distinct name is decoded once.
+public final class EmployeeSnapshot {
+
+    private static final int MAGIC = 0x45534e50;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 5;
+    private static final int BUFFER_SIZE = 1 << 20;
+    // Longer strings are rejected; also the size of the decoding scratch buffer.
+    private static final int MAX_STRING_BYTES = 0xffff;
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentStatus[] STATUSES = EmploymentStatus.values();
+
+    private EmployeeSnapshot() {}
+
+    public static void write(Path path, Collection<Employee> employees) throws IOException {
+        Map<String, Integer> companyIndexes = new HashMap<>();
+        List<String> companies = new ArrayList<>();
+        Map<String, Integer> nameIndexes = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        for (Employee employee : employees) {
+            if (companyIndexes.putIfAbsent(employee.getCompanyName(), companies.size()) == null) {
+                companies.add(employee.getCompanyName());
+            }
+            for (String name : new String[] {employee.getLastName(), employee.getFirstName()}) {
+                if (nameIndexes.putIfAbsent(name, names.size()) == null) {
+                    names.add(name);
+                }
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            Writer out = new Writer(channel);
+            out.ensure(HEADER_BYTES);
+            out.buffer.putInt(MAGIC).putInt(VERSION)
+                .putInt(employees.size()).putInt(companies.size()).putInt(names.size());
+            for (String company : companies) {
+                out.putString(company);
+            }
+            for (String name : names) {
+                out.putString(name);
+            }
+            for (Employee employee : employees) {
+                out.ensure(Integer.BYTES * 2);
+                putVarint(out.buffer, nameIndexes.get(employee.getLastName()));
+                putVarint(out.buffer, nameIndexes.get(employee.getFirstName()));
+                out.putString(employee.getEmailAddress());
+                out.ensure(Integer.BYTES * 3);
+                putVarint(out.buffer, companyIndexes.get(employee.getCompanyName()));
+                out.buffer.put((byte) (employee.getRole().ordinal() << 4 | employee.getStatus().ordinal()));
+                putVarint(out.buffer, employee.getSalary());
+                String photo = employee.getPhotoFileName();
+                if (photo == null) {
+                    putVarint(out.buffer, 0);
+                } else {
+                    out.putString(photo, 1);
+                }
+            }
+            out.finish();
+            channel.force(true);
+        }
+    }
+
+    public static List<Employee> read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Snapshot is too large to map: " + path);
+            }
+            if (size < HEADER_BYTES + Integer.BYTES) {
+                throw new IOException("Snapshot is truncated: " + path);
+            }
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(in.duplicate().limit((int) size - Integer.BYTES));
+            if ((int) crc.getValue() != in.getInt((int) size - Integer.BYTES)) {
+                throw new IOException("Snapshot is truncated or corrupted: " + path);
+            }
+            if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+                throw new IOException("Unrecognised snapshot format: " + path);
+            }
+            int count = in.getInt();
+            String[] companies = new String[in.getInt()];
+            String[] names = new String[in.getInt()];
+            byte[] scratch = new byte[MAX_STRING_BYTES];
+
+            int[] companyIds = new int[companies.length];
+            for (int i = 0; i < companies.length; i++) {
+                companies[i] = CompanyDictionary.intern(getString(in, scratch, getVarint(in)));
+                companyIds[i] = CompanyDictionary.idOf(companies[i]);
+            }
+
+            for (int i = 0; i < names.length; i++) {
+                names[i] = getString(in, scratch, getVarint(in));
+            }
+
+            List<Employee> employees = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String lastName = names[getVarint(in)];
+                String firstName = names[getVarint(in)];
+                String email = getString(in, scratch, getVarint(in));
+                int company = getVarint(in);
+                int roleAndStatus = in.get();
+                int salary = getVarint(in);
+                int photoLength = getVarint(in);
+                String photo = photoLength == 0 ? null : getString(in, scratch, photoLength - 1);
+                employees.add(Employee.restore(
+                    lastName, firstName, email, companies[company], companyIds[company],
+                    ROLES[roleAndStatus >>> 4], salary, STATUSES[roleAndStatus & 0xf], photo
+                ));
+            }
+            return employees;
+        }
+    }
+
+    private static String getString(ByteBuffer in, byte[] scratch, int length) {
+        in.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    static void putVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.put((byte) (value & 0x7f | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static int getVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7f) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    // Fills a direct buffer and drains it to the channel, checksumming what it writes.
+    private static final class Writer {
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final FileChannel channel;
+        private final CRC32 crc = new CRC32();
+
+        Writer(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        void putString(String value) throws IOException {
+            putString(value, 0);
+        }
+
+        void putString(String value, int lengthBias) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > MAX_STRING_BYTES) {
+                throw new IOException("String too long for snapshot: " + bytes.length + " bytes");
+            }
+            ensure(Integer.BYTES + bytes.length);
+            putVarint(buffer, bytes.length + lengthBias);
+            buffer.put(bytes);
+        }
+
+        void finish() throws IOException {
+            drain();
+            buffer.putInt((int) crc.getValue()).flip();
+            write();
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            crc.update(buffer.duplicate());
+            write();
+        }
+
+        private void write() throws IOException {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.ImportSummary;
+import com.techcorp.model.exception.DuplicateEmailException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Converts a CSV export into a roster snapshot. Written into the employee
+// persistence directory as employees.snapshot, with no log beside it, it
+// becomes the roster the application starts with:
+//
+//   java -cp service.jar:model.jar:... com.techcorp.service.EmployeeSnapshotTool employees.csv employees.snapshot
+public final class EmployeeSnapshotTool {
+
+    private EmployeeSnapshotTool() {}
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: EmployeeSnapshotTool <employees.csv> <employees.snapshot>");
+            System.exit(2);
+        }
+        long started = System.nanoTime();
+        ImportSummary summary = convert(args[0], Path.of(args[1]));
+        new TreeMap<>(summary.getErrors()).forEach((line, error) ->
+            System.err.println("Line " + line + ": " + error.getMessage()));
+        System.out.printf("Wrote %d employees to %s in %d ms, skipped %d rows%n",
+            summary.getSuccessCount(), args[1], (System.nanoTime() - started) / 1_000_000, summary.getErrors().size());
+    }
+
+    // Rows are validated as an import would; later duplicates of an email are skipped.
+    public static ImportSummary convert(String csvPath, Path snapshotPath) throws IOException {
+        Map<String, Employee> employees = new LinkedHashMap<>();
+        ImportSummary summary = new ImportService(new EmployeeService()).importFromCsv(csvPath, employee -> {
+            if (employees.putIfAbsent(employee.getEmailAddress(), employee) != null) {
+                throw new DuplicateEmailException(
+                    "Employee with email " + employee.getEmailAddress() + " already exists."
+                );
+            }
+        });
+        EmployeeSnapshot.write(snapshotPath, employees.values());
+        return summary;
+    }
+}
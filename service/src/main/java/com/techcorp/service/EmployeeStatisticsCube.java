@@ -0,0 +1,171 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.model.StatisticsCubeRow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IntSummaryStatistics;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+// Pre-aggregated headcount and salary sum, min and max per (company, role,
+// status) cell, kept in flat primitive arrays and updated on every mutation.
+// Removing a cell's min or max only marks the cell stale; its extremes are
+// recomputed from the scanner the next time the cell is read.
+public class EmployeeStatisticsCube {
+
+    public enum Dimension { COMPANY, ROLE, STATUS }
+
+    @FunctionalInterface
+    public interface CellScanner {
+        IntStream salaries(String companyName, Role role, EmploymentStatus status);
+    }
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentStatus[] STATUSES = EmploymentStatus.values();
+    private static final int CELLS_PER_COMPANY = ROLES.length * STATUSES.length;
+
+    private final Map<Integer, Integer> companyIds = new HashMap<>();
+    private final List<String> companyNames = new ArrayList<>();
+    private long[] counts = new long[16 * CELLS_PER_COMPANY];
+    private long[] sums = new long[counts.length];
+    private int[] mins = new int[counts.length];
+    private int[] maxs = new int[counts.length];
+    private final BitSet stale = new BitSet();
+    private final CellScanner scanner;
+
+    public EmployeeStatisticsCube(CellScanner scanner) {
+        this.scanner = scanner;
+    }
+
+    private static int cell(int company, Role role, EmploymentStatus status) {
+        return (company * ROLES.length + role.ordinal()) * STATUSES.length + status.ordinal();
+    }
+
+    private int companyId(Employee employee) {
+        int companyId = CompanyDictionary.admit(employee);
+        Integer id = companyIds.get(companyId);
+        if (id != null) {
+            return id;
+        }
+        id = companyNames.size();
+        companyIds.put(companyId, id);
+        companyNames.add(employee.getCompanyName());
+        if ((id + 1) * CELLS_PER_COMPANY > counts.length) {
+            int capacity = counts.length * 2;
+            counts = Arrays.copyOf(counts, capacity);
+            sums = Arrays.copyOf(sums, capacity);
+            mins = Arrays.copyOf(mins, capacity);
+            maxs = Arrays.copyOf(maxs, capacity);
+        }
+        return id;
+    }
+
+    public synchronized void add(Employee employee) {
+        int cell = cell(companyId(employee), employee.getRole(), employee.getStatus());
+        int salary = employee.getSalary();
+        if (counts[cell]++ == 0) {
+            mins[cell] = salary;
+            maxs[cell] = salary;
+            stale.clear(cell);
+        } else if (!stale.get(cell)) {
+            mins[cell] = Math.min(mins[cell], salary);
+            maxs[cell] = Math.max(maxs[cell], salary);
+        }
+        sums[cell] += salary;
+    }
+
+    // Expects the employee to still carry the status and salary it was added with.
+    public synchronized void remove(Employee employee) {
+        Integer company = companyIds.get(CompanyDictionary.admit(employee));
+        if (company == null) {
+            return;
+        }
+        int cell = cell(company, employee.getRole(), employee.getStatus());
+        if (counts[cell] == 0) {
+            return;
+        }
+        int salary = employee.getSalary();
+        counts[cell]--;
+        sums[cell] -= salary;
+        if (counts[cell] == 0) {
+            stale.clear(cell);
+        } else if (salary <= mins[cell] || salary >= maxs[cell]) {
+            stale.set(cell);
+        }
+    }
+
+    // One row per combination of the grouped dimensions among the cells that
+    // match the filters; null filters match everything. Without grouping the
+    // result is a single grand total, or nothing when no employee matches.
+    public synchronized List<StatisticsCubeRow> query(String companyName, Role role, EmploymentStatus status,
+                                                      Set<Dimension> groupBy) {
+        int firstCompany = 0;
+        int lastCompany = companyNames.size() - 1;
+        if (companyName != null) {
+            Integer company = companyIds.get(CompanyDictionary.idOf(companyName));
+            if (company == null) {
+                return List.of();
+            }
+            firstCompany = company;
+            lastCompany = company;
+        }
+
+        Map<List<Object>, long[]> groups = new LinkedHashMap<>();
+        for (int company = firstCompany; company <= lastCompany; company++) {
+            for (Role cellRole : ROLES) {
+                if (role != null && role != cellRole) {
+                    continue;
+                }
+                for (EmploymentStatus cellStatus : STATUSES) {
+                    if (status != null && status != cellStatus) {
+                        continue;
+                    }
+                    int cell = cell(company, cellRole, cellStatus);
+                    if (counts[cell] == 0) {
+                        continue;
+                    }
+                    if (stale.get(cell)) {
+                        refresh(cell, companyNames.get(company), cellRole, cellStatus);
+                    }
+                    List<Object> key = Arrays.asList(
+                        groupBy.contains(Dimension.COMPANY) ? companyNames.get(company) : null,
+                        groupBy.contains(Dimension.ROLE) ? cellRole : null,
+                        groupBy.contains(Dimension.STATUS) ? cellStatus : null
+                    );
+                    long[] totals = groups.computeIfAbsent(key, k -> new long[] {0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE});
+                    totals[0] += counts[cell];
+                    totals[1] += sums[cell];
+                    totals[2] = Math.min(totals[2], mins[cell]);
+                    totals[3] = Math.max(totals[3], maxs[cell]);
+                }
+            }
+        }
+
+        List<StatisticsCubeRow> rows = new ArrayList<>(groups.size());
+        groups.forEach((key, totals) -> rows.add(new StatisticsCubeRow(
+            (String) key.get(0), (Role) key.get(1), (EmploymentStatus) key.get(2),
+            totals[0], totals[1], (int) totals[2], (int) totals[3]
+        )));
+        return rows;
+    }
+
+    private void refresh(int cell, String companyName, Role role, EmploymentStatus status) {
+        IntSummaryStatistics salaries = scanner.salaries(companyName, role, status).summaryStatistics();
+        if (salaries.getCount() > 0) {
+            mins[cell] = salaries.getMin();
+            maxs[cell] = salaries.getMax();
+        }
+        stale.clear(cell);
+    }
+}
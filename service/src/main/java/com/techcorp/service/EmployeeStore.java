@@ -0,0 +1,84 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeePage;
+import com.techcorp.model.EmploymentStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// The roster behind EmployeeService, in insertion order. Employees are keyed
+// by their (lowercase) email address; implementations may hand out copies, so
+// in-place changes only stick once the employee is saved again.
+public interface EmployeeStore {
+
+    // Adds the employee, or overwrites the stored one with the same email in place.
+    void save(Employee employee);
+
+    // Adds employees none of which is stored yet; stores may write them as one batch.
+    default void addAll(List<Employee> employees) {
+        employees.forEach(this::save);
+    }
+
+    // Puts the employee where the one stored under email was, keeping its position.
+    boolean replace(String email, Employee employee);
+
+    Optional<Employee> findByEmail(String email);
+
+    // The employees stored under the given emails, in the same order; emails
+    // nobody is stored under are skipped. The service indexes read their
+    // matches back through this.
+    default List<Employee> findByEmails(List<String> emails) {
+        List<Employee> employees = new ArrayList<>(emails.size());
+        for (String email : emails) {
+            findByEmail(email).ifPresent(employees::add);
+        }
+        return employees;
+    }
+
+    List<Employee> findByCompanyName(String companyName);
+
+    List<Employee> findByStatus(EmploymentStatus status);
+
+    List<Employee> findAll();
+
+    // Up to limit employees in insertion order, following the page whose next
+    // cursor is given, or from the first one for a null cursor. Cursors mean
+    // nothing outside the store that issued them. This one is a position in
+    // findAll, so removals between pages shift the rows that follow.
+    default EmployeePage findPage(String cursor, int limit) {
+        List<Employee> employees = findAll();
+        int from;
+        try {
+            from = cursor == null ? 0 : Integer.parseInt(cursor);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid page cursor", ex);
+        }
+        if (from < 0) {
+            throw new IllegalArgumentException("Invalid page cursor");
+        }
+        int to = Math.min(employees.size(), from + limit);
+        List<Employee> page = new ArrayList<>(employees.subList(Math.min(from, to), to));
+        return new EmployeePage(page, to < employees.size() ? String.valueOf(to) : null);
+    }
+
+    // Statistics of the employees with the given status, keyed by company name.
+    Map<String, CompanyStatistics> getCompanyStatistics(EmploymentStatus status);
+
+    // Sets the status of the employee stored under email, if there is one.
+    default boolean updateStatus(String email, EmploymentStatus status) {
+        Optional<Employee> employee = findByEmail(email);
+        employee.ifPresent(e -> {
+            e.setStatus(status);
+            save(e);
+        });
+        return employee.isPresent();
+    }
+
+    boolean deleteByEmail(String email);
+
+    int count();
+}
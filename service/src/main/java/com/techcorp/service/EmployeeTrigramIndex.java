@@ -0,0 +1,358 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeeSearchHit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+// Fuzzy full-name lookup. Trigrams index the distinct name words rather than
+// employees: each query word is first matched against that vocabulary by
+// trigram overlap and edit distance, and only the employees carrying the
+// rarest matched words are scored. Words list employee emails; those are
+// read back through the materializer only once they are about to be scored.
+public class EmployeeTrigramIndex {
+
+    private Word[] words = new Word[1024];
+    private int[] freeIds = new int[16];
+    private int freeCount;
+    private int nextId;
+
+    private final Map<String, Word> vocabulary = new HashMap<>();
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final ThreadLocal<int[]> overlapScratch = ThreadLocal.withInitial(() -> new int[0]);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Function<List<String>, List<Employee>> materializer;
+
+    public EmployeeTrigramIndex(Function<List<String>, List<Employee>> materializer) {
+        this.materializer = materializer;
+    }
+
+    private static final class Word {
+        final int id;
+        final String text;
+        final int trigramCount;
+        final List<String> emails = new ArrayList<>(2);
+
+        Word(int id, String text, int trigramCount) {
+            this.id = id;
+            this.text = text;
+            this.trigramCount = trigramCount;
+        }
+    }
+
+    // Ascending ids of the vocabulary words containing a trigram.
+    private static final class Posting {
+        int[] ids = new int[4];
+        int size;
+
+        void insert(int id) {
+            int at = size > 0 && ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                return;
+            }
+            at = -at - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+        }
+
+        void remove(int id) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+            if (at >= 0) {
+                System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+                size--;
+            }
+        }
+    }
+
+    private record WordMatch(Word word, int distance, double coverage) {}
+
+    // Trigrams of a space-padded word, so its start and end weigh in.
+    static Set<String> trigrams(String word) {
+        String padded = " " + word + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    static String[] words(String name) {
+        String normalized = EmployeePrefixIndex.normalize(name);
+        List<String> words = new ArrayList<>(2);
+        int start = 0;
+        for (int i = 0; i <= normalized.length(); i++) {
+            if (i == normalized.length() || Character.isWhitespace(normalized.charAt(i))) {
+                if (i > start) {
+                    words.add(normalized.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    static int maxDistance(String word) {
+        return word.length() <= 4 ? 1 : word.length() <= 8 ? 2 : 3;
+    }
+
+    public void add(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            for (String text : new LinkedHashSet<>(Arrays.asList(words(employee.getFullName())))) {
+                Word word = vocabulary.get(text);
+                if (word == null) {
+                    word = addWord(text);
+                }
+                word.emails.add(employee.getEmailAddress());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            for (String text : new LinkedHashSet<>(Arrays.asList(words(employee.getFullName())))) {
+                Word word = vocabulary.get(text);
+                if (word != null && word.emails.remove(employee.getEmailAddress()) && word.emails.isEmpty()) {
+                    removeWord(word);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Word addWord(String text) {
+        Set<String> trigrams = trigrams(text);
+        int id = freeCount > 0 ? freeIds[--freeCount] : nextId++;
+        if (id == words.length) {
+            words = Arrays.copyOf(words, id * 2);
+        }
+        Word word = new Word(id, text, trigrams.size());
+        words[id] = word;
+        vocabulary.put(text, word);
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, t -> new Posting()).insert(id);
+        }
+        return word;
+    }
+
+    private void removeWord(Word word) {
+        for (String trigram : trigrams(word.text)) {
+            Posting posting = postings.get(trigram);
+            posting.remove(word.id);
+            if (posting.size == 0) {
+                postings.remove(trigram);
+            }
+        }
+        vocabulary.remove(word.text);
+        words[word.id] = null;
+        if (freeCount == freeIds.length) {
+            freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        }
+        freeIds[freeCount++] = word.id;
+    }
+
+    public int getVocabularySize() {
+        lock.readLock().lock();
+        try {
+            return vocabulary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<EmployeeSearchHit> search(String query, int limit) {
+        String[] queryWords = words(query);
+        if (queryWords.length == 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<List<WordMatch>> matches = new ArrayList<>(queryWords.length);
+            List<Map<String, Integer>> distances = new ArrayList<>(queryWords.length);
+            int driver = 0;
+            long driverSize = Long.MAX_VALUE;
+            for (int i = 0; i < queryWords.length; i++) {
+                List<WordMatch> similar = similarWords(queryWords[i]);
+                if (similar.isEmpty()) {
+                    return List.of();
+                }
+                Map<String, Integer> byText = new HashMap<>();
+                long employees = 0;
+                for (WordMatch match : similar) {
+                    byText.put(match.word().text, match.distance());
+                    employees += match.word().emails.size();
+                }
+                matches.add(similar);
+                distances.add(byText);
+                if (employees < driverSize) {
+                    driver = i;
+                    driverSize = employees;
+                }
+            }
+
+            // Every hit carries one of the driver's words, so only those employees are scored.
+            // Driver words come closest first; once enough hits beat the best total the
+            // remaining words could still reach, the scan stops.
+            int othersMinimum = 0;
+            int maxTotal = 0;
+            for (int i = 0; i < queryWords.length; i++) {
+                maxTotal += maxDistance(queryWords[i]);
+                if (i != driver) {
+                    othersMinimum += matches.get(i).get(0).distance();
+                }
+            }
+            int[] totals = new int[maxTotal + 1];
+            int queryLength = Arrays.stream(queryWords).mapToInt(String::length).sum();
+            Set<String> scored = new HashSet<>();
+            List<EmployeeSearchHit> hits = new ArrayList<>();
+            for (WordMatch match : matches.get(driver)) {
+                int reachable = match.distance() + othersMinimum;
+                int better = 0;
+                for (int total = 0; total < reachable; total++) {
+                    better += totals[total];
+                }
+                if (better >= limit) {
+                    break;
+                }
+                List<String> unscored = new ArrayList<>(match.word().emails.size());
+                for (String email : match.word().emails) {
+                    if (scored.add(email)) {
+                        unscored.add(email);
+                    }
+                }
+                for (Employee employee : materializer.apply(unscored)) {
+                    int total = totalDistance(employee, queryWords, distances);
+                    if (total >= 0) {
+                        hits.add(new EmployeeSearchHit(employee, 1.0 - (double) total / queryLength, total));
+                        totals[total]++;
+                    }
+                }
+            }
+
+            hits.sort(Comparator.comparingInt(EmployeeSearchHit::getDistance)
+                .thenComparing(hit -> hit.getEmployee().getEmailAddress()));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Sum of each query word's distance to its closest name word, or -1 when
+    // some query word matches none of them.
+    private static int totalDistance(Employee employee, String[] queryWords, List<Map<String, Integer>> distances) {
+        String[] nameWords = words(employee.getFullName());
+        int total = 0;
+        for (int i = 0; i < queryWords.length; i++) {
+            int closest = Integer.MAX_VALUE;
+            for (String nameWord : nameWords) {
+                Integer distance = distances.get(i).get(nameWord);
+                if (distance != null && distance < closest) {
+                    closest = distance;
+                }
+            }
+            if (closest == Integer.MAX_VALUE) {
+                return -1;
+            }
+            total += closest;
+        }
+        return total;
+    }
+
+    // Vocabulary words within maxDistance edits of the query word, closest first.
+    private List<WordMatch> similarWords(String queryWord) {
+        Set<String> queryTrigrams = trigrams(queryWord);
+        int maxDistance = maxDistance(queryWord);
+        // One edit destroys at most three trigrams, so closer words must share the rest.
+        int minOverlap = Math.max(1, queryTrigrams.size() - 3 * maxDistance);
+
+        int[] overlap = overlapScratch.get();
+        if (overlap.length < nextId) {
+            overlap = new int[words.length];
+            overlapScratch.set(overlap);
+        }
+        int[] touched = new int[64];
+        int touchedCount = 0;
+        for (String trigram : queryTrigrams) {
+            Posting posting = postings.get(trigram);
+            if (posting == null) {
+                continue;
+            }
+            for (int i = 0; i < posting.size; i++) {
+                int id = posting.ids[i];
+                if (overlap[id]++ == 0) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = id;
+                }
+            }
+        }
+
+        List<WordMatch> similar = new ArrayList<>();
+        for (int t = 0; t < touchedCount; t++) {
+            int id = touched[t];
+            int shared = overlap[id];
+            overlap[id] = 0;
+            Word word = words[id];
+            if (shared < minOverlap || Math.abs(word.text.length() - queryWord.length()) > maxDistance) {
+                continue;
+            }
+            int distance = levenshtein(queryWord, word.text, maxDistance);
+            if (distance <= maxDistance) {
+                similar.add(new WordMatch(word, distance, (double) shared / word.trigramCount));
+            }
+        }
+        similar.sort(Comparator.comparingInt(WordMatch::distance)
+            .thenComparing(Comparator.comparingDouble(WordMatch::coverage).reversed()));
+        return similar;
+    }
+
+    static int levenshtein(String a, String b) {
+        return levenshtein(a, b, Integer.MAX_VALUE - 1);
+    }
+
+    // Gives up with max + 1 as soon as a whole row exceeds max.
+    static int levenshtein(String a, String b, int max) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, current[j]);
+            }
+            if (rowMinimum > max) {
+                return max + 1;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[b.length()];
+    }
+}
@@ -0,0 +1,8 @@
+package com.techcorp.service;
+
+// What the file system reports for a stored file, read without opening it:
+// its size in bytes and when it was last modified, in epoch milliseconds.
+public record FileAttributes(
+    long size,
+    long lastModified
+) {}
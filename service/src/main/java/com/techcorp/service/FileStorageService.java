@@ -4,12 +4,16 @@ import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Optional;
+
 @Service
 public abstract class FileStorageService {
     
     public abstract String saveFile(MultipartFile file);
     
     public abstract String saveFile(MultipartFile file, String customDirectory);
+
+    public abstract StoredFile storeFile(MultipartFile file, String customDirectory);
     
     public abstract Resource loadFile(String filename);
     
@@ -17,4 +21,12 @@ public abstract class FileStorageService {
     
     public abstract String getFullPath(String filename);
 
+    // Empty when the file does not exist.
+    public abstract Optional<FileAttributes> getAttributes(String filename);
+
+    // Reads the file as it is now; the digest taken at upload comes from storeFile.
+    public abstract String getChecksum(String filename);
+
+    public abstract String computeChecksum(String filename, long maxBytesPerSecond);
+
 }
\ No newline at end of file
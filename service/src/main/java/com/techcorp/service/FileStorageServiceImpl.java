@@ -10,14 +10,23 @@ import com.techcorp.model.exception.FileStorageException;
 import com.techcorp.model.exception.InvalidFileException;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class FileStorageServiceImpl extends FileStorageService {
@@ -25,6 +34,7 @@ public class FileStorageServiceImpl extends FileStorageService {
     private final Path uploadPath;
     private final List<String> allowedExtensions;
     private final long maxSizeInBytes;
+    private final Map<Path, Boolean> createdDirectories = new ConcurrentHashMap<>();
 
     public FileStorageServiceImpl(
             @Value("${app.upload.directory}")          String uploadDir,
@@ -86,17 +96,17 @@ public class FileStorageServiceImpl extends FileStorageService {
         String filename = generateUniqueFilename(originalFilename, extension);
         Path targetLocation = this.uploadPath.resolve(filename);
 
-        try {
-            Files.copy(file.getInputStream(), targetLocation, 
-                StandardCopyOption.REPLACE_EXISTING);
-            return filename;
-        } catch (IOException ex) {
-            throw new FileStorageException("Error saving file", ex);
-        }
+        copyWithChecksum(file, targetLocation);
+        return filename;
     }
 
     @Override
     public String saveFile(MultipartFile file, String customDirectory) {
+        return storeFile(file, customDirectory).path();
+    }
+
+    @Override
+    public StoredFile storeFile(MultipartFile file, String customDirectory) {
         if (file.isEmpty()) {
             throw new InvalidFileException(
                 "Cannot save empty file"
@@ -115,23 +125,51 @@ public class FileStorageServiceImpl extends FileStorageService {
         }
 
         Path customPath = Paths.get(customDirectory).toAbsolutePath().normalize();
-        
-        try {
-            Files.createDirectories(customPath);
-        } catch (IOException ex) {
-            throw new FileStorageException("Cannot create directory: " + customDirectory, ex);
-        }
+        createDirectoryOnce(customPath, customDirectory);
 
         String filename = UUID.randomUUID().toString() + "_" + originalFilename;
         Path targetLocation = customPath.resolve(filename);
 
+        String checksum;
         try {
-            Files.copy(file.getInputStream(), targetLocation, 
-                StandardCopyOption.REPLACE_EXISTING);
-            return targetLocation.toString();
+            checksum = copyWithChecksum(file, targetLocation);
+        } catch (FileStorageException ex) {
+            if (!(ex.getCause() instanceof NoSuchFileException)) {
+                throw ex;
+            }
+            // The directory was removed behind our back; recreate it and retry once.
+            createdDirectories.remove(customPath);
+            createDirectoryOnce(customPath, customDirectory);
+            checksum = copyWithChecksum(file, targetLocation);
+        }
+        return new StoredFile(targetLocation.toString(), checksum);
+    }
+
+    // Per-employee directories are created on the first upload only, sparing
+    // bulk uploads a createDirectories call per file.
+    private void createDirectoryOnce(Path directory, String name) {
+        try {
+            createdDirectories.computeIfAbsent(directory, path -> {
+                try {
+                    Files.createDirectories(path);
+                    return Boolean.TRUE;
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw new FileStorageException("Cannot create directory: " + name, ex.getCause());
+        }
+    }
+
+    private String copyWithChecksum(MultipartFile file, Path targetLocation) {
+        MessageDigest digest = Checksums.newDigest();
+        try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+            Files.copy(in, targetLocation, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException ex) {
             throw new FileStorageException("Error saving file", ex);
         }
+        return Checksums.toHex(digest);
     }
 
     @Override
@@ -159,6 +197,39 @@ public class FileStorageServiceImpl extends FileStorageService {
         return uploadPath.resolve(filename).normalize().toString();
     }
 
+    @Override
+    public Optional<FileAttributes> getAttributes(String filename) {
+        Path filePath = uploadPath.resolve(filename).normalize();
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return Optional.of(new FileAttributes(attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (NoSuchFileException ex) {
+            return Optional.empty();
+        } catch (IOException ex) {
+            throw new FileStorageException("Error reading file attributes: " + filename, ex);
+        }
+    }
+
+    @Override
+    public String getChecksum(String filename) {
+        Path filePath = uploadPath.resolve(filename).normalize();
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Checksums.digest(in);
+        } catch (IOException ex) {
+            throw new FileStorageException("Error reading file: " + filename, ex);
+        }
+    }
+
+    @Override
+    public String computeChecksum(String filename, long maxBytesPerSecond) {
+        Path filePath = uploadPath.resolve(filename).normalize();
+        try (InputStream in = new ThrottledInputStream(Files.newInputStream(filePath), maxBytesPerSecond)) {
+            return Checksums.digest(in);
+        } catch (IOException ex) {
+            throw new FileStorageException("Error reading file: " + filename, ex);
+        }
+    }
+
     private void isValidFileCheck(String name, String extension, long fileSize) {
         if (name == null) {
             throw new InvalidFileException("File name is required");
@@ -4,6 +4,11 @@ import java.io.IOException;
 import java.io.BufferedReader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.techcorp.model.Employee;
 import com.techcorp.model.ImportSummary;
@@ -25,6 +30,7 @@ public class ImportService {
     private static final String HEADER     = "firstName,lastName,email,company,position,salary";
     private static final String DELIMITER  = ",";
     private static final int    NUM_FIELDS = 6;
+    private static final int    BATCH_SIZE = 1000;
 
     private ImportSummary summary;
 
@@ -43,13 +49,16 @@ public class ImportService {
 
         String extension = getFileExtension(filePath);
         
+        EmployeeBatch batch = new EmployeeBatch();
         if (extension.equalsIgnoreCase("csv")) {
-            return importFromCsv(filePath);
+            readCsv(filePath, batch);
         } else if (extension.equalsIgnoreCase("xml")) {
-            return importFromXml(filePath);
+            readXml(filePath, batch);
         } else {
             throw new IllegalArgumentException("Unsupported file format: " + extension);
         }
+        batch.flush();
+        return summary;
     }
 
     private void validateFilePath(String filePath) {
@@ -76,7 +85,18 @@ public class ImportService {
         return filePath.substring(lastDotIndex + 1);
     }
 
-    private ImportSummary importFromCsv(String filePath) {
+    // Parses a CSV file into the sink instead of the roster. A sink rejects an
+    // employee by throwing, as EmployeeService.addEmployee does.
+    public ImportSummary importFromCsv(String filePath, Consumer<Employee> sink) {
+        validateFilePath(filePath);
+        validateFileExists(filePath);
+        return readCsv(filePath, (employee, lineIdx) -> {
+            sink.accept(employee);
+            summary.addSuccessfullImport();
+        });
+    }
+
+    private ImportSummary readCsv(String filePath, RowSink sink) {
         summary = new ImportSummary();
 
         try (BufferedReader reader = Files.newBufferedReader(Path.of(filePath))) {
@@ -89,7 +109,7 @@ public class ImportService {
 
                 if (employee == null) continue;
 
-                handleEmployee(employee, lineIdx);
+                handleEmployee(employee, lineIdx, sink);
             }
         } catch (IOException e) {
             summary.addError(0, new InvalidDataException(
@@ -149,7 +169,7 @@ public class ImportService {
         return new Employee(lastName, firstName, email, company, role, salary);
     }
 
-    private ImportSummary importFromXml(String filePath) {
+    private ImportSummary readXml(String filePath, RowSink sink) {
         summary = new ImportSummary();
 
         try {
@@ -168,7 +188,7 @@ public class ImportService {
                 
                 if (employee == null) continue;
                 
-                handleEmployee(employee, lineIdx);
+                handleEmployee(employee, lineIdx, sink);
             }
         } catch (Exception e) {
             summary.addError(0, new InvalidDataException(
@@ -236,10 +256,9 @@ public class ImportService {
         return "";
     }
 
-    private void handleEmployee(Employee employee, int lineIdx) {
+    private void handleEmployee(Employee employee, int lineIdx, RowSink sink) {
         try {
-            employeeService.addEmployee(employee);
-            summary.addSuccessfullImport();
+            sink.accept(employee, lineIdx);
         } catch (IllegalArgumentException | DuplicateEmailException e) {
             summary.addError(lineIdx, new InvalidDataException(
                 lineIdx, e.getMessage()
@@ -247,6 +266,57 @@ public class ImportService {
         }
     }
 
+    // Takes each parsed employee with its line, rejecting it by throwing. A
+    // sink records its own successes, since a batch only knows them once the
+    // batch is stored.
+    private interface RowSink {
+        void accept(Employee employee, int lineIdx);
+    }
+
+    // Hands imported employees to the roster BATCH_SIZE at a time, so a
+    // database-backed store writes each batch in one round trip. Duplicates
+    // are rejected as they arrive, against the roster and the pending batch.
+    // Rows count as imported once their batch is stored; if storing it fails,
+    // every row of the batch is reported with the failure.
+    private final class EmployeeBatch implements RowSink {
+        private final List<Employee> pending = new ArrayList<>(BATCH_SIZE);
+        private final List<Integer>  lines   = new ArrayList<>(BATCH_SIZE);
+        private final Set<String>    emails  = new HashSet<>();
+
+        @Override
+        public void accept(Employee employee, int lineIdx) {
+            String email = employee.getEmailAddress();
+            if (employeeService.getEmployeeByEmail(email).isPresent() || !emails.add(email)) {
+                throw new DuplicateEmailException("Employee with email " + email + " already exists.");
+            }
+            pending.add(employee);
+            lines.add(lineIdx);
+            if (pending.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                employeeService.addEmployees(pending);
+                lines.forEach(lineIdx -> summary.addSuccessfullImport());
+            } catch (RuntimeException e) {
+                for (int lineIdx : lines) {
+                    summary.addError(lineIdx, new InvalidDataException(
+                        lineIdx, "Error saving employee: " + e.getMessage()
+                    ));
+                }
+            } finally {
+                pending.clear();
+                lines.clear();
+                emails.clear();
+            }
+        }
+    }
+
     private Role parseRole(String roleStr, int lineIdx) {
         if (roleStr == null || roleStr.isEmpty()) {
             summary.addError(lineIdx, new InvalidDataException(
@@ -0,0 +1,105 @@
+package com.techcorp.service;
+
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.model.IntegrityReport;
+import com.techcorp.model.exception.FileStorageException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class IntegrityScrubberService {
+
+    private static final Logger log = LoggerFactory.getLogger(IntegrityScrubberService.class);
+
+    private final DocumentService documentService;
+    private final FileStorageService fileStorageService;
+    private final long maxBytesPerSecond;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile IntegrityReport lastReport;
+
+    public IntegrityScrubberService(
+        DocumentService documentService,
+        FileStorageService fileStorageService,
+        @Value("${app.storage.scrub.max-bytes-per-second:5242880}") long maxBytesPerSecond
+    ) {
+        if (maxBytesPerSecond <= 0) {
+            throw new IllegalArgumentException("Scrub rate limit must be positive");
+        }
+        this.documentService = documentService;
+        this.fileStorageService = fileStorageService;
+        this.maxBytesPerSecond = maxBytesPerSecond;
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.storage.scrub.initial-delay-ms:600000}",
+        fixedDelayString = "${app.storage.scrub.interval-ms:21600000}"
+    )
+    public void scheduledScrub() {
+        scrub().ifPresent(report -> log.info(
+            "Integrity scrub finished: {} checked, {} corrupted, {} missing, {} unverified",
+            report.getCheckedCount(),
+            report.getCorruptedDocumentIds().size(),
+            report.getMissingDocumentIds().size(),
+            report.getUnverifiedCount()
+        ));
+    }
+
+    public Optional<IntegrityReport> scrub() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            IntegrityReport report = new IntegrityReport();
+            for (EmployeeDocument document : documentService.getAllDocuments()) {
+                verify(document, report);
+            }
+            report.finish();
+            lastReport = report;
+            return Optional.of(report);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Optional<IntegrityReport> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private void verify(EmployeeDocument document, IntegrityReport report) {
+        if (document.getDigest() == null) {
+            report.addUnverified();
+            return;
+        }
+
+        Path path = Paths.get(document.getFilePath());
+        if (!Files.exists(path)) {
+            log.warn("Document {} is missing its file {}", document.getId(), path);
+            report.addMissing(document.getId());
+            return;
+        }
+
+        try {
+            String actual = fileStorageService.computeChecksum(document.getFilePath(), maxBytesPerSecond);
+            report.addChecked(Files.size(path));
+            if (!document.getDigest().equals(actual)) {
+                log.error("Document {} failed checksum verification: expected {}, found {}",
+                    document.getId(), document.getDigest(), actual);
+                report.addCorrupted(document.getId());
+            }
+        } catch (FileStorageException | IOException ex) {
+            log.warn("Could not verify document {}: {}", document.getId(), ex.getMessage());
+            report.addMissing(document.getId());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.techcorp.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class InvertedIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Pattern QUERY_CLAUSE = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // term -> document id -> ascending token positions
+    private final Map<String, Map<String, int[]>> postings = new HashMap<>();
+    private final Map<String, String[]> termsByDocument = new HashMap<>();
+    private final Map<String, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Hit(String documentId, double score, int matches) {}
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public static List<List<String>> parseQuery(String query) {
+        List<List<String>> clauses = new ArrayList<>();
+        Matcher matcher = QUERY_CLAUSE.matcher(query);
+        while (matcher.find()) {
+            String clause = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+            List<String> terms = tokenize(clause);
+            if (!terms.isEmpty()) {
+                clauses.add(terms);
+            }
+        }
+        return clauses;
+    }
+
+    public void add(String documentId, List<String> tokens) {
+        Map<String, List<Integer>> positions = new HashMap<>();
+        for (int position = 0; position < tokens.size(); position++) {
+            positions.computeIfAbsent(tokens.get(position), term -> new ArrayList<>()).add(position);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+            positions.forEach((term, list) -> postings
+                .computeIfAbsent(term, t -> new HashMap<>())
+                .put(documentId, list.stream().mapToInt(Integer::intValue).toArray()));
+            termsByDocument.put(documentId, positions.keySet().toArray(new String[0]));
+            documentLengths.put(documentId, tokens.size());
+            totalLength += tokens.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String documentId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(documentId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(String documentId) {
+        lock.readLock().lock();
+        try {
+            return documentLengths.containsKey(documentId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documentLengths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every clause must match. Single terms match anywhere, multi-term clauses
+    // only where their terms occur at consecutive positions. Hits are ranked by BM25.
+    public List<Hit> search(List<List<String>> clauses, int limit) {
+        if (clauses.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Set<String> candidates = candidates(clauses);
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+
+            double averageLength = (double) totalLength / documentLengths.size();
+            List<Hit> hits = new ArrayList<>();
+            for (String documentId : candidates) {
+                double score = 0;
+                int matches = 0;
+                for (List<String> clause : clauses) {
+                    int frequency = frequency(clause, documentId);
+                    if (frequency == 0) {
+                        score = -1;
+                        break;
+                    }
+                    matches += frequency;
+                    score += bm25(frequency, documentFrequency(clause), documentLengths.get(documentId), averageLength);
+                }
+                if (score >= 0) {
+                    hits.add(new Hit(documentId, score, matches));
+                }
+            }
+
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::documentId));
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Set<String> candidates(List<List<String>> clauses) {
+        List<Map<String, int[]>> lists = new ArrayList<>();
+        for (List<String> clause : clauses) {
+            for (String term : clause) {
+                Map<String, int[]> list = postings.get(term);
+                if (list == null) {
+                    return Set.of();
+                }
+                lists.add(list);
+            }
+        }
+        lists.sort(Comparator.comparingInt(Map::size));
+
+        Set<String> candidates = new HashSet<>(lists.get(0).keySet());
+        for (int i = 1; i < lists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(lists.get(i).keySet());
+        }
+        return candidates;
+    }
+
+    private int frequency(List<String> clause, String documentId) {
+        int[] first = postings.get(clause.get(0)).get(documentId);
+        if (clause.size() == 1) {
+            return first.length;
+        }
+        int count = 0;
+        for (int start : first) {
+            boolean phrase = true;
+            for (int offset = 1; offset < clause.size() && phrase; offset++) {
+                int[] next = postings.get(clause.get(offset)).get(documentId);
+                phrase = Arrays.binarySearch(next, start + offset) >= 0;
+            }
+            if (phrase) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Phrase document frequency is approximated by the rarest term of the phrase.
+    private int documentFrequency(List<String> clause) {
+        return clause.stream()
+            .mapToInt(term -> postings.get(term).size())
+            .min()
+            .orElse(0);
+    }
+
+    private double bm25(int frequency, int documentFrequency, int length, double averageLength) {
+        int documents = documentLengths.size();
+        double idf = Math.log(1 + (documents - documentFrequency + 0.5) / (documentFrequency + 0.5));
+        double norm = K1 * (1 - B + B * length / averageLength);
+        return idf * frequency * (K1 + 1) / (frequency + norm);
+    }
+
+    private void removeLocked(String documentId) {
+        String[] terms = termsByDocument.remove(documentId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<String, int[]> list = postings.get(term);
+            list.remove(documentId);
+            if (list.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= documentLengths.remove(documentId);
+    }
+}
@@ -0,0 +1,289 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeePage;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+// Keeps the roster in a relational database, for the jdbc profile. An
+// identity column records insertion order; replace updates the row in place,
+// so it keeps its position. Imports are written as batched inserts in one
+// transaction, listings are read in keyset pages over the identity column
+// instead of one unbounded result, and company statistics are aggregated by
+// the database. Page cursors are the identity of a page's last row, so a
+// client walks the roster with the same keyset query. Every read builds
+// fresh Employee objects.
+@Component
+@Profile("jdbc")
+public class JdbcEmployeeStore implements EmployeeStore {
+
+    private static final String COLUMNS =
+        "email, last_name, first_name, company_name, company_key, role, salary, status, photo_file_name";
+
+    private static final String INSERT =
+        "INSERT INTO employees (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String UPDATE =
+        "UPDATE employees SET email = ?, last_name = ?, first_name = ?, company_name = ?, company_key = ?, "
+            + "role = ?, salary = ?, status = ?, photo_file_name = ? WHERE email = ?";
+
+    // One row per company: its top earner, ties going to the earliest inserted.
+    private static final String STATISTICS =
+        "SELECT company_name, first_name, last_name, salary, employees_count, average_salary FROM ("
+            + "SELECT company_name, first_name, last_name, salary, "
+            + "COUNT(*) OVER (PARTITION BY company_name) AS employees_count, "
+            + "AVG(CAST(salary AS DOUBLE PRECISION)) OVER (PARTITION BY company_name) AS average_salary, "
+            + "ROW_NUMBER() OVER (PARTITION BY company_name ORDER BY salary DESC, insert_order) AS earner_rank "
+            + "FROM employees WHERE status = ?) ranked WHERE earner_rank = 1";
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactions;
+    private final int batchSize;
+    private final int pageSize;
+
+    public JdbcEmployeeStore(
+        DataSource dataSource,
+        @Value("${app.employees.jdbc.batch-size:1000}") int batchSize,
+        @Value("${app.employees.jdbc.page-size:10000}") int pageSize
+    ) {
+        if (batchSize <= 0 || pageSize <= 0) {
+            throw new IllegalArgumentException("Batch and page sizes must be positive");
+        }
+        this.jdbc = new JdbcTemplate(dataSource);
+        this.transactions = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.batchSize = batchSize;
+        this.pageSize = pageSize;
+        createSchema();
+    }
+
+    private void createSchema() {
+        jdbc.execute("CREATE TABLE IF NOT EXISTS employees ("
+            + "insert_order BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL UNIQUE, "
+            + "email VARCHAR(320) PRIMARY KEY, "
+            + "last_name VARCHAR(255) NOT NULL, "
+            + "first_name VARCHAR(255) NOT NULL, "
+            + "company_name VARCHAR(255) NOT NULL, "
+            + "company_key VARCHAR(255) NOT NULL, "
+            + "role VARCHAR(16) NOT NULL, "
+            + "salary INT NOT NULL, "
+            + "status VARCHAR(16) NOT NULL, "
+            + "photo_file_name VARCHAR(255))");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS employees_company ON employees (company_key, insert_order)");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS employees_status ON employees (status, insert_order)");
+    }
+
+    @Override
+    public void save(Employee employee) {
+        transactions.executeWithoutResult(tx -> {
+            if (update(employee.getEmailAddress(), employee) == 0) {
+                jdbc.update(INSERT, ps -> bind(ps, employee));
+            }
+        });
+    }
+
+    @Override
+    public void addAll(List<Employee> employees) {
+        if (employees.isEmpty()) {
+            return;
+        }
+        transactions.executeWithoutResult(tx -> jdbc.batchUpdate(INSERT, employees, batchSize, this::bind));
+    }
+
+    @Override
+    public boolean replace(String email, Employee employee) {
+        return update(email.toLowerCase(), employee) > 0;
+    }
+
+    private int update(String email, Employee employee) {
+        return jdbc.update(UPDATE, ps -> {
+            bind(ps, employee);
+            ps.setString(10, email);
+        });
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return jdbc.query("SELECT " + COLUMNS + " FROM employees WHERE email = ?",
+                (rs, row) -> toEmployee(rs), email.toLowerCase())
+            .stream()
+            .findFirst();
+    }
+
+    // One IN query per batchSize emails, put back into the requested order.
+    @Override
+    public List<Employee> findByEmails(List<String> emails) {
+        Map<String, Employee> found = new HashMap<>();
+        for (int from = 0; from < emails.size(); from += batchSize) {
+            Object[] chunk = emails.subList(from, Math.min(emails.size(), from + batchSize)).stream()
+                .map(String::toLowerCase)
+                .toArray();
+            String marks = String.join(", ", Collections.nCopies(chunk.length, "?"));
+            jdbc.query("SELECT " + COLUMNS + " FROM employees WHERE email IN (" + marks + ")", rs -> {
+                Employee employee = toEmployee(rs);
+                found.put(employee.getEmailAddress(), employee);
+            }, chunk);
+        }
+        List<Employee> employees = new ArrayList<>(found.size());
+        for (String email : emails) {
+            Employee employee = found.get(email.toLowerCase());
+            if (employee != null) {
+                employees.add(employee);
+            }
+        }
+        return employees;
+    }
+
+    @Override
+    public List<Employee> findByCompanyName(String companyName) {
+        return companyName == null ? new ArrayList<>() : list("company_key = ?", companyKey(companyName));
+    }
+
+    @Override
+    public List<Employee> findByStatus(EmploymentStatus status) {
+        return list("status = ?", status.name());
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        return list(null);
+    }
+
+    // Matching rows in insertion order, read one keyset page at a time.
+    private List<Employee> list(String condition, Object... arguments) {
+        String sql = "SELECT insert_order, " + COLUMNS + " FROM employees WHERE "
+            + (condition == null ? "" : condition + " AND ")
+            + "insert_order > ? ORDER BY insert_order LIMIT ?";
+        Object[] page = new Object[arguments.length + 2];
+        System.arraycopy(arguments, 0, page, 0, arguments.length);
+        page[arguments.length + 1] = pageSize;
+
+        List<Employee> employees = new ArrayList<>();
+        long[] last = {Long.MIN_VALUE};
+        while (true) {
+            page[arguments.length] = last[0];
+            int before = employees.size();
+            jdbc.query(sql, rs -> {
+                last[0] = rs.getLong("insert_order");
+                employees.add(toEmployee(rs));
+            }, page);
+            if (employees.size() - before < pageSize) {
+                return employees;
+            }
+        }
+    }
+
+    // One extra row tells whether another page exists.
+    @Override
+    public EmployeePage findPage(String cursor, int limit) {
+        List<Employee> employees = new ArrayList<>();
+        long[] orders = new long[limit + 1];
+        jdbc.query("SELECT insert_order, " + COLUMNS + " FROM employees WHERE insert_order > ? "
+                + "ORDER BY insert_order LIMIT ?", rs -> {
+            orders[employees.size()] = rs.getLong("insert_order");
+            employees.add(toEmployee(rs));
+        }, parseCursor(cursor), limit + 1);
+        if (employees.size() <= limit) {
+            return new EmployeePage(employees, null);
+        }
+        employees.remove(limit);
+        return new EmployeePage(employees, String.valueOf(orders[limit - 1]));
+    }
+
+    private static long parseCursor(String cursor) {
+        if (cursor == null) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid page cursor", ex);
+        }
+    }
+
+    @Override
+    public Map<String, CompanyStatistics> getCompanyStatistics(EmploymentStatus status) {
+        Map<String, CompanyStatistics> statistics = new HashMap<>();
+        jdbc.query(STATISTICS, rs -> {
+            String companyName = rs.getString("company_name");
+            statistics.put(companyName, new CompanyStatistics(
+                companyName,
+                rs.getLong("employees_count"),
+                rs.getInt("salary"),
+                rs.getDouble("average_salary"),
+                rs.getString("first_name") + " " + rs.getString("last_name")
+            ));
+        }, status.name());
+        return statistics;
+    }
+
+    @Override
+    public boolean updateStatus(String email, EmploymentStatus status) {
+        return email != null
+            && jdbc.update("UPDATE employees SET status = ? WHERE email = ?", status.name(), email.toLowerCase()) > 0;
+    }
+
+    @Override
+    public boolean deleteByEmail(String email) {
+        return email != null && jdbc.update("DELETE FROM employees WHERE email = ?", email.toLowerCase()) > 0;
+    }
+
+    @Override
+    public int count() {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM employees", Integer.class);
+    }
+
+    private void bind(PreparedStatement ps, Employee employee) throws SQLException {
+        ps.setString(1, employee.getEmailAddress());
+        ps.setString(2, employee.getLastName());
+        ps.setString(3, employee.getFirstName());
+        ps.setString(4, employee.getCompanyName());
+        ps.setString(5, companyKey(employee.getCompanyName()));
+        ps.setString(6, employee.getRole().name());
+        ps.setInt(7, employee.getSalary());
+        ps.setString(8, employee.getStatus().name());
+        ps.setString(9, employee.getPhotoFileName());
+    }
+
+    private static Employee toEmployee(ResultSet rs) throws SQLException {
+        String companyName = CompanyDictionary.intern(rs.getString("company_name"));
+        return Employee.restore(
+            rs.getString("last_name"),
+            rs.getString("first_name"),
+            rs.getString("email"),
+            companyName,
+            CompanyDictionary.idOf(companyName),
+            Role.valueOf(rs.getString("role")),
+            rs.getInt("salary"),
+            EmploymentStatus.valueOf(rs.getString("status")),
+            rs.getString("photo_file_name")
+        );
+    }
+
+    // Company filters ignore case, as CompanyDictionary ids do.
+    private static String companyKey(String companyName) {
+        return companyName.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,95 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// The list-of-objects roster: stored employees are the very objects that were
+// saved, so in-place changes are visible immediately.
+public class ListEmployeeStore implements EmployeeStore {
+
+    private static final int PARALLEL_STATISTICS_THRESHOLD = 10_000;
+
+    private final List<Employee> employees = new ArrayList<>();
+    private final Map<String, Employee> byEmail = new HashMap<>();
+
+    @Override
+    public synchronized void save(Employee employee) {
+        // Registers the company, so findByCompanyName can compare ids.
+        CompanyDictionary.admit(employee);
+        Employee previous = byEmail.put(employee.getEmailAddress(), employee);
+        if (previous == null) {
+            employees.add(employee);
+        } else if (previous != employee) {
+            employees.set(employees.indexOf(previous), employee);
+        }
+    }
+
+    @Override
+    public synchronized boolean replace(String email, Employee employee) {
+        Employee previous = byEmail.remove(email.toLowerCase());
+        if (previous == null) {
+            return false;
+        }
+        CompanyDictionary.admit(employee);
+        employees.set(employees.indexOf(previous), employee);
+        byEmail.put(employee.getEmailAddress(), employee);
+        return true;
+    }
+
+    @Override
+    public synchronized Optional<Employee> findByEmail(String email) {
+        return email == null ? Optional.empty() : Optional.ofNullable(byEmail.get(email.toLowerCase()));
+    }
+
+    @Override
+    public synchronized List<Employee> findByCompanyName(String companyName) {
+        int companyId = CompanyDictionary.idOf(companyName);
+        return employees.stream()
+            .filter(e -> e.getCompanyId() == companyId)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized List<Employee> findByStatus(EmploymentStatus status) {
+        return employees.stream()
+            .filter(e -> e.getStatus() == status)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public synchronized List<Employee> findAll() {
+        return new ArrayList<>(employees);
+    }
+
+    // Large rosters are aggregated in parallel on the common fork-join pool.
+    @Override
+    public synchronized Map<String, CompanyStatistics> getCompanyStatistics(EmploymentStatus status) {
+        Stream<Employee> stream = employees.size() >= PARALLEL_STATISTICS_THRESHOLD
+            ? employees.parallelStream()
+            : employees.stream();
+        return stream
+            .filter(e -> e.getStatus() == status)
+            .collect(CompanyStatisticsCollector.toCompanyStatistics());
+    }
+
+    @Override
+    public synchronized boolean deleteByEmail(String email) {
+        Employee removed = email == null ? null : byEmail.remove(email.toLowerCase());
+        return removed != null && employees.remove(removed);
+    }
+
+    @Override
+    public synchronized int count() {
+        return employees.size();
+    }
+}
@@ -0,0 +1,563 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Keeps the roster outside the Java heap, so heap size and GC work do not
+// grow with it. Every employee is a fixed 24-byte record in direct buffer
+// segments:
+//
+//   0 live flag, 1 role ordinal, 2 status ordinal, 4 company spelling id,
+//   8 salary, 12 email hash, 16 reference to the string block
+//
+// The string block holds the last name, first name, email and photo file
+// name as length-prefixed UTF-8 in a separate append-only string heap. The
+// email lookup table is an open-addressing table of row numbers, also off
+// heap. Only the company spellings live on the heap.
+// Segments start at 64 KiB and the last one doubles as it fills, up to the
+// segment size, so a small roster reserves little native memory.
+// Deleted records are reclaimed once they outnumber the live ones; string
+// blocks left behind by deletes and renames once they take more bytes than
+// the blocks still in use.
+public class OffHeapEmployeeStore implements EmployeeStore {
+
+    private static final Role[] ROLES = Role.values();
+    private static final EmploymentStatus[] STATUSES = EmploymentStatus.values();
+    private static final int DEFAULT_SEGMENT_BYTES = 64 << 20;
+    private static final int INITIAL_SEGMENT_BYTES = 64 << 10;
+    private static final int MIN_DELETED_RECORDS = 1024;
+    private static final int MIN_SUPERSEDED_BYTES = 64 << 10;
+
+    private static final int RECORD_BYTES = 24;
+    private static final int LIVE = 0;
+    private static final int ROLE = 1;
+    private static final int STATUS = 2;
+    private static final int COMPANY = 4;
+    private static final int SALARY = 8;
+    private static final int HASH = 12;
+    private static final int STRINGS = 16;
+
+    // Email table slots hold row + 1; zero is empty, -1 a deleted entry.
+    private static final int EMPTY = 0;
+    private static final int DELETED = -1;
+
+    private final int segmentBytes;
+    private final int recordsPerSegment;
+    private final List<ByteBuffer> records = new ArrayList<>();
+    private final List<ByteBuffer> strings = new ArrayList<>();
+    private int stringsUsed;
+    // Bytes appended to the string heap since it was last compacted, and how
+    // many of them belong to blocks no live record points to any more.
+    private long stringBytes;
+    private long supersededBytes;
+    private int rows;
+    private int live;
+
+    private ByteBuffer slots = ByteBuffer.allocateDirect(16 * Integer.BYTES);
+    private int slotCount = 16;
+    private int usedSlots;
+
+    private final List<String> companyNames = new ArrayList<>();
+    // The CompanyDictionary id of each spelling, for Employee.restore.
+    private final List<Integer> dictionaryIds = new ArrayList<>();
+    private final Map<String, Integer> companyIds = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public OffHeapEmployeeStore() {
+        this(DEFAULT_SEGMENT_BYTES);
+    }
+
+    OffHeapEmployeeStore(int segmentBytes) {
+        if (segmentBytes < RECORD_BYTES) {
+            throw new IllegalArgumentException("Segment size must be at least " + RECORD_BYTES + " bytes");
+        }
+        this.segmentBytes = segmentBytes;
+        this.recordsPerSegment = segmentBytes / RECORD_BYTES;
+    }
+
+    private static int hash(String email) {
+        int h = email.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private ByteBuffer segment(int row) {
+        return records.get(row / recordsPerSegment);
+    }
+
+    private int offset(int row) {
+        return (row % recordsPerSegment) * RECORD_BYTES;
+    }
+
+    @Override
+    public void save(Employee employee) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotOf(employee.getEmailAddress());
+            if (slot < 0) {
+                ensureCapacity();
+                int row = append();
+                write(row, employee);
+                link(row, employee.getEmailAddress());
+                live++;
+            } else {
+                write(slots.getInt(slot * Integer.BYTES) - 1, employee);
+                compactIfWasteful();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean replace(String email, Employee employee) {
+        lock.writeLock().lock();
+        try {
+            ensureCapacity();
+            int slot = slotOf(email.toLowerCase());
+            if (slot < 0) {
+                return false;
+            }
+            int row = slots.getInt(slot * Integer.BYTES) - 1;
+            slots.putInt(slot * Integer.BYTES, DELETED);
+            write(row, employee);
+            link(row, employee.getEmailAddress());
+            compactIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int append() {
+        if (rows == recordCapacity()) {
+            int initial = INITIAL_SEGMENT_BYTES / RECORD_BYTES;
+            ByteBuffer tail = records.isEmpty() ? null : records.get(records.size() - 1);
+            int tailRecords = tail == null ? 0 : tail.capacity() / RECORD_BYTES;
+            if (tail != null && tailRecords < recordsPerSegment) {
+                records.set(records.size() - 1,
+                    grow(tail, grownSize(tailRecords, tailRecords + 1, initial, recordsPerSegment) * RECORD_BYTES));
+            } else {
+                records.add(ByteBuffer.allocateDirect(grownSize(0, 1, initial, recordsPerSegment) * RECORD_BYTES));
+            }
+        }
+        return rows++;
+    }
+
+    // Every record segment but the last is full size.
+    private int recordCapacity() {
+        return records.isEmpty() ? 0
+            : (records.size() - 1) * recordsPerSegment + records.get(records.size() - 1).capacity() / RECORD_BYTES;
+    }
+
+    // Twice the current size, or the initial one, doubled further until needed
+    // fits, but never more than limit.
+    private static int grownSize(int current, int needed, int initial, int limit) {
+        long size = Math.max(current * 2L, Math.min(initial, limit));
+        while (size < needed) {
+            size *= 2;
+        }
+        return (int) Math.min(size, limit);
+    }
+
+    private static ByteBuffer grow(ByteBuffer buffer, int capacity) {
+        ByteBuffer grown = ByteBuffer.allocateDirect(capacity);
+        grown.put(0, buffer, 0, buffer.capacity());
+        return grown;
+    }
+
+    // Keeps the email table at most three quarters full, counting deleted entries.
+    private void ensureCapacity() {
+        if ((usedSlots + 1) * 4L > slotCount * 3L) {
+            rehash(Math.max(16, Integer.highestOneBit((live + 1) * 4)));
+        }
+    }
+
+    private void link(int row, String email) {
+        int mask = slotCount - 1;
+        int slot = hash(email) & mask;
+        while (slots.getInt(slot * Integer.BYTES) > 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (slots.getInt(slot * Integer.BYTES) == EMPTY) {
+            usedSlots++;
+        }
+        slots.putInt(slot * Integer.BYTES, row + 1);
+    }
+
+    private void write(int row, Employee employee) {
+        ByteBuffer segment = segment(row);
+        int offset = offset(row);
+        String[] current = segment.get(offset + LIVE) == 1 ? strings(segment.getLong(offset + STRINGS)) : null;
+        String[] next = {
+            employee.getLastName(), employee.getFirstName(), employee.getEmailAddress(), employee.getPhotoFileName()
+        };
+        if (current == null || !Arrays.equals(current, next)) {
+            if (current != null) {
+                supersededBytes += blockSize(segment.getLong(offset + STRINGS));
+            }
+            segment.putLong(offset + STRINGS, appendStrings(next));
+        }
+        segment.put(offset + LIVE, (byte) 1);
+        segment.put(offset + ROLE, (byte) employee.getRole().ordinal());
+        segment.put(offset + STATUS, (byte) employee.getStatus().ordinal());
+        segment.putInt(offset + COMPANY, companyIds.computeIfAbsent(employee.getCompanyName(), name -> {
+            companyNames.add(CompanyDictionary.intern(name));
+            dictionaryIds.add(CompanyDictionary.idOf(name));
+            return companyNames.size() - 1;
+        }));
+        segment.putInt(offset + SALARY, employee.getSalary());
+        segment.putInt(offset + HASH, hash(employee.getEmailAddress()));
+    }
+
+    // The block is [length, UTF-8 bytes] per string, with length -1 for null.
+    private long appendStrings(String[] values) {
+        byte[][] encoded = new byte[values.length][];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            encoded[i] = values[i] == null ? null : values[i].getBytes(StandardCharsets.UTF_8);
+            size += Integer.BYTES + (encoded[i] == null ? 0 : encoded[i].length);
+        }
+        if (size > segmentBytes) {
+            throw new IllegalArgumentException("Employee names do not fit in a " + segmentBytes + "-byte segment");
+        }
+        long reference = reserveStrings(size);
+        ByteBuffer segment = strings.get(strings.size() - 1);
+        int position = (int) reference;
+        for (byte[] bytes : encoded) {
+            segment.putInt(position, bytes == null ? -1 : bytes.length);
+            position += Integer.BYTES;
+            if (bytes != null) {
+                segment.put(position, bytes);
+                position += bytes.length;
+            }
+        }
+        return reference;
+    }
+
+    // Copies a block from an earlier string heap to the end of the current one as is.
+    private long copyStrings(List<ByteBuffer> heap, long reference) {
+        ByteBuffer from = heap.get((int) (reference >>> 32));
+        int size = blockSize(from, (int) reference);
+        long copied = reserveStrings(size);
+        strings.get(strings.size() - 1).put((int) copied, from, (int) reference, size);
+        return copied;
+    }
+
+    // Room for a block of size bytes at the end of the string heap, growing the
+    // last segment or starting a new one.
+    private long reserveStrings(int size) {
+        ByteBuffer tail = strings.isEmpty() ? null : strings.get(strings.size() - 1);
+        if (tail == null || stringsUsed + size > segmentBytes) {
+            strings.add(ByteBuffer.allocateDirect(grownSize(0, size, INITIAL_SEGMENT_BYTES, segmentBytes)));
+            stringsUsed = 0;
+        } else if (stringsUsed + size > tail.capacity()) {
+            strings.set(strings.size() - 1,
+                grow(tail, grownSize(tail.capacity(), stringsUsed + size, INITIAL_SEGMENT_BYTES, segmentBytes)));
+        }
+        long reference = ((long) (strings.size() - 1) << 32) | stringsUsed;
+        stringsUsed += size;
+        stringBytes += size;
+        return reference;
+    }
+
+    private int blockSize(long reference) {
+        return blockSize(strings.get((int) (reference >>> 32)), (int) reference);
+    }
+
+    private static int blockSize(ByteBuffer segment, int start) {
+        int position = start;
+        for (int i = 0; i < 4; i++) {
+            position += Integer.BYTES + Math.max(0, segment.getInt(position));
+        }
+        return position - start;
+    }
+
+    private String[] strings(long reference) {
+        ByteBuffer segment = strings.get((int) (reference >>> 32));
+        int position = (int) reference;
+        String[] values = new String[4];
+        for (int i = 0; i < values.length; i++) {
+            int length = segment.getInt(position);
+            position += Integer.BYTES;
+            if (length >= 0) {
+                byte[] bytes = new byte[length];
+                segment.get(position, bytes);
+                values[i] = new String(bytes, StandardCharsets.UTF_8);
+                position += length;
+            }
+        }
+        return values;
+    }
+
+    // Decodes only the email, skipping the two names in front of it.
+    private String email(long reference) {
+        ByteBuffer segment = strings.get((int) (reference >>> 32));
+        int position = (int) reference;
+        position += Integer.BYTES + segment.getInt(position);
+        position += Integer.BYTES + segment.getInt(position);
+        byte[] bytes = new byte[segment.getInt(position)];
+        segment.get(position + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int slotOf(String email) {
+        int hash = hash(email);
+        int mask = slotCount - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int value = slots.getInt(slot * Integer.BYTES);
+            if (value == EMPTY) {
+                return -1;
+            }
+            if (value != DELETED) {
+                ByteBuffer segment = segment(value - 1);
+                int offset = offset(value - 1);
+                if (segment.getInt(offset + HASH) == hash && email(segment.getLong(offset + STRINGS)).equals(email)) {
+                    return slot;
+                }
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        slots = ByteBuffer.allocateDirect(capacity * Integer.BYTES);
+        slotCount = capacity;
+        usedSlots = 0;
+        int mask = capacity - 1;
+        for (int row = 0; row < rows; row++) {
+            ByteBuffer segment = segment(row);
+            int offset = offset(row);
+            if (segment.get(offset + LIVE) != 1) {
+                continue;
+            }
+            int slot = segment.getInt(offset + HASH) & mask;
+            while (slots.getInt(slot * Integer.BYTES) != EMPTY) {
+                slot = (slot + 1) & mask;
+            }
+            slots.putInt(slot * Integer.BYTES, row + 1);
+            usedSlots++;
+        }
+    }
+
+    // The record was validated when it was written, so it is restored as is.
+    private Employee materialize(int row) {
+        ByteBuffer segment = segment(row);
+        int offset = offset(row);
+        String[] values = strings(segment.getLong(offset + STRINGS));
+        int company = segment.getInt(offset + COMPANY);
+        return Employee.restore(
+            values[0], values[1], values[2], companyNames.get(company), dictionaryIds.get(company),
+            ROLES[segment.get(offset + ROLE)], segment.getInt(offset + SALARY), STATUSES[segment.get(offset + STATUS)],
+            values[3]
+        );
+    }
+
+    @Override
+    public Optional<Employee> findByEmail(String email) {
+        lock.readLock().lock();
+        try {
+            int slot = email == null ? -1 : slotOf(email.toLowerCase());
+            return slot < 0 ? Optional.empty() : Optional.of(materialize(slots.getInt(slot * Integer.BYTES) - 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findByCompanyName(String companyName) {
+        lock.readLock().lock();
+        try {
+            int companyId = CompanyDictionary.idOf(companyName);
+            boolean[] matching = new boolean[companyNames.size()];
+            for (int id = 0; id < matching.length; id++) {
+                matching[id] = CompanyDictionary.idOf(companyNames.get(id)) == companyId;
+            }
+            List<Employee> found = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                ByteBuffer segment = segment(row);
+                int offset = offset(row);
+                if (segment.get(offset + LIVE) == 1 && matching[segment.getInt(offset + COMPANY)]) {
+                    found.add(materialize(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findByStatus(EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            byte ordinal = (byte) status.ordinal();
+            List<Employee> found = new ArrayList<>();
+            for (int row = 0; row < rows; row++) {
+                ByteBuffer segment = segment(row);
+                int offset = offset(row);
+                if (segment.get(offset + LIVE) == 1 && segment.get(offset + STATUS) == ordinal) {
+                    found.add(materialize(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Employee> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Employee> found = new ArrayList<>(live);
+            for (int row = 0; row < rows; row++) {
+                if (segment(row).get(offset(row) + LIVE) == 1) {
+                    found.add(materialize(row));
+                }
+            }
+            return found;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // One pass over the fixed records; only the top earners' names are decoded.
+    // Ties keep the earlier row.
+    @Override
+    public Map<String, CompanyStatistics> getCompanyStatistics(EmploymentStatus status) {
+        lock.readLock().lock();
+        try {
+            byte ordinal = (byte) status.ordinal();
+            long[] counts = new long[companyNames.size()];
+            long[] sums = new long[counts.length];
+            int[] topSalaries = new int[counts.length];
+            int[] topRows = new int[counts.length];
+            for (int row = 0; row < rows; row++) {
+                ByteBuffer segment = segment(row);
+                int offset = offset(row);
+                if (segment.get(offset + LIVE) != 1 || segment.get(offset + STATUS) != ordinal) {
+                    continue;
+                }
+                int company = segment.getInt(offset + COMPANY);
+                int salary = segment.getInt(offset + SALARY);
+                if (counts[company]++ == 0 || salary > topSalaries[company]) {
+                    topSalaries[company] = salary;
+                    topRows[company] = row;
+                }
+                sums[company] += salary;
+            }
+            Map<String, CompanyStatistics> statistics = new HashMap<>();
+            for (int company = 0; company < counts.length; company++) {
+                if (counts[company] > 0) {
+                    String[] top = strings(segment(topRows[company]).getLong(offset(topRows[company]) + STRINGS));
+                    statistics.put(companyNames.get(company), new CompanyStatistics(
+                        companyNames.get(company), counts[company], topSalaries[company],
+                        (double) sums[company] / counts[company], top[1] + " " + top[0]
+                    ));
+                }
+            }
+            return statistics;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean deleteByEmail(String email) {
+        lock.writeLock().lock();
+        try {
+            int slot = email == null ? -1 : slotOf(email.toLowerCase());
+            if (slot < 0) {
+                return false;
+            }
+            int row = slots.getInt(slot * Integer.BYTES) - 1;
+            slots.putInt(slot * Integer.BYTES, DELETED);
+            segment(row).put(offset(row) + LIVE, (byte) 0);
+            supersededBytes += blockSize(segment(row).getLong(offset(row) + STRINGS));
+            live--;
+            compactIfWasteful();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void compactIfWasteful() {
+        if (rows - live > Math.max(live, MIN_DELETED_RECORDS)
+                || supersededBytes > Math.max(stringBytes - supersededBytes, MIN_SUPERSEDED_BYTES)) {
+            compact();
+        }
+    }
+
+    // Slides the live records down over the deleted ones, keeping their order,
+    // copies their strings into a fresh heap and releases the segments left empty.
+    private void compact() {
+        List<ByteBuffer> previous = new ArrayList<>(strings);
+        strings.clear();
+        stringBytes = 0;
+        supersededBytes = 0;
+        byte[] record = new byte[RECORD_BYTES];
+        int kept = 0;
+        for (int row = 0; row < rows; row++) {
+            ByteBuffer segment = segment(row);
+            int offset = offset(row);
+            if (segment.get(offset + LIVE) != 1) {
+                continue;
+            }
+            if (row != kept) {
+                segment.get(offset, record);
+                segment(kept).put(offset(kept), record);
+            }
+            segment(kept).putLong(offset(kept) + STRINGS, copyStrings(previous, segment(kept).getLong(offset(kept) + STRINGS)));
+            kept++;
+        }
+        rows = kept;
+        while (records.size() > Math.max(1, (rows + recordsPerSegment - 1) / recordsPerSegment)) {
+            records.remove(records.size() - 1);
+        }
+        for (int row = rows; row < recordCapacity(); row++) {
+            segment(row).put(offset(row) + LIVE, (byte) 0);
+        }
+        rehash(slotCount);
+    }
+
+    // Native memory held by the record and string segments and the email table.
+    long reservedBytes() {
+        lock.readLock().lock();
+        try {
+            long reserved = slots.capacity();
+            for (ByteBuffer segment : records) {
+                reserved += segment.capacity();
+            }
+            for (ByteBuffer segment : strings) {
+                reserved += segment.capacity();
+            }
+            return reserved;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return live;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
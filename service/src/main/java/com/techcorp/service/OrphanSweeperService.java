@@ -0,0 +1,217 @@
+package com.techcorp.service;
+
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.model.OrphanSweepReport;
+import com.techcorp.model.exception.FileStorageException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+// Deletes uploads that no metadata refers to. "Unreferenced" is only as good
+// as the metadata: with in-memory stores every file looks orphaned after a
+// restart. Scheduled sweeps are therefore opt-in, and by default a sweep
+// only reports what it would delete. Nothing outside the upload root is
+// ever deleted.
+@Service
+public class OrphanSweeperService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrphanSweeperService.class);
+
+    private final DocumentService documentService;
+    private final PhotoService photoService;
+    private final FileStorageService fileStorageService;
+    private final Path uploadRoot;
+    private final long minAgeMillis;
+    private final int batchSize;
+    private final long batchPauseMillis;
+    private final boolean enabled;
+    private final boolean dryRun;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile OrphanSweepReport lastReport;
+
+    public OrphanSweeperService(
+        DocumentService documentService,
+        PhotoService photoService,
+        FileStorageService fileStorageService,
+        @Value("${app.upload.directory}")                   String uploadDir,
+        @Value("${app.storage.sweep.min-age-ms:3600000}")   long   minAgeMillis,
+        @Value("${app.storage.sweep.batch-size:100}")       int    batchSize,
+        @Value("${app.storage.sweep.batch-pause-ms:1000}")  long   batchPauseMillis,
+        @Value("${app.storage.sweep.enabled:false}")        boolean enabled,
+        @Value("${app.storage.sweep.dry-run:true}")         boolean dryRun
+    ) {
+        if (minAgeMillis < 0) {
+            throw new IllegalArgumentException("Sweep minimum age cannot be negative");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Sweep batch size must be positive");
+        }
+        if (batchPauseMillis < 0) {
+            throw new IllegalArgumentException("Sweep batch pause cannot be negative");
+        }
+        this.documentService = documentService;
+        this.photoService = photoService;
+        this.fileStorageService = fileStorageService;
+        this.uploadRoot = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.minAgeMillis = minAgeMillis;
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+        this.enabled = enabled;
+        this.dryRun = dryRun;
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.storage.sweep.initial-delay-ms:900000}",
+        fixedDelayString = "${app.storage.sweep.interval-ms:3600000}"
+    )
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        sweep().ifPresent(report -> log.info(
+            "Orphan sweep finished{}: {} scanned, {} orphaned, {} deleted, {} bytes reclaimed, {} failed",
+            report.isDryRun() ? " (dry run)" : "",
+            report.getScannedCount(),
+            report.getOrphanCount(),
+            report.getDeletedCount(),
+            report.getBytesReclaimed(),
+            report.getFailedCount()
+        ));
+    }
+
+    public Optional<OrphanSweepReport> sweep() {
+        if (!running.compareAndSet(false, true)) {
+            return Optional.empty();
+        }
+        try {
+            OrphanSweepReport report = new OrphanSweepReport(dryRun);
+            // Candidates are listed before the metadata snapshot, so a file saved
+            // after the snapshot is always younger than the grace period.
+            List<Path> candidates = collectCandidates(report);
+            Set<Path> referenced = referencedFiles();
+            List<Path> orphans = candidates.stream()
+                .filter(path -> !referenced.contains(path))
+                .toList();
+            orphans.forEach(orphan -> report.addOrphan());
+            if (dryRun) {
+                orphans.forEach(orphan -> log.info("Orphan sweep dry run would delete {}", orphan));
+            } else {
+                delete(orphans, report);
+            }
+            report.finish();
+            lastReport = report;
+            return Optional.of(report);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    public Optional<OrphanSweepReport> getLastReport() {
+        return Optional.ofNullable(lastReport);
+    }
+
+    private List<Path> collectCandidates(OrphanSweepReport report) {
+        long cutoff = System.currentTimeMillis() - minAgeMillis;
+        Set<Path> files = new LinkedHashSet<>();
+        list(uploadRoot, false, files);
+        list(photoService.getStorageDirectory(), true, files);
+        list(documentService.getStorageDirectory(), true, files);
+
+        List<Path> candidates = new ArrayList<>();
+        for (Path file : files) {
+            report.addScanned();
+            if (file.startsWith(uploadRoot) && isOlderThan(file, cutoff)) {
+                candidates.add(file);
+            }
+        }
+        return candidates;
+    }
+
+    private void list(Path directory, boolean recursive, Set<Path> files) {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = recursive ? Files.walk(directory) : Files.list(directory)) {
+            paths.filter(Files::isRegularFile)
+                .map(path -> path.toAbsolutePath().normalize())
+                .forEach(files::add);
+        } catch (IOException | UncheckedIOException ex) {
+            log.warn("Could not list {}: {}", directory, ex.getMessage());
+        }
+    }
+
+    private boolean isOlderThan(Path file, long cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis() <= cutoff;
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    private Set<Path> referencedFiles() {
+        Set<Path> referenced = new HashSet<>();
+        for (EmployeeDocument document : documentService.getAllDocuments()) {
+            referenced.add(Paths.get(document.getFilePath()).toAbsolutePath().normalize());
+        }
+        for (Path photo : photoService.getReferencedFiles()) {
+            referenced.add(photo.toAbsolutePath().normalize());
+        }
+        return referenced;
+    }
+
+    private void delete(List<Path> orphans, OrphanSweepReport report) {
+        int deletedInBatch = 0;
+        for (Path orphan : orphans) {
+            if (!orphan.startsWith(uploadRoot)) {
+                log.warn("Refusing to delete {} outside the upload root {}", orphan, uploadRoot);
+                report.addFailed();
+                continue;
+            }
+            if (deletedInBatch == batchSize) {
+                if (!pause()) {
+                    return;
+                }
+                deletedInBatch = 0;
+            }
+            try {
+                long size = Files.size(orphan);
+                fileStorageService.deleteFile(orphan.toString());
+                report.addDeleted(size);
+                deletedInBatch++;
+            } catch (FileStorageException | IOException ex) {
+                log.warn("Could not delete orphaned file {}: {}", orphan, ex.getMessage());
+                report.addFailed();
+            }
+        }
+    }
+
+    private boolean pause() {
+        if (batchPauseMillis == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CacheStatistics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class PhotoCache {
+
+    private final long maxSizeBytes;
+    private final boolean offHeap;
+    private final LinkedHashMap<String, ByteBuffer> entries;
+
+    private long sizeBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public PhotoCache(
+        @Value("${app.photos.cache.max-bytes:67108864}") long maxSizeBytes,
+        @Value("${app.photos.cache.off-heap:false}")     boolean offHeap
+    ) {
+        if (maxSizeBytes < 0) {
+            throw new IllegalArgumentException("Cache size cannot be negative");
+        }
+        this.maxSizeBytes = maxSizeBytes;
+        this.offHeap = offHeap;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public synchronized Optional<byte[]> get(String key) {
+        ByteBuffer buffer = entries.get(key);
+        if (buffer == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(toBytes(buffer));
+    }
+
+    public synchronized void put(String key, byte[] content) {
+        if (content.length > maxSizeBytes) {
+            return;
+        }
+        invalidate(key);
+
+        ByteBuffer buffer = offHeap
+            ? ByteBuffer.allocateDirect(content.length).put(content).flip()
+            : ByteBuffer.wrap(content.clone());
+        entries.put(key, buffer);
+        sizeBytes += content.length;
+
+        Iterator<Map.Entry<String, ByteBuffer>> eldest = entries.entrySet().iterator();
+        while (sizeBytes > maxSizeBytes && eldest.hasNext()) {
+            sizeBytes -= eldest.next().getValue().capacity();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    public synchronized void invalidate(String key) {
+        ByteBuffer removed = entries.remove(key);
+        if (removed != null) {
+            sizeBytes -= removed.capacity();
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        entries.clear();
+        sizeBytes = 0;
+    }
+
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(
+            hitCount, missCount, evictionCount, entries.size(), sizeBytes, maxSizeBytes
+        );
+    }
+
+    private byte[] toBytes(ByteBuffer buffer) {
+        byte[] content = new byte[buffer.capacity()];
+        buffer.duplicate().rewind().get(content);
+        return content;
+    }
+}
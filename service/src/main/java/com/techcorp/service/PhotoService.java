@@ -2,36 +2,55 @@ package com.techcorp.service;
 
 import com.techcorp.model.Employee;
 import com.techcorp.model.exception.EmployeeNotFoundException;
+import com.techcorp.model.exception.FileStorageException;
 import com.techcorp.model.exception.InvalidFileException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 public class PhotoService {
 
+    private static final Logger log = LoggerFactory.getLogger(PhotoService.class);
+
     private final String uploadPathString;
     private static final List<String> ALLOWED_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png");
     private static final long MAX_SIZE_BYTES = 2 * 1024 * 1024; // 2MB
     
     private final FileStorageService fileStorageService;
     private final EmployeeService employeeService;
+    private final PhotoCache photoCache;
+    private final ThumbnailGenerator thumbnailGenerator;
 
     public PhotoService(
         FileStorageService fileStorageService, 
         EmployeeService employeeService,
+        PhotoCache photoCache,
+        ThumbnailGenerator thumbnailGenerator,
         @Value("${app.upload.directory}") String uploadPathString
     ) {
         this.uploadPathString = uploadPathString + "/photos";
         this.fileStorageService = fileStorageService;
         this.employeeService = employeeService;
+        this.photoCache = photoCache;
+        this.thumbnailGenerator = thumbnailGenerator;
         
         try {
             Files.createDirectories(Paths.get(this.uploadPathString));
@@ -64,7 +83,9 @@ public class PhotoService {
         String fullPath = fileStorageService.saveFile(file, this.uploadPathString + "/" + normalizedEmail);
         
         String fileName = fullPath.substring(fullPath.lastIndexOf('/') + 1);
-        employee.setPhotoFileName(fileName);
+        employeeService.updateEmployeePhoto(employee.getEmailAddress(), fileName);
+
+        thumbnailGenerator.submit(() -> generateThumbnails(normalizedEmail, fileName));
 
         return fileName;
     }
@@ -86,8 +107,145 @@ public class PhotoService {
         }
 
         String normalizedEmail = email.toLowerCase();
-        String relativePath = "photos/" + normalizedEmail + "/" + employee.getPhotoFileName();
-        return fileStorageService.loadFile(relativePath);
+        String relativePath = photoPath(normalizedEmail, employee.getPhotoFileName());
+
+        byte[] content = photoCache.get(relativePath)
+            .orElseGet(() -> {
+                byte[] loaded = readPhoto(relativePath, email);
+                photoCache.put(relativePath, loaded);
+                return loaded;
+            });
+        return new ByteArrayResource(content);
+    }
+
+    public Resource loadThumbnail(String email, int size) {
+        if (email == null || email.isEmpty()) {
+            throw new IllegalArgumentException("Employee email cannot be null or empty");
+        }
+        checkThumbnailSize(size);
+
+        Employee employee = employeeService.getEmployeeByEmail(email)
+            .orElseThrow(() -> new EmployeeNotFoundException(
+                "Employee with email " + email + " not found"
+            ));
+
+        if (employee.getPhotoFileName() == null) {
+            throw new com.techcorp.model.exception.FileNotFoundException(
+                "Employee " + email + " has no photo"
+            );
+        }
+
+        String normalizedEmail = email.toLowerCase();
+        String fileName = employee.getPhotoFileName();
+        String relativePath = thumbnailPath(normalizedEmail, fileName, size);
+
+        byte[] content = photoCache.get(relativePath)
+            .orElseGet(() -> {
+                byte[] loaded = readIfExists(relativePath)
+                    .orElseGet(() -> generateThumbnail(
+                        normalizedEmail, fileName, size, readPhoto(photoPath(normalizedEmail, fileName), email)
+                    ));
+                photoCache.put(relativePath, loaded);
+                return loaded;
+            });
+        return new ByteArrayResource(content);
+    }
+
+    // The stored photo's size and modification time, read without opening it;
+    // a thumbnail is described by the photo it is made from. Empty when the
+    // employee has no photo or its file is gone.
+    public Optional<FileAttributes> getPhotoAttributes(String email, Integer size) {
+        if (email == null || email.isEmpty()) {
+            throw new IllegalArgumentException("Employee email cannot be null or empty");
+        }
+        if (size != null) {
+            checkThumbnailSize(size);
+        }
+
+        Employee employee = employeeService.getEmployeeByEmail(email)
+            .orElseThrow(() -> new EmployeeNotFoundException(
+                "Employee with email " + email + " not found"
+            ));
+
+        if (employee.getPhotoFileName() == null) {
+            return Optional.empty();
+        }
+        return fileStorageService.getAttributes(photoPath(email.toLowerCase(), employee.getPhotoFileName()));
+    }
+
+    private void checkThumbnailSize(int size) {
+        if (!thumbnailGenerator.supports(size)) {
+            throw new IllegalArgumentException(
+                "Unsupported photo size: " + size + ". Allowed sizes: " + thumbnailGenerator.getSizes()
+            );
+        }
+    }
+
+    private void generateThumbnails(String normalizedEmail, String fileName) {
+        try {
+            byte[] original = readPhoto(photoPath(normalizedEmail, fileName), normalizedEmail);
+            for (int size : thumbnailGenerator.getSizes()) {
+                generateThumbnail(normalizedEmail, fileName, size, original);
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not generate thumbnails for {}: {}", normalizedEmail, ex.getMessage());
+        }
+    }
+
+    private byte[] generateThumbnail(String normalizedEmail, String fileName, int size, byte[] original) {
+        String format = getFileExtension(fileName).toLowerCase().equals("png") ? "png" : "jpg";
+        byte[] thumbnail = thumbnailGenerator.resize(original, size, format);
+
+        Path target = Paths.get(fileStorageService.getFullPath(thumbnailPath(normalizedEmail, fileName, size)));
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "thumbnail", ".tmp");
+            Files.write(temp, thumbnail);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            // The photo may have been replaced or deleted while this one was resized;
+            // deletePhoto clears the file name before removing files, so checking
+            // after the move leaves no thumbnail behind.
+            if (!isCurrentPhoto(normalizedEmail, fileName)) {
+                Files.deleteIfExists(target);
+            }
+        } catch (IOException ex) {
+            throw new FileStorageException("Error saving thumbnail", ex);
+        }
+        return thumbnail;
+    }
+
+    private boolean isCurrentPhoto(String normalizedEmail, String fileName) {
+        return employeeService.getEmployeeByEmail(normalizedEmail)
+            .map(Employee::getPhotoFileName)
+            .filter(fileName::equals)
+            .isPresent();
+    }
+
+    private byte[] readPhoto(String relativePath, String email) {
+        return readIfExists(relativePath)
+            .orElseThrow(() -> new com.techcorp.model.exception.FileNotFoundException(
+                "Photo file for employee " + email + " not found"
+            ));
+    }
+
+    private Optional<byte[]> readIfExists(String relativePath) {
+        Resource resource = fileStorageService.loadFile(relativePath);
+        if (resource == null || !resource.exists()) {
+            return Optional.empty();
+        }
+        try (InputStream in = resource.getInputStream()) {
+            return Optional.of(in.readAllBytes());
+        } catch (IOException ex) {
+            throw new FileStorageException("Error reading photo", ex);
+        }
+    }
+
+    private String photoPath(String normalizedEmail, String fileName) {
+        return "photos/" + normalizedEmail + "/" + fileName;
+    }
+
+    private String thumbnailPath(String normalizedEmail, String fileName, int size) {
+        return "photos/" + normalizedEmail + "/thumbnails/" + size + "_" + fileName;
     }
 
     public void deletePhoto(String email) {
@@ -100,12 +258,43 @@ public class PhotoService {
                 "Employee with email " + email + " not found"
             ));
 
-        if (employee.getPhotoFileName() != null) {
+        // The reference goes first, so a thumbnail still being generated sees that
+        // its photo is gone.
+        String fileName = employee.getPhotoFileName();
+        employeeService.updateEmployeePhoto(employee.getEmailAddress(), null);
+
+        if (fileName != null) {
             String normalizedEmail = email.toLowerCase();
-            String relativePath = "photos/" + normalizedEmail + "/" + employee.getPhotoFileName();
+            String relativePath = photoPath(normalizedEmail, fileName);
             fileStorageService.deleteFile(relativePath);
+            photoCache.invalidate(relativePath);
+
+            for (int size : thumbnailGenerator.getSizes()) {
+                String thumbnail = thumbnailPath(normalizedEmail, fileName, size);
+                fileStorageService.deleteFile(thumbnail);
+                photoCache.invalidate(thumbnail);
+            }
+        }
+    }
+
+    public Path getStorageDirectory() {
+        return Paths.get(fileStorageService.getFullPath("photos"));
+    }
+
+    public Set<Path> getReferencedFiles() {
+        Set<Path> referenced = new HashSet<>();
+        for (Employee employee : new ArrayList<>(employeeService.getEmployees())) {
+            String fileName = employee.getPhotoFileName();
+            if (fileName == null) {
+                continue;
+            }
+            String normalizedEmail = employee.getEmailAddress().toLowerCase();
+            referenced.add(Paths.get(fileStorageService.getFullPath(photoPath(normalizedEmail, fileName))));
+            for (int size : thumbnailGenerator.getSizes()) {
+                referenced.add(Paths.get(fileStorageService.getFullPath(thumbnailPath(normalizedEmail, fileName, size))));
+            }
         }
-        employee.setPhotoFileName(null);
+        return referenced;
     }
 
     private void validatePhoto(MultipartFile file) {
@@ -0,0 +1,30 @@
+package com.techcorp.service;
+
+// Tight loops over a salary column. Rows whose role is negative are holes:
+// they must hold salary 0 and never match a threshold.
+public interface SalaryKernels {
+
+    long sum(int[] salaries, int length);
+
+    // 0 when length is 0.
+    int max(int[] salaries, int length);
+
+    // Writes the rows whose salary is below thresholds[role] to matches, in
+    // order, and returns how many there are. matches must fit length rows.
+    int below(int[] salaries, byte[] roles, int length, int[] thresholds, int[] matches);
+
+    // The Vector API kernels when they were built with the vector profile and the
+    // JVM runs with --add-modules jdk.incubator.vector, the scalar loops otherwise.
+    static SalaryKernels create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (SalaryKernels) Class.forName("com.techcorp.service.VectorSalaryKernels")
+                    .getDeclaredConstructor()
+                    .newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // Fall through to the scalar loops.
+            }
+        }
+        return new ScalarSalaryKernels();
+    }
+}
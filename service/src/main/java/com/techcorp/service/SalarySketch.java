@@ -0,0 +1,105 @@
+package com.techcorp.service;
+
+// Relative-error quantile sketch in the style of DDSketch. Salaries fall into
+// logarithmic buckets whose bounds grow by GAMMA, so a returned quantile is
+// within RELATIVE_ACCURACY of the true salary at that rank. Unlike t-digest
+// or KLL, counts can be taken back out, which removals and salary updates
+// need, and two sketches merge by adding their bucket counts.
+public class SalarySketch {
+
+    static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    // counts[i] holds bucket firstBucket + i; zero salaries have no logarithm.
+    private int[] counts = new int[0];
+    private int firstBucket;
+    private long zeroCount;
+    private long count;
+
+    static int bucket(int salary) {
+        return (int) Math.ceil(Math.log(salary) / LOG_GAMMA);
+    }
+
+    // Midpoint of the bucket's bounds in relative terms.
+    private static double value(int bucket) {
+        return 2 * Math.pow(GAMMA, bucket) / (GAMMA + 1);
+    }
+
+    public void add(int salary) {
+        add(salary, 1);
+    }
+
+    public void remove(int salary) {
+        add(salary, -1);
+    }
+
+    private void add(int salary, int delta) {
+        if (salary < 0) {
+            throw new IllegalArgumentException("Salary cannot be negative");
+        }
+        if (salary == 0) {
+            zeroCount += delta;
+        } else {
+            int bucket = bucket(salary);
+            ensureCovers(bucket, bucket);
+            counts[bucket - firstBucket] += delta;
+        }
+        count += delta;
+    }
+
+    public void merge(SalarySketch other) {
+        if (other.counts.length > 0) {
+            ensureCovers(other.firstBucket, other.firstBucket + other.counts.length - 1);
+            int shift = other.firstBucket - firstBucket;
+            for (int i = 0; i < other.counts.length; i++) {
+                counts[shift + i] += other.counts[i];
+            }
+        }
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    private void ensureCovers(int low, int high) {
+        if (counts.length == 0) {
+            counts = new int[high - low + 1];
+            firstBucket = low;
+            return;
+        }
+        int lastBucket = firstBucket + counts.length - 1;
+        if (low >= firstBucket && high <= lastBucket) {
+            return;
+        }
+        int newFirst = Math.min(low, firstBucket);
+        int[] grown = new int[Math.max(high, lastBucket) - newFirst + 1];
+        System.arraycopy(counts, 0, grown, firstBucket - newFirst, counts.length);
+        counts = grown;
+        firstBucket = newFirst;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    // Salary at rank q * (count - 1), or NaN for an empty sketch.
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long rank = (long) (q * (count - 1));
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (rank < seen) {
+                return value(firstBucket + i);
+            }
+        }
+        return value(firstBucket + counts.length - 1);
+    }
+}
@@ -0,0 +1,34 @@
+package com.techcorp.service;
+
+public class ScalarSalaryKernels implements SalaryKernels {
+
+    @Override
+    public long sum(int[] salaries, int length) {
+        long sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += salaries[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int max(int[] salaries, int length) {
+        int max = 0;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, salaries[i]);
+        }
+        return max;
+    }
+
+    @Override
+    public int below(int[] salaries, byte[] roles, int length, int[] thresholds, int[] matches) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            int role = roles[i];
+            if (role >= 0 && salaries[i] < thresholds[role]) {
+                matches[count++] = i;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,7 @@
+package com.techcorp.service;
+
+// A saved upload: its path and the SHA-256 (hex) taken while it was written.
+public record StoredFile(
+    String path,
+    String checksum
+) {}
@@ -0,0 +1,57 @@
+package com.techcorp.service;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+
+public class ThrottledInputStream extends FilterInputStream {
+
+    private final long maxBytesPerSecond;
+    private final long startNanos;
+    private long bytesRead;
+
+    public ThrottledInputStream(InputStream in, long maxBytesPerSecond) {
+        super(in);
+        if (maxBytesPerSecond <= 0) {
+            throw new IllegalArgumentException("Rate limit must be positive");
+        }
+        this.maxBytesPerSecond = maxBytesPerSecond;
+        this.startNanos = System.nanoTime();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value != -1) {
+            account(1);
+        }
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            account(read);
+        }
+        return read;
+    }
+
+    public long getBytesRead() { return bytesRead; }
+
+    private void account(int read) throws IOException {
+        bytesRead += read;
+        long expectedNanos = bytesRead * 1_000_000_000L / maxBytesPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(aheadNanos / 1_000_000, (int) (aheadNanos % 1_000_000));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Throttled read interrupted");
+        }
+    }
+}
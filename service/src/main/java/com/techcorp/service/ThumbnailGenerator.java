@@ -0,0 +1,120 @@
+package com.techcorp.service;
+
+import com.techcorp.model.exception.FileStorageException;
+import com.techcorp.model.exception.InvalidFileException;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class ThumbnailGenerator {
+
+    private final List<Integer> sizes;
+    private final ExecutorService executor;
+
+    public ThumbnailGenerator(
+        @Value("${app.photos.thumbnails.sizes:64,256}") String sizes,
+        @Value("${app.photos.thumbnails.threads:2}")    int    threads
+    ) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Thumbnail thread count must be positive");
+        }
+        this.sizes = parseSizes(sizes);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "thumbnail-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static List<Integer> parseSizes(String sizes) {
+        List<Integer> parsed = Arrays.stream(sizes.split(","))
+            .map(String::trim)
+            .map(Integer::parseInt)
+            .toList();
+        if (parsed.stream().anyMatch(size -> size <= 0)) {
+            throw new IllegalArgumentException("Thumbnail size must be positive");
+        }
+        return parsed;
+    }
+
+    public List<Integer> getSizes() { return sizes; }
+
+    public boolean supports(int size) { return sizes.contains(size); }
+
+    public void submit(Runnable task) {
+        executor.execute(task);
+    }
+
+    public byte[] resize(byte[] original, int size, String format) {
+        BufferedImage source;
+        try {
+            source = ImageIO.read(new ByteArrayInputStream(original));
+        } catch (IOException ex) {
+            throw new InvalidFileException("Cannot read image", ex);
+        }
+        if (source == null) {
+            throw new InvalidFileException("Unsupported image content");
+        }
+
+        double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+        int width  = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        boolean alpha = format.equals("png");
+        BufferedImage scaled = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            scaled = draw(scaled, currentWidth, currentHeight, alpha);
+        } while (currentWidth != width || currentHeight != height);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            if (!ImageIO.write(scaled, format, out)) {
+                throw new InvalidFileException("Unsupported image format: " + format);
+            }
+        } catch (IOException ex) {
+            throw new FileStorageException("Cannot encode thumbnail", ex);
+        }
+        return out.toByteArray();
+    }
+
+    private BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(
+            width, height, alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB
+        );
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,186 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("FileDocumentRepository Tests")
+class FileDocumentRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    private FileDocumentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = open(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    private FileDocumentRepository open(int compactAfter) {
+        return new FileDocumentRepository(tempDir.toString(), compactAfter, false);
+    }
+
+    private FileDocumentRepository reopen() {
+        repository.close();
+        repository = open(1000);
+        return repository;
+    }
+
+    private EmployeeDocument document(String id, String email, String digest) {
+        return new EmployeeDocument(
+            id, email, id + "_contract.pdf", "contract.pdf", DocumentType.CONTRACT,
+            LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789), "/uploads/documents/" + email + "/" + id, digest
+        );
+    }
+
+    @Nested
+    @DisplayName("Lookup Tests")
+    class LookupTests {
+
+        @Test
+        @DisplayName("Should find saved document by id and employee")
+        void shouldFindSavedDocument() {
+            EmployeeDocument saved = document("doc-1", "john@techcorp.com", "abc");
+            repository.save(saved);
+
+            assertSame(saved, repository.findById("doc-1").orElseThrow());
+            assertEquals(List.of(saved), repository.findByEmployeeEmail("john@techcorp.com"));
+            assertTrue(repository.findByEmployeeEmail("jane@techcorp.com").isEmpty());
+            assertEquals(1, repository.count());
+        }
+
+        @Test
+        @DisplayName("Should remove deleted document from both indexes")
+        void shouldRemoveDeletedDocument() {
+            repository.save(document("doc-1", "john@techcorp.com", null));
+            repository.save(document("doc-2", "john@techcorp.com", null));
+
+            assertTrue(repository.deleteById("doc-1"));
+            assertFalse(repository.deleteById("doc-1"));
+
+            assertTrue(repository.findById("doc-1").isEmpty());
+            assertEquals(List.of("doc-2"),
+                repository.findByEmployeeEmail("john@techcorp.com").stream().map(EmployeeDocument::getId).toList());
+        }
+
+        @Test
+        @DisplayName("Should keep per-employee lists consistent under concurrent writes")
+        void shouldHandleConcurrentWrites() throws Exception {
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    String id = "doc-" + i;
+                    futures.add(executor.submit(() -> repository.save(document(id, "john@techcorp.com", null))));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(400, repository.findByEmployeeEmail("john@techcorp.com").size());
+            assertEquals(400, reopen().findByEmployeeEmail("john@techcorp.com").size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Should recover documents and deletions from the log")
+        void shouldRecoverFromLog() {
+            repository.save(document("doc-1", "john@techcorp.com", "abc"));
+            repository.save(document("doc-2", "jane@techcorp.com", null));
+            repository.deleteById("doc-2");
+
+            FileDocumentRepository recovered = reopen();
+
+            EmployeeDocument document = recovered.findById("doc-1").orElseThrow();
+            assertEquals("john@techcorp.com", document.getEmployeeEmail());
+            assertEquals("doc-1_contract.pdf", document.getFileName());
+            assertEquals("contract.pdf", document.getOriginalFileName());
+            assertEquals(DocumentType.CONTRACT, document.getFileType());
+            assertEquals(LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789), document.getUploadDate());
+            assertEquals("/uploads/documents/john@techcorp.com/doc-1", document.getFilePath());
+            assertEquals("abc", document.getDigest());
+            assertTrue(recovered.findById("doc-2").isEmpty());
+            assertEquals(1, recovered.count());
+        }
+
+        @Test
+        @DisplayName("Should recover from snapshot and truncate the log after compaction")
+        void shouldRecoverFromSnapshot() throws IOException {
+            repository.save(document("doc-1", "john@techcorp.com", null));
+            repository.save(document("doc-2", "john@techcorp.com", null));
+            repository.compact();
+            repository.save(document("doc-3", "john@techcorp.com", null));
+
+            assertTrue(Files.exists(tempDir.resolve(FileDocumentRepository.SNAPSHOT_FILE)));
+
+            FileDocumentRepository recovered = reopen();
+
+            assertEquals(3, recovered.count());
+            assertEquals(3, recovered.findByEmployeeEmail("john@techcorp.com").size());
+        }
+
+        @Test
+        @DisplayName("Should compact automatically once the log reaches the threshold")
+        void shouldCompactAutomatically() throws IOException {
+            repository.close();
+            repository = open(3);
+
+            for (int i = 0; i < 3; i++) {
+                repository.save(document("doc-" + i, "john@techcorp.com", null));
+            }
+
+            assertEquals(0, Files.size(tempDir.resolve(FileDocumentRepository.LOG_FILE)));
+            assertEquals(3, reopen().count());
+        }
+
+        @Test
+        @DisplayName("Should discard a torn record at the end of the log")
+        void shouldDiscardTornRecord() throws IOException {
+            repository.save(document("doc-1", "john@techcorp.com", null));
+            repository.close();
+
+            Path log = tempDir.resolve(FileDocumentRepository.LOG_FILE);
+            long validLength = Files.size(log);
+            Files.write(log, new byte[] {0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+
+            repository = open(1000);
+
+            assertEquals(1, repository.count());
+            assertEquals(validLength, Files.size(log));
+
+            repository.save(document("doc-2", "john@techcorp.com", null));
+            assertEquals(2, reopen().count());
+        }
+    }
+}
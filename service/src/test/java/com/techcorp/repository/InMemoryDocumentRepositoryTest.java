@@ -0,0 +1,120 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InMemoryDocumentRepository Tests")
+class InMemoryDocumentRepositoryTest {
+
+    private static final String EMAIL = "john@techcorp.com";
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    private InMemoryDocumentRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryDocumentRepository();
+        // doc-0 is the oldest, doc-5 the newest; even days are contracts.
+        for (int day = 0; day < 6; day++) {
+            repository.save(document("doc-" + day, day % 2 == 0 ? DocumentType.CONTRACT : DocumentType.CERTIFICATE,
+                BASE.plusDays(day)));
+        }
+        repository.save(document("other", DocumentType.CONTRACT, BASE.plusDays(10), "jane@techcorp.com"));
+    }
+
+    private EmployeeDocument document(String id, DocumentType type, LocalDateTime uploadDate) {
+        return document(id, type, uploadDate, EMAIL);
+    }
+
+    private EmployeeDocument document(String id, DocumentType type, LocalDateTime uploadDate, String email) {
+        return new EmployeeDocument(
+            id, email, id + ".pdf", id + ".pdf", type, uploadDate, "/uploads/documents/" + email + "/" + id
+        );
+    }
+
+    private List<String> ids(DocumentQuery query) {
+        return repository.findByQuery(query).stream().map(EmployeeDocument::getId).toList();
+    }
+
+    private DocumentQuery query(DocumentType type, LocalDateTime from, LocalDateTime to, int limit) {
+        return new DocumentQuery(EMAIL, type, from, to, null, null, limit);
+    }
+
+    @Test
+    @DisplayName("Should list an employee's documents newest first")
+    void shouldListNewestFirst() {
+        assertEquals(List.of("doc-5", "doc-4", "doc-3", "doc-2", "doc-1", "doc-0"),
+            repository.findByEmployeeEmail(EMAIL).stream().map(EmployeeDocument::getId).toList());
+        assertEquals(List.of("doc-5", "doc-4"), ids(query(null, null, null, 2)));
+    }
+
+    @Test
+    @DisplayName("Should filter by type without touching other partitions")
+    void shouldFilterByType() {
+        assertEquals(List.of("doc-4", "doc-2", "doc-0"), ids(query(DocumentType.CONTRACT, null, null, 10)));
+        assertTrue(ids(query(DocumentType.ID_CARD, null, null, 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should treat from as inclusive and to as exclusive")
+    void shouldFilterByUploadDateRange() {
+        assertEquals(List.of("doc-3", "doc-2"), ids(query(null, BASE.plusDays(2), BASE.plusDays(4), 10)));
+        assertEquals(List.of("doc-1", "doc-0"), ids(query(null, null, BASE.plusDays(2), 10)));
+        assertEquals(List.of("doc-5", "doc-4"), ids(query(null, BASE.plusDays(4), null, 10)));
+        assertEquals(List.of("doc-2"), ids(query(DocumentType.CONTRACT, BASE.plusDays(1), BASE.plusDays(3), 10)));
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor document")
+    void shouldContinueAfterCursor() {
+        EmployeeDocument last = repository.findById("doc-4").orElseThrow();
+
+        assertEquals(List.of("doc-3", "doc-2"), ids(new DocumentQuery(
+            EMAIL, null, null, null, last.getUploadDate(), last.getId(), 2
+        )));
+        assertEquals(List.of("doc-2", "doc-0"), ids(new DocumentQuery(
+            EMAIL, DocumentType.CONTRACT, null, null, last.getUploadDate(), last.getId(), 10
+        )));
+        assertEquals(List.of("doc-3", "doc-2"), ids(new DocumentQuery(
+            EMAIL, null, BASE.plusDays(2), BASE.plusDays(5), last.getUploadDate(), last.getId(), 10
+        )));
+        assertTrue(ids(new DocumentQuery(
+            EMAIL, null, BASE.plusDays(4), null, last.getUploadDate(), last.getId(), 10
+        )).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should break upload date ties by id")
+    void shouldBreakTiesById() {
+        repository.save(document("doc-3a", DocumentType.OTHER, BASE.plusDays(3)));
+
+        assertEquals(List.of("doc-3", "doc-3a", "doc-2"), ids(query(null, BASE.plusDays(2), BASE.plusDays(4), 10)));
+    }
+
+    @Test
+    @DisplayName("Should move a re-saved document to its new partition")
+    void shouldReindexOnSave() {
+        repository.save(document("doc-4", DocumentType.OTHER, BASE.plusDays(4)));
+
+        assertEquals(List.of("doc-2", "doc-0"), ids(query(DocumentType.CONTRACT, null, null, 10)));
+        assertEquals(List.of("doc-4"), ids(query(DocumentType.OTHER, null, null, 10)));
+        assertEquals(6, repository.findByEmployeeEmail(EMAIL).size());
+    }
+
+    @Test
+    @DisplayName("Should forget employees whose documents were all deleted")
+    void shouldForgetEmptyEmployees() {
+        assertTrue(repository.deleteById("other"));
+
+        assertTrue(repository.findByEmployeeEmail("jane@techcorp.com").isEmpty());
+        assertTrue(repository.findByQuery(new DocumentQuery("jane@techcorp.com", null, null, null, null, null, 10)).isEmpty());
+    }
+}
@@ -0,0 +1,139 @@
+package com.techcorp.repository;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JdbcDocumentRepository Tests")
+class JdbcDocumentRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123456789);
+
+    private EmbeddedDatabase database;
+    private JdbcDocumentRepository repository;
+    private InMemoryDocumentRepository reference;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        repository = new JdbcDocumentRepository(database);
+        reference = new InMemoryDocumentRepository();
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private EmployeeDocument document(String id, String email, DocumentType type, LocalDateTime uploadDate) {
+        return new EmployeeDocument(
+            id, email, id + ".pdf", "scan.pdf", type, uploadDate, "/uploads/documents/" + email + "/" + id, "digest-" + id
+        );
+    }
+
+    private void saveBoth(EmployeeDocument document) {
+        repository.save(document);
+        reference.save(document);
+    }
+
+    private List<String> ids(List<EmployeeDocument> documents) {
+        return documents.stream().map(EmployeeDocument::getId).toList();
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Should round-trip every field, including nanoseconds")
+        void shouldRoundTripDocument() {
+            EmployeeDocument saved = document("doc-1", "anna@techcorp.com", DocumentType.CONTRACT, BASE);
+            repository.save(saved);
+
+            EmployeeDocument loaded = repository.findById("doc-1").orElseThrow();
+
+            assertEquals("anna@techcorp.com", loaded.getEmployeeEmail());
+            assertEquals("doc-1.pdf", loaded.getFileName());
+            assertEquals("scan.pdf", loaded.getOriginalFileName());
+            assertEquals(DocumentType.CONTRACT, loaded.getFileType());
+            assertEquals(BASE, loaded.getUploadDate());
+            assertEquals(saved.getFilePath(), loaded.getFilePath());
+            assertEquals("digest-doc-1", loaded.getDigest());
+            assertTrue(repository.findById("missing").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should overwrite by id and delete")
+        void shouldOverwriteAndDelete() {
+            repository.save(document("doc-1", "anna@techcorp.com", DocumentType.CONTRACT, BASE));
+            repository.save(document("doc-1", "anna@techcorp.com", DocumentType.CERTIFICATE, BASE));
+            repository.save(document("doc-2", "tom@techcorp.com", DocumentType.CONTRACT, BASE));
+
+            assertEquals(2, repository.count());
+            assertEquals(DocumentType.CERTIFICATE, repository.findById("doc-1").orElseThrow().getFileType());
+            assertTrue(repository.deleteById("doc-1"));
+            assertFalse(repository.deleteById("doc-1"));
+            assertEquals(List.of("doc-2"), ids(repository.findAll()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Paging Tests")
+    class PagingTests {
+
+        @BeforeEach
+        void setUpDocuments() {
+            DocumentType[] types = {DocumentType.CONTRACT, DocumentType.CERTIFICATE};
+            for (int i = 0; i < 12; i++) {
+                // Pairs of documents share an upload date, so ties fall back to the id.
+                saveBoth(document("doc-" + (char) ('a' + i), "anna@techcorp.com", types[i % 2], BASE.plusMinutes(i / 2)));
+            }
+            saveBoth(document("doc-other", "tom@techcorp.com", DocumentType.CONTRACT, BASE));
+        }
+
+        @Test
+        @DisplayName("Should list newest first like the in-memory index")
+        void shouldListNewestFirst() {
+            assertEquals(ids(reference.findByEmployeeEmail("anna@techcorp.com")),
+                ids(repository.findByEmployeeEmail("anna@techcorp.com")));
+        }
+
+        @Test
+        @DisplayName("Should walk keyset pages with filters exactly as the in-memory index")
+        void shouldMatchInMemoryPages() {
+            for (DocumentType type : new DocumentType[] {null, DocumentType.CONTRACT}) {
+                for (LocalDateTime from : new LocalDateTime[] {null, BASE.plusMinutes(1)}) {
+                    LocalDateTime to = from == null ? null : BASE.plusMinutes(5);
+                    EmployeeDocument after = null;
+                    while (true) {
+                        DocumentQuery query = new DocumentQuery(
+                            "anna@techcorp.com", type, from, to,
+                            after == null ? null : after.getUploadDate(), after == null ? null : after.getId(), 3
+                        );
+                        List<EmployeeDocument> page = repository.findByQuery(query);
+                        assertEquals(ids(reference.findByQuery(query)), ids(page));
+                        if (page.size() < 3) {
+                            break;
+                        }
+                        after = page.get(page.size() - 1);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.techcorp.service;
+
+import com.techcorp.model.BulkUploadItemResult;
+import com.techcorp.model.BulkUploadResult;
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("BulkDocumentService Tests")
+class BulkDocumentServiceTest {
+
+    @Mock
+    private DocumentService documentService;
+
+    private BulkDocumentService bulkDocumentService;
+
+    // Content of every stored file keyed by original file name, as read by the workers.
+    private final Map<String, String> stored = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        bulkDocumentService = new BulkDocumentService(documentService, 4, DataSize.ofMegabytes(512));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bulkDocumentService.shutdown();
+    }
+
+    private void storeFiles() {
+        when(documentService.saveDocument(anyString(), any(), any())).thenAnswer(invocation -> {
+            MultipartFile file = invocation.getArgument(1);
+            stored.put(file.getOriginalFilename(), new String(file.getBytes(), StandardCharsets.UTF_8));
+            return new EmployeeDocument(
+                invocation.getArgument(0), "uuid_" + file.getOriginalFilename(), file.getOriginalFilename(),
+                invocation.getArgument(2), "/uploads/documents/" + file.getOriginalFilename(), null
+            );
+        });
+    }
+
+    private MockMultipartFile zip(Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                zip.putNextEntry(new ZipEntry(entry.getKey()));
+                zip.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return new MockMultipartFile("archive", "batch.zip", "application/zip", bytes.toByteArray());
+    }
+
+    private MockMultipartFile manifest(String content) {
+        return new MockMultipartFile("manifest", "manifest.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("Manifest Tests")
+    class ManifestTests {
+
+        @Test
+        @DisplayName("Should skip header, blank lines and comments keeping line numbers")
+        void shouldParseManifest() throws IOException {
+            List<BulkDocumentService.ManifestEntry> entries = BulkDocumentService.parseManifest(new ByteArrayInputStream((
+                "file,email,type\n"
+                + "\n"
+                + "# contracts\n"
+                + "contract.pdf, john@techcorp.com ,contract\n"
+                + "broken.pdf,john@techcorp.com\n"
+            ).getBytes(StandardCharsets.UTF_8)));
+
+            assertEquals(2, entries.size());
+            assertEquals(new BulkDocumentService.ManifestEntry(4, "contract.pdf", "john@techcorp.com", "contract", null),
+                entries.get(0));
+            assertEquals(5, entries.get(1).line());
+            assertNotNull(entries.get(1).error());
+        }
+    }
+
+    @Nested
+    @DisplayName("Archive Upload Tests")
+    class ArchiveUploadTests {
+
+        @Test
+        @DisplayName("Should store every archive entry listed in the manifest")
+        void shouldStoreArchiveEntries() throws IOException {
+            storeFiles();
+            StringBuilder manifest = new StringBuilder("file,email,type\n");
+            Map<String, String> entries = new LinkedHashMap<>();
+            for (int i = 0; i < 20; i++) {
+                manifest.append("doc-").append(i).append(".pdf,john@techcorp.com,CERTIFICATE\n");
+                entries.put("doc-" + i + ".pdf", "content " + i);
+            }
+            entries.put(BulkDocumentService.MANIFEST_NAME, manifest.toString());
+
+            BulkUploadResult result = bulkDocumentService.uploadArchive(zip(entries));
+
+            assertEquals(20, result.getSuccessCount());
+            assertEquals(0, result.getFailureCount());
+            assertEquals(2, result.getItems().get(0).getLine());
+            assertNotNull(result.getItems().get(0).getDocumentId());
+            assertEquals("content 7", stored.get("doc-7.pdf"));
+            verify(documentService, times(20)).saveDocument(eq("john@techcorp.com"), any(), eq(DocumentType.CERTIFICATE));
+        }
+
+        @Test
+        @DisplayName("Should report missing files and bad types per item")
+        void shouldReportItemFailures() throws IOException {
+            storeFiles();
+            BulkUploadResult result = bulkDocumentService.uploadArchive(zip(Map.of(
+                BulkDocumentService.MANIFEST_NAME,
+                "contract.pdf,john@techcorp.com,CONTRACT\nmissing.pdf,john@techcorp.com,CONTRACT\ncontract.pdf,john@techcorp.com,PAYSLIP\n",
+                "contract.pdf", "contract"
+            )));
+
+            List<BulkUploadItemResult> items = result.getItems();
+            assertEquals(1, result.getSuccessCount());
+            assertTrue(items.get(0).isSuccess());
+            assertEquals("File not found in batch: missing.pdf", items.get(1).getError());
+            assertFalse(items.get(2).isSuccess());
+        }
+
+        @Test
+        @DisplayName("Should strip directories from archive entry names")
+        void shouldStripEntryDirectories() throws IOException {
+            storeFiles();
+            BulkUploadResult result = bulkDocumentService.uploadArchive(zip(Map.of(
+                BulkDocumentService.MANIFEST_NAME, "docs/../contract.pdf,john@techcorp.com,CONTRACT\n",
+                "docs/../contract.pdf", "contract"
+            )));
+
+            assertEquals(1, result.getSuccessCount());
+            assertEquals(Map.of("contract.pdf", "contract"), stored);
+        }
+
+        @Test
+        @DisplayName("Should accept a raw archive stream")
+        void shouldUploadArchiveStream() throws IOException {
+            storeFiles();
+            MockMultipartFile archive = zip(Map.of(
+                BulkDocumentService.MANIFEST_NAME, "contract.pdf,john@techcorp.com,CONTRACT\n",
+                "contract.pdf", "contract"
+            ));
+
+            BulkUploadResult result = bulkDocumentService.uploadArchive(archive.getInputStream());
+
+            assertEquals(1, result.getSuccessCount());
+            assertEquals(Map.of("contract.pdf", "contract"), stored);
+            assertThrows(IllegalArgumentException.class,
+                () -> bulkDocumentService.uploadArchive(new ByteArrayInputStream(new byte[0])));
+        }
+
+        @Test
+        @DisplayName("Should reject an archive stream over the size limit")
+        void shouldRejectOversizedArchiveStream() throws IOException {
+            BulkDocumentService limited = new BulkDocumentService(documentService, 1, DataSize.ofBytes(16));
+            try {
+                assertThrows(MaxUploadSizeExceededException.class,
+                    () -> limited.uploadArchive(new ByteArrayInputStream(new byte[17])));
+                verifyNoInteractions(documentService);
+            } finally {
+                limited.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep going when storing one item fails")
+        void shouldIsolateStorageFailures() throws IOException {
+            when(documentService.saveDocument(eq("john@techcorp.com"), any(), any()))
+                .thenReturn(new EmployeeDocument("john@techcorp.com", "uuid_a.pdf", "a.pdf",
+                    DocumentType.CONTRACT, "/uploads/documents/a.pdf", null));
+            when(documentService.saveDocument(eq("jane@techcorp.com"), any(), any()))
+                .thenThrow(new IllegalStateException("disk full"));
+
+            BulkUploadResult result = bulkDocumentService.uploadArchive(zip(Map.of(
+                BulkDocumentService.MANIFEST_NAME, "a.pdf,john@techcorp.com,CONTRACT\na.pdf,jane@techcorp.com,CONTRACT\n",
+                "a.pdf", "a"
+            )));
+
+            assertEquals(1, result.getSuccessCount());
+            assertEquals("disk full", result.getItems().get(1).getError());
+        }
+
+        @Test
+        @DisplayName("Should reject archives without a manifest or that are not ZIP files")
+        void shouldRejectInvalidArchives() throws IOException {
+            MockMultipartFile noManifest = zip(Map.of("contract.pdf", "contract"));
+            MockMultipartFile notZip = new MockMultipartFile("archive", "batch.zip", "application/zip", "nope".getBytes());
+
+            assertThrows(IllegalArgumentException.class, () -> bulkDocumentService.uploadArchive(noManifest));
+            assertThrows(IllegalArgumentException.class, () -> bulkDocumentService.uploadArchive(notZip));
+            verifyNoInteractions(documentService);
+        }
+    }
+
+    @Nested
+    @DisplayName("Multipart Upload Tests")
+    class MultipartUploadTests {
+
+        @Test
+        @DisplayName("Should match parts to manifest lines by file name")
+        void shouldStoreMultipartFiles() {
+            storeFiles();
+            BulkUploadResult result = bulkDocumentService.upload(
+                manifest("id.png,john@techcorp.com,ID_CARD\ncontract.pdf,jane@techcorp.com,contract\n"),
+                List.of(
+                    new MockMultipartFile("files", "contract.pdf", "application/pdf", "contract".getBytes()),
+                    new MockMultipartFile("files", "id.png", "image/png", "id".getBytes())
+                )
+            );
+
+            assertEquals(2, result.getSuccessCount());
+            assertEquals("id.png", result.getItems().get(0).getFileName());
+            assertEquals("jane@techcorp.com", result.getItems().get(1).getEmail());
+            verify(documentService).saveDocument(eq("john@techcorp.com"), any(), eq(DocumentType.ID_CARD));
+        }
+
+        @Test
+        @DisplayName("Should require a manifest")
+        void shouldRequireManifest() {
+            assertThrows(IllegalArgumentException.class, () -> bulkDocumentService.upload(null, List.of()));
+        }
+    }
+}
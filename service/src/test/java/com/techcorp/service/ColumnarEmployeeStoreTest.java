@@ -0,0 +1,156 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ColumnarEmployeeStore Tests")
+class ColumnarEmployeeStoreTest {
+
+    private ColumnarEmployeeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarEmployeeStore();
+        store.save(new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+        store.save(new Employee("Brown", "Tom", "tom@techcorp.com", "TechCorp", Role.MANAGER, 12000,
+            EmploymentStatus.ON_LEAVE, "tom.jpg"));
+        store.save(new Employee("Green", "Eve", "eve@innovate.com", "Innovate", Role.INTERN, 3000));
+    }
+
+    private List<String> emails(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmailAddress).toList();
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should materialize every column of a row")
+        void shouldMaterializeRows() {
+            Employee tom = store.findByEmail("TOM@techcorp.com").orElseThrow();
+
+            assertEquals("Tom Brown", tom.getFullName());
+            assertEquals("TechCorp", tom.getCompanyName());
+            assertEquals(Role.MANAGER, tom.getRole());
+            assertEquals(12000, tom.getSalary());
+            assertEquals(EmploymentStatus.ON_LEAVE, tom.getStatus());
+            assertEquals("tom.jpg", tom.getPhotoFileName());
+            assertTrue(store.findByEmail("nobody@techcorp.com").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should filter by company ignoring case and by status")
+        void shouldFilterColumns() {
+            assertEquals(List.of("anna@techcorp.com", "tom@techcorp.com"), emails(store.findByCompanyName("techcorp")));
+            assertEquals(List.of("tom@techcorp.com"), emails(store.findByStatus(EmploymentStatus.ON_LEAVE)));
+            assertEquals(3, store.count());
+        }
+
+        @Test
+        @DisplayName("Should aggregate company statistics from the columns")
+        void shouldComputeCompanyStatistics() {
+            store.save(new Employee("White", "Ian", "ian@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+
+            Map<String, CompanyStatistics> statistics = store.getCompanyStatistics(EmploymentStatus.ACTIVE);
+
+            assertEquals(2, statistics.size());
+            CompanyStatistics techCorp = statistics.get("TechCorp");
+            assertEquals(2, techCorp.getEmployeesCount());
+            assertEquals(8000, techCorp.getHighestSalary());
+            assertEquals(8000.0, techCorp.getAverageSalary(), 0.001);
+            assertEquals("Anna Smith", techCorp.getTopEarnerName());
+        }
+    }
+
+    @Nested
+    @DisplayName("Salary Aggregate Tests")
+    class SalaryAggregateTests {
+
+        @Test
+        @DisplayName("Should aggregate salaries with either kernel set and skip removed rows")
+        void shouldAggregateSalaries() {
+            for (SalaryKernels kernels : new SalaryKernels[] {new ScalarSalaryKernels(), SalaryKernels.create()}) {
+                ColumnarEmployeeStore salaries = new ColumnarEmployeeStore(kernels);
+                salaries.save(new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 7000));
+                salaries.save(new Employee("Brown", "Tom", "tom@techcorp.com", "TechCorp", Role.MANAGER, 30000));
+                salaries.save(new Employee("Green", "Eve", "eve@innovate.com", "Innovate", Role.INTERN, 2000));
+                salaries.save(new Employee("White", "Ian", "ian@innovate.com", "Innovate", Role.CEO, 26000));
+                salaries.deleteByEmail("tom@techcorp.com");
+
+                assertEquals(35000 / 3.0, salaries.getAverageSalary(), 0.001);
+                assertEquals(26000, salaries.getHighestSalary());
+                assertEquals(List.of("anna@techcorp.com", "eve@innovate.com"), emails(salaries.findBelowBaseSalary()));
+            }
+            assertEquals(0.0, new ColumnarEmployeeStore().getAverageSalary());
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should overwrite rows in place on save and replace")
+        void shouldOverwriteRows() {
+            Employee anna = store.findByEmail("anna@techcorp.com").orElseThrow();
+            anna.setSalary(9000);
+            store.save(anna);
+            assertTrue(store.replace("tom@techcorp.com",
+                new Employee("Black", "Tim", "tim@techcorp.com", "TechCorp", Role.ENGINEER, 7000)));
+
+            assertEquals(9000, store.findByEmail("anna@techcorp.com").orElseThrow().getSalary());
+            assertTrue(store.findByEmail("tom@techcorp.com").isEmpty());
+            assertEquals(List.of("anna@techcorp.com", "tim@techcorp.com", "eve@innovate.com"), emails(store.findAll()));
+            assertFalse(store.replace("tom@techcorp.com", anna));
+        }
+
+        @Test
+        @DisplayName("Should keep insertion order across deletes and compaction")
+        void shouldCompactDeletedRows() {
+            for (int i = 0; i < 200; i++) {
+                store.save(new Employee("Temp", "Worker", "temp" + i + "@techcorp.com", "TechCorp", Role.INTERN, 3000));
+            }
+            for (int i = 0; i < 200; i++) {
+                assertTrue(store.deleteByEmail("temp" + i + "@techcorp.com"));
+            }
+            assertTrue(store.deleteByEmail("anna@techcorp.com"));
+            assertFalse(store.deleteByEmail("anna@techcorp.com"));
+            store.save(new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+
+            assertEquals(List.of("tom@techcorp.com", "eve@innovate.com", "anna@techcorp.com"), emails(store.findAll()));
+            assertEquals(12000, store.findByEmail("tom@techcorp.com").orElseThrow().getSalary());
+        }
+
+        @Test
+        @DisplayName("Should keep names intact while renamed rows are moved to a fresh arena")
+        void shouldCompactRenamedText() {
+            String email = "eve@innovate.com";
+            for (int i = 0; i < 3000; i++) {
+                String next = "żaneta" + i + "@innovate.com";
+                assertTrue(store.replace(email, new Employee("Łęcka" + i, "Żaneta", next, "Innovate", Role.INTERN,
+                    3000, EmploymentStatus.ACTIVE, i % 2 == 0 ? null : "photo" + i + ".jpg")));
+                email = next;
+            }
+
+            Employee renamed = store.findByEmail(email).orElseThrow();
+            assertEquals("Żaneta Łęcka2999", renamed.getFullName());
+            assertEquals("photo2999.jpg", renamed.getPhotoFileName());
+            assertTrue(store.findByEmail("eve@innovate.com").isEmpty());
+            assertEquals("tom.jpg", store.findByEmail("tom@techcorp.com").orElseThrow().getPhotoFileName());
+            assertNull(store.findByEmail("anna@techcorp.com").orElseThrow().getPhotoFileName());
+            assertEquals(List.of("anna@techcorp.com", "tom@techcorp.com", email), emails(store.findAll()));
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CompanyStatisticsCollector Tests")
+class CompanyStatisticsCollectorTest {
+
+    @Test
+    @DisplayName("Should compute count, average, highest salary and top earner in one pass")
+    void shouldAggregatePerCompany() {
+        List<Employee> employees = List.of(
+            new Employee("Baggins", "Frodo", "frodo@techcorp.com", "TechCorp", Role.ENGINEER, 8000),
+            new Employee("Gamgee", "Sam", "sam@techcorp.com", "TechCorp", Role.ENGINEER, 9000),
+            new Employee("Took", "Pippin", "pippin@techcorp.com", "TechCorp", Role.ENGINEER, 9000),
+            new Employee("Scrubb", "Eustace", "eustace@innovate.com", "Innovate", Role.MANAGER, 12000)
+        );
+
+        Map<String, CompanyStatistics> statistics = employees.stream()
+            .collect(CompanyStatisticsCollector.toCompanyStatistics());
+
+        CompanyStatistics techCorp = statistics.get("TechCorp");
+        assertEquals(3, techCorp.getEmployeesCount());
+        assertEquals(8666.67, techCorp.getAverageSalary(), 0.01);
+        assertEquals(9000, techCorp.getHighestSalary());
+        assertEquals("Sam Gamgee", techCorp.getTopEarnerName());
+        assertEquals("Eustace Scrubb", statistics.get("Innovate").getTopEarnerName());
+    }
+
+    @Test
+    @DisplayName("Should give the same result in parallel, including ties for top earner")
+    void shouldMatchSequentialResultInParallel() {
+        Random random = new Random(5);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            employees.add(new Employee(
+                "Last" + i, "First", "employee" + i + "@techcorp.com",
+                "Company" + random.nextInt(20), Role.ENGINEER, 1000 * (1 + random.nextInt(10))
+            ));
+        }
+
+        Map<String, CompanyStatistics> sequential = employees.stream()
+            .collect(CompanyStatisticsCollector.toCompanyStatistics());
+        Map<String, CompanyStatistics> parallel = employees.parallelStream()
+            .collect(CompanyStatisticsCollector.toCompanyStatistics());
+
+        assertEquals(sequential.keySet(), parallel.keySet());
+        sequential.forEach((company, expected) -> {
+            CompanyStatistics actual = parallel.get(company);
+            assertEquals(expected.getEmployeesCount(), actual.getEmployeesCount());
+            assertEquals(expected.getAverageSalary(), actual.getAverageSalary(), 1e-9);
+            assertEquals(expected.getHighestSalary(), actual.getHighestSalary());
+            assertEquals(expected.getTopEarnerName(), actual.getTopEarnerName());
+        });
+    }
+}
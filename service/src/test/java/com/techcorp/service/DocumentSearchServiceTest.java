@@ -0,0 +1,130 @@
+package com.techcorp.service;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import com.techcorp.model.DocumentSearchHit;
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.repository.InMemoryDocumentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DocumentSearchService Tests")
+class DocumentSearchServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private InMemoryDocumentRepository repository;
+    private DocumentSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryDocumentRepository();
+        searchService = new DocumentSearchService(repository, new DocumentTextExtractor(), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        searchService.shutdown();
+    }
+
+    private Path pdf(String name, String... pages) throws IOException {
+        Path path = tempDir.resolve(name);
+        try (Document document = new Document(new PdfDocument(new PdfWriter(path.toString())))) {
+            for (int i = 0; i < pages.length; i++) {
+                if (i > 0) {
+                    document.add(new AreaBreak());
+                }
+                document.add(new Paragraph(pages[i]));
+            }
+        }
+        return path;
+    }
+
+    private EmployeeDocument save(String id, String email, DocumentType type, Path path) {
+        EmployeeDocument document = new EmployeeDocument(
+            id, email, path.getFileName().toString(), path.getFileName().toString(),
+            type, LocalDateTime.now(), path.toString()
+        );
+        repository.save(document);
+        return document;
+    }
+
+    @Test
+    @DisplayName("Should find contracts by clause text across pages")
+    void shouldFindContractsByClause() throws IOException {
+        searchService.index(save("doc-1", "john@techcorp.com", DocumentType.CONTRACT,
+            pdf("uuid1_contract.pdf", "Employment contract", "The non-compete clause applies for twelve months.")));
+        searchService.index(save("doc-2", "jane@techcorp.com", DocumentType.CONTRACT,
+            pdf("uuid2_contract.pdf", "Employment contract without restrictions.")));
+
+        List<DocumentSearchHit> hits = searchService.search("\"non-compete clause\"", 10);
+
+        assertEquals(1, hits.size());
+        assertEquals("doc-1", hits.get(0).getDocument().getId());
+        assertEquals("john@techcorp.com", hits.get(0).getDocument().getEmployeeEmail());
+        assertEquals(2, searchService.search("employment contract", 10).size());
+    }
+
+    @Test
+    @DisplayName("Should only index contract and certificate PDFs")
+    void shouldOnlyIndexSearchableDocuments() throws IOException {
+        Path path = pdf("uuid1_id.pdf", "Identity card");
+
+        assertFalse(searchService.isSearchable(save("doc-1", "john@techcorp.com", DocumentType.ID_CARD, path)));
+        assertTrue(searchService.isSearchable(save("doc-2", "john@techcorp.com", DocumentType.CERTIFICATE, path)));
+        assertFalse(searchService.isSearchable(save("doc-3", "john@techcorp.com", DocumentType.CONTRACT,
+            Files.writeString(tempDir.resolve("uuid3_notes.txt"), "Identity card"))));
+    }
+
+    @Test
+    @DisplayName("Should index submitted documents in the background")
+    void shouldIndexInBackground() throws Exception {
+        searchService.submit(save("doc-1", "john@techcorp.com", DocumentType.CERTIFICATE,
+            pdf("uuid1_certificate.pdf", "Certificate of completion")));
+
+        for (int attempt = 0; attempt < 100 && searchService.getPendingCount() > 0; attempt++) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(1, searchService.getIndexedCount());
+        assertEquals("doc-1", searchService.search("completion", 10).get(0).getDocument().getId());
+    }
+
+    @Test
+    @DisplayName("Should skip deleted documents and unreadable files")
+    void shouldSkipDeletedAndUnreadableDocuments() throws IOException {
+        EmployeeDocument deleted = save("doc-1", "john@techcorp.com", DocumentType.CONTRACT,
+            pdf("uuid1_contract.pdf", "Severance clause"));
+        repository.deleteById(deleted.getId());
+        searchService.index(deleted);
+
+        searchService.index(save("doc-2", "john@techcorp.com", DocumentType.CONTRACT,
+            Files.writeString(tempDir.resolve("uuid2_broken.pdf"), "not a pdf")));
+
+        assertEquals(0, searchService.getIndexedCount());
+        assertTrue(searchService.search("severance", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject blank queries")
+    void shouldRejectBlankQuery() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(" ", 10));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("clause", 0));
+    }
+}
@@ -1,7 +1,9 @@
 package com.techcorp.service;
 
+import com.techcorp.model.DocumentPage;
 import com.techcorp.model.DocumentType;
 import com.techcorp.model.EmployeeDocument;
+import com.techcorp.repository.InMemoryDocumentRepository;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
@@ -9,11 +11,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,6 +34,9 @@ class DocumentServiceTest {
     @Mock
     private FileStorageService fileStorageService;
 
+    @Mock
+    private DocumentSearchService documentSearchService;
+
     private DocumentService documentService;
 
     @TempDir
@@ -31,7 +44,7 @@ class DocumentServiceTest {
 
     @BeforeEach
     void setUp() {
-        documentService = new DocumentService(fileStorageService);
+        documentService = new DocumentService(fileStorageService, new InMemoryDocumentRepository(), documentSearchService);
     }
 
     @AfterEach
@@ -53,8 +66,8 @@ class DocumentServiceTest {
                 "contract content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_contract.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf", null));
 
             EmployeeDocument document = documentService.saveDocument(
                 "john@techcorp.com", file, DocumentType.CONTRACT
@@ -68,7 +81,7 @@ class DocumentServiceTest {
             assertNotNull(document.getUploadDate());
             assertTrue(document.getFileName().endsWith("contract.pdf"));
             
-            verify(fileStorageService, times(1)).saveFile(any(), eq("uploads/documents/john@techcorp.com"));
+            verify(fileStorageService, times(1)).storeFile(any(), eq("uploads/documents/john@techcorp.com"));
         }
 
         @Test
@@ -81,9 +94,9 @@ class DocumentServiceTest {
                 "file", "certificate.pdf", "application/pdf", "content2".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid1_contract.pdf")
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid2_certificate.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid1_contract.pdf", null))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid2_certificate.pdf", null));
 
             EmployeeDocument doc1 = documentService.saveDocument(
                 "john@techcorp.com", file1, DocumentType.CONTRACT
@@ -99,7 +112,41 @@ class DocumentServiceTest {
             List<EmployeeDocument> documents = documentService.getDocuments("john@techcorp.com");
             assertEquals(2, documents.size());
             
-            verify(fileStorageService, times(2)).saveFile(any(), eq("uploads/documents/john@techcorp.com"));
+            verify(fileStorageService, times(2)).storeFile(any(), eq("uploads/documents/john@techcorp.com"));
+        }
+
+        @Test
+        @DisplayName("Should record checksum of saved file")
+        void shouldRecordChecksumOfSavedFile() {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "contract.pdf", "application/pdf", "content".getBytes()
+            );
+
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf", "abc123"));
+
+            EmployeeDocument document = documentService.saveDocument(
+                "john@techcorp.com", file, DocumentType.CONTRACT
+            );
+
+            assertEquals("abc123", document.getDigest());
+        }
+
+        @Test
+        @DisplayName("Should submit saved document for text extraction")
+        void shouldSubmitSavedDocumentForTextExtraction() {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "contract.pdf", "application/pdf", "content".getBytes()
+            );
+
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf", null));
+
+            EmployeeDocument document = documentService.saveDocument(
+                "john@techcorp.com", file, DocumentType.CONTRACT
+            );
+
+            verify(documentSearchService).submit(document);
         }
 
         @Test
@@ -109,15 +156,15 @@ class DocumentServiceTest {
                 "file", "contract.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john.doe@techcorp.com/uuid_contract.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john.doe@techcorp.com/uuid_contract.pdf", null));
 
             EmployeeDocument document = documentService.saveDocument(
                 "John.Doe@TechCorp.COM", file, DocumentType.CONTRACT
             );
 
             assertEquals("john.doe@techcorp.com", document.getEmployeeEmail());
-            verify(fileStorageService, times(1)).saveFile(any(), eq("uploads/documents/john.doe@techcorp.com"));
+            verify(fileStorageService, times(1)).storeFile(any(), eq("uploads/documents/john.doe@techcorp.com"));
         }
 
         @Test
@@ -130,10 +177,10 @@ class DocumentServiceTest {
                 "file", "doc2.pdf", "application/pdf", "content2".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), eq("uploads/documents/john@techcorp.com")))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_doc1.pdf");
-            when(fileStorageService.saveFile(any(), eq("uploads/documents/jane@techcorp.com")))
-                .thenReturn("/uploads/documents/jane@techcorp.com/uuid_doc2.pdf");
+            when(fileStorageService.storeFile(any(), eq("uploads/documents/john@techcorp.com")))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_doc1.pdf", null));
+            when(fileStorageService.storeFile(any(), eq("uploads/documents/jane@techcorp.com")))
+                .thenReturn(new StoredFile("/uploads/documents/jane@techcorp.com/uuid_doc2.pdf", null));
 
             documentService.saveDocument("john@techcorp.com", file1, DocumentType.CONTRACT);
             documentService.saveDocument("jane@techcorp.com", file2, DocumentType.CERTIFICATE);
@@ -224,10 +271,10 @@ class DocumentServiceTest {
                 "file", "id.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid1_contract.pdf")
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid2_cert.pdf")
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid3_id.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid1_contract.pdf", null))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid2_cert.pdf", null))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid3_id.pdf", null));
 
             EmployeeDocument doc1 = documentService.saveDocument("john@techcorp.com", contract, DocumentType.CONTRACT);
             EmployeeDocument doc2 = documentService.saveDocument("john@techcorp.com", certificate, DocumentType.CERTIFICATE);
@@ -262,9 +309,9 @@ class DocumentServiceTest {
                 "file", "doc2.pdf", "application/pdf", "content2".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid1_doc1.pdf")
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid2_doc2.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid1_doc1.pdf", null))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid2_doc2.pdf", null));
 
             documentService.saveDocument("john@techcorp.com", file1, DocumentType.CONTRACT);
             documentService.saveDocument("john@techcorp.com", file2, DocumentType.CERTIFICATE);
@@ -281,8 +328,8 @@ class DocumentServiceTest {
                 "file", "doc.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_doc.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_doc.pdf", null));
 
             documentService.saveDocument("john@techcorp.com", file, DocumentType.CONTRACT);
 
@@ -298,8 +345,8 @@ class DocumentServiceTest {
                 "file", "doc.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_doc.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_doc.pdf", null));
 
             documentService.saveDocument("john@techcorp.com", file, DocumentType.CONTRACT);
 
@@ -343,8 +390,8 @@ class DocumentServiceTest {
                 "file", "contract.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_contract.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf", null));
 
             EmployeeDocument savedDocument = documentService.saveDocument(
                 "john@techcorp.com", file, DocumentType.CONTRACT
@@ -375,8 +422,8 @@ class DocumentServiceTest {
                 "file", "doc.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_doc.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_doc.pdf", null));
 
             EmployeeDocument document = documentService.saveDocument(
                 "john@techcorp.com", file, DocumentType.CONTRACT
@@ -396,8 +443,8 @@ class DocumentServiceTest {
                 "file", "doc.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_doc.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_doc.pdf", null));
 
             EmployeeDocument document = documentService.saveDocument(
                 "john@techcorp.com", file, DocumentType.CONTRACT
@@ -462,8 +509,8 @@ class DocumentServiceTest {
                 "file", "contract.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_contract.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf", null));
 
             EmployeeDocument document = documentService.saveDocument(
                 "john@techcorp.com", file, DocumentType.CONTRACT
@@ -477,6 +524,44 @@ class DocumentServiceTest {
             assertTrue(found.isEmpty());
         }
 
+        @Test
+        @DisplayName("Should delete stored file from employee directory")
+        void shouldDeleteStoredFileFromEmployeeDirectory() {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "contract.pdf", "application/pdf", "content".getBytes()
+            );
+
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf", null));
+
+            EmployeeDocument document = documentService.saveDocument(
+                "john@techcorp.com", file, DocumentType.CONTRACT
+            );
+
+            documentService.deleteDocument("john@techcorp.com", document.getId());
+
+            verify(fileStorageService).deleteFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf");
+        }
+
+        @Test
+        @DisplayName("Should remove deleted document from search index")
+        void shouldRemoveDeletedDocumentFromSearchIndex() {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "contract.pdf", "application/pdf", "content".getBytes()
+            );
+
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_contract.pdf", null));
+
+            EmployeeDocument document = documentService.saveDocument(
+                "john@techcorp.com", file, DocumentType.CONTRACT
+            );
+
+            documentService.deleteDocument("john@techcorp.com", document.getId());
+
+            verify(documentSearchService).remove(document.getId());
+        }
+
         @Test
         @DisplayName("Should remove document from list after deletion")
         void shouldRemoveDocumentFromListAfterDeletion() {
@@ -487,9 +572,9 @@ class DocumentServiceTest {
                 "file", "doc2.pdf", "application/pdf", "content2".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid1_doc1.pdf")
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid2_doc2.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid1_doc1.pdf", null))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid2_doc2.pdf", null));
 
             EmployeeDocument doc1 = documentService.saveDocument("john@techcorp.com", file1, DocumentType.CONTRACT);
             EmployeeDocument doc2 = documentService.saveDocument("john@techcorp.com", file2, DocumentType.CERTIFICATE);
@@ -508,8 +593,8 @@ class DocumentServiceTest {
                 "file", "doc.pdf", "application/pdf", "content".getBytes()
             );
 
-            when(fileStorageService.saveFile(any(), anyString()))
-                .thenReturn("/uploads/documents/john@techcorp.com/uuid_doc.pdf");
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid_doc.pdf", null));
 
             EmployeeDocument document = documentService.saveDocument(
                 "john@techcorp.com", file, DocumentType.CONTRACT
@@ -571,6 +656,204 @@ class DocumentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Find Documents Tests")
+    class FindDocumentsTest {
+
+        @BeforeEach
+        void saveDocuments() {
+            when(fileStorageService.storeFile(any(), anyString()))
+                .thenAnswer(invocation -> new StoredFile("/uploads/documents/john@techcorp.com/uuid_"
+                    + invocation.<MockMultipartFile>getArgument(0).getOriginalFilename(), null));
+            for (int i = 0; i < 5; i++) {
+                MockMultipartFile file = new MockMultipartFile(
+                    "file", "doc" + i + ".pdf", "application/pdf", "content".getBytes()
+                );
+                documentService.saveDocument(
+                    "john@techcorp.com", file, i % 2 == 0 ? DocumentType.CONTRACT : DocumentType.CERTIFICATE
+                );
+            }
+        }
+
+        @Test
+        @DisplayName("Should walk every document exactly once using cursors")
+        void shouldPageThroughAllDocuments() {
+            List<String> seen = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                DocumentPage page = documentService.findDocuments("John@TechCorp.com", null, null, null, cursor, 2);
+                page.getDocuments().forEach(doc -> seen.add(doc.getId()));
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertEquals(3, pages);
+            assertEquals(
+                documentService.getDocuments("john@techcorp.com").stream().map(EmployeeDocument::getId).toList(),
+                seen
+            );
+        }
+
+        @Test
+        @DisplayName("Should filter by type and omit cursor on the last page")
+        void shouldFilterByType() {
+            DocumentPage page = documentService.findDocuments(
+                "john@techcorp.com", DocumentType.CONTRACT, null, null, null, 10
+            );
+
+            assertEquals(3, page.getDocuments().size());
+            assertTrue(page.getDocuments().stream().allMatch(doc -> doc.getFileType() == DocumentType.CONTRACT));
+            assertFalse(page.hasNext());
+        }
+
+        @Test
+        @DisplayName("Should reject invalid page parameters")
+        void shouldRejectInvalidParameters() {
+            LocalDateTime now = LocalDateTime.now();
+
+            assertThrows(IllegalArgumentException.class,
+                () -> documentService.findDocuments("john@techcorp.com", null, null, null, null, 0));
+            assertThrows(IllegalArgumentException.class,
+                () -> documentService.findDocuments("john@techcorp.com", null, null, null, null, 1001));
+            assertThrows(IllegalArgumentException.class,
+                () -> documentService.findDocuments("john@techcorp.com", null, now, now, null, 10));
+            assertThrows(IllegalArgumentException.class,
+                () -> documentService.findDocuments("john@techcorp.com", null, null, null, "not-a-cursor", 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Bundle Tests")
+    class WriteBundleTest {
+
+        private EmployeeDocument document(String originalFileName, Path path) {
+            return new EmployeeDocument(
+                path.getFileName().toString(), "john@techcorp.com", path.getFileName().toString(),
+                originalFileName, DocumentType.CONTRACT, LocalDateTime.now(), path.toString()
+            );
+        }
+
+        private List<ZipEntry> readEntries(byte[] zip, List<String> contents) throws IOException {
+            List<ZipEntry> entries = new ArrayList<>();
+            try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+                ZipEntry entry;
+                while ((entry = in.getNextEntry()) != null) {
+                    entries.add(entry);
+                    contents.add(new String(in.readAllBytes()));
+                }
+            }
+            return entries;
+        }
+
+        @Test
+        @DisplayName("Should store compressed formats and deflate the rest")
+        void shouldChooseCompressionByExtension() throws IOException {
+            Path pdf = Files.writeString(tempDir.resolve("uuid1_contract.pdf"), "pdf content");
+            Path csv = Files.writeString(tempDir.resolve("uuid2_hours.csv"), "a,b,c\n1,2,3");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            documentService.writeBundle(List.of(document("contract.pdf", pdf), document("hours.csv", csv)), out);
+
+            List<String> contents = new ArrayList<>();
+            List<ZipEntry> entries = readEntries(out.toByteArray(), contents);
+
+            assertEquals(List.of("contract.pdf", "hours.csv"), entries.stream().map(ZipEntry::getName).toList());
+            assertEquals(ZipEntry.STORED, entries.get(0).getMethod());
+            assertEquals(ZipEntry.DEFLATED, entries.get(1).getMethod());
+            assertEquals(List.of("pdf content", "a,b,c\n1,2,3"), contents);
+        }
+
+        @Test
+        @DisplayName("Should rename duplicate entries and strip directories")
+        void shouldRenameDuplicateEntries() throws IOException {
+            Path first = Files.writeString(tempDir.resolve("uuid1_contract.pdf"), "first");
+            Path second = Files.writeString(tempDir.resolve("uuid2_contract.pdf"), "second");
+            Path third = Files.writeString(tempDir.resolve("uuid3_contract.pdf"), "third");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            documentService.writeBundle(List.of(
+                document("contract.pdf", first),
+                document("contract.pdf", second),
+                document("../../contract.pdf", third)
+            ), out);
+
+            List<ZipEntry> entries = readEntries(out.toByteArray(), new ArrayList<>());
+
+            assertEquals(List.of("contract.pdf", "contract (2).pdf", "contract (3).pdf"),
+                entries.stream().map(ZipEntry::getName).toList());
+        }
+
+        @Test
+        @DisplayName("Should strip either separator and fall back to the document id")
+        void shouldSanitizeEntryNames() throws IOException {
+            Path windows = Files.writeString(tempDir.resolve("uuid1_scan.pdf"), "windows");
+            Path invalid = Files.writeString(tempDir.resolve("uuid2_notes.txt"), "invalid");
+            Path directory = Files.writeString(tempDir.resolve("uuid3_empty.pdf"), "directory");
+            Path blank = Files.writeString(tempDir.resolve("uuid4_blank.pdf"), "blank");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            documentService.writeBundle(List.of(
+                document("C:\\Users\\john\\scan.pdf", windows),
+                document("notes\u0000.txt", invalid),
+                document("reports/", directory),
+                document("  ", blank)
+            ), out);
+
+            List<ZipEntry> entries = readEntries(out.toByteArray(), new ArrayList<>());
+
+            assertEquals(List.of("scan.pdf", "notes\u0000.txt", "uuid3_empty.pdf", "uuid4_blank.pdf"),
+                entries.stream().map(ZipEntry::getName).toList());
+        }
+
+        @Test
+        @DisplayName("Should skip documents whose files are missing")
+        void shouldSkipMissingFiles() throws IOException {
+            Path present = Files.writeString(tempDir.resolve("uuid1_contract.pdf"), "present");
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            documentService.writeBundle(List.of(
+                document("missing.pdf", tempDir.resolve("uuid0_missing.pdf")),
+                document("contract.pdf", present)
+            ), out);
+
+            List<ZipEntry> entries = readEntries(out.toByteArray(), new ArrayList<>());
+
+            assertEquals(List.of("contract.pdf"), entries.stream().map(ZipEntry::getName).toList());
+        }
+
+        @Test
+        @DisplayName("Should store files too large to buffer with a matching checksum")
+        void shouldStoreLargeFiles() throws IOException {
+            String content = "scan".repeat(DocumentService.MAX_BUFFERED_ENTRY / 4 + 1);
+            Path large = Files.writeString(tempDir.resolve("uuid1_scan.pdf"), content);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            documentService.writeBundle(List.of(document("scan.pdf", large)), out);
+
+            List<String> contents = new ArrayList<>();
+            List<ZipEntry> entries = readEntries(out.toByteArray(), contents);
+
+            assertEquals(ZipEntry.STORED, entries.get(0).getMethod());
+            assertEquals(List.of(content), contents);
+        }
+
+        @Test
+        @DisplayName("Should fail a stored copy when the file changed after it was checksummed")
+        void shouldRejectFilesChangedAfterChecksum() throws IOException {
+            CRC32 crc = new CRC32();
+            crc.update("original".getBytes());
+            Path grown = Files.writeString(tempDir.resolve("uuid1_grown.pdf"), "original and more");
+            Path edited = Files.writeString(tempDir.resolve("uuid2_edited.pdf"), "ORIGINAL");
+            Path shrunk = Files.writeString(tempDir.resolve("uuid3_shrunk.pdf"), "orig");
+
+            for (Path path : List.of(grown, edited, shrunk)) {
+                assertThrows(IOException.class, () -> DocumentService.copyStored(
+                    path, "original".length(), crc.getValue(), OutputStream.nullOutputStream()));
+            }
+        }
+    }
+
     @Test
     @DisplayName("Should handle multiple operations for same employee")
     void shouldHandleMultipleOperationsForSameEmployee() {
@@ -584,10 +867,10 @@ class DocumentServiceTest {
             "file", "doc3.pdf", "application/pdf", "content3".getBytes()
         );
 
-        when(fileStorageService.saveFile(any(), anyString()))
-            .thenReturn("/uploads/documents/john@techcorp.com/uuid1_doc1.pdf")
-            .thenReturn("/uploads/documents/john@techcorp.com/uuid2_doc2.pdf")
-            .thenReturn("/uploads/documents/john@techcorp.com/uuid3_doc3.pdf");
+        when(fileStorageService.storeFile(any(), anyString()))
+            .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid1_doc1.pdf", null))
+            .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid2_doc2.pdf", null))
+            .thenReturn(new StoredFile("/uploads/documents/john@techcorp.com/uuid3_doc3.pdf", null));
 
         // Save 3 documents
         EmployeeDocument doc1 = documentService.saveDocument("john@techcorp.com", file1, DocumentType.CONTRACT);
@@ -0,0 +1,111 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeAttributeIndex Tests")
+class EmployeeAttributeIndexTest {
+
+    private EmployeeAttributeIndex index;
+    private Employee frodo;
+    private Employee sam;
+    private Employee eustace;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeAttributeIndex();
+        frodo = new Employee("Baggins", "Frodo", "frodo@techcorp.com", "TechCorp", Role.ENGINEER, 8500);
+        sam = new Employee("Gamgee", "Sam", "sam@techcorp.com", "TechCorp", Role.INTERN, 3500);
+        eustace = new Employee("Scrubb", "Eustace", "eustace@innovate.com", "Innovate", Role.ENGINEER, 9000);
+        index.add(frodo);
+        index.add(sam);
+        index.add(eustace);
+    }
+
+    private static RoaringBitmap ids(int... ids) {
+        return RoaringBitmap.bitmapOf(ids);
+    }
+
+    @Test
+    @DisplayName("Should assign dense ids and keep one bitmap per attribute value")
+    void shouldIndexAttributes() {
+        assertEquals(0, index.idOf("FRODO@techcorp.com"));
+        assertEquals("sam@techcorp.com", index.emailOf(1));
+        assertEquals(EmploymentStatus.ACTIVE, index.statusOf("eustace@innovate.com"));
+        assertEquals(ids(0, 1), index.company("TECHCORP"));
+        assertEquals(ids(0, 2), index.role(Role.ENGINEER));
+        assertEquals(3, index.statusCount(EmploymentStatus.ACTIVE));
+        assertEquals(0, index.roleCount(Role.CEO));
+        assertTrue(index.company("Nowhere").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return copies that callers can intersect freely")
+    void shouldReturnCopies() {
+        RoaringBitmap engineers = index.role(Role.ENGINEER);
+        engineers.and(index.company("Innovate"));
+
+        assertEquals(ids(2), engineers);
+        assertEquals(2, index.roleCount(Role.ENGINEER));
+    }
+
+    @Test
+    @DisplayName("Should count attribute combinations by intersecting bitmaps")
+    void shouldCountCombinations() {
+        assertEquals(1, index.count("techcorp", Role.ENGINEER, EmploymentStatus.ACTIVE));
+        assertEquals(2, index.count(null, Role.ENGINEER, null));
+        assertEquals(3, index.count(null, null, null));
+        assertEquals(0, index.count("Nowhere", Role.ENGINEER, null));
+        assertEquals(Map.of(Role.ENGINEER, 2L, Role.INTERN, 1L), index.roleCounts());
+        assertEquals(Map.of(EmploymentStatus.ACTIVE, 3L), index.statusCounts());
+    }
+
+    @Test
+    @DisplayName("Should check and read the attribute columns of selected ids")
+    void shouldSelectByColumns() {
+        frodo.setSalary(9500);
+        index.updateSalary(frodo);
+
+        RoaringBitmap wellPaid = index.select(index.all(), (company, role, status, salary) -> salary >= 9000);
+        assertEquals(ids(0, 2), wellPaid);
+        assertEquals(List.of("frodo@techcorp.com", "eustace@innovate.com"), index.emailsOf(wellPaid));
+        assertEquals(List.of("sam@techcorp.com", "eustace@innovate.com"), index.emailsOf(index.all(), 1, 2));
+        assertEquals(13000, index.salaries(index.company("TechCorp")).sum());
+    }
+
+    @Test
+    @DisplayName("Should move employees between status bitmaps")
+    void shouldUpdateStatus() {
+        sam.setStatus(EmploymentStatus.ON_LEAVE);
+        index.updateStatus(sam);
+
+        assertEquals(ids(0, 2), index.status(EmploymentStatus.ACTIVE));
+        assertEquals(ids(1), index.status(EmploymentStatus.ON_LEAVE));
+    }
+
+    @Test
+    @DisplayName("Should release ids of removed employees and reuse the lowest")
+    void shouldReuseIds() {
+        index.remove(frodo);
+
+        assertNull(index.emailOf(0));
+        assertFalse(index.contains("frodo@techcorp.com"));
+        assertEquals(ids(1), index.company("TechCorp"));
+
+        Employee pippin = new Employee("Took", "Pippin", "pippin@techcorp.com", "TechCorp", Role.CEO, 30000);
+        assertEquals(0, index.add(pippin));
+        assertEquals(3, index.add(new Employee("Brandybuck", "Merry", "merry@techcorp.com", "TechCorp", Role.CEO, 30000)));
+        assertEquals(4, index.size());
+        assertEquals(ids(0, 3), index.role(Role.CEO));
+    }
+}
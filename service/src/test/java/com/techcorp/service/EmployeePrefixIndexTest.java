@@ -0,0 +1,100 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeePrefixIndex Tests")
+class EmployeePrefixIndexTest {
+
+    private EmployeePrefixIndex index;
+    private ListEmployeeStore roster;
+
+    @BeforeEach
+    void setUp() {
+        roster = new ListEmployeeStore();
+        index = new EmployeePrefixIndex(roster::findByEmails);
+    }
+
+    private Employee employee(String firstName, String lastName, String email) {
+        Employee employee = new Employee(lastName, firstName, email, "TechCorp", Role.ENGINEER, 8000);
+        roster.save(employee);
+        return employee;
+    }
+
+    private List<String> emails(String query, int limit) {
+        return index.search(query, limit).stream().map(Employee::getEmailAddress).toList();
+    }
+
+    @Test
+    @DisplayName("Should fold case and Polish diacritics")
+    void shouldNormalize() {
+        assertEquals("lukasz zolc", EmployeePrefixIndex.normalize(" Łukasz Żółć "));
+        index.add(employee("Łukasz", "Żółć", "lukasz@techcorp.com"));
+
+        assertEquals(List.of("lukasz@techcorp.com"), emails("zol", 10));
+        assertEquals(List.of("lukasz@techcorp.com"), emails("ŁUK", 10));
+    }
+
+    @Test
+    @DisplayName("Should return each employee once even when several terms match")
+    void shouldDeduplicateEmployees() {
+        index.add(employee("Anna", "Annis", "anna@techcorp.com"));
+
+        assertEquals(List.of("anna@techcorp.com"), emails("ann", 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Should keep results sorted across merged and pending entries")
+    void shouldSearchAcrossMerges() {
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Employee employee = employee("First" + i, "Last" + i, String.format("user%05d@techcorp.com", i));
+            employees.add(employee);
+            index.add(employee);
+        }
+        index.add(employee("User04x", "Zed", "zed@techcorp.com"));
+
+        assertEquals(15003, index.size());
+        assertEquals(List.of("user00000@techcorp.com", "user00001@techcorp.com", "user00002@techcorp.com"),
+            emails("user", 3));
+        List<String> tail = emails("user04", 2000);
+        assertEquals(1001, tail.size());
+        assertEquals(List.of("user04999@techcorp.com", "zed@techcorp.com"), tail.subList(999, 1001));
+
+        for (int i = 0; i < 2000; i++) {
+            index.remove(employees.get(i));
+        }
+        assertEquals(List.of("user02000@techcorp.com"), emails("user", 1));
+        assertTrue(emails("first1999", 10).isEmpty());
+        assertEquals(List.of("user04999@techcorp.com"), emails("last4999", 10));
+    }
+
+    @Test
+    @DisplayName("Should bulk load into an index that already has entries")
+    void shouldAddAll() {
+        index.add(employee("Beata", "Nowak", "beata@techcorp.com"));
+        index.add(employee("Adam", "Kowalski", "adam@techcorp.com"));
+        index.remove(employee("Adam", "Kowalski", "adam@techcorp.com"));
+
+        index.addAll(List.of(
+            employee("Anna", "Anna", "anna@techcorp.com"),
+            employee("Celina", "Nowacka", "celina@techcorp.com"),
+            employee("Adam", "Nowicki", "adam.nowicki@techcorp.com")
+        ));
+
+        assertEquals(11, index.size());
+        assertEquals(List.of("adam.nowicki@techcorp.com", "anna@techcorp.com"), emails("a", 10));
+        assertEquals(List.of("celina@techcorp.com", "beata@techcorp.com", "adam.nowicki@techcorp.com"),
+            emails("now", 10));
+        assertTrue(emails("kowal", 10).isEmpty());
+    }
+}
@@ -0,0 +1,118 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeeQueryResult;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeQueryPlanner Tests")
+class EmployeeQueryPlannerTest {
+
+    private EmployeeAttributeIndex attributes;
+    private EmployeePrefixIndex names;
+    private EmployeeSalaryIndex salaries;
+    private EmployeeQueryPlanner planner;
+    private ListEmployeeStore roster;
+
+    @BeforeEach
+    void setUp() {
+        roster = new ListEmployeeStore();
+        attributes = new EmployeeAttributeIndex();
+        names = new EmployeePrefixIndex(roster::findByEmails);
+        salaries = new EmployeeSalaryIndex();
+        planner = new EmployeeQueryPlanner(attributes, names, salaries, roster::findByEmails);
+        add(new Employee("Baggins", "Frodo", "frodo@techcorp.com", "TechCorp", Role.ENGINEER, 8500));
+        add(new Employee("Gamgee", "Sam", "sam@techcorp.com", "TechCorp", Role.INTERN, 3500));
+        add(new Employee("Scrubb", "Eustace", "eustace@innovate.com", "Innovate", Role.ENGINEER, 9000));
+        add(new Employee("Took", "Pippin", "pippin@techcorp.com", "TechCorp", Role.ENGINEER, 12000,
+            EmploymentStatus.ON_LEAVE));
+    }
+
+    private void add(Employee employee) {
+        roster.save(employee);
+        attributes.add(employee);
+        names.add(employee);
+        salaries.add(employee);
+    }
+
+    private EmployeeQueryResult query(String company, Role role, EmploymentStatus status,
+                                      Integer minSalary, Integer maxSalary, String name) {
+        return planner.execute(new EmployeeQuery(company, role, status, minSalary, maxSalary, name, 0, 10));
+    }
+
+    private static List<String> emails(EmployeeQueryResult result) {
+        return result.getEmployees().stream().map(Employee::getEmailAddress).toList();
+    }
+
+    @Test
+    @DisplayName("Should intersect bitmaps starting from the most selective index")
+    void shouldIntersectBitmaps() {
+        EmployeeQueryResult result = query("techcorp", Role.ENGINEER, EmploymentStatus.ON_LEAVE, null, null, null);
+
+        assertEquals(List.of("pippin@techcorp.com"), emails(result));
+        assertEquals(1, result.getTotal());
+        assertEquals("index status=ON_LEAVE ~1 -> and company=techcorp ~3 -> and role=ENGINEER ~3", result.getPlan());
+    }
+
+    @Test
+    @DisplayName("Should filter salary ranges and name prefixes")
+    void shouldFilterSalaryAndNames() {
+        assertEquals(List.of("frodo@techcorp.com", "eustace@innovate.com"),
+            emails(query(null, null, null, 8000, 10000, null)));
+
+        EmployeeQueryResult byName = query("TechCorp", null, null, null, null, "Gam");
+        assertEquals(List.of("sam@techcorp.com"), emails(byName));
+        assertTrue(byName.getPlan().startsWith("index name=Gam* ~1"));
+        assertTrue(query("Innovate", null, null, null, null, "Gam").getEmployees().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should check small candidate sets directly instead of intersecting")
+    void shouldFilterSmallCandidateSets() {
+        for (int i = 0; i < 300; i++) {
+            add(new Employee("Worker" + i, "Busy", "worker" + i + "@techcorp.com", "TechCorp", Role.INTERN, 3000));
+        }
+
+        EmployeeQueryResult result = query("Innovate", Role.ENGINEER, null, null, null, null);
+
+        assertEquals(List.of("eustace@innovate.com"), emails(result));
+        assertEquals("index company=Innovate ~1 -> filter role=ENGINEER", result.getPlan());
+    }
+
+    @Test
+    @DisplayName("Should count every match but return only the requested page")
+    void shouldPaginate() {
+        EmployeeQueryResult result = planner.execute(new EmployeeQuery("TechCorp", null, null, null, null, null, 1, 1));
+
+        assertEquals(List.of("sam@techcorp.com"), emails(result));
+        assertEquals(3, result.getTotal());
+    }
+
+    @Test
+    @DisplayName("Should drive from the salary index only when the range is the most selective")
+    void shouldPlanSalaryRanges() {
+        EmployeeQueryResult narrow = query("TechCorp", null, null, null, 5000, null);
+        assertEquals(List.of("sam@techcorp.com"), emails(narrow));
+        assertEquals("index salary<=5000 ~1 -> and company=TechCorp ~3", narrow.getPlan());
+
+        EmployeeQueryResult wide = query("Innovate", null, null, 1000, null, null);
+        assertEquals(List.of("eustace@innovate.com"), emails(wide));
+        assertEquals("index company=Innovate ~1 -> filter salary>=1000", wide.getPlan());
+    }
+
+    @Test
+    @DisplayName("Should scan every employee when no filter is given")
+    void shouldScanWithoutFilters() {
+        EmployeeQueryResult result = query(null, null, null, null, null, null);
+
+        assertEquals(4, result.getTotal());
+        assertEquals("scan", result.getPlan());
+    }
+}
@@ -0,0 +1,79 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeSalaryIndex Tests")
+class EmployeeSalaryIndexTest {
+
+    private EmployeeSalaryIndex index;
+    private Employee frodo;
+
+    @BeforeEach
+    void setUp() {
+        index = new EmployeeSalaryIndex();
+        frodo = new Employee("Baggins", "Frodo", "frodo@techcorp.com", "TechCorp", Role.ENGINEER, 8500);
+        index.add(frodo);
+        index.add(new Employee("Gamgee", "Sam", "sam@techcorp.com", "TechCorp", Role.INTERN, 3500));
+        index.add(new Employee("Scrubb", "Eustace", "eustace@innovate.com", "Innovate", Role.ENGINEER, 8500));
+        index.add(new Employee("Took", "Pippin", "pippin@techcorp.com", "TechCorp", Role.CEO, 30000));
+    }
+
+    private static List<String> emails(Stream<String> emails) {
+        return emails.toList();
+    }
+
+    @Test
+    @DisplayName("Should return inclusive ranges ordered by salary and email")
+    void shouldReturnRanges() {
+        assertEquals(List.of("eustace@innovate.com", "frodo@techcorp.com"), emails(index.range(null, 8500, 8500)));
+        assertEquals(List.of("sam@techcorp.com", "frodo@techcorp.com"), emails(index.range("techcorp", 0, 9000)));
+        assertEquals(List.of("pippin@techcorp.com"), emails(index.range(null, 9000, Integer.MAX_VALUE)));
+        assertTrue(emails(index.range(null, 9000, 8000)).isEmpty());
+        assertTrue(emails(index.range("Nowhere", 0, Integer.MAX_VALUE)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should list top earners globally, per company and per role")
+    void shouldListTopEarners() {
+        assertEquals(List.of("pippin@techcorp.com", "frodo@techcorp.com"), emails(index.descending(null).limit(2)));
+        assertEquals(List.of("eustace@innovate.com"), emails(index.descending("Innovate")));
+        assertEquals(List.of("eustace@innovate.com", "frodo@techcorp.com"),
+            emails(index.rangeByRole(Role.ENGINEER, Integer.MIN_VALUE, 9000)));
+    }
+
+    @Test
+    @DisplayName("Should find entries under the indexed salary after the object changed")
+    void shouldRemoveByIndexedSalary() {
+        frodo.setSalary(1000);
+        index.remove(frodo);
+        index.add(frodo);
+
+        assertEquals(4, index.size());
+        assertEquals(List.of("frodo@techcorp.com", "sam@techcorp.com"), emails(index.range("TechCorp", 0, 5000)));
+        assertEquals(List.of("eustace@innovate.com"), emails(index.range(null, 8500, 8500)));
+    }
+
+    @Test
+    @DisplayName("Should bulk load alongside existing entries")
+    void shouldAddAll() {
+        index.addAll(List.of(
+            new Employee("Brandybuck", "Merry", "merry@techcorp.com", "TechCorp", Role.ENGINEER, 9000),
+            new Employee("Pevensie", "Lucy", "lucy@innovate.com", "Innovate", Role.ENGINEER, 8500)
+        ));
+
+        assertEquals(6, index.size());
+        assertEquals(List.of("eustace@innovate.com", "frodo@techcorp.com", "lucy@innovate.com", "merry@techcorp.com"),
+            emails(index.rangeByRole(Role.ENGINEER, 0, Integer.MAX_VALUE)));
+        assertEquals(List.of("lucy@innovate.com", "eustace@innovate.com"), emails(index.descending("Innovate")));
+        assertEquals(2, index.sketch("Innovate", null).getCount());
+    }
+}
@@ -4,19 +4,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.techcorp.model.CompanyStatistics;
 import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeePage;
 import com.techcorp.model.Role;
 import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.SalaryPercentiles;
+import com.techcorp.model.StatisticsCubeRow;
 import com.techcorp.model.exception.DuplicateEmailException;
 import com.techcorp.model.exception.EmployeeNotFoundException;
+import com.techcorp.model.exception.FileStorageException;
 
 public class EmployeeServiceTest
 {
@@ -901,6 +910,37 @@ public class EmployeeServiceTest
         }
     }
 
+    @Nested
+    @DisplayName("Employee Page Tests")
+    class EmployeePageTest {
+
+        @Test
+        @DisplayName("Should walk the roster page by page in insertion order")
+        public void shouldWalkRosterByCursor() {
+            for (int i = 0; i < 5; i++) {
+                employeeService.addEmployee(new Employee("Nowak", "Jan", "jan" + i + "@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+            }
+
+            List<String> emails = new ArrayList<>();
+            String cursor = null;
+            do {
+                EmployeePage page = employeeService.getEmployeesPage(cursor, 2);
+                page.getEmployees().forEach(e -> emails.add(e.getEmailAddress()));
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            assertEquals(employeeService.getEmployees().stream().map(Employee::getEmailAddress).toList(), emails);
+        }
+
+        @Test
+        @DisplayName("Should reject page sizes out of range and malformed cursors")
+        public void shouldRejectInvalidPages() {
+            assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesPage(null, 0));
+            assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesPage(null, 1001));
+            assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesPage("x", 10));
+        }
+    }
+
     @Nested
     @DisplayName("Get Employees By Status Tests")
     class GetEmployeesByStatusTest {
@@ -1095,6 +1135,21 @@ public class EmployeeServiceTest
             assertFalse(inconsistentEmployees.contains(employee2));
             assertFalse(inconsistentEmployees.contains(employee3));
         }
+
+        @Test
+        @DisplayName("Should return inconsistencies in roster order whatever the store")
+        public void shouldKeepRosterOrder()
+        {
+            for (EmployeeService service : List.of(employeeService, new EmployeeService("columnar"))) {
+                service.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, Role.MANAGER, 9000));
+                service.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, Role.INTERN, 100));
+                service.addEmployee(new Employee(LAST_NAME_3, FIRST_NAME_3, EMAIL_3, COMPANY_NAME_3, Role.ENGINEER, 7000));
+
+                assertEquals(List.of(EMAIL_1, EMAIL_2, EMAIL_3), service.validateSalaryConsistency().stream()
+                    .map(Employee::getEmailAddress)
+                    .toList());
+            }
+        }
     }
 
 
@@ -1156,5 +1211,447 @@ public class EmployeeServiceTest
             });
         }
     }
-}
 
+    @Nested
+    @DisplayName("Prefix Search Tests")
+    class PrefixSearchTest {
+
+        @BeforeEach
+        public void setUp() {
+            employeeService.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            employeeService.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+            employeeService.addEmployee(new Employee(LAST_NAME_3, FIRST_NAME_3, EMAIL_3, COMPANY_NAME_3, ROLE_3, SALARY_3));
+        }
+
+        private List<String> emails(String prefix) {
+            return employeeService.searchEmployeesByPrefix(prefix, 10).stream()
+                .map(Employee::getEmailAddress)
+                .toList();
+        }
+
+        @Test
+        @DisplayName("Should match first name, last name and email prefixes case-insensitively")
+        public void shouldMatchNamePrefixes() {
+            assertEquals(List.of(EMAIL_1), emails("FRO"));
+            assertEquals(List.of(EMAIL_2), emails("gam"));
+            assertEquals(List.of(EMAIL_2, EMAIL_3), emails("s"));
+            assertTrue(emails("gandalf").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should require every query word to match")
+        public void shouldMatchEveryWord() {
+            assertEquals(List.of(EMAIL_2), emails("sam gam"));
+            assertTrue(emails("sam bag").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reflect removals and updates")
+        public void shouldFollowRemovalsAndUpdates() {
+            employeeService.removeEmployeeByEmail(EMAIL_2);
+            employeeService.updateEmployee(EMAIL_1,
+                new Employee("Underhill", FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+
+            assertTrue(emails("gam").isEmpty());
+            assertTrue(emails("bag").isEmpty());
+            assertEquals(List.of(EMAIL_1), emails("under"));
+        }
+
+        @Test
+        @DisplayName("Should reject blank prefixes and out of range limits")
+        public void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> employeeService.searchEmployeesByPrefix(" ", 10));
+            assertThrows(IllegalArgumentException.class, () -> employeeService.searchEmployeesByPrefix("sam", 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("Name Search Tests")
+    class NameSearchTest {
+
+        @Test
+        @DisplayName("Should find misspelled names and follow updates")
+        public void shouldFindMisspelledNames() {
+            employeeService.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            employeeService.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+
+            assertEquals(EMAIL_1, employeeService.searchEmployeesByName("Bagins", 10).get(0).getEmployee().getEmailAddress());
+
+            employeeService.updateEmployee(EMAIL_1,
+                new Employee("Underhill", FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+
+            assertTrue(employeeService.searchEmployeesByName("Bagins", 10).isEmpty());
+            assertEquals(EMAIL_1, employeeService.searchEmployeesByName("Underhil", 10).get(0).getEmployee().getEmailAddress());
+        }
+
+        @Test
+        @DisplayName("Should reject blank names")
+        public void shouldRejectBlankName() {
+            assertThrows(IllegalArgumentException.class, () -> employeeService.searchEmployeesByName("", 10));
+        }
+    }
+
+    @Nested
+    @DisplayName("Query Tests")
+    class QueryTest {
+
+        @BeforeEach
+        public void setUp() {
+            employeeService.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            employeeService.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+            employeeService.addEmployee(new Employee(LAST_NAME_3, FIRST_NAME_3, EMAIL_3, COMPANY_NAME_3, ROLE_3, SALARY_3));
+        }
+
+        private List<String> emails(String company, EmploymentStatus status, String name) {
+            return employeeService.queryEmployees(new EmployeeQuery(company, null, status, null, null, name, 0, 10))
+                .getEmployees().stream()
+                .map(Employee::getEmailAddress)
+                .toList();
+        }
+
+        @Test
+        @DisplayName("Should combine filters and follow status changes, removals and updates")
+        public void shouldFollowChanges() {
+            assertEquals(List.of(EMAIL_1, EMAIL_2), emails(COMPANY_NAME_1, EmploymentStatus.ACTIVE, null));
+
+            employeeService.updateEmployeeStatus(EMAIL_2, EmploymentStatus.ON_LEAVE);
+            employeeService.removeEmployeeByEmail(EMAIL_1);
+            employeeService.updateEmployee(EMAIL_3,
+                new Employee(LAST_NAME_3, FIRST_NAME_3, EMAIL_3, COMPANY_NAME_1, ROLE_3, SALARY_3));
+
+            assertEquals(List.of(EMAIL_3), emails(COMPANY_NAME_1, EmploymentStatus.ACTIVE, null));
+            assertEquals(List.of(EMAIL_2), emails(null, EmploymentStatus.ON_LEAVE, "gam"));
+            assertTrue(emails("Innovate", null, null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should count attribute combinations and follow status changes")
+        public void shouldCountCombinations() {
+            assertEquals(1, employeeService.countEmployees(COMPANY_NAME_1, ROLE_1, EmploymentStatus.ACTIVE));
+
+            employeeService.updateEmployeeStatus(EMAIL_1, EmploymentStatus.TERMINATED);
+
+            assertEquals(0, employeeService.countEmployees(COMPANY_NAME_1, ROLE_1, EmploymentStatus.ACTIVE));
+            assertEquals(2, employeeService.countEmployees(null, null, EmploymentStatus.ACTIVE));
+            assertEquals(1L, employeeService.getStatusDistribution().get(EmploymentStatus.TERMINATED));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid pages, salary ranges and blank names")
+        public void shouldRejectInvalidQueries() {
+            assertThrows(IllegalArgumentException.class,
+                () -> employeeService.queryEmployees(new EmployeeQuery(null, null, null, null, null, null, 0, 0)));
+            assertThrows(IllegalArgumentException.class,
+                () -> employeeService.queryEmployees(new EmployeeQuery(null, null, null, null, null, null, -1, 10)));
+            assertThrows(IllegalArgumentException.class,
+                () -> employeeService.queryEmployees(new EmployeeQuery(null, null, null, 9000, 8000, null, 0, 10)));
+            assertThrows(IllegalArgumentException.class,
+                () -> employeeService.queryEmployees(new EmployeeQuery(null, null, null, null, null, " ", 0, 10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Salary Index Tests")
+    class SalaryIndexTest {
+
+        @BeforeEach
+        public void setUp() {
+            employeeService.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            employeeService.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+            employeeService.addEmployee(new Employee(LAST_NAME_3, FIRST_NAME_3, EMAIL_3, COMPANY_NAME_3, ROLE_3, SALARY_3));
+            employeeService.addEmployee(new Employee(LAST_NAME_4, FIRST_NAME_4, EMAIL_4, COMPANY_NAME_4, ROLE_4, SALARY_4));
+        }
+
+        private List<String> emails(List<Employee> employees) {
+            return employees.stream().map(Employee::getEmailAddress).toList();
+        }
+
+        @Test
+        @DisplayName("Should return salary ranges and top earners per company")
+        public void shouldQuerySalaries() {
+            assertEquals(List.of(EMAIL_2, EMAIL_1), emails(employeeService.getEmployeesBySalaryRange(null, 0, 10000, 10)));
+            assertEquals(List.of(EMAIL_1), emails(employeeService.getEmployeesBySalaryRange(COMPANY_NAME_1, 5000, 20000, 10)));
+            assertEquals(List.of(EMAIL_4, EMAIL_3), emails(employeeService.getTopEarners(null, 2)));
+            assertEquals(List.of(EMAIL_3), emails(employeeService.getTopEarners(COMPANY_NAME_3, 10)));
+        }
+
+        @Test
+        @DisplayName("Should reorder employees after a salary update")
+        public void shouldFollowSalaryUpdates() {
+            employeeService.updateEmployeeSalary(EMAIL_2, 40000);
+
+            assertEquals(40000, employeeService.getEmployeeByEmail(EMAIL_2).get().getSalary());
+            assertEquals(List.of(EMAIL_2, EMAIL_4), emails(employeeService.getTopEarners(COMPANY_NAME_1, 2)));
+            assertEquals(EMAIL_2, employeeService.getEmployeeWithHighestSalary().get().getEmailAddress());
+            assertTrue(employeeService.getEmployeesBySalaryRange(null, 0, 5000, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should report salary percentiles per company and role")
+        public void shouldReportPercentiles() {
+            SalaryPercentiles techCorp = employeeService.getSalaryPercentiles(COMPANY_NAME_1, null, List.of(0.0, 50.0, 100.0));
+
+            assertEquals(3, techCorp.getCount());
+            assertEquals(List.of("p0", "p50", "p100"), List.copyOf(techCorp.getPercentiles().keySet()));
+            assertEquals(SALARY_1, techCorp.getPercentiles().get("p50"), SALARY_1 * 0.01);
+            assertEquals(SALARY_4, techCorp.getPercentiles().get("p100"), SALARY_4 * 0.01);
+
+            employeeService.updateEmployeeSalary(EMAIL_2, 9000);
+            employeeService.removeEmployeeByEmail(EMAIL_4);
+
+            SalaryPercentiles engineers = employeeService.getSalaryPercentiles(null, ROLE_1, List.of(99.9));
+            assertEquals(1, engineers.getCount());
+            assertEquals(SALARY_1, engineers.getPercentiles().get("p99.9"), SALARY_1 * 0.01);
+            assertEquals(9000, employeeService.getSalaryPercentiles(COMPANY_NAME_1, null, List.of(100.0))
+                .getPercentiles().get("p100"), 90);
+            assertNull(employeeService.getSalaryPercentiles("Nowhere", null, List.of(50.0)).getPercentiles().get("p50"));
+            assertThrows(IllegalArgumentException.class,
+                () -> employeeService.getSalaryPercentiles(null, null, List.of(101.0)));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid salaries, ranges and limits")
+        public void shouldRejectInvalidArguments() {
+            assertThrows(IllegalArgumentException.class, () -> employeeService.updateEmployeeSalary(EMAIL_1, -1));
+            assertThrows(EmployeeNotFoundException.class, () -> employeeService.updateEmployeeSalary("nobody@techcorp.com", 1000));
+            assertThrows(IllegalArgumentException.class, () -> employeeService.getEmployeesBySalaryRange(null, 9000, 8000, 10));
+            assertThrows(IllegalArgumentException.class, () -> employeeService.getTopEarners(null, 101));
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics Cube Tests")
+    class StatisticsCubeTest {
+
+        @Test
+        @DisplayName("Should follow status and salary updates")
+        public void shouldFollowUpdates() {
+            employeeService.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            employeeService.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+            employeeService.addEmployee(new Employee(LAST_NAME_4, FIRST_NAME_4, EMAIL_4, COMPANY_NAME_4, ROLE_4, SALARY_4));
+
+            employeeService.updateEmployeeStatus(EMAIL_2, EmploymentStatus.TERMINATED);
+            employeeService.updateEmployeeSalary(EMAIL_4, 20000);
+
+            List<StatisticsCubeRow> byStatus = employeeService.getStatisticsCube(
+                COMPANY_NAME_1, null, null, Set.of(EmployeeStatisticsCube.Dimension.STATUS));
+            assertEquals(2, byStatus.size());
+            assertEquals(EmploymentStatus.ACTIVE, byStatus.get(0).getStatus());
+            assertEquals(2, byStatus.get(0).getCount());
+            assertEquals(SALARY_1, byStatus.get(0).getMinSalary());
+            assertEquals(20000, byStatus.get(0).getMaxSalary());
+            assertEquals(SALARY_2, byStatus.get(1).getSalarySum());
+            assertEquals((SALARY_1 + SALARY_2 + 20000) / 3.0, employeeService.getAverageSalary(COMPANY_NAME_1), 0.01);
+        }
+    }
+
+    @Nested
+    @DisplayName("Failed Store Write Tests")
+    class FailedStoreWriteTest {
+
+        // Refuses every write once failing is set, like a journal that cannot append.
+        private static class FailingStore extends ListEmployeeStore {
+            boolean failing;
+
+            @Override
+            public void save(Employee employee) {
+                if (failing) {
+                    throw new FileStorageException("Could not append to the employee journal");
+                }
+                super.save(employee);
+            }
+
+            @Override
+            public boolean updateStatus(String email, EmploymentStatus status) {
+                if (failing) {
+                    throw new FileStorageException("Could not append to the employee journal");
+                }
+                return super.updateStatus(email, status);
+            }
+        }
+
+        private FailingStore store;
+        private EmployeeService service;
+
+        @BeforeEach
+        public void setUp() {
+            store = new FailingStore();
+            service = new EmployeeService(store);
+            service.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            service.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+            store.failing = true;
+        }
+
+        @Test
+        @DisplayName("Should leave the salary index and the cube untouched when the store rejects a salary")
+        public void shouldKeepIndexesOnFailedSalaryUpdate() {
+            Employee sam = service.getEmployeeByEmail(EMAIL_2).orElseThrow();
+
+            assertThrows(FileStorageException.class, () -> service.updateEmployeeSalary(EMAIL_2, 40000));
+
+            assertEquals(SALARY_2, sam.getSalary());
+            assertEquals(SALARY_2, service.getEmployeeByEmail(EMAIL_2).orElseThrow().getSalary());
+            assertEquals(List.of(EMAIL_1, EMAIL_2),
+                service.getTopEarners(null, 10).stream().map(Employee::getEmailAddress).toList());
+            assertEquals(1, service.getEmployeesBySalaryRange(null, SALARY_2, SALARY_2, 10).size());
+            assertEquals(2, service.getSalaryPercentiles(COMPANY_NAME_1, null, List.of(50.0)).getCount());
+            StatisticsCubeRow total = service.getStatisticsCube(null, null, null, Set.of()).get(0);
+            assertEquals(2, total.getCount());
+            assertEquals(SALARY_1 + SALARY_2, total.getSalarySum());
+        }
+
+        @Test
+        @DisplayName("Should leave the status and the cube untouched when the store rejects a status")
+        public void shouldKeepIndexesOnFailedStatusUpdate() {
+            Employee sam = service.getEmployeeByEmail(EMAIL_2).orElseThrow();
+
+            assertThrows(FileStorageException.class,
+                () -> service.updateEmployeeStatus(EMAIL_2, EmploymentStatus.TERMINATED));
+
+            assertEquals(EmploymentStatus.ACTIVE, sam.getStatus());
+            assertEquals(2, service.countEmployees(null, null, EmploymentStatus.ACTIVE));
+            assertEquals(0, service.countEmployees(null, null, EmploymentStatus.TERMINATED));
+            List<StatisticsCubeRow> byStatus = service.getStatisticsCube(
+                null, null, null, Set.of(EmployeeStatisticsCube.Dimension.STATUS));
+            assertEquals(1, byStatus.size());
+            assertEquals(EmploymentStatus.ACTIVE, byStatus.get(0).getStatus());
+            assertEquals(2, byStatus.get(0).getCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Columnar Store Tests")
+    class ColumnarStoreTest {
+
+        @Test
+        @DisplayName("Should keep the roster in sync with updates when backed by columns")
+        public void shouldKeepColumnsInSync() {
+            EmployeeService service = new EmployeeService("columnar");
+            service.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            service.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+            service.addEmployee(new Employee(LAST_NAME_3, FIRST_NAME_3, EMAIL_3, COMPANY_NAME_3, ROLE_3, SALARY_3));
+
+            service.updateEmployeeStatus(EMAIL_2, EmploymentStatus.ON_LEAVE);
+            service.updateEmployeeSalary(EMAIL_1, 9000);
+            service.removeEmployeeByEmail(EMAIL_3);
+
+            assertEquals(List.of(EMAIL_1, EMAIL_2),
+                service.getEmployees().stream().map(Employee::getEmailAddress).toList());
+            assertEquals(EMAIL_2, service.getEmployeesByStatus(EmploymentStatus.ON_LEAVE).get(0).getEmailAddress());
+            CompanyStatistics stats = service.getCompanyStatistics(COMPANY_NAME_1);
+            assertEquals(1, stats.getEmployeesCount());
+            assertEquals(9000, stats.getHighestSalary());
+            assertThrows(DuplicateEmailException.class, () -> service.addEmployee(
+                new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1.toUpperCase(), COMPANY_NAME_1, ROLE_1, SALARY_1)));
+        }
+
+        @Test
+        @DisplayName("Should answer salary aggregates from the columns as the indexes do")
+        public void shouldMatchIndexesWithColumnarKernels() {
+            EmployeeService columns = new EmployeeService("columnar");
+            Role[] roles = Role.values();
+            for (int i = 0; i < 40; i++) {
+                Employee employee = new Employee("Nowak", "Jan", "jan" + i + "@techcorp.com", "TechCorp",
+                    roles[i % roles.length], 2000 + (i * 7919) % 30000);
+                employeeService.addEmployee(employee);
+                columns.addEmployee(new Employee("Nowak", "Jan", employee.getEmailAddress(), "TechCorp",
+                    employee.getRole(), employee.getSalary()));
+            }
+            for (EmployeeService service : List.of(employeeService, columns)) {
+                service.removeEmployeeByEmail("jan3@techcorp.com");
+                service.updateEmployeeSalary("jan5@techcorp.com", 31999);
+                service.updateEmployeeSalary("jan16@techcorp.com", 31999);
+            }
+
+            assertEquals(employeeService.getAverageSalary(), columns.getAverageSalary(), 0.001);
+            assertEquals(employeeService.getEmployeeWithHighestSalary().orElseThrow().getEmailAddress(),
+                columns.getEmployeeWithHighestSalary().orElseThrow().getEmailAddress());
+            assertEquals(employeeService.validateSalaryConsistency().stream().map(Employee::getEmailAddress).toList(),
+                columns.validateSalaryConsistency().stream().map(Employee::getEmailAddress).toList());
+            assertTrue(new EmployeeService("columnar").getEmployeeWithHighestSalary().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should reject unknown store types")
+        public void shouldRejectUnknownStore() {
+            assertThrows(IllegalArgumentException.class, () -> new EmployeeService("cassandra"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Unindexed Service Tests")
+    class UnindexedServiceTest {
+
+        @Test
+        @DisplayName("Should answer searches, counts and statistics from store scans as the indexes do")
+        public void shouldMatchIndexesWithoutThem() {
+            EmployeeService scanning = new EmployeeService(new OffHeapEmployeeStore(), false);
+            Role[] roles = Role.values();
+            for (int i = 0; i < 40; i++) {
+                Employee employee = new Employee("Nowak" + i % 3, "Jan", "jan" + i + "@techcorp.com",
+                    i % 2 == 0 ? "TechCorp" : "SoftCorp", roles[i % roles.length], 2000 + (i * 7919) % 30000);
+                employeeService.addEmployee(employee);
+                scanning.addEmployee(new Employee(employee.getLastName(), "Jan", employee.getEmailAddress(),
+                    employee.getCompanyName(), employee.getRole(), employee.getSalary()));
+            }
+            for (EmployeeService service : List.of(employeeService, scanning)) {
+                service.removeEmployeeByEmail("jan3@techcorp.com");
+                service.updateEmployeeSalary("jan5@techcorp.com", 31999);
+                service.updateEmployeeStatus("jan8@techcorp.com", EmploymentStatus.ON_LEAVE);
+            }
+
+            EmployeeQuery query = new EmployeeQuery("TechCorp", null, EmploymentStatus.ACTIVE, 5000, null, "now", 2, 5);
+            assertEquals(emailsOf(employeeService.queryEmployees(query).getEmployees()),
+                emailsOf(scanning.queryEmployees(query).getEmployees()));
+            assertEquals(employeeService.queryEmployees(query).getTotal(), scanning.queryEmployees(query).getTotal());
+            assertEquals(emailsOf(employeeService.searchEmployeesByPrefix("nowak1", 10)),
+                emailsOf(scanning.searchEmployeesByPrefix("nowak1", 10)));
+            assertEquals(employeeService.searchEmployeesByName("Nowk", 5).size(),
+                scanning.searchEmployeesByName("Nowk", 5).size());
+            assertEquals(emailsOf(employeeService.getTopEarners("SoftCorp", 3)),
+                emailsOf(scanning.getTopEarners("SoftCorp", 3)));
+            assertEquals(emailsOf(employeeService.validateSalaryConsistency()),
+                emailsOf(scanning.validateSalaryConsistency()));
+            assertEquals(employeeService.countEmployees("TechCorp", null, EmploymentStatus.ACTIVE),
+                scanning.countEmployees("TechCorp", null, EmploymentStatus.ACTIVE));
+            assertEquals(employeeService.getStatusDistribution(), scanning.getStatusDistribution());
+            assertEquals(employeeService.getAverageSalary("SoftCorp"), scanning.getAverageSalary("SoftCorp"), 0.001);
+            assertEquals(employeeService.getSalaryPercentiles(null, null, List.of(50.0)).getPercentiles(),
+                scanning.getSalaryPercentiles(null, null, List.of(50.0)).getPercentiles());
+            assertTrue(scanning.getEmployeeByEmail("jan3@techcorp.com").isEmpty());
+            assertThrows(DuplicateEmailException.class, () -> scanning.addEmployees(List.of(
+                new Employee("Nowak", "Jan", "JAN4@techcorp.com", "TechCorp", ROLE_1, SALARY_1))));
+        }
+
+        private List<String> emailsOf(List<Employee> employees) {
+            return employees.stream().map(Employee::getEmailAddress).toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Persistence Tests")
+    class PersistenceTest {
+
+        @TempDir
+        Path tempDir;
+
+        @Test
+        @DisplayName("Should index the employees recovered from the journal")
+        public void shouldIndexRecoveredEmployees() throws IOException {
+            EmployeeService service = new EmployeeService("columnar", true, tempDir.toString(), 1000, false);
+            service.addEmployee(new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1));
+            service.addEmployee(new Employee(LAST_NAME_2, FIRST_NAME_2, EMAIL_2, COMPANY_NAME_2, ROLE_2, SALARY_2));
+            service.updateEmployeeStatus(EMAIL_2, EmploymentStatus.ON_LEAVE);
+            service.close();
+
+            EmployeeService recovered = new EmployeeService("columnar", true, tempDir.toString(), 1000, false);
+
+            assertEquals(2, recovered.countEmployees(null, null, null));
+            assertEquals(1, recovered.countEmployees(null, null, EmploymentStatus.ON_LEAVE));
+            assertEquals(EMAIL_1, recovered.searchEmployeesByPrefix(LAST_NAME_1, 1).get(0).getEmailAddress());
+            assertThrows(DuplicateEmailException.class, () -> recovered.addEmployee(
+                new Employee(LAST_NAME_1, FIRST_NAME_1, EMAIL_1, COMPANY_NAME_1, ROLE_1, SALARY_1)));
+            recovered.close();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyDictionary;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.ImportSummary;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeSnapshot Tests")
+class EmployeeSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Nested
+    @DisplayName("Format Tests")
+    class FormatTests {
+
+        @Test
+        @DisplayName("Should round-trip every employee field")
+        void shouldRoundTrip() throws IOException {
+            Path snapshot = tempDir.resolve("employees.snapshot");
+            EmployeeSnapshot.write(snapshot, List.of(
+                new Employee("Żółć", "Łukasz", "lukasz@techcorp.com", "TechCorp", Role.CEO, 250_000,
+                    EmploymentStatus.ON_LEAVE, "lukasz.png"),
+                new Employee("Nowak", "Anna", "anna@innovate.com", "Innovate", Role.INTERN, 0),
+                new Employee("Nowak", "Jan", "jan@techcorp.com", "TECHCORP", Role.ENGINEER, 8000,
+                    EmploymentStatus.TERMINATED)
+            ));
+
+            List<Employee> employees = EmployeeSnapshot.read(snapshot);
+
+            assertEquals(3, employees.size());
+            Employee lukasz = employees.get(0);
+            assertEquals("Żółć", lukasz.getLastName());
+            assertEquals("Łukasz", lukasz.getFirstName());
+            assertEquals("lukasz@techcorp.com", lukasz.getEmailAddress());
+            assertEquals(Role.CEO, lukasz.getRole());
+            assertEquals(250_000, lukasz.getSalary());
+            assertEquals(EmploymentStatus.ON_LEAVE, lukasz.getStatus());
+            assertEquals("lukasz.png", lukasz.getPhotoFileName());
+            assertNull(employees.get(1).getPhotoFileName());
+            assertEquals(0, employees.get(1).getSalary());
+            assertEquals(EmploymentStatus.TERMINATED, employees.get(2).getStatus());
+            assertSame(employees.get(1).getLastName(), employees.get(2).getLastName());
+
+            // Spellings survive, while ids still follow the case-insensitive dictionary.
+            assertEquals("TECHCORP", employees.get(2).getCompanyName());
+            assertEquals(CompanyDictionary.idOf("techcorp"), employees.get(2).getCompanyId());
+            assertEquals(employees.get(0).getCompanyId(), employees.get(2).getCompanyId());
+        }
+
+        @Test
+        @DisplayName("Should encode varints in as few bytes as the value needs")
+        void shouldEncodeVarints() {
+            ByteBuffer buffer = ByteBuffer.allocate(16);
+            for (int value : new int[] {0, 127, 128, 8000, Integer.MAX_VALUE}) {
+                EmployeeSnapshot.putVarint(buffer, value);
+            }
+            assertEquals(1 + 1 + 2 + 2 + 5, buffer.position());
+
+            buffer.flip();
+            assertEquals(0, EmployeeSnapshot.getVarint(buffer));
+            assertEquals(127, EmployeeSnapshot.getVarint(buffer));
+            assertEquals(128, EmployeeSnapshot.getVarint(buffer));
+            assertEquals(8000, EmployeeSnapshot.getVarint(buffer));
+            assertEquals(Integer.MAX_VALUE, EmployeeSnapshot.getVarint(buffer));
+        }
+
+        @Test
+        @DisplayName("Should reject corrupted and truncated snapshots")
+        void shouldRejectCorruption() throws IOException {
+            Path snapshot = tempDir.resolve("employees.snapshot");
+            EmployeeSnapshot.write(snapshot, List.of(
+                new Employee("Nowak", "Anna", "anna@innovate.com", "Innovate", Role.INTERN, 3000)
+            ));
+            byte[] bytes = Files.readAllBytes(snapshot);
+
+            bytes[bytes.length / 2] ^= 1;
+            Files.write(snapshot, bytes);
+            assertThrows(IOException.class, () -> EmployeeSnapshot.read(snapshot));
+
+            Files.write(snapshot, new byte[] {0x45, 0x53});
+            assertThrows(IOException.class, () -> EmployeeSnapshot.read(snapshot));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion Tests")
+    class ConversionTests {
+
+        @Test
+        @DisplayName("Should convert valid CSV rows and report the rest")
+        void shouldConvertCsv() throws IOException {
+            Path csv = tempDir.resolve("employees.csv");
+            Files.writeString(csv,
+                "firstName,lastName,email,company,position,salary\n" +
+                "John,Doe,john.doe@techcorp.com,TechCorp,ENGINEER,8500\n" +
+                "Jane,Smith,jane.smith@innovate.com,Innovate,MANAGER,12500\n" +
+                "Bob,Johnson,bob@techcorp.com,TechCorp,ASTRONAUT,3500\n" +
+                "John,Doe,JOHN.DOE@techcorp.com,TechCorp,INTERN,3000\n");
+            Path snapshot = tempDir.resolve("employees.snapshot");
+
+            ImportSummary summary = EmployeeSnapshotTool.convert(csv.toString(), snapshot);
+
+            assertEquals(2, summary.getSuccessCount());
+            assertEquals(2, summary.getErrors().size());
+            assertTrue(summary.getErrors().containsKey(4));
+            assertTrue(summary.getErrors().containsKey(5));
+            assertEquals(List.of("john.doe@techcorp.com", "jane.smith@innovate.com"),
+                EmployeeSnapshot.read(snapshot).stream().map(Employee::getEmailAddress).toList());
+        }
+
+        @Test
+        @DisplayName("Should start a journaled store from a converted snapshot")
+        void shouldWarmStartFromSnapshot() throws IOException {
+            Path csv = tempDir.resolve("employees.csv");
+            Files.writeString(csv, "John,Doe,john.doe@techcorp.com,TechCorp,ENGINEER,8500\n");
+            EmployeeSnapshotTool.convert(csv.toString(), tempDir.resolve(JournaledEmployeeStore.SNAPSHOT_FILE));
+
+            JournaledEmployeeStore store = new JournaledEmployeeStore(
+                new ListEmployeeStore(), tempDir.toString(), 1000, false
+            );
+            EmployeeService service = new EmployeeService(store);
+
+            assertEquals(8500, service.getEmployeeByEmail("john.doe@techcorp.com").orElseThrow().getSalary());
+            assertEquals(1, service.searchEmployeesByPrefix("do", 10).size());
+            store.close();
+        }
+    }
+}
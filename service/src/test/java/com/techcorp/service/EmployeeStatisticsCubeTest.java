@@ -0,0 +1,110 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.model.StatisticsCubeRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeStatisticsCube Tests")
+class EmployeeStatisticsCubeTest {
+
+    private List<Employee> employees;
+    private int scans;
+    private EmployeeStatisticsCube cube;
+
+    @BeforeEach
+    void setUp() {
+        employees = new ArrayList<>();
+        scans = 0;
+        cube = new EmployeeStatisticsCube((company, role, status) -> {
+            scans++;
+            return employees.stream()
+                .filter(e -> e.getCompanyName().equalsIgnoreCase(company) && e.getRole() == role && e.getStatus() == status)
+                .mapToInt(Employee::getSalary);
+        });
+        add(new Employee("Baggins", "Frodo", "frodo@techcorp.com", "TechCorp", Role.ENGINEER, 8500));
+        add(new Employee("Gamgee", "Sam", "sam@techcorp.com", "TechCorp", Role.ENGINEER, 9500));
+        add(new Employee("Took", "Pippin", "pippin@techcorp.com", "TechCorp", Role.INTERN, 3500, EmploymentStatus.ON_LEAVE));
+        add(new Employee("Scrubb", "Eustace", "eustace@innovate.com", "Innovate", Role.ENGINEER, 12000));
+    }
+
+    private void add(Employee employee) {
+        employees.add(employee);
+        cube.add(employee);
+    }
+
+    private void remove(Employee employee) {
+        employees.remove(employee);
+        cube.remove(employee);
+    }
+
+    @Test
+    @DisplayName("Should roll every dimension up into a grand total")
+    void shouldComputeGrandTotal() {
+        List<StatisticsCubeRow> rows = cube.query(null, null, null, Set.of());
+
+        assertEquals(1, rows.size());
+        StatisticsCubeRow total = rows.get(0);
+        assertNull(total.getCompanyName());
+        assertEquals(4, total.getCount());
+        assertEquals(33500, total.getSalarySum());
+        assertEquals(3500, total.getMinSalary());
+        assertEquals(12000, total.getMaxSalary());
+    }
+
+    @Test
+    @DisplayName("Should group by any combination of dimensions and apply filters")
+    void shouldGroupAndFilter() {
+        List<StatisticsCubeRow> byCompany = cube.query(null, Role.ENGINEER, null, EnumSet.of(EmployeeStatisticsCube.Dimension.COMPANY));
+        assertEquals(List.of("TechCorp", "Innovate"), byCompany.stream().map(StatisticsCubeRow::getCompanyName).toList());
+        assertEquals(9000.0, byCompany.get(0).getAverageSalary(), 0.01);
+
+        List<StatisticsCubeRow> byRoleAndStatus = cube.query("techcorp", null, null,
+            EnumSet.of(EmployeeStatisticsCube.Dimension.ROLE, EmployeeStatisticsCube.Dimension.STATUS));
+        assertEquals(2, byRoleAndStatus.size());
+        assertEquals(Role.INTERN, byRoleAndStatus.get(1).getRole());
+        assertEquals(EmploymentStatus.ON_LEAVE, byRoleAndStatus.get(1).getStatus());
+        assertNull(byRoleAndStatus.get(1).getCompanyName());
+
+        assertTrue(cube.query("Nowhere", null, null, Set.of()).isEmpty());
+        assertTrue(cube.query(null, Role.CEO, null, Set.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should recompute extremes lazily only after one of them was removed")
+    void shouldRecomputeExtremesLazily() {
+        remove(employees.get(0));
+        add(new Employee("Brandybuck", "Merry", "merry@techcorp.com", "TechCorp", Role.ENGINEER, 9000));
+        assertEquals(0, scans);
+
+        StatisticsCubeRow engineers = cube.query("TechCorp", Role.ENGINEER, EmploymentStatus.ACTIVE, Set.of()).get(0);
+        assertEquals(2, engineers.getCount());
+        assertEquals(9000, engineers.getMinSalary());
+        assertEquals(9500, engineers.getMaxSalary());
+        assertEquals(1, scans);
+
+        cube.query("TechCorp", Role.ENGINEER, EmploymentStatus.ACTIVE, Set.of());
+        assertEquals(1, scans);
+    }
+
+    @Test
+    @DisplayName("Should drop emptied cells")
+    void shouldDropEmptiedCells() {
+        remove(employees.get(3));
+
+        assertTrue(cube.query("Innovate", null, null, Set.of()).isEmpty());
+        add(new Employee("Pevensie", "Lucy", "lucy@innovate.com", "Innovate", Role.ENGINEER, 7000));
+        assertEquals(7000, cube.query("Innovate", null, null, Set.of()).get(0).getMaxSalary());
+        assertEquals(0, scans);
+    }
+}
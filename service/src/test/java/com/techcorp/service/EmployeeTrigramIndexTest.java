@@ -0,0 +1,124 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeeSearchHit;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeTrigramIndex Tests")
+class EmployeeTrigramIndexTest {
+
+    private EmployeeTrigramIndex index;
+    private ListEmployeeStore roster;
+
+    @BeforeEach
+    void setUp() {
+        roster = new ListEmployeeStore();
+        index = new EmployeeTrigramIndex(roster::findByEmails);
+        index.add(employee("Adam", "Johnson", "adam.johnson@techcorp.com"));
+        index.add(employee("Eve", "Jonsson", "eve.jonsson@techcorp.com"));
+        index.add(employee("Mary", "Smith", "mary.smith@techcorp.com"));
+        index.add(employee("Paweł", "Wiśniewski", "pawel@techcorp.com"));
+    }
+
+    private Employee employee(String firstName, String lastName, String email) {
+        Employee employee = new Employee(lastName, firstName, email, "TechCorp", Role.ENGINEER, 8000);
+        roster.save(employee);
+        return employee;
+    }
+
+    private List<String> emails(String query) {
+        return index.search(query, 10).stream()
+            .map(hit -> hit.getEmployee().getEmailAddress())
+            .toList();
+    }
+
+    @Nested
+    @DisplayName("Similarity Tests")
+    class SimilarityTests {
+
+        @Test
+        @DisplayName("Should pad words when building trigrams")
+        void shouldBuildTrigrams() {
+            assertEquals(Set.of(" jo", "jon", "on "), EmployeeTrigramIndex.trigrams("jon"));
+        }
+
+        @Test
+        @DisplayName("Should compute edit distance and allow more edits for longer words")
+        void shouldMeasureEditDistance() {
+            assertEquals(3, EmployeeTrigramIndex.levenshtein("kitten", "sitting"));
+            assertEquals(1, EmployeeTrigramIndex.maxDistance("anna"));
+            assertEquals(3, EmployeeTrigramIndex.maxDistance("wisniewski"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should rank misspelled names by edit distance")
+        void shouldRankMisspellings() {
+            List<EmployeeSearchHit> hits = index.search("Jonson", 10);
+
+            assertEquals(List.of("adam.johnson@techcorp.com", "eve.jonsson@techcorp.com"),
+                hits.stream().map(hit -> hit.getEmployee().getEmailAddress()).toList());
+            assertEquals(1, hits.get(0).getDistance());
+            assertTrue(hits.get(0).getScore() > 0.8);
+        }
+
+        @Test
+        @DisplayName("Should match full names and folded diacritics")
+        void shouldMatchFullNames() {
+            assertEquals(List.of("mary.smith@techcorp.com"), emails("Marry Smith"));
+            assertEquals(List.of("pawel@techcorp.com"), emails("pawel wisniewski"));
+        }
+
+        @Test
+        @DisplayName("Should not return dissimilar names")
+        void shouldIgnoreDissimilarNames() {
+            assertTrue(emails("Kowalczyk").isEmpty());
+            assertTrue(emails("   ").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should honour the result limit")
+        void shouldLimitResults() {
+            assertEquals(1, index.search("Jonson", 1).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should drop words of removed employees and reuse their ids")
+        void shouldRemoveEmployees() {
+            index.remove(employee("Adam", "Johnson", "adam.johnson@techcorp.com"));
+            index.add(employee("Tom", "Kowalski", "tom@techcorp.com"));
+
+            assertEquals(List.of("eve.jonsson@techcorp.com"), emails("Jonson"));
+            assertEquals(List.of("tom@techcorp.com"), emails("Kowalsky"));
+            assertEquals(8, index.getVocabularySize());
+        }
+
+        @Test
+        @DisplayName("Should keep words shared with remaining employees")
+        void shouldKeepSharedWords() {
+            index.add(employee("Mary", "Brown", "mary.brown@techcorp.com"));
+            index.remove(employee("Mary", "Smith", "mary.smith@techcorp.com"));
+
+            assertTrue(emails("Smith").isEmpty());
+            assertEquals(List.of("mary.brown@techcorp.com"), emails("Marry"));
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 import org.junit.jupiter.api.Nested;
@@ -361,6 +362,20 @@ class FileStorageServiceImplTest {
             assertTrue(savedFilePath.startsWith(customDir.toString()));
         }
 
+        @Test
+        void saveFile_ShouldRecreateCustomDirectory_WhenRemovedBetweenUploads() throws IOException {
+            Path customDir = tempDir.resolve("employee");
+            MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "content".getBytes());
+
+            Files.delete(Paths.get(fileStorageService.saveFile(file, customDir.toString())));
+            Files.delete(customDir);
+
+            String savedFilePath = fileStorageService.saveFile(file, customDir.toString());
+
+            assertTrue(Files.exists(Paths.get(savedFilePath)));
+            assertTrue(savedFilePath.startsWith(customDir.toString()));
+        }
+
         @Test
         void saveFile_ShouldThrowException_WhenCustomDirectoryIsNull() {
             MockMultipartFile file = new MockMultipartFile("file", "test.jpg", "image/jpeg", "content".getBytes());
@@ -392,5 +407,66 @@ class FileStorageServiceImplTest {
             assertTrue(exception.getMessage().contains("File is too large. Maximum size:"));
         }
     }
-}
 
+    @Nested
+    class Checksum {
+        // SHA-256 of "content"
+        private static final String CONTENT_SHA256 =
+            "ed7002b439e9ac845f22357d822bac1444730fbdb6016d3ec9432297b9ec9f73";
+
+        @Test
+        void storeFile_ShouldReturnDigestRecordedWhileSaving() {
+            MockMultipartFile file = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
+            StoredFile stored = fileStorageService.storeFile(file, tempDir.resolve("docs").toString());
+
+            assertEquals(CONTENT_SHA256, stored.checksum());
+            assertEquals(CONTENT_SHA256, fileStorageService.getChecksum(stored.path()));
+        }
+
+        @Test
+        void getChecksum_ShouldComputeDigestForUnknownFile() throws IOException {
+            Path existing = tempDir.resolve("existing.pdf");
+            Files.writeString(existing, "content");
+
+            assertEquals(CONTENT_SHA256, fileStorageService.getChecksum("existing.pdf"));
+        }
+
+        @Test
+        void computeChecksum_ShouldDetectChangedContent() throws IOException {
+            MockMultipartFile file = new MockMultipartFile("file", "test.pdf", "application/pdf", "content".getBytes());
+            StoredFile stored = fileStorageService.storeFile(file, tempDir.resolve("docs").toString());
+
+            Files.writeString(Paths.get(stored.path()), "corrupted");
+
+            assertEquals(CONTENT_SHA256, stored.checksum());
+            assertNotEquals(CONTENT_SHA256, fileStorageService.getChecksum(stored.path()));
+            assertNotEquals(CONTENT_SHA256, fileStorageService.computeChecksum(stored.path(), 1024 * 1024));
+        }
+
+        @Test
+        void computeChecksum_ShouldThrowException_WhenFileDoesNotExist() {
+            assertThrows(FileStorageException.class,
+                    () -> fileStorageService.computeChecksum("missing.pdf", 1024));
+        }
+    }
+
+    @Nested
+    class Attributes {
+
+        @Test
+        void getAttributes_ShouldReportSizeAndModificationTime() throws IOException {
+            Path existing = Files.writeString(tempDir.resolve("existing.jpg"), "content");
+            Files.setLastModifiedTime(existing, FileTime.fromMillis(1_700_000_000_000L));
+
+            FileAttributes attributes = fileStorageService.getAttributes("existing.jpg").orElseThrow();
+
+            assertEquals(7, attributes.size());
+            assertEquals(1_700_000_000_000L, attributes.lastModified());
+        }
+
+        @Test
+        void getAttributes_ShouldBeEmpty_WhenFileDoesNotExist() {
+            assertTrue(fileStorageService.getAttributes("missing.jpg").isEmpty());
+        }
+    }
+}
@@ -17,7 +17,9 @@ import com.techcorp.service.ImportService;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public class ImportServiceTest
 {
@@ -306,6 +308,32 @@ public class ImportServiceTest
         assertEquals(1, employeeService.getEmployees().size());
     }
 
+    @Test
+    @DisplayName("Should report every row of a batch the roster fails to store")
+    public void shouldReportEveryRowOfFailedBatch() throws IOException
+    {
+        EmployeeService failing = new EmployeeService(new ListEmployeeStore() {
+            @Override
+            public void addAll(List<Employee> employees) {
+                throw new IllegalStateException("store unavailable");
+            }
+        });
+        String csvPath = "failed_batch.csv";
+        String csvContent =
+            "firstName,lastName,email,company,position,salary\n" +
+            "John,Doe,john.doe@techcorp.com,TechCorp,ENGINEER,8500\n" +
+            "Invalid,Line,invalid@test.com,Test,INVALID,9000\n" +
+            "Jane,Smith,jane.smith@innovate.com,Innovate,MANAGER,12500\n";
+        csvPath = writeStringToFile(csvPath, csvContent);
+
+        ImportSummary summary = new ImportService(failing).importFromFile(csvPath);
+
+        assertEquals(0, summary.getSuccessCount());
+        assertEquals(Set.of(2, 3, 4), summary.getErrors().keySet());
+        assertTrue(summary.getErrors().get(4).getMessage().contains("store unavailable"));
+        assertEquals(0, failing.getEmployees().size());
+    }
+
     @Test
     @DisplayName("Should import from CSV and continue on errors")
     public void shouldImportFromCsvAndContinueOnErrors() throws IOException
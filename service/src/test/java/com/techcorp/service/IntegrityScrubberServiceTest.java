@@ -0,0 +1,108 @@
+package com.techcorp.service;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.model.IntegrityReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("IntegrityScrubberService Tests")
+class IntegrityScrubberServiceTest {
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @TempDir
+    Path tempDir;
+
+    private IntegrityScrubberService scrubberService;
+
+    @BeforeEach
+    void setUp() {
+        scrubberService = new IntegrityScrubberService(documentService, fileStorageService, 1024 * 1024);
+    }
+
+    private EmployeeDocument document(String id, Path path, String digest) {
+        return new EmployeeDocument(
+            id, "john@techcorp.com", path.getFileName().toString(), "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), path.toString(), digest
+        );
+    }
+
+    @Test
+    @DisplayName("Should report intact, corrupted, missing and unverified documents")
+    void shouldClassifyDocuments() throws IOException {
+        Path intact = Files.writeString(tempDir.resolve("intact.pdf"), "intact");
+        Path corrupted = Files.writeString(tempDir.resolve("corrupted.pdf"), "corrupted");
+        Path legacy = Files.writeString(tempDir.resolve("legacy.pdf"), "legacy");
+
+        when(documentService.getAllDocuments()).thenReturn(List.of(
+            document("doc-1", intact, "good"),
+            document("doc-2", corrupted, "expected"),
+            document("doc-3", tempDir.resolve("missing.pdf"), "whatever"),
+            document("doc-4", legacy, null)
+        ));
+        when(fileStorageService.computeChecksum(eq(intact.toString()), anyLong())).thenReturn("good");
+        when(fileStorageService.computeChecksum(eq(corrupted.toString()), anyLong())).thenReturn("actual");
+
+        IntegrityReport report = scrubberService.scrub().orElseThrow();
+
+        assertEquals(2, report.getCheckedCount());
+        assertEquals(1, report.getUnverifiedCount());
+        assertEquals(List.of("doc-2"), report.getCorruptedDocumentIds());
+        assertEquals(List.of("doc-3"), report.getMissingDocumentIds());
+        assertEquals("intact".length() + "corrupted".length(), report.getBytesChecked());
+        assertNotNull(report.getFinishedAt());
+    }
+
+    @Test
+    @DisplayName("Should pass configured rate limit to checksum computation")
+    void shouldPassConfiguredRateLimit() throws IOException {
+        Path file = Files.writeString(tempDir.resolve("file.pdf"), "content");
+        when(documentService.getAllDocuments()).thenReturn(List.of(document("doc-1", file, "digest")));
+        when(fileStorageService.computeChecksum(anyString(), anyLong())).thenReturn("digest");
+
+        scrubberService.scrub();
+
+        verify(fileStorageService).computeChecksum(file.toString(), 1024 * 1024);
+    }
+
+    @Test
+    @DisplayName("Should keep last report")
+    void shouldKeepLastReport() {
+        when(documentService.getAllDocuments()).thenReturn(List.of());
+
+        assertTrue(scrubberService.getLastReport().isEmpty());
+        IntegrityReport report = scrubberService.scrub().orElseThrow();
+
+        assertSame(report, scrubberService.getLastReport().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive rate limit")
+    void shouldRejectNonPositiveRateLimit() {
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new IntegrityScrubberService(documentService, fileStorageService, 0)
+        );
+    }
+}
@@ -0,0 +1,114 @@
+package com.techcorp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InvertedIndex Tests")
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.add("doc-1", InvertedIndex.tokenize("The employee agrees to a non-compete clause for twelve months."));
+        index.add("doc-2", InvertedIndex.tokenize("Confidentiality clause. The clause survives termination of the clause."));
+        index.add("doc-3", InvertedIndex.tokenize("Certificate of completion: Zażółć gęślą jaźń."));
+    }
+
+    private List<String> ids(String query) {
+        return index.search(InvertedIndex.parseQuery(query), 10).stream()
+            .map(InvertedIndex.Hit::documentId)
+            .toList();
+    }
+
+    @Nested
+    @DisplayName("Tokenizer Tests")
+    class TokenizerTests {
+
+        @Test
+        @DisplayName("Should lowercase and split on punctuation keeping Polish letters")
+        void shouldTokenize() {
+            assertEquals(List.of("non", "compete", "zażółć", "2024"), InvertedIndex.tokenize("Non-Compete, ZAŻÓŁĆ (2024)!"));
+        }
+
+        @Test
+        @DisplayName("Should parse quoted phrases and bare terms")
+        void shouldParseQuery() {
+            assertEquals(
+                List.of(List.of("non", "compete"), List.of("clause")),
+                InvertedIndex.parseQuery("\"non-compete\" clause")
+            );
+            assertTrue(InvertedIndex.parseQuery("  \"\" -- ").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Search Tests")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Should require every term to match")
+        void shouldIntersectTerms() {
+            assertEquals(List.of("doc-1"), ids("clause twelve"));
+            assertTrue(ids("clause certificate").isEmpty());
+            assertTrue(ids("unknown").isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should match phrases only at consecutive positions")
+        void shouldMatchPhrases() {
+            assertEquals(List.of("doc-1"), ids("\"non compete clause\""));
+            assertTrue(ids("\"clause non compete\"").isEmpty());
+            assertEquals(List.of("doc-3"), ids("\"gęślą jaźń\""));
+        }
+
+        @Test
+        @DisplayName("Should rank documents with more occurrences higher")
+        void shouldRankByFrequency() {
+            List<InvertedIndex.Hit> hits = index.search(InvertedIndex.parseQuery("clause"), 10);
+
+            assertEquals(List.of("doc-2", "doc-1"), hits.stream().map(InvertedIndex.Hit::documentId).toList());
+            assertEquals(3, hits.get(0).matches());
+            assertTrue(hits.get(0).score() > hits.get(1).score());
+        }
+
+        @Test
+        @DisplayName("Should honour the result limit")
+        void shouldLimitResults() {
+            assertEquals(1, index.search(InvertedIndex.parseQuery("clause"), 1).size());
+        }
+    }
+
+    @Nested
+    @DisplayName("Update Tests")
+    class UpdateTests {
+
+        @Test
+        @DisplayName("Should drop removed documents from postings")
+        void shouldRemoveDocument() {
+            index.remove("doc-2");
+
+            assertEquals(List.of("doc-1"), ids("clause"));
+            assertTrue(ids("confidentiality").isEmpty());
+            assertFalse(index.contains("doc-2"));
+            assertEquals(2, index.size());
+        }
+
+        @Test
+        @DisplayName("Should replace postings when a document is indexed again")
+        void shouldReindexDocument() {
+            index.add("doc-1", InvertedIndex.tokenize("Remote work policy."));
+
+            assertTrue(ids("twelve").isEmpty());
+            assertEquals(List.of("doc-1"), ids("remote"));
+            assertEquals(3, index.size());
+        }
+    }
+}
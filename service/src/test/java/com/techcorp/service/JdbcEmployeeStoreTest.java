@@ -0,0 +1,220 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmployeePage;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JdbcEmployeeStore Tests")
+class JdbcEmployeeStoreTest {
+
+    private EmbeddedDatabase database;
+    private JdbcEmployeeStore store;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+            .setType(EmbeddedDatabaseType.H2)
+            .generateUniqueName(true)
+            .build();
+        // A page size of two makes every listing span several keyset pages.
+        store = new JdbcEmployeeStore(database, 2, 2);
+        store.save(new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+        store.save(new Employee("Brown", "Tom", "tom@techcorp.com", "TechCorp", Role.MANAGER, 12000,
+            EmploymentStatus.ON_LEAVE, "tom.jpg"));
+        store.save(new Employee("Green", "Eve", "eve@innovate.com", "Innovate", Role.INTERN, 3000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private List<String> emails(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmailAddress).toList();
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should map every column of a row")
+        void shouldMapRows() {
+            Employee tom = store.findByEmail("TOM@techcorp.com").orElseThrow();
+
+            assertEquals("Tom Brown", tom.getFullName());
+            assertEquals("TechCorp", tom.getCompanyName());
+            assertEquals(Role.MANAGER, tom.getRole());
+            assertEquals(12000, tom.getSalary());
+            assertEquals(EmploymentStatus.ON_LEAVE, tom.getStatus());
+            assertEquals("tom.jpg", tom.getPhotoFileName());
+            assertTrue(store.findByEmail("nobody@techcorp.com").isEmpty());
+            assertTrue(store.findByEmail(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should read a batch of emails back in the requested order")
+        void shouldFindByEmails() {
+            List<String> requested = List.of("EVE@innovate.com", "nobody@techcorp.com", "anna@techcorp.com", "tom@techcorp.com");
+
+            // A batch size of two splits the lookup into two IN queries.
+            assertEquals(List.of("eve@innovate.com", "anna@techcorp.com", "tom@techcorp.com"),
+                emails(store.findByEmails(requested)));
+            assertTrue(store.findByEmails(List.of()).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should list in insertion order across keyset pages")
+        void shouldListAcrossPages() {
+            store.save(new Employee("White", "Ian", "ian@techcorp.com", "TECHCORP", Role.ENGINEER, 9000));
+            store.save(new Employee("Black", "Ola", "ola@techcorp.com", "TechCorp", Role.ENGINEER, 7000));
+
+            assertEquals(
+                List.of("anna@techcorp.com", "tom@techcorp.com", "eve@innovate.com", "ian@techcorp.com", "ola@techcorp.com"),
+                emails(store.findAll())
+            );
+            assertEquals(
+                List.of("anna@techcorp.com", "tom@techcorp.com", "ian@techcorp.com", "ola@techcorp.com"),
+                emails(store.findByCompanyName("techcorp"))
+            );
+            assertEquals(List.of("tom@techcorp.com"), emails(store.findByStatus(EmploymentStatus.ON_LEAVE)));
+            assertEquals(5, store.count());
+        }
+
+        @Test
+        @DisplayName("Should walk the roster in keyset pages that survive deletions")
+        void shouldWalkPagesByCursor() {
+            store.save(new Employee("White", "Ian", "ian@techcorp.com", "TechCorp", Role.ENGINEER, 9000));
+
+            EmployeePage first = store.findPage(null, 2);
+            assertEquals(List.of("anna@techcorp.com", "tom@techcorp.com"), emails(first.getEmployees()));
+            assertTrue(first.hasNext());
+
+            store.deleteByEmail("anna@techcorp.com");
+            EmployeePage second = store.findPage(first.getNextCursor(), 2);
+            assertEquals(List.of("eve@innovate.com", "ian@techcorp.com"), emails(second.getEmployees()));
+            assertFalse(second.hasNext());
+            assertThrows(IllegalArgumentException.class, () -> store.findPage("not-a-cursor", 2));
+        }
+
+        @Test
+        @DisplayName("Should aggregate company statistics like the in-memory stores")
+        void shouldMatchInMemoryStatistics() {
+            ListEmployeeStore reference = new ListEmployeeStore();
+            store.findAll().forEach(reference::save);
+            for (EmployeeStore target : List.of(store, reference)) {
+                target.save(new Employee("White", "Ian", "ian@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+                target.save(new Employee("Black", "Ola", "ola@techcorp.com", "TECHCORP", Role.VP, 18000));
+            }
+
+            Map<String, CompanyStatistics> statistics = store.getCompanyStatistics(EmploymentStatus.ACTIVE);
+            Map<String, CompanyStatistics> expected = reference.getCompanyStatistics(EmploymentStatus.ACTIVE);
+
+            assertEquals(expected.keySet(), statistics.keySet());
+            CompanyStatistics techCorp = statistics.get("TechCorp");
+            assertEquals(2, techCorp.getEmployeesCount());
+            assertEquals(8000, techCorp.getHighestSalary());
+            assertEquals(8000.0, techCorp.getAverageSalary(), 0.001);
+            assertEquals("Anna Smith", techCorp.getTopEarnerName());
+            for (String company : expected.keySet()) {
+                assertEquals(expected.get(company).getTopEarnerName(), statistics.get(company).getTopEarnerName());
+                assertEquals(expected.get(company).getAverageSalary(), statistics.get(company).getAverageSalary(), 0.001);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should overwrite, replace in place, update status and delete")
+        void shouldWriteRows() {
+            Employee anna = store.findByEmail("anna@techcorp.com").orElseThrow();
+            anna.setSalary(9000);
+            store.save(anna);
+            assertTrue(store.replace("TOM@techcorp.com",
+                new Employee("Brown", "Tom", "tom.brown@techcorp.com", "TechCorp", Role.VP, 20000)));
+            assertTrue(store.updateStatus("eve@innovate.com", EmploymentStatus.TERMINATED));
+
+            assertEquals(9000, store.findByEmail("anna@techcorp.com").orElseThrow().getSalary());
+            assertEquals(List.of("anna@techcorp.com", "tom.brown@techcorp.com", "eve@innovate.com"), emails(store.findAll()));
+            assertEquals(EmploymentStatus.TERMINATED, store.findByEmail("eve@innovate.com").orElseThrow().getStatus());
+            assertFalse(store.replace("nobody@techcorp.com", anna));
+            assertFalse(store.updateStatus("nobody@techcorp.com", EmploymentStatus.ACTIVE));
+
+            assertTrue(store.deleteByEmail("ANNA@techcorp.com"));
+            assertFalse(store.deleteByEmail("anna@techcorp.com"));
+            assertEquals(2, store.count());
+        }
+
+        @Test
+        @DisplayName("Should insert a batch spanning several statements")
+        void shouldAddBatch() {
+            List<Employee> batch = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                batch.add(new Employee("Nowak", "Jan" + i, "jan" + i + "@innovate.com", "Innovate", Role.ENGINEER, 8000 + i));
+            }
+
+            store.addAll(batch);
+
+            assertEquals(8, store.count());
+            assertEquals(8004, store.findByEmail("jan4@innovate.com").orElseThrow().getSalary());
+            assertEquals(6, store.findByCompanyName("Innovate").size());
+        }
+
+        @Test
+        @DisplayName("Should roll a failed batch back as a whole")
+        void shouldRollBackFailedBatch() {
+            List<Employee> batch = List.of(
+                new Employee("Nowak", "Jan", "jan@innovate.com", "Innovate", Role.ENGINEER, 8000),
+                new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000)
+            );
+
+            assertThrows(RuntimeException.class, () -> store.addAll(batch));
+
+            assertEquals(3, store.count());
+            assertTrue(store.findByEmail("jan@innovate.com").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Service Tests")
+    class ServiceTests {
+
+        @Test
+        @DisplayName("Should index the stored roster and keep it in step with the service")
+        void shouldBackEmployeeService() {
+            EmployeeService service = new EmployeeService(store);
+            assertEquals(3, service.countEmployees(null, null, null));
+
+            service.addEmployees(List.of(
+                new Employee("Nowak", "Jan", "jan@innovate.com", "Innovate", Role.ENGINEER, 9500),
+                new Employee("Kowalska", "Ewa", "ewa@innovate.com", "Innovate", Role.MANAGER, 14000)
+            ));
+            service.updateEmployeeSalary("anna@techcorp.com", 8800);
+
+            EmployeeService restarted = new EmployeeService(store);
+            assertEquals(5, restarted.countEmployees(null, null, null));
+            assertEquals(8800, restarted.getEmployeeByEmail("anna@techcorp.com").orElseThrow().getSalary());
+            assertEquals("Ewa Kowalska", restarted.getCompanyStatistics("Innovate").getTopEarnerName());
+            assertEquals(1, restarted.searchEmployeesByPrefix("kowal", 10).size());
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.techcorp.service;
+
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import com.techcorp.model.exception.FileStorageException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JournaledEmployeeStore Tests")
+class JournaledEmployeeStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    private JournaledEmployeeStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = open(1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private JournaledEmployeeStore open(int compactAfter) {
+        return new JournaledEmployeeStore(new ListEmployeeStore(), tempDir.toString(), compactAfter, false);
+    }
+
+    private JournaledEmployeeStore reopen() {
+        store.close();
+        store = open(1000);
+        return store;
+    }
+
+    private Employee employee(String email, int salary) {
+        return new Employee("Kowalski", "Jan", email, "TechCorp", Role.ENGINEER, salary);
+    }
+
+    private List<String> emails(EmployeeStore store) {
+        return store.findAll().stream().map(Employee::getEmailAddress).toList();
+    }
+
+    @Nested
+    @DisplayName("Recovery Tests")
+    class RecoveryTests {
+
+        @Test
+        @DisplayName("Should recover every kind of mutation from the log")
+        void shouldRecoverFromLog() {
+            Employee jan = new Employee(
+                "Kowalski", "Jan", "jan@techcorp.com", "TechCorp", Role.MANAGER, 12000,
+                EmploymentStatus.ACTIVE, "jan.png"
+            );
+            store.save(jan);
+            store.save(employee("anna@techcorp.com", 8000));
+            store.save(employee("piotr@techcorp.com", 8000));
+            store.updateStatus("jan@techcorp.com", EmploymentStatus.ON_LEAVE);
+            store.replace("anna@techcorp.com", employee("anna.nowak@techcorp.com", 9000));
+            store.deleteByEmail("piotr@techcorp.com");
+
+            JournaledEmployeeStore recovered = reopen();
+
+            assertEquals(List.of("jan@techcorp.com", "anna.nowak@techcorp.com"), emails(recovered));
+            Employee recoveredJan = recovered.findByEmail("jan@techcorp.com").orElseThrow();
+            assertEquals("Kowalski", recoveredJan.getLastName());
+            assertEquals("Jan", recoveredJan.getFirstName());
+            assertEquals("TechCorp", recoveredJan.getCompanyName());
+            assertEquals(Role.MANAGER, recoveredJan.getRole());
+            assertEquals(12000, recoveredJan.getSalary());
+            assertEquals(EmploymentStatus.ON_LEAVE, recoveredJan.getStatus());
+            assertEquals("jan.png", recoveredJan.getPhotoFileName());
+            assertEquals(9000, recovered.findByEmail("anna.nowak@techcorp.com").orElseThrow().getSalary());
+        }
+
+        @Test
+        @DisplayName("Should recover from snapshot and truncate the log after compaction")
+        void shouldRecoverFromSnapshot() throws IOException {
+            store.save(employee("jan@techcorp.com", 8000));
+            store.save(employee("anna@techcorp.com", 8000));
+            store.compact();
+            store.save(employee("piotr@techcorp.com", 8000));
+            store.deleteByEmail("jan@techcorp.com");
+
+            assertTrue(Files.exists(tempDir.resolve(JournaledEmployeeStore.SNAPSHOT_FILE)));
+
+            assertEquals(List.of("anna@techcorp.com", "piotr@techcorp.com"), emails(reopen()));
+        }
+
+        @Test
+        @DisplayName("Should compact automatically once the log reaches the threshold")
+        void shouldCompactAutomatically() throws IOException {
+            store.close();
+            store = open(3);
+
+            for (int i = 0; i < 3; i++) {
+                store.save(employee("employee" + i + "@techcorp.com", 8000));
+            }
+
+            assertEquals(0, Files.size(tempDir.resolve(JournaledEmployeeStore.LOG_FILE)));
+            assertEquals(3, reopen().count());
+        }
+
+        @Test
+        @DisplayName("Should tolerate replaying a log the snapshot already contains")
+        void shouldReplayLogOverSnapshot() throws IOException {
+            store.save(employee("anna@techcorp.com", 8000));
+            store.replace("anna@techcorp.com", employee("anna.nowak@techcorp.com", 9000));
+            store.save(employee("anna@techcorp.com", 7000));
+            store.close();
+            Path log = tempDir.resolve(JournaledEmployeeStore.LOG_FILE);
+            byte[] records = Files.readAllBytes(log);
+
+            // A crash after the snapshot was written but before the log was emptied.
+            store = open(1000);
+            store.compact();
+            store.close();
+            Files.write(log, records);
+            store = open(1000);
+
+            assertEquals(List.of("anna.nowak@techcorp.com", "anna@techcorp.com"), emails(store));
+            assertEquals(7000, store.findByEmail("anna@techcorp.com").orElseThrow().getSalary());
+        }
+
+        @Test
+        @DisplayName("Should discard a torn record at the end of the log")
+        void shouldDiscardTornRecord() throws IOException {
+            store.save(employee("jan@techcorp.com", 8000));
+            store.close();
+
+            Path log = tempDir.resolve(JournaledEmployeeStore.LOG_FILE);
+            long validLength = Files.size(log);
+            Files.write(log, new byte[] {0, 0, 0, 100, 1, 2, 3}, StandardOpenOption.APPEND);
+
+            store = open(1000);
+
+            assertEquals(1, store.count());
+            assertEquals(validLength, Files.size(log));
+
+            store.save(employee("anna@techcorp.com", 8000));
+            assertEquals(2, reopen().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Group Commit Tests")
+    class GroupCommitTests {
+
+        @Test
+        @DisplayName("Should not log mutations the delegate rejects")
+        void shouldSkipMissingEmployees() throws IOException {
+            assertFalse(store.deleteByEmail("nobody@techcorp.com"));
+            assertFalse(store.updateStatus("nobody@techcorp.com", EmploymentStatus.TERMINATED));
+            assertFalse(store.replace("nobody@techcorp.com", employee("jan@techcorp.com", 8000)));
+
+            assertEquals(0, Files.size(tempDir.resolve(JournaledEmployeeStore.LOG_FILE)));
+        }
+
+        @Test
+        @DisplayName("Should leave the delegate untouched when the log cannot be written")
+        void shouldNotApplyUnloggedWrites() {
+            ListEmployeeStore delegate = new ListEmployeeStore();
+            store.close();
+            store = new JournaledEmployeeStore(delegate, tempDir.toString(), 1000, false);
+            store.save(employee("anna@techcorp.com", 8000));
+            store.close();
+
+            assertThrows(FileStorageException.class, () -> store.save(employee("jan@techcorp.com", 8000)));
+            assertThrows(FileStorageException.class,
+                () -> store.updateStatus("anna@techcorp.com", EmploymentStatus.TERMINATED));
+
+            assertEquals(List.of("anna@techcorp.com"), emails(delegate));
+            assertEquals(EmploymentStatus.ACTIVE, delegate.findByEmail("anna@techcorp.com").orElseThrow().getStatus());
+        }
+
+        @Test
+        @DisplayName("Should make every concurrent write durable")
+        void shouldHandleConcurrentWrites() throws Exception {
+            store.close();
+            store = new JournaledEmployeeStore(new ListEmployeeStore(), tempDir.toString(), 1000, true);
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    String email = "employee" + i + "@techcorp.com";
+                    futures.add(executor.submit(() -> store.save(employee(email, 8000))));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            assertEquals(400, store.count());
+            assertEquals(400, reopen().count());
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CompanyStatistics;
+import com.techcorp.model.Employee;
+import com.techcorp.model.EmploymentStatus;
+import com.techcorp.model.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OffHeapEmployeeStore Tests")
+class OffHeapEmployeeStoreTest {
+
+    private OffHeapEmployeeStore store;
+
+    @BeforeEach
+    void setUp() {
+        // Small segments, so a handful of employees already spans several of them.
+        store = new OffHeapEmployeeStore(256);
+        store.save(new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+        store.save(new Employee("Brown", "Tom", "tom@techcorp.com", "TechCorp", Role.MANAGER, 12000,
+            EmploymentStatus.ON_LEAVE, "tom.jpg"));
+        store.save(new Employee("Wiśniewska", "Zofia", "zofia@innovate.com", "Innovate", Role.INTERN, 3000));
+    }
+
+    private List<String> emails(List<Employee> employees) {
+        return employees.stream().map(Employee::getEmailAddress).toList();
+    }
+
+    @Nested
+    @DisplayName("Read Tests")
+    class ReadTests {
+
+        @Test
+        @DisplayName("Should decode every field of a record")
+        void shouldMaterializeRecords() {
+            Employee tom = store.findByEmail("TOM@techcorp.com").orElseThrow();
+
+            assertEquals("Tom Brown", tom.getFullName());
+            assertEquals("TechCorp", tom.getCompanyName());
+            assertEquals(Role.MANAGER, tom.getRole());
+            assertEquals(12000, tom.getSalary());
+            assertEquals(EmploymentStatus.ON_LEAVE, tom.getStatus());
+            assertEquals("tom.jpg", tom.getPhotoFileName());
+            assertEquals("Wiśniewska", store.findByEmail("zofia@innovate.com").orElseThrow().getLastName());
+            assertTrue(store.findByEmail("nobody@techcorp.com").isEmpty());
+            assertTrue(store.findByEmail(null).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Should filter by company ignoring case and by status")
+        void shouldFilterRecords() {
+            assertEquals(List.of("anna@techcorp.com", "tom@techcorp.com"), emails(store.findByCompanyName("TECHCORP")));
+            assertEquals(List.of("tom@techcorp.com"), emails(store.findByStatus(EmploymentStatus.ON_LEAVE)));
+            assertEquals(3, store.count());
+        }
+
+        @Test
+        @DisplayName("Should aggregate company statistics from the records")
+        void shouldComputeCompanyStatistics() {
+            store.save(new Employee("White", "Ian", "ian@techcorp.com", "TechCorp", Role.ENGINEER, 9000));
+
+            Map<String, CompanyStatistics> statistics = store.getCompanyStatistics(EmploymentStatus.ACTIVE);
+
+            CompanyStatistics techCorp = statistics.get("TechCorp");
+            assertEquals(2, techCorp.getEmployeesCount());
+            assertEquals(9000, techCorp.getHighestSalary());
+            assertEquals(8500.0, techCorp.getAverageSalary(), 0.001);
+            assertEquals("Ian White", techCorp.getTopEarnerName());
+            assertEquals(1, statistics.get("Innovate").getEmployeesCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("Write Tests")
+    class WriteTests {
+
+        @Test
+        @DisplayName("Should overwrite records in place on save and replace")
+        void shouldOverwriteRecords() {
+            Employee anna = store.findByEmail("anna@techcorp.com").orElseThrow();
+            anna.setStatus(EmploymentStatus.TERMINATED);
+            anna.setPhotoFileName("anna.png");
+            store.save(anna);
+            assertTrue(store.replace("TOM@techcorp.com",
+                new Employee("Black", "Tim", "tim@techcorp.com", "TechCorp", Role.ENGINEER, 7000)));
+
+            Employee saved = store.findByEmail("anna@techcorp.com").orElseThrow();
+            assertEquals(EmploymentStatus.TERMINATED, saved.getStatus());
+            assertEquals("anna.png", saved.getPhotoFileName());
+            assertTrue(store.findByEmail("tom@techcorp.com").isEmpty());
+            assertEquals(List.of("anna@techcorp.com", "tim@techcorp.com", "zofia@innovate.com"), emails(store.findAll()));
+            assertFalse(store.replace("tom@techcorp.com", saved));
+            assertEquals(3, store.count());
+        }
+
+        @Test
+        @DisplayName("Should grow the email table and reclaim deleted records")
+        void shouldCompactDeletedRecords() {
+            for (int i = 0; i < 3000; i++) {
+                store.save(new Employee("Temp", "Worker", "temp" + i + "@techcorp.com", "TechCorp", Role.INTERN, 3000 + i));
+            }
+            for (int i = 0; i < 3000; i += 2) {
+                assertTrue(store.deleteByEmail("temp" + i + "@techcorp.com"));
+            }
+            for (int i = 1; i < 3000; i += 2) {
+                assertTrue(store.deleteByEmail("temp" + i + "@techcorp.com"));
+            }
+            assertTrue(store.deleteByEmail("anna@techcorp.com"));
+            assertFalse(store.deleteByEmail("anna@techcorp.com"));
+            store.save(new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000));
+
+            assertEquals(List.of("tom@techcorp.com", "zofia@innovate.com", "anna@techcorp.com"), emails(store.findAll()));
+            assertEquals("tom.jpg", store.findByEmail("tom@techcorp.com").orElseThrow().getPhotoFileName());
+            assertEquals(3, store.count());
+        }
+
+        @Test
+        @DisplayName("Should size segments to the roster and reclaim renamed string blocks")
+        void shouldReclaimSupersededStrings() {
+            OffHeapEmployeeStore roomy = new OffHeapEmployeeStore();
+            Employee anna = new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000);
+            roomy.save(anna);
+            assertTrue(roomy.reservedBytes() < 256 << 10);
+
+            // Every new photo name leaves the previous string block behind.
+            for (int i = 0; i < 20_000; i++) {
+                anna.setPhotoFileName("anna-" + i + ".png");
+                roomy.save(anna);
+            }
+
+            assertTrue(roomy.reservedBytes() < 256 << 10);
+            assertEquals("anna-19999.png", roomy.findByEmail("anna@techcorp.com").orElseThrow().getPhotoFileName());
+            assertEquals(1, roomy.count());
+        }
+
+        @Test
+        @DisplayName("Should reject segments too small for a record")
+        void shouldRejectTinySegments() {
+            assertThrows(IllegalArgumentException.class, () -> new OffHeapEmployeeStore(16));
+            OffHeapEmployeeStore tiny = new OffHeapEmployeeStore(32);
+            assertThrows(IllegalArgumentException.class, () -> tiny.save(
+                new Employee("Smith", "Anna", "anna@techcorp.com", "TechCorp", Role.ENGINEER, 8000)));
+        }
+    }
+}
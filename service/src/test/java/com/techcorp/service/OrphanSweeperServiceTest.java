@@ -0,0 +1,202 @@
+package com.techcorp.service;
+
+import com.techcorp.model.DocumentType;
+import com.techcorp.model.EmployeeDocument;
+import com.techcorp.model.OrphanSweepReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrphanSweeperService Tests")
+class OrphanSweeperServiceTest {
+
+    private static final long ONE_HOUR = 60 * 60 * 1000;
+
+    @Mock
+    private DocumentService documentService;
+
+    @Mock
+    private PhotoService photoService;
+
+    @TempDir
+    Path tempDir;
+
+    private Path photosDir;
+    private Path documentsDir;
+    private OrphanSweeperService sweeperService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        photosDir = Files.createDirectories(tempDir.resolve("photos"));
+        documentsDir = Files.createDirectories(tempDir.resolve("documents"));
+        FileStorageService fileStorageService = new FileStorageServiceImpl(tempDir.toString(), "csv,pdf,jpg", "10MB");
+        sweeperService = new OrphanSweeperService(
+            documentService, photoService, fileStorageService, tempDir.toString(), ONE_HOUR, 2, 0, true, false
+        );
+
+        lenient().when(photoService.getStorageDirectory()).thenReturn(photosDir);
+        lenient().when(documentService.getStorageDirectory()).thenReturn(documentsDir);
+        lenient().when(photoService.getReferencedFiles()).thenReturn(Set.of());
+        lenient().when(documentService.getAllDocuments()).thenReturn(List.of());
+    }
+
+    private Path oldFile(Path path, String content) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.writeString(path, content);
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(2, ChronoUnit.HOURS)));
+        return path;
+    }
+
+    private EmployeeDocument document(Path path) {
+        return new EmployeeDocument(
+            "doc-1", "john@techcorp.com", path.getFileName().toString(), "contract.pdf",
+            DocumentType.CONTRACT, LocalDateTime.now(), path.toString()
+        );
+    }
+
+    @Test
+    @DisplayName("Should delete unreferenced files and keep referenced ones")
+    void shouldDeleteOnlyUnreferencedFiles() throws IOException {
+        Path importFile = oldFile(tempDir.resolve("employees_1234.csv"), "csv");
+        Path photo = oldFile(photosDir.resolve("john@techcorp.com/photo.jpg"), "photo");
+        Path thumbnail = oldFile(photosDir.resolve("john@techcorp.com/thumbnails/64_photo.jpg"), "thumb");
+        Path removedPhoto = oldFile(photosDir.resolve("gone@techcorp.com/photo.jpg"), "gone");
+        Path document = oldFile(documentsDir.resolve("john@techcorp.com/uuid_contract.pdf"), "contract");
+        Path deletedDocument = oldFile(documentsDir.resolve("john@techcorp.com/uuid_old.pdf"), "old");
+
+        when(photoService.getReferencedFiles()).thenReturn(Set.of(photo, thumbnail));
+        when(documentService.getAllDocuments()).thenReturn(List.of(document(document)));
+
+        OrphanSweepReport report = sweeperService.sweep().orElseThrow();
+
+        assertEquals(6, report.getScannedCount());
+        assertEquals(3, report.getDeletedCount());
+        assertEquals("csv".length() + "gone".length() + "old".length(), report.getBytesReclaimed());
+        assertEquals(0, report.getFailedCount());
+        assertNotNull(report.getFinishedAt());
+
+        assertFalse(Files.exists(importFile));
+        assertFalse(Files.exists(removedPhoto));
+        assertFalse(Files.exists(deletedDocument));
+        assertTrue(Files.exists(photo));
+        assertTrue(Files.exists(thumbnail));
+        assertTrue(Files.exists(document));
+    }
+
+    @Test
+    @DisplayName("Should keep files younger than the grace period")
+    void shouldKeepRecentFiles() throws IOException {
+        Path recent = documentsDir.resolve("john@techcorp.com/uuid_in_flight.pdf");
+        Files.createDirectories(recent.getParent());
+        Files.writeString(recent, "in flight");
+
+        OrphanSweepReport report = sweeperService.sweep().orElseThrow();
+
+        assertEquals(1, report.getScannedCount());
+        assertEquals(0, report.getDeletedCount());
+        assertTrue(Files.exists(recent));
+    }
+
+    @Test
+    @DisplayName("Should delete every orphan across several batches")
+    void shouldDeleteAcrossBatches() throws IOException {
+        for (int i = 0; i < 5; i++) {
+            oldFile(tempDir.resolve("import_" + i + ".csv"), "x");
+        }
+
+        OrphanSweepReport report = sweeperService.sweep().orElseThrow();
+
+        assertEquals(5, report.getDeletedCount());
+        assertEquals(5, report.getBytesReclaimed());
+    }
+
+    @Test
+    @DisplayName("Should only report orphans in a dry run")
+    void shouldOnlyReportInDryRun() throws IOException {
+        Path orphan = oldFile(documentsDir.resolve("john@techcorp.com/uuid_old.pdf"), "old");
+        OrphanSweeperService dryRun = new OrphanSweeperService(
+            documentService, photoService, new FileStorageServiceImpl(tempDir.toString(), "csv,pdf,jpg", "10MB"),
+            tempDir.toString(), ONE_HOUR, 2, 0, true, true
+        );
+
+        OrphanSweepReport report = dryRun.sweep().orElseThrow();
+
+        assertTrue(report.isDryRun());
+        assertEquals(1, report.getOrphanCount());
+        assertEquals(0, report.getDeletedCount());
+        assertTrue(Files.exists(orphan));
+    }
+
+    @Test
+    @DisplayName("Should never touch files outside the upload root")
+    void shouldStayInsideUploadRoot() throws IOException {
+        Path photo = oldFile(photosDir.resolve("gone@techcorp.com/photo.jpg"), "gone");
+        Path document = oldFile(documentsDir.resolve("john@techcorp.com/uuid_old.pdf"), "old");
+        OrphanSweeperService documentsOnly = new OrphanSweeperService(
+            documentService, photoService, new FileStorageServiceImpl(tempDir.toString(), "csv,pdf,jpg", "10MB"),
+            documentsDir.toString(), ONE_HOUR, 2, 0, true, false
+        );
+
+        OrphanSweepReport report = documentsOnly.sweep().orElseThrow();
+
+        assertEquals(1, report.getDeletedCount());
+        assertFalse(Files.exists(document));
+        assertTrue(Files.exists(photo));
+    }
+
+    @Test
+    @DisplayName("Should skip scheduled sweeps unless enabled")
+    void shouldSkipScheduledSweepWhenDisabled() throws IOException {
+        Path orphan = oldFile(tempDir.resolve("employees_1234.csv"), "csv");
+        OrphanSweeperService disabled = new OrphanSweeperService(
+            documentService, photoService, new FileStorageServiceImpl(tempDir.toString(), "csv,pdf,jpg", "10MB"),
+            tempDir.toString(), ONE_HOUR, 2, 0, false, false
+        );
+
+        disabled.scheduledSweep();
+
+        assertTrue(disabled.getLastReport().isEmpty());
+        assertTrue(Files.exists(orphan));
+    }
+
+    @Test
+    @DisplayName("Should remember the last report")
+    void shouldRememberLastReport() {
+        assertTrue(sweeperService.getLastReport().isEmpty());
+
+        OrphanSweepReport report = sweeperService.sweep().orElseThrow();
+
+        assertSame(report, sweeperService.getLastReport().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        FileStorageService fileStorageService = mock(FileStorageService.class);
+
+        assertThrows(IllegalArgumentException.class, () -> new OrphanSweeperService(
+            documentService, photoService, fileStorageService, tempDir.toString(), -1, 10, 0, true, false
+        ));
+        assertThrows(IllegalArgumentException.class, () -> new OrphanSweeperService(
+            documentService, photoService, fileStorageService, tempDir.toString(), 0, 0, 0, true, false
+        ));
+    }
+}
@@ -0,0 +1,89 @@
+package com.techcorp.service;
+
+import com.techcorp.model.CacheStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PhotoCache Tests")
+class PhotoCacheTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    @DisplayName("Should return cached content")
+    void shouldReturnCachedContent(boolean offHeap) {
+        PhotoCache cache = new PhotoCache(1024, offHeap);
+        cache.put("a", new byte[]{1, 2, 3});
+
+        assertArrayEquals(new byte[]{1, 2, 3}, cache.get("a").orElseThrow());
+        assertTrue(cache.get("b").isEmpty());
+
+        CacheStatistics stats = cache.getStatistics();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+        assertEquals(0.5, stats.getHitRate());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries when byte budget is exceeded")
+    void shouldEvictLeastRecentlyUsedEntries() {
+        PhotoCache cache = new PhotoCache(10, false);
+        cache.put("a", new byte[4]);
+        cache.put("b", new byte[4]);
+        cache.get("a");
+        cache.put("c", new byte[4]);
+
+        assertTrue(cache.get("a").isPresent());
+        assertTrue(cache.get("b").isEmpty());
+        assertTrue(cache.get("c").isPresent());
+        assertEquals(8, cache.getStatistics().getSizeBytes());
+        assertEquals(1, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache entries larger than the budget")
+    void shouldNotCacheOversizedEntries() {
+        PhotoCache cache = new PhotoCache(10, false);
+        cache.put("big", new byte[11]);
+
+        assertTrue(cache.get("big").isEmpty());
+        assertEquals(0, cache.getStatistics().getSizeBytes());
+    }
+
+    @Test
+    @DisplayName("Should replace entry and account its size once")
+    void shouldReplaceEntry() {
+        PhotoCache cache = new PhotoCache(10, false);
+        cache.put("a", new byte[4]);
+        cache.put("a", new byte[6]);
+
+        assertEquals(6, cache.getStatistics().getSizeBytes());
+        assertEquals(1, cache.getStatistics().getEntryCount());
+    }
+
+    @Test
+    @DisplayName("Should not expose internal buffer to callers")
+    void shouldNotExposeInternalBuffer() {
+        PhotoCache cache = new PhotoCache(10, false);
+        byte[] content = {1, 2, 3};
+        cache.put("a", content);
+        content[0] = 9;
+        cache.get("a").orElseThrow()[1] = 9;
+
+        assertArrayEquals(new byte[]{1, 2, 3}, cache.get("a").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should drop entry on invalidate")
+    void shouldDropEntryOnInvalidate() {
+        PhotoCache cache = new PhotoCache(10, false);
+        cache.put("a", new byte[4]);
+        cache.invalidate("a");
+
+        assertTrue(cache.get("a").isEmpty());
+        assertEquals(0, cache.getStatistics().getSizeBytes());
+    }
+}
@@ -9,13 +9,21 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,12 +39,20 @@ class PhotoServiceTest {
     @Mock
     private EmployeeService employeeService;
 
+    @Mock
+    private ThumbnailGenerator thumbnailGenerator;
+
     private PhotoService photoService;
+    private PhotoCache photoCache;
     private Employee testEmployee;
 
+    @TempDir
+    Path tempDir;
+
     @BeforeEach
     void setUp() {
-        photoService = new PhotoService(fileStorageService, employeeService, "uploads");
+        photoCache = new PhotoCache(1024 * 1024, false);
+        photoService = new PhotoService(fileStorageService, employeeService, photoCache, thumbnailGenerator, "uploads");
         testEmployee = Employee.createEmployee(
             "Doe", "John", "john@techcorp.com", "TechCorp", Role.ENGINEER
         );
@@ -62,10 +78,58 @@ class PhotoServiceTest {
 
             assertNotNull(fileName);
             assertEquals("uuid_photo.jpg", fileName);
-            assertEquals("uuid_photo.jpg", testEmployee.getPhotoFileName());
+            verify(employeeService).updateEmployeePhoto("john@techcorp.com", "uuid_photo.jpg");
             verify(fileStorageService, times(1)).saveFile(any(), eq("uploads/photos/john@techcorp.com"));
         }
 
+        @Test
+        @DisplayName("Should schedule thumbnail generation after saving")
+        void shouldScheduleThumbnailGeneration() {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "photo.jpg", "image/jpeg", "photo content".getBytes()
+            );
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(fileStorageService.saveFile(any(), eq("uploads/photos/john@techcorp.com")))
+                .thenReturn("uploads/photos/john@techcorp.com/uuid_photo.jpg");
+
+            photoService.savePhoto("john@techcorp.com", file);
+
+            verify(thumbnailGenerator, times(1)).submit(any(Runnable.class));
+        }
+
+        @Test
+        @DisplayName("Should discard thumbnails of a photo replaced before they were written")
+        void shouldDiscardStaleThumbnails() throws IOException {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "photo.jpg", "image/jpeg", "photo content".getBytes()
+            );
+            Path photo = Files.write(tempDir.resolve("uuid_photo.jpg"), "photo content".getBytes());
+            Path thumbnail = tempDir.resolve("thumbnails/64_uuid_photo.jpg");
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(fileStorageService.saveFile(any(), eq("uploads/photos/john@techcorp.com")))
+                .thenReturn("uploads/photos/john@techcorp.com/uuid_photo.jpg");
+            when(fileStorageService.loadFile("photos/john@techcorp.com/uuid_photo.jpg"))
+                .thenReturn(new FileSystemResource(photo));
+            when(fileStorageService.getFullPath("photos/john@techcorp.com/thumbnails/64_uuid_photo.jpg"))
+                .thenReturn(thumbnail.toString());
+            when(thumbnailGenerator.getSizes()).thenReturn(List.of(64));
+            when(thumbnailGenerator.resize("photo content".getBytes(), 64, "jpg"))
+                .thenReturn("small".getBytes());
+
+            photoService.savePhoto("john@techcorp.com", file);
+            ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+            verify(thumbnailGenerator).submit(task.capture());
+
+            testEmployee.setPhotoFileName("newer_photo.jpg");
+            task.getValue().run();
+
+            assertFalse(Files.exists(thumbnail));
+        }
+
         @Test
         @DisplayName("Should save PNG photo")
         void shouldSavePngPhoto() {
@@ -211,7 +275,7 @@ class PhotoServiceTest {
 
             assertNotNull(fileName);
             assertEquals("uuid_new_photo.jpg", fileName);
-            assertEquals("uuid_new_photo.jpg", testEmployee.getPhotoFileName());
+            verify(employeeService).updateEmployeePhoto("john@techcorp.com", "uuid_new_photo.jpg");
             verify(fileStorageService, times(1)).deleteFile("photos/john@techcorp.com/old_photo.jpg");
         }
     }
@@ -232,6 +296,43 @@ class PhotoServiceTest {
             );
         }
 
+        @Test
+        @DisplayName("Should serve repeated loads from cache")
+        void shouldServeRepeatedLoadsFromCache() throws IOException {
+            testEmployee.setPhotoFileName("photo.jpg");
+            Path photo = Files.write(tempDir.resolve("photo.jpg"), "photo content".getBytes());
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(fileStorageService.loadFile("photos/john@techcorp.com/photo.jpg"))
+                .thenReturn(new FileSystemResource(photo));
+
+            Resource first = photoService.loadPhoto("john@techcorp.com");
+            Resource second = photoService.loadPhoto("john@techcorp.com");
+
+            assertArrayEquals("photo content".getBytes(), first.getContentAsByteArray());
+            assertArrayEquals("photo content".getBytes(), second.getContentAsByteArray());
+            verify(fileStorageService, times(1)).loadFile("photos/john@techcorp.com/photo.jpg");
+            assertEquals(1, photoCache.getStatistics().getHitCount());
+            assertEquals(1, photoCache.getStatistics().getMissCount());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when photo file is missing")
+        void shouldThrowExceptionWhenPhotoFileIsMissing() {
+            testEmployee.setPhotoFileName("photo.jpg");
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(fileStorageService.loadFile("photos/john@techcorp.com/photo.jpg"))
+                .thenReturn(new FileSystemResource(tempDir.resolve("missing.jpg")));
+
+            assertThrows(
+                com.techcorp.model.exception.FileNotFoundException.class,
+                () -> photoService.loadPhoto("john@techcorp.com")
+            );
+        }
+
         @Test
         @DisplayName("Should throw exception when employee has no photo")
         void shouldThrowExceptionWhenEmployeeHasNoPhoto() {
@@ -265,6 +366,122 @@ class PhotoServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Load Thumbnail Tests")
+    class LoadThumbnailTests {
+
+        @Test
+        @DisplayName("Should generate missing thumbnail lazily and store it")
+        void shouldGenerateMissingThumbnailLazily() throws IOException {
+            testEmployee.setPhotoFileName("photo.jpg");
+            Path photo = Files.write(tempDir.resolve("photo.jpg"), "photo content".getBytes());
+            Path thumbnail = tempDir.resolve("thumbnails/64_photo.jpg");
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(thumbnailGenerator.supports(64)).thenReturn(true);
+            when(fileStorageService.loadFile("photos/john@techcorp.com/thumbnails/64_photo.jpg"))
+                .thenReturn(new FileSystemResource(thumbnail));
+            when(fileStorageService.loadFile("photos/john@techcorp.com/photo.jpg"))
+                .thenReturn(new FileSystemResource(photo));
+            when(fileStorageService.getFullPath("photos/john@techcorp.com/thumbnails/64_photo.jpg"))
+                .thenReturn(thumbnail.toString());
+            when(thumbnailGenerator.resize("photo content".getBytes(), 64, "jpg"))
+                .thenReturn("small".getBytes());
+
+            Resource resource = photoService.loadThumbnail("john@techcorp.com", 64);
+
+            assertArrayEquals("small".getBytes(), resource.getContentAsByteArray());
+            assertArrayEquals("small".getBytes(), Files.readAllBytes(thumbnail));
+        }
+
+        @Test
+        @DisplayName("Should serve existing thumbnail without regenerating it")
+        void shouldServeExistingThumbnail() throws IOException {
+            testEmployee.setPhotoFileName("photo.png");
+            Path thumbnail = Files.write(tempDir.resolve("256_photo.png"), "small".getBytes());
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(thumbnailGenerator.supports(256)).thenReturn(true);
+            when(fileStorageService.loadFile("photos/john@techcorp.com/thumbnails/256_photo.png"))
+                .thenReturn(new FileSystemResource(thumbnail));
+
+            Resource resource = photoService.loadThumbnail("john@techcorp.com", 256);
+
+            assertArrayEquals("small".getBytes(), resource.getContentAsByteArray());
+            verify(thumbnailGenerator, never()).resize(any(), anyInt(), anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject unsupported size")
+        void shouldRejectUnsupportedSize() {
+            when(thumbnailGenerator.supports(100)).thenReturn(false);
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> photoService.loadThumbnail("john@techcorp.com", 100)
+            );
+        }
+
+        @Test
+        @DisplayName("Should throw exception when employee has no photo")
+        void shouldThrowExceptionWhenEmployeeHasNoPhoto() {
+            when(thumbnailGenerator.supports(64)).thenReturn(true);
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+
+            assertThrows(
+                com.techcorp.model.exception.FileNotFoundException.class,
+                () -> photoService.loadThumbnail("john@techcorp.com", 64)
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Photo Attributes Tests")
+    class PhotoAttributesTests {
+
+        @Test
+        @DisplayName("Should describe photo and thumbnails by the stored photo file")
+        void shouldReadAttributesOfStoredPhoto() {
+            testEmployee.setPhotoFileName("photo.jpg");
+            FileAttributes attributes = new FileAttributes(13, 1_700_000_000_000L);
+
+            when(employeeService.getEmployeeByEmail("John@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(thumbnailGenerator.supports(64)).thenReturn(true);
+            when(fileStorageService.getAttributes("photos/john@techcorp.com/photo.jpg"))
+                .thenReturn(Optional.of(attributes));
+
+            assertEquals(Optional.of(attributes), photoService.getPhotoAttributes("John@techcorp.com", null));
+            assertEquals(Optional.of(attributes), photoService.getPhotoAttributes("John@techcorp.com", 64));
+            verify(fileStorageService, never()).loadFile(anyString());
+        }
+
+        @Test
+        @DisplayName("Should reject unsupported size before looking up the employee")
+        void shouldRejectUnsupportedSize() {
+            when(thumbnailGenerator.supports(999)).thenReturn(false);
+
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> photoService.getPhotoAttributes("john@techcorp.com", 999)
+            );
+            verify(employeeService, never()).getEmployeeByEmail(anyString());
+        }
+
+        @Test
+        @DisplayName("Should return empty when employee has no photo")
+        void shouldReturnEmptyWithoutPhoto() {
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+
+            assertTrue(photoService.getPhotoAttributes("john@techcorp.com", null).isEmpty());
+            verify(fileStorageService, never()).getAttributes(anyString());
+        }
+    }
+
     @Nested
     @DisplayName("Delete Photo Tests")
     class DeletePhotoTests {
@@ -278,7 +495,36 @@ class PhotoServiceTest {
                 .thenReturn(Optional.of(testEmployee));
 
             assertDoesNotThrow(() -> photoService.deletePhoto("john@techcorp.com"));
-            assertNull(testEmployee.getPhotoFileName());
+            verify(employeeService).updateEmployeePhoto("john@techcorp.com", null);
+        }
+
+        @Test
+        @DisplayName("Should invalidate cached photo on delete")
+        void shouldInvalidateCachedPhotoOnDelete() {
+            testEmployee.setPhotoFileName("photo.jpg");
+            photoCache.put("photos/john@techcorp.com/photo.jpg", "photo content".getBytes());
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+
+            photoService.deletePhoto("john@techcorp.com");
+
+            assertEquals(0, photoCache.getStatistics().getEntryCount());
+        }
+
+        @Test
+        @DisplayName("Should delete thumbnails together with photo")
+        void shouldDeleteThumbnailsTogetherWithPhoto() {
+            testEmployee.setPhotoFileName("photo.jpg");
+
+            when(employeeService.getEmployeeByEmail("john@techcorp.com"))
+                .thenReturn(Optional.of(testEmployee));
+            when(thumbnailGenerator.getSizes()).thenReturn(List.of(64, 256));
+
+            photoService.deletePhoto("john@techcorp.com");
+
+            verify(fileStorageService).deleteFile("photos/john@techcorp.com/thumbnails/64_photo.jpg");
+            verify(fileStorageService).deleteFile("photos/john@techcorp.com/thumbnails/256_photo.jpg");
         }
 
         @Test
@@ -353,5 +599,31 @@ class PhotoServiceTest {
             assertEquals("application/octet-stream", contentType);
         }
     }
-}
 
+    @Nested
+    @DisplayName("Referenced Files Tests")
+    class ReferencedFilesTests {
+
+        @Test
+        @DisplayName("Should list original photo and every thumbnail variant")
+        void shouldListPhotoAndThumbnails() {
+            testEmployee.setPhotoFileName("photo.jpg");
+            Employee withoutPhoto = Employee.createEmployee(
+                "Smith", "Jane", "jane@techcorp.com", "TechCorp", Role.ENGINEER
+            );
+
+            when(employeeService.getEmployees()).thenReturn(List.of(testEmployee, withoutPhoto));
+            when(thumbnailGenerator.getSizes()).thenReturn(List.of(64, 256));
+            when(fileStorageService.getFullPath(anyString()))
+                .thenAnswer(invocation -> "/uploads/" + invocation.getArgument(0));
+
+            Set<Path> referenced = photoService.getReferencedFiles();
+
+            assertEquals(Set.of(
+                Path.of("/uploads/photos/john@techcorp.com/photo.jpg"),
+                Path.of("/uploads/photos/john@techcorp.com/thumbnails/64_photo.jpg"),
+                Path.of("/uploads/photos/john@techcorp.com/thumbnails/256_photo.jpg")
+            ), referenced);
+        }
+    }
+}
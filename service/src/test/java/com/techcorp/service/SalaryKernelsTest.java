@@ -0,0 +1,66 @@
+package com.techcorp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SalaryKernels Tests")
+class SalaryKernelsTest {
+
+    private static final int[] THRESHOLDS = {25000, 18000, 12000, 8000, 3000};
+
+    private final SalaryKernels scalar = new ScalarSalaryKernels();
+    // The vector profile compiles VectorSalaryKernels and adds the incubator
+    // module to the test JVM; without it this is the scalar implementation.
+    private final SalaryKernels selected = SalaryKernels.create();
+
+    @Test
+    @DisplayName("Should pick the vector kernels when the incubator module is present")
+    void shouldSelectVectorKernels() {
+        assertEquals(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+            selected.getClass().getSimpleName().equals("VectorSalaryKernels"));
+    }
+
+    @Test
+    @DisplayName("Should agree with the scalar loops for every length, holes included")
+    void shouldMatchScalarKernels() {
+        Random random = new Random(3);
+        for (int length = 0; length < 100; length++) {
+            int[] salaries = new int[length + 7];
+            byte[] roles = new byte[length + 7];
+            for (int i = 0; i < salaries.length; i++) {
+                roles[i] = (byte) (random.nextInt(8) == 0 ? -1 : random.nextInt(THRESHOLDS.length));
+                salaries[i] = roles[i] < 0 ? 0 : random.nextInt(Integer.MAX_VALUE / 2);
+            }
+            if (length % 10 == 0) {
+                Arrays.fill(salaries, 0, length, 2_000_000_000);
+            }
+            int[] expected = new int[length];
+            int[] actual = new int[length];
+
+            assertEquals(scalar.sum(salaries, length), selected.sum(salaries, length), "sum of " + length);
+            assertEquals(scalar.max(salaries, length), selected.max(salaries, length), "max of " + length);
+            int count = scalar.below(salaries, roles, length, THRESHOLDS, expected);
+            assertEquals(count, selected.below(salaries, roles, length, THRESHOLDS, actual), "below of " + length);
+            assertArrayEquals(Arrays.copyOf(expected, count), Arrays.copyOf(actual, count));
+        }
+    }
+
+    @Test
+    @DisplayName("Should compare each row against its own role's threshold")
+    void shouldCompareByRole() {
+        int[] salaries = {20000, 20000, 5000, 0, 2999, 8000, 7999, 11000, 30000};
+        byte[] roles = {0, 1, 2, -1, 4, 3, 3, 2, 0};
+        int[] matches = new int[salaries.length];
+
+        int count = selected.below(salaries, roles, salaries.length, THRESHOLDS, matches);
+
+        assertArrayEquals(new int[] {0, 2, 4, 6, 7}, Arrays.copyOf(matches, count));
+        assertEquals(0, selected.max(salaries, 0));
+        assertEquals(4_000_000_000L, selected.sum(new int[] {2_000_000_000, 2_000_000_000}, 2));
+    }
+}
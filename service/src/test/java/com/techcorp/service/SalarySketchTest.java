@@ -0,0 +1,76 @@
+package com.techcorp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SalarySketch Tests")
+class SalarySketchTest {
+
+    private static void assertWithinAccuracy(double expected, double actual) {
+        assertEquals(expected, actual, expected * SalarySketch.RELATIVE_ACCURACY);
+    }
+
+    @Test
+    @DisplayName("Should answer quantiles within the relative accuracy")
+    void shouldApproximateQuantiles() {
+        Random random = new Random(3);
+        int[] salaries = new int[10_000];
+        SalarySketch sketch = new SalarySketch();
+        for (int i = 0; i < salaries.length; i++) {
+            salaries[i] = 3000 + random.nextInt(40_000);
+            sketch.add(salaries[i]);
+        }
+        Arrays.sort(salaries);
+
+        for (double q : new double[] {0, 0.5, 0.9, 0.99, 1}) {
+            assertWithinAccuracy(salaries[(int) (q * (salaries.length - 1))], sketch.quantile(q));
+        }
+        assertEquals(10_000, sketch.getCount());
+    }
+
+    @Test
+    @DisplayName("Should take removed salaries back out")
+    void shouldRemoveSalaries() {
+        SalarySketch sketch = new SalarySketch();
+        sketch.add(5000);
+        sketch.add(8000);
+        sketch.add(30000);
+        sketch.remove(30000);
+
+        assertEquals(2, sketch.getCount());
+        assertWithinAccuracy(8000, sketch.quantile(1));
+    }
+
+    @Test
+    @DisplayName("Should merge sketches covering different salary ranges")
+    void shouldMerge() {
+        SalarySketch interns = new SalarySketch();
+        interns.add(0);
+        interns.add(3000);
+        SalarySketch executives = new SalarySketch();
+        executives.add(25000);
+        executives.add(30000);
+
+        interns.merge(executives);
+
+        assertEquals(4, interns.getCount());
+        assertEquals(0, interns.quantile(0));
+        assertWithinAccuracy(3000, interns.quantile(0.4));
+        assertWithinAccuracy(30000, interns.quantile(1));
+    }
+
+    @Test
+    @DisplayName("Should return NaN when empty and reject invalid quantiles")
+    void shouldHandleEdgeCases() {
+        SalarySketch sketch = new SalarySketch();
+
+        assertTrue(Double.isNaN(sketch.quantile(0.5)));
+        assertThrows(IllegalArgumentException.class, () -> sketch.quantile(1.5));
+        assertThrows(IllegalArgumentException.class, () -> sketch.add(-1));
+    }
+}
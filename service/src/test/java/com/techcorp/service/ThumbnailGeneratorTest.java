@@ -0,0 +1,118 @@
+package com.techcorp.service;
+
+import com.techcorp.model.exception.InvalidFileException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ThumbnailGenerator Tests")
+class ThumbnailGeneratorTest {
+
+    private ThumbnailGenerator thumbnailGenerator;
+
+    @BeforeEach
+    void setUp() {
+        thumbnailGenerator = new ThumbnailGenerator("64, 256", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        thumbnailGenerator.shutdown();
+    }
+
+    private byte[] image(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private BufferedImage decode(byte[] content) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(content));
+    }
+
+    @Test
+    @DisplayName("Should parse configured sizes")
+    void shouldParseConfiguredSizes() {
+        assertEquals(List.of(64, 256), thumbnailGenerator.getSizes());
+        assertTrue(thumbnailGenerator.supports(64));
+        assertFalse(thumbnailGenerator.supports(128));
+    }
+
+    @Test
+    @DisplayName("Should fit image into requested box preserving aspect ratio")
+    void shouldFitImageIntoBox() throws IOException {
+        byte[] thumbnail = thumbnailGenerator.resize(image(800, 400, "jpg"), 64, "jpg");
+
+        BufferedImage result = decode(thumbnail);
+        assertEquals(64, result.getWidth());
+        assertEquals(32, result.getHeight());
+    }
+
+    @Test
+    @DisplayName("Should not upscale small images")
+    void shouldNotUpscaleSmallImages() throws IOException {
+        byte[] thumbnail = thumbnailGenerator.resize(image(40, 20, "png"), 256, "png");
+
+        BufferedImage result = decode(thumbnail);
+        assertEquals(40, result.getWidth());
+        assertEquals(20, result.getHeight());
+    }
+
+    @Test
+    @DisplayName("Should produce much smaller output than the original")
+    void shouldProduceSmallerOutput() throws IOException {
+        Random random = new Random(42);
+        BufferedImage noisy = new BufferedImage(1024, 1024, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 1024; x++) {
+            for (int y = 0; y < 1024; y++) {
+                noisy.setRGB(x, y, random.nextInt());
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(noisy, "jpg", out);
+        byte[] original = out.toByteArray();
+
+        byte[] thumbnail = thumbnailGenerator.resize(original, 64, "jpg");
+
+        assertTrue(thumbnail.length * 10 < original.length);
+    }
+
+    @Test
+    @DisplayName("Should reject content that is not an image")
+    void shouldRejectNonImageContent() {
+        assertThrows(
+            InvalidFileException.class,
+            () -> thumbnailGenerator.resize("not an image".getBytes(), 64, "jpg")
+        );
+    }
+
+    @Test
+    @DisplayName("Should run submitted tasks in background")
+    void shouldRunSubmittedTasks() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+
+        thumbnailGenerator.submit(latch::countDown);
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("Should reject non-positive sizes")
+    void shouldRejectNonPositiveSizes() {
+        assertThrows(IllegalArgumentException.class, () -> new ThumbnailGenerator("64,0", 1));
+    }
+}
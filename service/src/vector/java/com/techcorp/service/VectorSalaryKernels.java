@@ -0,0 +1,102 @@
+package com.techcorp.service;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Arrays;
+
+// SalaryKernels on the incubating Vector API, at the platform's preferred
+// width; leftover rows go through the scalar loops. Only loaded by
+// SalaryKernels.create() once the module is known to be present.
+public class VectorSalaryKernels implements SalaryKernels {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    // Wide enough for one role byte per int lane, and at least the smallest shape.
+    private static final VectorSpecies<Byte> BYTES =
+        ByteVector.SPECIES_64.length() >= INTS.length()
+            ? ByteVector.SPECIES_64
+            : VectorSpecies.of(byte.class, VectorShape.forBitSize(INTS.length() * Byte.SIZE));
+    // Int vectors per role-byte vector: 1 from 256-bit ints up, 2 for 128-bit ones.
+    private static final int PARTS = BYTES.length() / INTS.length();
+
+    private final SalaryKernels scalar = new ScalarSalaryKernels();
+
+    @Override
+    public long sum(int[] salaries, int length) {
+        // Widened to longs so that large rosters cannot overflow a lane.
+        LongVector low = LongVector.zero(LONGS);
+        LongVector high = LongVector.zero(LONGS);
+        int bound = INTS.loopBound(length);
+        for (int i = 0; i < bound; i += INTS.length()) {
+            IntVector chunk = IntVector.fromArray(INTS, salaries, i);
+            low = low.add((LongVector) chunk.convertShape(VectorOperators.I2L, LONGS, 0));
+            high = high.add((LongVector) chunk.convertShape(VectorOperators.I2L, LONGS, 1));
+        }
+        long sum = low.add(high).reduceLanes(VectorOperators.ADD);
+        for (int i = bound; i < length; i++) {
+            sum += salaries[i];
+        }
+        return sum;
+    }
+
+    @Override
+    public int max(int[] salaries, int length) {
+        IntVector max = IntVector.zero(INTS);
+        int bound = INTS.loopBound(length);
+        for (int i = 0; i < bound; i += INTS.length()) {
+            max = max.max(IntVector.fromArray(INTS, salaries, i));
+        }
+        int result = max.reduceLanes(VectorOperators.MAX);
+        for (int i = bound; i < length; i++) {
+            result = Math.max(result, salaries[i]);
+        }
+        return result;
+    }
+
+    // Each row's threshold is looked up by shuffling a vector that holds the
+    // per-role constants by the row's role ordinal; holes (role -1) wrap around
+    // to the last lane, which holds 0. Then one compare covers all roles.
+    @Override
+    public int below(int[] salaries, byte[] roles, int length, int[] thresholds, int[] matches) {
+        if (thresholds.length >= INTS.length() || PARTS > 2) {
+            return scalar.below(salaries, roles, length, thresholds, matches);
+        }
+        IntVector table = IntVector.fromArray(INTS, Arrays.copyOf(thresholds, INTS.length()), 0);
+        int count = 0;
+        int bound = BYTES.loopBound(length);
+        for (int i = 0; i < bound; i += BYTES.length()) {
+            // Matches are rare, so the few chunks with a hit are simply rescanned;
+            // extracting mask bits is not intrinsified on every JDK.
+            ByteVector roleBytes = ByteVector.fromArray(BYTES, roles, i);
+            if (anyBelow(table, roleBytes, 0, salaries, i)) {
+                count = scan(salaries, roles, i, i + INTS.length(), thresholds, matches, count);
+            }
+            // The part index has to be a constant for the widening to be intrinsified.
+            if (PARTS == 2 && anyBelow(table, roleBytes, 1, salaries, i + INTS.length())) {
+                count = scan(salaries, roles, i + INTS.length(), i + BYTES.length(), thresholds, matches, count);
+            }
+        }
+        return scan(salaries, roles, bound, length, thresholds, matches, count);
+    }
+
+    private static boolean anyBelow(IntVector table, ByteVector roleBytes, int part, int[] salaries, int row) {
+        IntVector roleInts = (IntVector) roleBytes.convertShape(VectorOperators.B2I, INTS, part);
+        IntVector threshold = table.rearrange(roleInts.and(INTS.length() - 1).toShuffle());
+        return IntVector.fromArray(INTS, salaries, row).lt(threshold).anyTrue();
+    }
+
+    private static int scan(int[] salaries, byte[] roles, int from, int to, int[] thresholds, int[] matches, int count) {
+        for (int i = from; i < to; i++) {
+            int role = roles[i];
+            if (role >= 0 && salaries[i] < thresholds[role]) {
+                matches[count++] = i;
+            }
+        }
+        return count;
+    }
+}